@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A cache of aggregates keyed by the type and the id of the aggregate root, consulted by
+ * {@link JdbcAggregateTemplate#findById(Object, Class)} before the aggregate gets loaded from the database. The
+ * template evicts aggregates when they get saved or deleted and only adds aggregates once the transaction they got
+ * loaded in committed.
+ * <p>
+ * Implementations decide which aggregate types get cached. Aggregates returned from the cache are handed out to
+ * arbitrary callers, so implementations must either only cache immutable aggregates or copy them.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ * @see LruAggregateCache
+ * @see JdbcAggregateTemplate#setAggregateCache(AggregateCache)
+ */
+public interface AggregateCache {
+
+	/**
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @return whether aggregates of the given type get cached.
+	 */
+	boolean isCached(Class<?> domainType);
+
+	/**
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 * @return the cached aggregate or {@code null} if there is none or it expired.
+	 */
+	@Nullable
+	<T> T get(Class<T> domainType, Object id);
+
+	/**
+	 * Adds an aggregate to the cache, replacing any aggregate cached for the same type and id. Does nothing if aggregates
+	 * of the given type don't get cached.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 * @param aggregateRoot the aggregate root. Must not be {@code null}.
+	 */
+	<T> void put(Class<T> domainType, Object id, T aggregateRoot);
+
+	/**
+	 * Removes the aggregate with the given type and id from the cache, if present.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 */
+	void evict(Class<?> domainType, Object id);
+
+	/**
+	 * Removes all aggregates of the given type from the cache.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 */
+	void evictAll(Class<?> domainType);
+
+	/**
+	 * Creates a copy of an aggregate that is independent of the passed instance. Used to take a snapshot of an aggregate
+	 * loaded within a transaction, since it only gets added to the cache after the transaction committed and the caller
+	 * might modify the loaded instance in the meantime. The default implementation returns the instance as is, which is
+	 * only appropriate for immutable aggregates.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param aggregateRoot the aggregate root. Must not be {@code null}.
+	 * @return a copy of the aggregate. Will never be {@code null}.
+	 */
+	default <T> T copy(Class<T> domainType, T aggregateRoot) {
+		return aggregateRoot;
+	}
+}
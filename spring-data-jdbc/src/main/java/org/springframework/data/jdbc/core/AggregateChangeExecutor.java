@@ -18,8 +18,10 @@ package org.springframework.data.jdbc.core;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -42,8 +44,10 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
- * Executes an {@link AggregateChange} by handing the included {@link DbAction} instances to the interpreter. In a
- * second step ids generated by the {@link Interpreter} get propagated to the entities contained in the actions.
+ * Executes an {@link AggregateChange} by handing the included {@link DbAction} instances to the interpreter.
+ * Consecutive inserts of entities reachable via the same path get handed over as a single batch. In a second step ids
+ * generated by the {@link Interpreter} get propagated to the entities contained in the actions. The inserts of multiple
+ * new aggregates of the same type can get combined into batches spanning all those aggregates.
  *
  * @author Jens Schauder
  * @author Mark Paluch
@@ -63,16 +67,199 @@ class AggregateChangeExecutor {
 		this.context = converter.getMappingContext();
 	}
 
+	@SuppressWarnings("unchecked")
 	<T> void execute(AggregateChange<T> aggregateChange) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
+		List<DbAction.Insert<Object>> pendingInserts = new ArrayList<>();
 
 		aggregateChange.forEachAction(action -> {
 
-			action.executeWith(interpreter);
+			if (!isBatchableWith(action, pendingInserts)) {
+				executeInserts(pendingInserts);
+			}
+
+			if (action instanceof DbAction.Insert) {
+				pendingInserts.add((DbAction.Insert<Object>) action);
+			} else {
+				action.executeWith(interpreter);
+			}
+
 			actions.add(action);
 		});
 
+		executeInserts(pendingInserts);
+
+		populateIdsAndVersion(aggregateChange, actions);
+	}
+
+	/**
+	 * Executes the {@link AggregateChange}s of multiple aggregates of the same type in the given order. Consecutive
+	 * changes that consist only of inserts get combined: the inserts of all aggregate roots get executed as a single
+	 * {@link DbAction.InsertRootBatch}, followed by one {@link DbAction.InsertBatch} per path of the referenced entities,
+	 * parents before children. Consecutive changes that only delete an aggregate get combined as well: one
+	 * {@link DbAction.DeleteBatch} per path of the referenced entities, children before parents, followed by a single
+	 * {@link DbAction.DeleteRootBatch}. All other changes get executed one by one. Since only consecutive changes get
+	 * combined, statements referencing aggregates written by preceding changes can rely on them being written already.
+	 *
+	 * @param aggregateChanges the changes to execute. Must not be {@literal null}.
+	 * @param <T> the type of the aggregate roots.
+	 */
+	<T> void executeAll(List<AggregateChange<T>> aggregateChanges) {
+
+		List<AggregateChange<T>> insertChanges = new ArrayList<>();
+		List<AggregateChange<T>> deleteChanges = new ArrayList<>();
+
+		for (AggregateChange<T> aggregateChange : aggregateChanges) {
+
+			if (isInsertOnly(aggregateChange)) {
+
+				executeAggregateDeletes(deleteChanges);
+				insertChanges.add(aggregateChange);
+			} else if (isDeleteOnly(aggregateChange)) {
+
+				executeAggregateInserts(insertChanges);
+				deleteChanges.add(aggregateChange);
+			} else {
+
+				executeAggregateDeletes(deleteChanges);
+				executeAggregateInserts(insertChanges);
+				execute(aggregateChange);
+			}
+		}
+
+		executeAggregateDeletes(deleteChanges);
+		executeAggregateInserts(insertChanges);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void executeAggregateDeletes(List<AggregateChange<T>> deleteChanges) {
+
+		if (deleteChanges.size() < 2) {
+
+			deleteChanges.forEach(this::execute);
+			deleteChanges.clear();
+			return;
+		}
+
+		List<DbAction.DeleteRoot<T>> rootDeletes = new ArrayList<>();
+		Map<PersistentPropertyPath<RelationalPersistentProperty>, List<DbAction.Delete<Object>>> deletesByPath = //
+				new LinkedHashMap<>();
+
+		for (AggregateChange<T> aggregateChange : deleteChanges) {
+
+			aggregateChange.forEachAction(action -> {
+
+				if (action instanceof DbAction.DeleteRoot) {
+					rootDeletes.add((DbAction.DeleteRoot<T>) action);
+				} else {
+
+					DbAction.Delete<Object> delete = (DbAction.Delete<Object>) action;
+					deletesByPath.computeIfAbsent(delete.getPropertyPath(), path -> new ArrayList<>()).add(delete);
+				}
+			});
+		}
+
+		deletesByPath.keySet().stream() //
+				.sorted(Comparator.comparingInt(PersistentPropertyPath<RelationalPersistentProperty>::getLength).reversed()) //
+				.forEach(path -> new DbAction.DeleteBatch<>(deletesByPath.get(path), path).executeWith(interpreter));
+
+		new DbAction.DeleteRootBatch<>(rootDeletes).executeWith(interpreter);
+
+		deleteChanges.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void executeAggregateInserts(List<AggregateChange<T>> insertChanges) {
+
+		if (insertChanges.size() < 2) {
+
+			insertChanges.forEach(this::execute);
+			insertChanges.clear();
+			return;
+		}
+
+		List<DbAction.InsertRoot<T>> rootInserts = new ArrayList<>();
+		Map<PersistentPropertyPath<RelationalPersistentProperty>, List<DbAction.Insert<Object>>> insertsByPath = //
+				new LinkedHashMap<>();
+
+		for (AggregateChange<T> aggregateChange : insertChanges) {
+
+			aggregateChange.forEachAction(action -> {
+
+				if (action instanceof DbAction.InsertRoot) {
+					rootInserts.add((DbAction.InsertRoot<T>) action);
+				} else {
+
+					DbAction.Insert<Object> insert = (DbAction.Insert<Object>) action;
+					insertsByPath.computeIfAbsent(insert.getPropertyPath(), path -> new ArrayList<>()).add(insert);
+				}
+			});
+		}
+
+		new DbAction.InsertRootBatch<>(rootInserts).executeWith(interpreter);
+
+		insertsByPath.keySet().stream() //
+				.sorted(Comparator.comparingInt(PersistentPropertyPath::getLength)) //
+				.forEach(path -> executeInserts(insertsByPath.get(path)));
+
+		for (AggregateChange<T> aggregateChange : insertChanges) {
+			populateIdsAndVersion(aggregateChange, aggregateChange.getActions());
+		}
+
+		insertChanges.clear();
+	}
+
+	/**
+	 * A change can get combined with others if it deletes a single aggregate root plus referenced entities and nothing
+	 * else.
+	 */
+	private static boolean isDeleteOnly(AggregateChange<?> aggregateChange) {
+
+		List<DbAction<?>> actions = aggregateChange.getActions();
+
+		if (actions.isEmpty()) {
+			return false;
+		}
+
+		DbAction<?> last = actions.get(actions.size() - 1);
+		if (!(last instanceof DbAction.DeleteRoot) || !last.getEntityType().equals(aggregateChange.getEntityType())) {
+			return false;
+		}
+
+		for (int i = 0; i < actions.size() - 1; i++) {
+			if (!(actions.get(i) instanceof DbAction.Delete)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * A change can get combined with others if it inserts a single aggregate root plus referenced entities and nothing
+	 * else. Changes manipulated by event listeners or callbacks might contain other actions as well.
+	 */
+	private static boolean isInsertOnly(AggregateChange<?> aggregateChange) {
+
+		List<DbAction<?>> actions = aggregateChange.getActions();
+
+		if (actions.isEmpty() || !(actions.get(0) instanceof DbAction.InsertRoot)
+				|| !actions.get(0).getEntityType().equals(aggregateChange.getEntityType())) {
+			return false;
+		}
+
+		for (int i = 1; i < actions.size(); i++) {
+			if (!(actions.get(i) instanceof DbAction.Insert)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private <T> void populateIdsAndVersion(AggregateChange<T> aggregateChange, List<DbAction<?>> actions) {
+
 		T root = populateIdsIfNecessary(actions);
 		root = root == null ? aggregateChange.getEntity() : root;
 
@@ -83,6 +270,43 @@ class AggregateChangeExecutor {
 		}
 	}
 
+	/**
+	 * Consecutive {@link DbAction.Insert}s for the same {@link PersistentPropertyPath} and entity type get executed as a
+	 * single {@link DbAction.InsertBatch}.
+	 */
+	private static boolean isBatchableWith(DbAction<?> action, List<DbAction.Insert<Object>> pendingInserts) {
+
+		if (!(action instanceof DbAction.Insert)) {
+			return false;
+		}
+
+		if (pendingInserts.isEmpty()) {
+			return true;
+		}
+
+		DbAction.Insert<?> insert = (DbAction.Insert<?>) action;
+		DbAction.Insert<?> previous = pendingInserts.get(0);
+
+		return previous.getPropertyPath().equals(insert.getPropertyPath())
+				&& previous.getEntityType().equals(insert.getEntityType());
+	}
+
+	private void executeInserts(List<DbAction.Insert<Object>> pendingInserts) {
+
+		if (pendingInserts.isEmpty()) {
+			return;
+		}
+
+		if (pendingInserts.size() == 1) {
+			pendingInserts.get(0).executeWith(interpreter);
+		} else {
+			new DbAction.InsertBatch<>(new ArrayList<>(pendingInserts), pendingInserts.get(0).getPropertyPath())
+					.executeWith(interpreter);
+		}
+
+		pendingInserts.clear();
+	}
+
 	private <T> T populateRootVersionIfNecessary(T newRoot, List<DbAction<?>> actions) {
 
 		// Does the root entity have a version attribute?
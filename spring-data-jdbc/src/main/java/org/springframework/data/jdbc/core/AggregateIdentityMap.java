@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.util.Pair;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Holds the aggregates loaded or saved within the current transaction, keyed by the type and id of the aggregate root,
+ * so that loading the same aggregate again returns the same instance without accessing the database. Outside of a
+ * transaction with active synchronization no aggregates get registered.
+ * <p>
+ * The aggregates get bound to the transaction using the {@link DataAccessStrategy} they got loaded with, so all identity
+ * maps for the same {@link DataAccessStrategy}, e.g. those of the templates backing different repositories, share them.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+class AggregateIdentityMap {
+
+	private final Object resourceKey;
+
+	/**
+	 * @param accessStrategy the {@link DataAccessStrategy} the aggregates get loaded with. Must not be {@code null}.
+	 */
+	AggregateIdentityMap(DataAccessStrategy accessStrategy) {
+
+		Assert.notNull(accessStrategy, "DataAccessStrategy must not be null!");
+
+		this.resourceKey = Pair.of(AggregateIdentityMap.class, accessStrategy);
+	}
+
+	/**
+	 * Registers the given aggregate with the current transaction, replacing any aggregate previously registered for the
+	 * same type and id.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 * @param aggregateRoot the aggregate root. Must not be {@code null}.
+	 */
+	void register(Class<?> domainType, Object id, Object aggregateRoot) {
+
+		Map<Pair<Class<?>, Object>, Object> aggregates = getAggregates(true);
+
+		if (aggregates != null) {
+			aggregates.put(Pair.of(domainType, id), aggregateRoot);
+		}
+	}
+
+	/**
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 * @return the aggregate registered in the current transaction. May be {@code null}.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	<T> T get(Class<T> domainType, Object id) {
+
+		Map<Pair<Class<?>, Object>, Object> aggregates = getAggregates(false);
+
+		return aggregates == null ? null : (T) aggregates.get(Pair.of(domainType, id));
+	}
+
+	/**
+	 * Removes the aggregate registered in the current transaction, if any.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 */
+	void remove(Class<?> domainType, Object id) {
+
+		Map<Pair<Class<?>, Object>, Object> aggregates = getAggregates(false);
+
+		if (aggregates != null) {
+			aggregates.remove(Pair.of(domainType, id));
+		}
+	}
+
+	/**
+	 * Removes all aggregates of the given type registered in the current transaction.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 */
+	void removeAll(Class<?> domainType) {
+
+		Map<Pair<Class<?>, Object>, Object> aggregates = getAggregates(false);
+
+		if (aggregates != null) {
+			aggregates.keySet().removeIf(key -> key.getFirst().equals(domainType));
+		}
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Map<Pair<Class<?>, Object>, Object> getAggregates(boolean create) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		Map<Pair<Class<?>, Object>, Object> aggregates = //
+				(Map<Pair<Class<?>, Object>, Object>) TransactionSynchronizationManager.getResource(resourceKey);
+
+		if (aggregates == null && create) {
+
+			aggregates = new HashMap<>();
+			TransactionSynchronizationManager.bindResource(resourceKey, aggregates);
+			TransactionSynchronizationManager.registerSynchronization(new IdentityMapSynchronization(aggregates));
+		}
+
+		return aggregates;
+	}
+
+	/**
+	 * Unbinds the aggregates from the thread when the transaction gets suspended or completed.
+	 */
+	private class IdentityMapSynchronization extends TransactionSynchronizationAdapter {
+
+		private final Map<Pair<Class<?>, Object>, Object> aggregates;
+
+		IdentityMapSynchronization(Map<Pair<Class<?>, Object>, Object> aggregates) {
+			this.aggregates = aggregates;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(resourceKey, aggregates);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+		}
+	}
+}
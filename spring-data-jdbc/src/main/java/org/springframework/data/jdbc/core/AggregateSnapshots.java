@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.relational.core.conversion.AggregateSnapshot;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.util.Pair;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Holds {@link AggregateSnapshot}s of loaded aggregates for the duration of the current transaction. Snapshots are
+ * keyed by the type and id of the aggregate root. Outside of a transaction with active synchronization no snapshots
+ * get registered since there would be no way to tell when they get stale.
+ * <p>
+ * The snapshots get bound to the transaction using the {@link DataAccessStrategy} the aggregates got loaded with, so
+ * all templates using the same {@link DataAccessStrategy}, e.g. those backing different repositories, share them and a
+ * write through any of them removes the snapshot for all of them.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+class AggregateSnapshots {
+
+	private final RelationalMappingContext context;
+	private final Object resourceKey;
+
+	/**
+	 * @param context the mapping context used for taking snapshots. Must not be {@code null}.
+	 * @param accessStrategy the {@link DataAccessStrategy} the aggregates get loaded with. Must not be {@code null}.
+	 */
+	AggregateSnapshots(RelationalMappingContext context, DataAccessStrategy accessStrategy) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null!");
+		Assert.notNull(accessStrategy, "DataAccessStrategy must not be null!");
+
+		this.context = context;
+		this.resourceKey = Pair.of(AggregateSnapshots.class, accessStrategy);
+	}
+
+	/**
+	 * Takes a snapshot of the given aggregate and registers it with the current transaction, replacing any snapshot
+	 * previously registered for the same aggregate.
+	 *
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 * @param aggregateRoot the aggregate root. Must not be {@code null}.
+	 */
+	void register(Object id, Object aggregateRoot) {
+
+		Map<Pair<Class<?>, Object>, AggregateSnapshot> snapshots = getSnapshots(true);
+
+		if (snapshots != null) {
+			snapshots.put(Pair.of(aggregateRoot.getClass(), id), AggregateSnapshot.of(context, aggregateRoot));
+		}
+	}
+
+	/**
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @return the snapshot registered for the aggregate in the current transaction. May be {@code null}.
+	 */
+	@Nullable
+	AggregateSnapshot get(Object id, Class<?> domainType) {
+
+		Map<Pair<Class<?>, Object>, AggregateSnapshot> snapshots = getSnapshots(false);
+
+		return snapshots == null ? null : snapshots.get(Pair.of(domainType, id));
+	}
+
+	/**
+	 * Removes the snapshot registered for the aggregate in the current transaction, if any.
+	 *
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 */
+	void remove(Object id, Class<?> domainType) {
+
+		Map<Pair<Class<?>, Object>, AggregateSnapshot> snapshots = getSnapshots(false);
+
+		if (snapshots != null) {
+			snapshots.remove(Pair.of(domainType, id));
+		}
+	}
+
+	/**
+	 * Removes all snapshots for the given type registered in the current transaction.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 */
+	void removeAll(Class<?> domainType) {
+
+		Map<Pair<Class<?>, Object>, AggregateSnapshot> snapshots = getSnapshots(false);
+
+		if (snapshots != null) {
+			snapshots.keySet().removeIf(key -> key.getFirst().equals(domainType));
+		}
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Map<Pair<Class<?>, Object>, AggregateSnapshot> getSnapshots(boolean create) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		Map<Pair<Class<?>, Object>, AggregateSnapshot> snapshots = //
+				(Map<Pair<Class<?>, Object>, AggregateSnapshot>) TransactionSynchronizationManager.getResource(resourceKey);
+
+		if (snapshots == null && create) {
+
+			snapshots = new HashMap<>();
+			TransactionSynchronizationManager.bindResource(resourceKey, snapshots);
+			TransactionSynchronizationManager.registerSynchronization(new SnapshotsSynchronization(snapshots));
+		}
+
+		return snapshots;
+	}
+
+	/**
+	 * Unbinds the snapshots from the thread when the transaction gets suspended or completed.
+	 */
+	private class SnapshotsSynchronization extends TransactionSynchronizationAdapter {
+
+		private final Map<Pair<Class<?>, Object>, AggregateSnapshot> snapshots;
+
+		SnapshotsSynchronization(Map<Pair<Class<?>, Object>, AggregateSnapshot> snapshots) {
+			this.snapshots = snapshots;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(resourceKey, snapshots);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+		}
+	}
+}
@@ -17,29 +17,42 @@ package org.springframework.data.jdbc.core;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.DbAction;
 import org.springframework.data.relational.core.conversion.DbAction.Delete;
 import org.springframework.data.relational.core.conversion.DbAction.DeleteAll;
 import org.springframework.data.relational.core.conversion.DbAction.DeleteAllRoot;
+import org.springframework.data.relational.core.conversion.DbAction.DeleteBatch;
+import org.springframework.data.relational.core.conversion.DbAction.DeleteByIdentifier;
 import org.springframework.data.relational.core.conversion.DbAction.DeleteRoot;
+import org.springframework.data.relational.core.conversion.DbAction.DeleteRootBatch;
 import org.springframework.data.relational.core.conversion.DbAction.Insert;
+import org.springframework.data.relational.core.conversion.DbAction.InsertBatch;
 import org.springframework.data.relational.core.conversion.DbAction.InsertRoot;
+import org.springframework.data.relational.core.conversion.DbAction.InsertRootBatch;
 import org.springframework.data.relational.core.conversion.DbAction.Merge;
 import org.springframework.data.relational.core.conversion.DbAction.Update;
 import org.springframework.data.relational.core.conversion.DbAction.UpdateRoot;
+import org.springframework.data.relational.core.conversion.DbAction.UpsertRoot;
 import org.springframework.data.relational.core.conversion.Interpreter;
 import org.springframework.data.relational.core.conversion.RelationalEntityVersionUtils;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.domain.Identifier;
 import org.springframework.util.Assert;
 
@@ -72,6 +85,27 @@ class DefaultJdbcInterpreter implements Interpreter {
 		insert.setGeneratedId(id);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.InsertBatch)
+	 */
+	@Override
+	public <T> void interpret(InsertBatch<T> batch) {
+
+		List<Insert<T>> inserts = batch.getInserts();
+		List<InsertSubject<T>> insertSubjects = new ArrayList<>(inserts.size());
+
+		for (Insert<T> insert : inserts) {
+			insertSubjects.add(InsertSubject.describedBy(insert.getEntity(), getParentKeys(insert)));
+		}
+
+		Object[] ids = accessStrategy.insertAll(insertSubjects, batch.getEntityType());
+
+		for (int i = 0; i < ids.length; i++) {
+			inserts.get(i).setGeneratedId(ids[i]);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.InsertRoot)
@@ -94,6 +128,37 @@ class DefaultJdbcInterpreter implements Interpreter {
 		insert.setGeneratedId(id);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.InsertRootBatch)
+	 */
+	@Override
+	public <T> void interpret(InsertRootBatch<T> batch) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(batch.getEntityType());
+
+		List<InsertRoot<T>> inserts = batch.getInserts();
+		List<InsertSubject<T>> insertSubjects = new ArrayList<>(inserts.size());
+
+		for (InsertRoot<T> insert : inserts) {
+
+			T rootEntity = persistentEntity.hasVersionProperty()
+					? RelationalEntityVersionUtils.setVersionNumberOnEntity(insert.getEntity(), 1, persistentEntity, converter)
+					: insert.getEntity();
+			insertSubjects.add(InsertSubject.describedBy(rootEntity, Identifier.empty()));
+		}
+
+		Object[] ids = accessStrategy.insertAll(insertSubjects, batch.getEntityType());
+
+		for (int i = 0; i < ids.length; i++) {
+
+			if (persistentEntity.hasVersionProperty()) {
+				inserts.get(i).setNextVersion(1);
+			}
+			inserts.get(i).setGeneratedId(ids[i]);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.Update)
@@ -126,7 +191,17 @@ class DefaultJdbcInterpreter implements Interpreter {
 
 	private <T> void updateWithoutVersion(UpdateRoot<T> update) {
 
-		if (!accessStrategy.update(update.getEntity(), update.getEntityType())) {
+		Set<SqlIdentifier> changedColumns = update.getChangedColumns();
+
+		if (changedColumns != null && changedColumns.isEmpty()) {
+			return;
+		}
+
+		boolean updated = changedColumns == null //
+				? accessStrategy.update(update.getEntity(), update.getEntityType()) //
+				: accessStrategy.update(update.getEntity(), update.getEntityType(), changedColumns);
+
+		if (!updated) {
 
 			throw new IncorrectUpdateSemanticsDataAccessException(
 					String.format(UPDATE_FAILED, update.getEntity(), getIdFrom(update)));
@@ -145,12 +220,27 @@ class DefaultJdbcInterpreter implements Interpreter {
 		T rootEntity = RelationalEntityVersionUtils.setVersionNumberOnEntity(update.getEntity(), update.getNextVersion(),
 				persistentEntity, converter);
 
-		if (!accessStrategy.updateWithVersion(rootEntity, update.getEntityType(), previousVersion)) {
+		Set<SqlIdentifier> changedColumns = update.getChangedColumns();
+
+		boolean updated = changedColumns == null //
+				? accessStrategy.updateWithVersion(rootEntity, update.getEntityType(), previousVersion) //
+				: accessStrategy.updateWithVersion(rootEntity, update.getEntityType(), previousVersion, changedColumns);
+
+		if (!updated) {
 
 			throw new OptimisticLockingFailureException(String.format(UPDATE_FAILED_OPTIMISTIC_LOCKING, update.getEntity()));
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.UpsertRoot)
+	 */
+	@Override
+	public <T> void interpret(UpsertRoot<T> upsert) {
+		accessStrategy.upsert(upsert.getEntity(), upsert.getEntityType(), Identifier.empty());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.Merge)
@@ -158,10 +248,7 @@ class DefaultJdbcInterpreter implements Interpreter {
 	@Override
 	public <T> void interpret(Merge<T> merge) {
 
-		// temporary implementation
-		if (!accessStrategy.update(merge.getEntity(), merge.getEntityType())) {
-			accessStrategy.insert(merge.getEntity(), merge.getEntityType(), getParentKeys(merge));
-		}
+		accessStrategy.upsert(merge.getEntity(), merge.getEntityType(), getParentKeys(merge));
 	}
 
 	/*
@@ -173,6 +260,26 @@ class DefaultJdbcInterpreter implements Interpreter {
 		accessStrategy.delete(delete.getRootId(), delete.getPropertyPath());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.DeleteBatch)
+	 */
+	@Override
+	public <T> void interpret(DeleteBatch<T> batch) {
+
+		List<Object> rootIds = batch.getDeletes().stream().map(Delete::getRootId).collect(Collectors.toList());
+		accessStrategy.deleteAllByRootIds(rootIds, batch.getPropertyPath());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.DeleteByIdentifier)
+	 */
+	@Override
+	public <T> void interpret(DeleteByIdentifier<T> delete) {
+		accessStrategy.deleteAllByPath(delete.getIdentifier(), delete.getPropertyPath());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.DeleteRoot)
@@ -193,6 +300,36 @@ class DefaultJdbcInterpreter implements Interpreter {
 		accessStrategy.delete(delete.getId(), delete.getEntityType());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.DeleteRootBatch)
+	 */
+	@Override
+	public <T> void interpret(DeleteRootBatch<T> batch) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(batch.getEntityType());
+
+		List<Object> ids = new ArrayList<>();
+		Map<Object, Number> previousVersions = new LinkedHashMap<>();
+
+		for (DeleteRoot<T> delete : batch.getDeletes()) {
+
+			if (delete.getPreviousVersion() != null && persistentEntity.hasVersionProperty()) {
+				previousVersions.put(delete.getId(), delete.getPreviousVersion());
+			} else {
+				ids.add(delete.getId());
+			}
+		}
+
+		if (!previousVersions.isEmpty()) {
+			accessStrategy.deleteAllWithVersion(previousVersions, batch.getEntityType());
+		}
+
+		if (!ids.isEmpty()) {
+			accessStrategy.deleteAllById(ids, batch.getEntityType());
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.conversion.Interpreter#interpret(org.springframework.data.relational.core.conversion.DbAction.DeleteAll)
@@ -15,9 +15,14 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.stream.Stream;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
+import org.springframework.data.relational.domain.Window;
 import org.springframework.lang.Nullable;
 
 /**
@@ -60,6 +65,45 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> T update(T instance);
 
+	/**
+	 * Dedicated upsert function. Inserts the aggregate root or updates it if it already exists, using a single statement
+	 * where the database supports it, and replaces all referenced entities. This skips the test if the aggregate root is
+	 * new or not, which makes it suitable for aggregates with ids assigned by the application.
+	 *
+	 * @param instance the aggregate root of the aggregate to be upserted. Must not be {@code null}. Must have an id and
+	 *          must not have a version attribute.
+	 * @param <T> the type of the aggregate root.
+	 * @return the saved instance.
+	 * @since 2.0
+	 */
+	<T> T upsert(T instance);
+
+	/**
+	 * Saves all given aggregates in the given order. Consecutive new aggregates of the same type get inserted together,
+	 * using batches for the aggregate roots and for each kind of referenced entity. Existing aggregates get updated one
+	 * by one. So an aggregate may reference another one, e.g. through an
+	 * {@link org.springframework.data.jdbc.core.mapping.AggregateReference}, if that one precedes it. Callbacks and
+	 * events get triggered for each aggregate.
+	 *
+	 * @param instances the aggregate roots of the aggregates to be saved. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the saved instances in the order of the given ones. Guaranteed to be not {@code null}.
+	 * @since 2.0
+	 */
+	<T> Iterable<T> saveAll(Iterable<T> instances);
+
+	/**
+	 * Dedicated insert function for multiple aggregates. Like {@link #insert(Object)} this skips the test if the
+	 * aggregate roots are new. The aggregates get inserted in the given order, consecutive aggregates of the same type
+	 * together, using batches for the aggregate roots and for each kind of referenced entity.
+	 *
+	 * @param instances the aggregate roots of the aggregates to be inserted. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the saved instances in the order of the given ones. Guaranteed to be not {@code null}.
+	 * @since 2.0
+	 */
+	<T> Iterable<T> insertAll(Iterable<T> instances);
+
 	/**
 	 * Deletes a single Aggregate including all entities contained in that aggregate.
 	 *
@@ -78,6 +122,29 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> void delete(T aggregateRoot, Class<T> domainType);
 
+	/**
+	 * Deletes multiple aggregates including all entities contained in them. Referenced entities get deleted with one
+	 * statement per path and the aggregate roots with a single statement, each restricting the rows by the ids of all
+	 * aggregates.
+	 *
+	 * @param ids the ids of the aggregate roots of the aggregates to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @since 2.0
+	 */
+	<T> void deleteAllById(Iterable<?> ids, Class<T> domainType);
+
+	/**
+	 * Deletes multiple aggregates identified by their aggregate roots, like {@link #deleteAllById(Iterable, Class)}.
+	 * Versioned aggregates get deleted with an optimistic locking check.
+	 *
+	 * @param aggregateRoots the aggregate roots to delete. Must not be {@code null}.
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @since 2.0
+	 */
+	<T> void deleteAll(Iterable<? extends T> aggregateRoots, Class<T> domainType);
+
 	/**
 	 * Delete all aggregates of a given type.
 	 *
@@ -144,6 +211,21 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType, Sort sort);
 
+	/**
+	 * Load all aggregates of a given type, sorted, as a {@link Stream}. Aggregates get loaded lazily in chunks while the
+	 * {@link Stream} gets consumed, so memory consumption is bounded independent of the number of aggregates. The
+	 * {@link Stream} holds on to database resources and must be closed after use, preferably using try-with-resources.
+	 * <p>
+	 * Streamed aggregates don't get registered for dirty checking.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.0
+	 */
+	<T> Stream<T> streamAll(Class<T> domainType, Sort sort);
+
 	/**
 	 * Load a page of (potentially sorted) aggregates of a given type.
 	 *
@@ -154,4 +236,38 @@ public interface JdbcAggregateOperations {
 	 * @since 2.0
 	 */
 	<T> Page<T> findAll(Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Load a slice of (potentially sorted) aggregates of a given type. In contrast to {@link #findAll(Class, Pageable)}
+	 * this doesn't count the aggregates. Instead one more aggregate than requested gets selected in order to determine if
+	 * there is a next slice.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @param pageable the pagination information. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.0
+	 */
+	<T> Slice<T> findSlice(Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Load a {@link Window} of sorted aggregates of a given type using keyset pagination, i.e. selecting the aggregates
+	 * sorted after the given position instead of skipping the aggregates of the preceding pages. The time for loading a
+	 * window therefore doesn't depend on its position. The id of the aggregate root gets appended to the sort if it
+	 * isn't part of it already, so the order is unique.
+	 * <p>
+	 * The sort may only reference simple properties of the aggregate root, which must not be {@literal null}. Rows with
+	 * {@literal null} values would get skipped by the comparison selecting the following windows, so an
+	 * {@link org.springframework.dao.InvalidDataAccessApiUsageException} gets thrown when a window contains such a row.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @param position the position to continue after, {@link KeysetScrollPosition#initial()} for the first window. Must
+	 *          not be {@code null}.
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @param limit the maximum number of aggregates in the window. Must be greater than zero.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.0
+	 */
+	<T> Window<T> findAll(Class<T> domainType, KeysetScrollPosition position, Sort sort, int limit);
 }
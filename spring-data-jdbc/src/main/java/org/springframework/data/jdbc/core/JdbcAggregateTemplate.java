@@ -16,33 +16,54 @@
 package org.springframework.data.jdbc.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.support.AfterLoadListeners;
 import org.springframework.data.mapping.IdentifierAccessor;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.conversion.AggregateChange;
+import org.springframework.data.relational.core.conversion.AggregateSnapshot;
+import org.springframework.data.relational.core.conversion.DbAction;
 import org.springframework.data.relational.core.conversion.Interpreter;
 import org.springframework.data.relational.core.conversion.RelationalEntityDeleteWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityInsertWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityUpdateWriter;
+import org.springframework.data.relational.core.conversion.RelationalEntityUpsertWriter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.mapping.event.*;
 import org.springframework.data.relational.core.mapping.event.Identifier.Specified;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
+import org.springframework.data.relational.domain.Window;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link JdbcAggregateOperations} implementation, storing aggregates in and obtaining them from a JDBC data store.
@@ -62,11 +83,22 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	private final RelationalEntityDeleteWriter jdbcEntityDeleteWriter;
 	private final RelationalEntityInsertWriter jdbcEntityInsertWriter;
 	private final RelationalEntityUpdateWriter jdbcEntityUpdateWriter;
+	private final RelationalEntityUpsertWriter jdbcEntityUpsertWriter;
 
+	private final JdbcConverter converter;
 	private final DataAccessStrategy accessStrategy;
 	private final AggregateChangeExecutor executor;
+	private final AggregateSnapshots snapshots;
+	private final AggregateIdentityMap identityMap;
+	private final AfterLoadListeners afterLoadListeners;
 
 	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
+	private boolean differentialUpdatesEnabled = false;
+	private boolean dirtyCheckingEnabled = false;
+	private boolean estimatedCountsEnabled = false;
+	private boolean identityMapEnabled = false;
+	private @Nullable TransactionAwareAggregateCache aggregateCache;
+	private @Nullable TableWriteListener tableWriteListener;
 	private static final String AGG_ERROR = "Aggregate instance must not be null!";
 	private static final String ID_ERROR = "Id must not be null!";
 	private static final String DOMAIN_ERROR = "Domain type must not be null!";
@@ -90,13 +122,18 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		this.publisher = publisher;
 		this.context = context;
+		this.converter = converter;
 		this.accessStrategy = dataAccessStrategy;
 
 		this.jdbcEntityInsertWriter = new RelationalEntityInsertWriter(context);
 		this.jdbcEntityUpdateWriter = new RelationalEntityUpdateWriter(context);
+		this.jdbcEntityUpsertWriter = new RelationalEntityUpsertWriter(context);
 		this.jdbcEntityDeleteWriter = new RelationalEntityDeleteWriter(context);
 		this.interpreter = new DefaultJdbcInterpreter(converter, context, accessStrategy);
 		this.executor = new AggregateChangeExecutor(interpreter, converter);
+		this.snapshots = new AggregateSnapshots(context, dataAccessStrategy);
+		this.identityMap = new AggregateIdentityMap(dataAccessStrategy);
+		this.afterLoadListeners = new AfterLoadListeners(publisher);
 
 		setEntityCallbacks(EntityCallbacks.create(publisher));
 	}
@@ -119,13 +156,18 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		this.publisher = eventPublisher;
 		this.context = mappingContext;
+		this.converter = jdbcConverter;
 		this.accessStrategy = dataAccessStrategy;
 
 		this.jdbcEntityInsertWriter = new RelationalEntityInsertWriter(mappingContext);
 		this.jdbcEntityUpdateWriter = new RelationalEntityUpdateWriter(mappingContext);
+		this.jdbcEntityUpsertWriter = new RelationalEntityUpsertWriter(mappingContext);
 		this.jdbcEntityDeleteWriter = new RelationalEntityDeleteWriter(mappingContext);
 		this.interpreter = new DefaultJdbcInterpreter(jdbcConverter, mappingContext, accessStrategy);
 		this.executor = new AggregateChangeExecutor(interpreter, jdbcConverter);
+		this.snapshots = new AggregateSnapshots(mappingContext, dataAccessStrategy);
+		this.identityMap = new AggregateIdentityMap(dataAccessStrategy);
+		this.afterLoadListeners = new AfterLoadListeners(eventPublisher);
 	}
 
 	/**
@@ -139,6 +181,91 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Configures whether updates of an aggregate should only write the differences between the persisted state and the
+	 * new state of the referenced entities. When enabled the persisted state gets loaded before each update and only
+	 * changed, added or removed entities get written. Otherwise all referenced entities get deleted and reinserted, which
+	 * is the default.
+	 *
+	 * @param differentialUpdatesEnabled whether differential updates of referenced entities should be performed.
+	 * @since 2.0
+	 */
+	public void setDifferentialUpdatesEnabled(boolean differentialUpdatesEnabled) {
+		this.differentialUpdatesEnabled = differentialUpdatesEnabled;
+	}
+
+	/**
+	 * Configures whether aggregates loaded within a transaction should be checked for changes before they get saved
+	 * again in the same transaction. When enabled a snapshot of each loaded aggregate is kept until the transaction
+	 * completes. Saving an unchanged aggregate then doesn't execute any statements, except for checking and incrementing
+	 * the version of versioned aggregates, and if only the aggregate root changed, only the changed columns of the root
+	 * get updated. Changes made by {@link BeforeSaveEvent} listeners or {@link BeforeSaveCallback}s are taken into
+	 * account. The snapshots get shared by all templates using the same {@link DataAccessStrategy}, and saving or
+	 * deleting an aggregate through any of them drops its snapshot, even if dirty checking is disabled for that template.
+	 * Disabled by default.
+	 *
+	 * @param dirtyCheckingEnabled whether loaded aggregates should be checked for changes before saving them.
+	 * @since 2.0
+	 */
+	public void setDirtyCheckingEnabled(boolean dirtyCheckingEnabled) {
+		this.dirtyCheckingEnabled = dirtyCheckingEnabled;
+	}
+
+	/**
+	 * Configures whether the total number of elements of a {@link Page} should be estimated using statistics of the
+	 * database instead of counting the rows. Estimates are considerably cheaper for large tables but might be off,
+	 * especially after many rows got inserted or deleted. Only dialects supporting
+	 * {@link org.springframework.data.relational.core.dialect.RowCountEstimates} provide estimates, all others count.
+	 * Disabled by default.
+	 *
+	 * @param estimatedCountsEnabled whether the total number of elements of a page should be estimated.
+	 * @since 2.0
+	 * @see DataAccessStrategy#estimateCount(Class)
+	 */
+	public void setEstimatedCountsEnabled(boolean estimatedCountsEnabled) {
+		this.estimatedCountsEnabled = estimatedCountsEnabled;
+	}
+
+	/**
+	 * Configures whether aggregates loaded or saved within a transaction should be kept until the transaction completes,
+	 * so that {@link #findById(Object, Class)} and {@link #findAllById(Iterable, Class)} return the same instances
+	 * without accessing the database when the aggregates get requested again within the same transaction. Deleting an
+	 * aggregate removes it. Changes not performed through this template, e.g. by modifying queries, don't affect the
+	 * instances held. All templates using the same {@link DataAccessStrategy} share the aggregates held, so that
+	 * repositories see the aggregates loaded or saved by each other. Disabled by default.
+	 *
+	 * @param identityMapEnabled whether aggregates should be held for the duration of the transaction.
+	 * @since 2.0
+	 */
+	public void setIdentityMapEnabled(boolean identityMapEnabled) {
+		this.identityMapEnabled = identityMapEnabled;
+	}
+
+	/**
+	 * Configures a {@link TableWriteListener} to get notified about the tables written when saving or deleting
+	 * aggregates, e.g. for invalidating cached query results.
+	 *
+	 * @param tableWriteListener the listener to notify. May be {@code null}.
+	 * @since 2.0
+	 */
+	public void setTableWriteListener(@Nullable TableWriteListener tableWriteListener) {
+		this.tableWriteListener = tableWriteListener;
+	}
+
+	/**
+	 * Configures an {@link AggregateCache} consulted by {@link #findById(Object, Class)} for the types cached by it.
+	 * Aggregates loaded within a transaction get added to the cache once the transaction committed. Saving or deleting
+	 * an aggregate evicts it from the cache, again after the transaction committed. Changes not performed through this
+	 * template, e.g. by modifying queries, don't evict anything and only become visible once the cached aggregates
+	 * expired. No cache is used by default.
+	 *
+	 * @param aggregateCache the cache to use. May be {@code null} to disable caching.
+	 * @since 2.0
+	 */
+	public void setAggregateCache(@Nullable AggregateCache aggregateCache) {
+		this.aggregateCache = aggregateCache == null ? null : new TransactionAwareAggregateCache(aggregateCache);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#save(java.lang.Object)
@@ -150,10 +277,51 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
 
-		Function<T, AggregateChange<T>> changeCreator = persistentEntity.isNew(instance) ? this::createInsertChange
-				: this::createUpdateChange;
+		return store(instance, getChangeCreatorForSave(instance, persistentEntity), persistentEntity);
+	}
 
-		return store(instance, changeCreator, persistentEntity);
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#saveAll(java.lang.Iterable)
+	 */
+	@Override
+	public <T> Iterable<T> saveAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		List<AggregateChange<T>> changes = new ArrayList<>();
+
+		for (T instance : instances) {
+
+			Assert.notNull(instance, AGG_ERROR);
+
+			RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
+			changes.add(prepareChange(instance, getChangeCreatorForSave(instance, persistentEntity), persistentEntity));
+		}
+
+		return storeAll(changes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#insertAll(java.lang.Iterable)
+	 */
+	@Override
+	public <T> Iterable<T> insertAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		List<AggregateChange<T>> changes = new ArrayList<>();
+
+		for (T instance : instances) {
+
+			Assert.notNull(instance, AGG_ERROR);
+
+			RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
+			changes.add(prepareChange(instance, this::createInsertChange, persistentEntity));
+		}
+
+		return storeAll(changes);
 	}
 
 	/**
@@ -190,6 +358,24 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return store(instance, this::createUpdateChange, persistentEntity);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#upsert(java.lang.Object)
+	 */
+	@Override
+	public <T> T upsert(T instance) {
+
+		Assert.notNull(instance, AGG_ERROR);
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
+
+		Assert.isTrue(!persistentEntity.hasVersionProperty(), "Upserts are not supported for versioned aggregates");
+		Assert.notNull(persistentEntity.getIdentifierAccessor(instance).getIdentifier(),
+				"Upserts require an aggregate root with an id");
+
+		return store(instance, this::createUpsertChange, persistentEntity);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#count(java.lang.Class)
@@ -212,13 +398,55 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(id, ID_ERROR);
 		Assert.notNull(domainType, DOMAIN_ERROR);
 
-		T entity = accessStrategy.findById(id, domainType);
-		if (entity != null) {
-			return triggerAfterLoad(id, entity);
+		boolean cached = aggregateCache != null && aggregateCache.isCached(domainType);
+		Object key = identityMapEnabled || cached || dirtyCheckingEnabled ? toIdPropertyType(id, domainType) : id;
+
+		if (identityMapEnabled) {
+
+			T registered = identityMap.get(domainType, key);
+			if (registered != null) {
+				return registered;
+			}
+		}
+
+		T entity;
+		if (cached) {
+			entity = findByIdCached(key, domainType, aggregateCache);
+		} else {
+
+			entity = accessStrategy.findById(id, domainType);
+			if (entity != null) {
+				entity = triggerAfterLoad(key, entity);
+			}
+		}
+
+		if (identityMapEnabled && entity != null) {
+			identityMap.register(domainType, key, entity);
 		}
+
 		return entity;
 	}
 
+	@Nullable
+	private <T> T findByIdCached(Object id, Class<T> domainType, TransactionAwareAggregateCache aggregateCache) {
+
+		T cached = aggregateCache.get(domainType, id);
+		if (cached != null) {
+			return triggerAfterLoad(id, cached);
+		}
+
+		long evictionCount = aggregateCache.getEvictionCount();
+
+		T entity = accessStrategy.findById(id, domainType);
+		if (entity == null) {
+			return null;
+		}
+
+		aggregateCache.put(domainType, id, entity, evictionCount);
+
+		return triggerAfterLoad(id, entity);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#existsById(java.lang.Object, java.lang.Class)
@@ -245,6 +473,20 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return triggerAfterLoad(all);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#streamAll(java.lang.Class, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+
+		Assert.notNull(domainType, DOMAIN_ERROR);
+		Assert.notNull(sort, "Sort must not be null!");
+
+		// snapshots are held until the end of the transaction, so registering them would defeat the purpose of streaming.
+		return accessStrategy.streamAll(domainType, sort).map(this::publishAfterLoad);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAll(java.lang.Class, org.springframework.data.domain.Pageable)
@@ -254,11 +496,88 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(domainType, DOMAIN_ERROR);
 
-		Iterable<T> items = triggerAfterLoad(accessStrategy.findAll(domainType, pageable));
-		long totalCount = accessStrategy.count(domainType);
+		if (estimatedCountsEnabled) {
+
+			Iterable<T> items = triggerAfterLoad(accessStrategy.findAll(domainType, pageable));
 
-		return new PageImpl<>(StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList()), pageable,
-				totalCount);
+			// the total is only required if it can't be derived from the content, e.g. for the last page.
+			return PageableExecutionUtils.getPage(
+					StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList()), pageable,
+					() -> accessStrategy.estimateCount(domainType));
+		}
+
+		Page<T> page = accessStrategy.findPage(domainType, pageable);
+
+		List<T> content = new ArrayList<>(page.getNumberOfElements());
+		triggerAfterLoad(page.getContent()).forEach(content::add);
+
+		return new PageImpl<>(content, pageable, page.getTotalElements());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findSlice(java.lang.Class, org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public <T> Slice<T> findSlice(Class<T> domainType, Pageable pageable) {
+
+		Assert.notNull(domainType, DOMAIN_ERROR);
+		Assert.notNull(pageable, "Pageable must not be null!");
+
+		if (pageable.isUnpaged()) {
+
+			List<T> all = new ArrayList<>();
+			findAll(domainType, pageable.getSort()).forEach(all::add);
+
+			return new SliceImpl<>(all, pageable, false);
+		}
+
+		// one more than requested tells if there is a next slice.
+		List<T> loaded = new ArrayList<>();
+		accessStrategy.findAll(domainType, new LookAheadPageable(pageable)).forEach(loaded::add);
+
+		boolean hasNext = loaded.size() > pageable.getPageSize();
+		List<T> content = hasNext ? loaded.subList(0, pageable.getPageSize()) : loaded;
+
+		List<T> result = new ArrayList<>(content.size());
+		triggerAfterLoad(content).forEach(result::add);
+
+		return new SliceImpl<>(result, pageable, hasNext);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAll(java.lang.Class, org.springframework.data.relational.domain.KeysetScrollPosition, org.springframework.data.domain.Sort, int)
+	 */
+	@Override
+	public <T> Window<T> findAll(Class<T> domainType, KeysetScrollPosition position, Sort sort, int limit) {
+
+		Assert.notNull(domainType, DOMAIN_ERROR);
+		Assert.notNull(position, "Position must not be null!");
+		Assert.notNull(sort, "Sort must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(domainType);
+		Sort keysetSort = withIdAsTieBreaker(sort, entity);
+
+		// one more than requested tells if there is a next window.
+		List<T> loaded = new ArrayList<>();
+		accessStrategy.findAll(domainType, position, keysetSort, limit + 1).forEach(loaded::add);
+
+		boolean hasNext = loaded.size() > limit;
+		List<T> content = hasNext ? loaded.subList(0, limit) : loaded;
+
+		// rows with null values would get skipped silently by the next window.
+		content.forEach(aggregate -> assertNoNullSortValues(aggregate, entity, keysetSort));
+
+		KeysetScrollPosition nextPosition = content.isEmpty() //
+				? position //
+				: positionOf(content.get(content.size() - 1), entity, keysetSort);
+
+		List<T> result = new ArrayList<>(content.size());
+		triggerAfterLoad(content).forEach(result::add);
+
+		return Window.from(result, hasNext, nextPosition);
 	}
 
 	/*
@@ -284,10 +603,52 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(ids, "Ids must not be null!");
 		Assert.notNull(domainType, DOMAIN_ERROR);
 
+		if (identityMapEnabled) {
+			return findAllByIdUsingIdentityMap(ids, domainType);
+		}
+
 		Iterable<T> allById = accessStrategy.findAllById(ids, domainType);
 		return triggerAfterLoad(allById);
 	}
 
+	/**
+	 * Only loads the aggregates not registered in the identity map yet. The result is in the order of the ids. The ids get
+	 * converted to the type of the id property, so they match the ids of the loaded aggregates.
+	 */
+	private <T> Iterable<T> findAllByIdUsingIdentityMap(Iterable<?> ids, Class<T> domainType) {
+
+		Map<Object, T> aggregates = new LinkedHashMap<>();
+		List<Object> missingIds = new ArrayList<>();
+
+		for (Object id : ids) {
+
+			Object key = toIdPropertyType(id, domainType);
+
+			if (aggregates.containsKey(key)) {
+				continue;
+			}
+
+			T registered = identityMap.get(domainType, key);
+			aggregates.put(key, registered);
+
+			if (registered == null) {
+				missingIds.add(key);
+			}
+		}
+
+		if (!missingIds.isEmpty()) {
+
+			for (T loaded : triggerAfterLoad(accessStrategy.findAllById(missingIds, domainType))) {
+
+				Object id = getRequiredId(loaded);
+				identityMap.register(domainType, id, loaded);
+				aggregates.put(id, loaded);
+			}
+		}
+
+		return aggregates.values().stream().filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#delete(java.lang.Object, java.lang.Class)
@@ -314,7 +675,49 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(id, ID_ERROR);
 		Assert.notNull(domainType, DOMAIN_ERROR);
 
-		deleteTree(id, null, domainType);
+		deleteTree(toIdPropertyType(id, domainType), null, domainType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#deleteAllById(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public <S> void deleteAllById(Iterable<?> ids, Class<S> domainType) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+		Assert.notNull(domainType, DOMAIN_ERROR);
+
+		Map<Object, S> aggregates = new LinkedHashMap<>();
+		for (Object id : ids) {
+
+			Assert.notNull(id, ID_ERROR);
+			aggregates.put(toIdPropertyType(id, domainType), null);
+		}
+
+		deleteTrees(aggregates, domainType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#deleteAll(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public <S> void deleteAll(Iterable<? extends S> aggregateRoots, Class<S> domainType) {
+
+		Assert.notNull(aggregateRoots, "Aggregate roots must not be null!");
+		Assert.notNull(domainType, DOMAIN_ERROR);
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(domainType);
+
+		Map<Object, S> aggregates = new LinkedHashMap<>();
+		for (S aggregateRoot : aggregateRoots) {
+
+			Assert.notNull(aggregateRoot, "Aggregate root must not be null!");
+			aggregates.put(persistentEntity.getIdentifierAccessor(aggregateRoot).getRequiredIdentifier(), aggregateRoot);
+		}
+
+		deleteTrees(aggregates, domainType);
 	}
 
 	/*
@@ -328,6 +731,17 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		AggregateChange<?> change = createDeletingChange(domainType);
 		executor.execute(change);
+		publishWrittenTables(Collections.singletonList(change));
+
+		snapshots.removeAll(domainType);
+
+		if (aggregateCache != null) {
+			aggregateCache.evictAll(domainType);
+		}
+
+		if (identityMapEnabled) {
+			identityMap.removeAll(domainType);
+		}
 	}
 
 	private <T> T store(T aggregateRoot, Function<T, AggregateChange<T>> changeCreator,
@@ -335,22 +749,127 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(aggregateRoot, AGG_ERROR);
 
+		AggregateChange<T> change = prepareChange(aggregateRoot, changeCreator, persistentEntity);
+
+		executor.execute(change);
+		publishWrittenTables(Collections.singletonList(change));
+
+		return completeChange(change);
+	}
+
+	/**
+	 * Executes the changes in the given order, handing consecutive changes of the same aggregate type to the executor
+	 * together, so the inserts of new aggregates can get batched.
+	 */
+	private <T> List<T> storeAll(List<AggregateChange<T>> changes) {
+
+		List<AggregateChange<T>> changesOfSameType = new ArrayList<>();
+		for (AggregateChange<T> change : changes) {
+
+			if (!changesOfSameType.isEmpty() && changesOfSameType.get(0).getEntityType() != change.getEntityType()) {
+
+				executor.executeAll(changesOfSameType);
+				changesOfSameType = new ArrayList<>();
+			}
+
+			changesOfSameType.add(change);
+		}
+
+		executor.executeAll(changesOfSameType);
+		publishWrittenTables(changes);
+
+		List<T> result = new ArrayList<>(changes.size());
+		for (AggregateChange<T> change : changes) {
+			result.add(completeChange(change));
+		}
+
+		return result;
+	}
+
+	private <T> Function<T, AggregateChange<T>> getChangeCreatorForSave(T instance,
+			RelationalPersistentEntity<?> persistentEntity) {
+
+		return persistentEntity.isNew(instance) ? this::createInsertChange : this::createUpdateChange;
+	}
+
+	private <T> AggregateChange<T> prepareChange(T aggregateRoot, Function<T, AggregateChange<T>> changeCreator,
+			RelationalPersistentEntity<?> persistentEntity) {
+
 		aggregateRoot = triggerBeforeConvert(aggregateRoot);
 
 		AggregateChange<T> change = changeCreator.apply(aggregateRoot);
 
+		List<DbAction<?>> writtenActions = new ArrayList<>(change.getActions());
+		AggregateSnapshot stateBeforeSave = isDirtyChecked(writtenActions) ? AggregateSnapshot.of(context, aggregateRoot)
+				: null;
+
 		aggregateRoot = triggerBeforeSave(aggregateRoot,
 				persistentEntity.getIdentifierAccessor(aggregateRoot).getIdentifier(), change);
 
 		change.setEntity(aggregateRoot);
 
-		executor.execute(change);
+		if (stateBeforeSave != null) {
+			rewriteDirtyCheckedUpdate(change, writtenActions, stateBeforeSave);
+		}
+
+		return change;
+	}
+
+	/**
+	 * Updates determined by comparing the aggregate with its snapshot restrict the update of the root to the changed
+	 * columns.
+	 */
+	private static boolean isDirtyChecked(List<DbAction<?>> actions) {
+
+		return !actions.isEmpty() && actions.get(0) instanceof DbAction.UpdateRoot
+				&& ((DbAction.UpdateRoot<?>) actions.get(0)).getChangedColumns() != null;
+	}
+
+	/**
+	 * {@link BeforeSaveEvent} listeners and {@link BeforeSaveCallback}s might modify the aggregate after the changes got
+	 * determined from its snapshot. In that case the changes get determined again for the final aggregate, replacing the
+	 * previously written actions. Actions added by listeners or callbacks are kept.
+	 */
+	private <T> void rewriteDirtyCheckedUpdate(AggregateChange<T> change, List<DbAction<?>> writtenActions,
+			AggregateSnapshot stateBeforeSave) {
+
+		T aggregateRoot = change.getEntity();
+		AggregateSnapshot stateAfterSave = AggregateSnapshot.of(context, aggregateRoot);
+
+		if (stateAfterSave.hasSameRootState(stateBeforeSave) && stateAfterSave.hasSameReferencedState(stateBeforeSave)) {
+			return;
+		}
+
+		List<DbAction<?>> actions = change.getActions();
+		actions.removeIf(action -> writtenActions.stream().anyMatch(written -> written == action));
+		actions.addAll(0, createUpdateChange(aggregateRoot).getActions());
+	}
+
+	private <T> T completeChange(AggregateChange<T> change) {
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(change.getEntityType());
 
 		Object identifier = persistentEntity.getIdentifierAccessor(change.getEntity()).getIdentifier();
 
 		Assert.notNull(identifier, "After saving the identifier must not be null!");
 
-		return triggerAfterSave(change.getEntity(), identifier, change);
+		if (dirtyCheckingEnabled) {
+			snapshots.register(identifier, change.getEntity());
+		} else {
+			snapshots.remove(identifier, change.getEntityType());
+		}
+
+		if (aggregateCache != null) {
+			aggregateCache.evict(change.getEntityType(), identifier);
+		}
+
+		T saved = triggerAfterSave(change.getEntity(), identifier, change);
+
+		if (identityMapEnabled) {
+			identityMap.register(change.getEntityType(), identifier, saved);
+		}
+
+		return saved;
 	}
 
 	private <T> void deleteTree(Object id, @Nullable T entity, Class<T> domainType) {
@@ -361,10 +880,94 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		change.setEntity(entity);
 
 		executor.execute(change);
+		publishWrittenTables(Collections.singletonList(change));
+
+		snapshots.remove(id, domainType);
+
+		if (aggregateCache != null) {
+			aggregateCache.evict(domainType, id);
+		}
+
+		if (identityMapEnabled) {
+			identityMap.remove(domainType, id);
+		}
 
 		triggerAfterDelete(entity, id, change);
 	}
 
+	/**
+	 * Deletes multiple aggregates of the same type, so the deletes can get batched.
+	 *
+	 * @param aggregates the aggregate roots keyed by id. The roots may be {@literal null} when only the id is known.
+	 */
+	private <T> void deleteTrees(Map<Object, T> aggregates, Class<T> domainType) {
+
+		List<AggregateChange<T>> changes = new ArrayList<>(aggregates.size());
+
+		aggregates.forEach((id, entity) -> {
+
+			AggregateChange<T> change = createDeletingChange(id, entity, domainType);
+			change.setEntity(triggerBeforeDelete(entity, id, change));
+			changes.add(change);
+		});
+
+		executor.executeAll(changes);
+		publishWrittenTables(changes);
+
+		int i = 0;
+		for (Object id : aggregates.keySet()) {
+
+			AggregateChange<T> change = changes.get(i++);
+
+			snapshots.remove(id, domainType);
+
+			if (aggregateCache != null) {
+				aggregateCache.evict(domainType, id);
+			}
+
+			if (identityMapEnabled) {
+				identityMap.remove(domainType, id);
+			}
+
+			triggerAfterDelete(change.getEntity(), id, change);
+		}
+	}
+
+	private void publishWrittenTables(List<? extends AggregateChange<?>> changes) {
+
+		if (tableWriteListener == null) {
+			return;
+		}
+
+		Set<SqlIdentifier> tableNames = new LinkedHashSet<>();
+		for (AggregateChange<?> change : changes) {
+			change.forEachAction(action -> {
+
+				RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(action.getEntityType());
+				if (!isSkippedUpdate(action, entity)) {
+					tableNames.add(entity.getTableName());
+				}
+			});
+		}
+
+		if (!tableNames.isEmpty()) {
+			tableWriteListener.tablesWritten(tableNames);
+		}
+	}
+
+	/**
+	 * Dirty checked updates without any changed column don't get executed, unless the version needs to be incremented.
+	 */
+	private static boolean isSkippedUpdate(DbAction<?> action, RelationalPersistentEntity<?> entity) {
+
+		if (!(action instanceof DbAction.UpdateRoot) || entity.hasVersionProperty()) {
+			return false;
+		}
+
+		Set<SqlIdentifier> changedColumns = ((DbAction.UpdateRoot<?>) action).getChangedColumns();
+		return changedColumns != null && changedColumns.isEmpty();
+	}
+
 	private <T> AggregateChange<T> createInsertChange(T instance) {
 
 		AggregateChange<T> aggregateChange = AggregateChange.forSave(instance);
@@ -372,13 +975,53 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return aggregateChange;
 	}
 
+	private <T> AggregateChange<T> createUpsertChange(T instance) {
+
+		AggregateChange<T> aggregateChange = AggregateChange.forSave(instance);
+		jdbcEntityUpsertWriter.write(instance, aggregateChange);
+		return aggregateChange;
+	}
+
 	private <T> AggregateChange<T> createUpdateChange(T instance) {
 
 		AggregateChange<T> aggregateChange = AggregateChange.forSave(instance);
-		jdbcEntityUpdateWriter.write(instance, aggregateChange);
+
+		AggregateSnapshot snapshot = getSnapshot(instance);
+		if (snapshot == null) {
+			jdbcEntityUpdateWriter.write(instance, getPersistedState(instance), aggregateChange);
+		} else {
+			jdbcEntityUpdateWriter.write(instance, snapshot, () -> getPersistedState(instance), aggregateChange);
+		}
+
 		return aggregateChange;
 	}
 
+	@Nullable
+	private AggregateSnapshot getSnapshot(Object instance) {
+
+		if (!dirtyCheckingEnabled) {
+			return null;
+		}
+
+		Object id = context.getRequiredPersistentEntity(instance.getClass()).getIdentifierAccessor(instance)
+				.getIdentifier();
+
+		return id == null ? null : snapshots.get(id, instance.getClass());
+	}
+
+	@Nullable
+	private <T> Object getPersistedState(T instance) {
+
+		if (!differentialUpdatesEnabled) {
+			return null;
+		}
+
+		Object id = context.getRequiredPersistentEntity(instance.getClass()).getIdentifierAccessor(instance)
+				.getIdentifier();
+
+		return id == null ? null : accessStrategy.findById(id, instance.getClass());
+	}
+
 	private <T> AggregateChange<T> createDeletingChange(Object id, @Nullable T entity, Class<T> domainType) {
 
 		AggregateChange<T> aggregateChange = AggregateChange.forDelete(domainType, entity);
@@ -398,19 +1041,107 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		List<T> result = new ArrayList<>();
 
 		for (T e : all) {
+			result.add(dirtyCheckingEnabled ? triggerAfterLoad(getRequiredId(e), e) : publishAfterLoad(e));
+		}
 
-			RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(e.getClass());
-			IdentifierAccessor identifierAccessor = entity.getIdentifierAccessor(e);
+		afterLoadListeners.afterLoadAll(result);
 
-			result.add(triggerAfterLoad(identifierAccessor.getRequiredIdentifier(), e));
+		return result;
+	}
+
+	private static Sort withIdAsTieBreaker(Sort sort, RelationalPersistentEntity<?> entity) {
+
+		String idPropertyName = entity.getRequiredIdProperty().getName();
+
+		if (sort.getOrderFor(idPropertyName) != null) {
+			return sort;
 		}
 
-		return result;
+		// using the direction of the last sort property allows for row value comparisons.
+		Sort.Direction direction = sort.stream().reduce((first, second) -> second).map(Sort.Order::getDirection)
+				.orElse(Sort.Direction.ASC);
+
+		return sort.and(Sort.by(direction, idPropertyName));
+	}
+
+	private static void assertNoNullSortValues(Object aggregateRoot, RelationalPersistentEntity<?> entity, Sort sort) {
+
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(aggregateRoot);
+
+		for (Sort.Order order : sort) {
+
+			if (accessor.getProperty(entity.getRequiredPersistentProperty(order.getProperty())) == null) {
+				throw new InvalidDataAccessApiUsageException(String.format(
+						"Keyset pagination doesn't support null values of sort properties but %s of %s is null; Sort by properties mapped to NOT NULL columns",
+						order.getProperty(), aggregateRoot));
+			}
+		}
+	}
+
+	private static KeysetScrollPosition positionOf(Object aggregateRoot, RelationalPersistentEntity<?> entity,
+			Sort sort) {
+
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(aggregateRoot);
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		for (Sort.Order order : sort) {
+			keys.put(order.getProperty(), accessor.getProperty(entity.getRequiredPersistentProperty(order.getProperty())));
+		}
+
+		return KeysetScrollPosition.of(keys);
+	}
+
+	/**
+	 * Converts an id passed by the caller to the type of the id property, e.g. an {@link Integer} to a {@link Long}, so
+	 * it matches the ids obtained from aggregates when used as a key.
+	 */
+	private Object toIdPropertyType(Object id, Class<?> domainType) {
+
+		RelationalPersistentProperty idProperty = context.getRequiredPersistentEntity(domainType).getRequiredIdProperty();
+
+		if (ClassUtils.isAssignableValue(idProperty.getType(), id)) {
+			return id;
+		}
+
+		Object converted = converter.readValue(id, idProperty.getTypeInformation());
+
+		return converted == null ? id : converted;
+	}
+
+	private Object getRequiredId(Object aggregateRoot) {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(aggregateRoot.getClass());
+		IdentifierAccessor identifierAccessor = entity.getIdentifierAccessor(aggregateRoot);
+
+		return identifierAccessor.getRequiredIdentifier();
 	}
 
 	private <T> T triggerAfterLoad(Object id, T entity) {
 
-		publisher.publishEvent(new RelationalEventWithIdAndEntity(Identifier.of(id), entity, null));
+		if (dirtyCheckingEnabled) {
+			snapshots.register(id, entity);
+		}
+
+		return publishAfterLoad(id, entity);
+	}
+
+	/**
+	 * Determines the id only if there are listeners for the event requiring it.
+	 */
+	private <T> T publishAfterLoad(T entity) {
+
+		if (afterLoadListeners.hasEventListeners()) {
+			return publishAfterLoad(getRequiredId(entity), entity);
+		}
+
+		return entityCallbacks.callback(AfterLoadCallback.class, entity);
+	}
+
+	private <T> T publishAfterLoad(Object id, T entity) {
+
+		if (afterLoadListeners.hasEventListeners()) {
+			publisher.publishEvent(new RelationalEventWithIdAndEntity(Identifier.of(id), entity, null));
+		}
 
 		return entityCallbacks.callback(AfterLoadCallback.class, entity);
 	}
@@ -463,4 +1194,56 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		return null;
 	}
+
+	/**
+	 * {@link Pageable} selecting one element more than the page it wraps, starting at the same offset.
+	 */
+	private static class LookAheadPageable implements Pageable {
+
+		private final Pageable delegate;
+
+		LookAheadPageable(Pageable delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public int getPageNumber() {
+			return delegate.getPageNumber();
+		}
+
+		@Override
+		public int getPageSize() {
+			return delegate.getPageSize() + 1;
+		}
+
+		@Override
+		public long getOffset() {
+			return delegate.getOffset();
+		}
+
+		@Override
+		public Sort getSort() {
+			return delegate.getSort();
+		}
+
+		@Override
+		public Pageable next() {
+			return new LookAheadPageable(delegate.next());
+		}
+
+		@Override
+		public Pageable previousOrFirst() {
+			return new LookAheadPageable(delegate.previousOrFirst());
+		}
+
+		@Override
+		public Pageable first() {
+			return new LookAheadPageable(delegate.first());
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return delegate.hasPrevious();
+		}
+	}
 }
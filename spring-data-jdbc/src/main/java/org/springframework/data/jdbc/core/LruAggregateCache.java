@@ -0,0 +1,251 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * In-process {@link AggregateCache} holding a bounded number of aggregates per type. When the limit is reached the least
+ * recently used aggregate gets evicted. Aggregates expire after a time to live configured per type.
+ * <p>
+ * Only types registered with {@link #cache(Class, int, Duration)} get cached. Aggregates of mutable types should get
+ * registered with a copy function using {@link #cache(Class, int, Duration, UnaryOperator)}, which gets applied when an
+ * aggregate gets added to the cache, whenever it gets returned from the cache and when a snapshot gets taken with
+ * {@link #copy(Class, Object)}. Without one, the cached instances get shared by all callers.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public class LruAggregateCache implements AggregateCache {
+
+	private final Map<Class<?>, Region<?>> regions = new ConcurrentHashMap<>();
+	private final Clock clock;
+
+	/**
+	 * Creates a new {@link LruAggregateCache} without any cached types.
+	 */
+	public LruAggregateCache() {
+		this(Clock.systemUTC());
+	}
+
+	LruAggregateCache(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Enables caching of immutable aggregates of the given type. Cached instances get shared.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param maximumSize the maximum number of cached aggregates of the type. Must be greater than zero.
+	 * @param timeToLive the duration after which a cached aggregate expires. Must not be {@code null} and must be
+	 *          positive.
+	 * @return this cache.
+	 */
+	public <T> LruAggregateCache cache(Class<T> domainType, int maximumSize, Duration timeToLive) {
+		return cache(domainType, maximumSize, timeToLive, UnaryOperator.identity());
+	}
+
+	/**
+	 * Enables caching of aggregates of the given type, copying them with the given function when they get added to or
+	 * returned from the cache.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param maximumSize the maximum number of cached aggregates of the type. Must be greater than zero.
+	 * @param timeToLive the duration after which a cached aggregate expires. Must not be {@code null} and must be
+	 *          positive.
+	 * @param copier creates a deep copy of an aggregate. Must not be {@code null}.
+	 * @return this cache.
+	 */
+	public <T> LruAggregateCache cache(Class<T> domainType, int maximumSize, Duration timeToLive,
+			UnaryOperator<T> copier) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero!");
+		Assert.notNull(timeToLive, "Time to live must not be null!");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive!");
+		Assert.notNull(copier, "Copier must not be null!");
+
+		regions.put(domainType, new Region<>(maximumSize, timeToLive.toMillis(), copier));
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.AggregateCache#isCached(java.lang.Class)
+	 */
+	@Override
+	public boolean isCached(Class<?> domainType) {
+		return regions.containsKey(domainType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.AggregateCache#get(java.lang.Class, java.lang.Object)
+	 */
+	@Nullable
+	@Override
+	public <T> T get(Class<T> domainType, Object id) {
+
+		Region<T> region = getRegion(domainType);
+
+		return region == null ? null : region.get(id, clock.millis());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.AggregateCache#put(java.lang.Class, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public <T> void put(Class<T> domainType, Object id, T aggregateRoot) {
+
+		Region<T> region = getRegion(domainType);
+
+		if (region != null) {
+			region.put(id, aggregateRoot, clock.millis());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.AggregateCache#evict(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	public void evict(Class<?> domainType, Object id) {
+
+		Region<?> region = getRegion(domainType);
+
+		if (region != null) {
+			region.evict(id);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.AggregateCache#evictAll(java.lang.Class)
+	 */
+	@Override
+	public void evictAll(Class<?> domainType) {
+
+		Region<?> region = getRegion(domainType);
+
+		if (region != null) {
+			region.clear();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.AggregateCache#copy(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	public <T> T copy(Class<T> domainType, T aggregateRoot) {
+
+		Region<T> region = getRegion(domainType);
+
+		return region == null ? aggregateRoot : region.copier.apply(aggregateRoot);
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> Region<T> getRegion(Class<?> domainType) {
+		return (Region<T>) regions.get(domainType);
+	}
+
+	/**
+	 * The cached aggregates of a single type, ordered from least to most recently used.
+	 */
+	private static class Region<T> {
+
+		private final long timeToLive;
+		private final UnaryOperator<T> copier;
+		private final LinkedHashMap<Object, Entry<T>> entries;
+
+		Region(int maximumSize, long timeToLive, UnaryOperator<T> copier) {
+
+			this.timeToLive = timeToLive;
+			this.copier = copier;
+			this.entries = new LinkedHashMap<Object, Entry<T>>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, Entry<T>> eldest) {
+					return size() > maximumSize;
+				}
+			};
+		}
+
+		@Nullable
+		T get(Object id, long now) {
+
+			Entry<T> entry;
+			synchronized (entries) {
+
+				entry = entries.get(id);
+
+				if (entry != null && entry.expiresAt <= now) {
+
+					entries.remove(id);
+					entry = null;
+				}
+			}
+
+			return entry == null ? null : copier.apply(entry.aggregateRoot);
+		}
+
+		void put(Object id, T aggregateRoot, long now) {
+
+			Entry<T> entry = new Entry<>(copier.apply(aggregateRoot), now + timeToLive);
+
+			synchronized (entries) {
+				entries.put(id, entry);
+			}
+		}
+
+		void evict(Object id) {
+
+			synchronized (entries) {
+				entries.remove(id);
+			}
+		}
+
+		void clear() {
+
+			synchronized (entries) {
+				entries.clear();
+			}
+		}
+	}
+
+	private static class Entry<T> {
+
+		private final T aggregateRoot;
+		private final long expiresAt;
+
+		Entry(T aggregateRoot, long expiresAt) {
+
+			this.aggregateRoot = aggregateRoot;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
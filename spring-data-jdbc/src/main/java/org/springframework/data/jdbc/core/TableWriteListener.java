@@ -0,0 +1,39 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.Set;
+
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+/**
+ * Gets notified by {@link JdbcAggregateTemplate} about the tables written when saving or deleting aggregates.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ * @see JdbcAggregateTemplate#setTableWriteListener(TableWriteListener)
+ */
+@FunctionalInterface
+public interface TableWriteListener {
+
+	/**
+	 * Gets invoked after statements writing to the given tables got executed. Within a transaction this happens before
+	 * the transaction commits.
+	 *
+	 * @param tableNames the names of the written tables. Guaranteed to be not {@code null} nor empty.
+	 */
+	void tablesWritten(Set<SqlIdentifier> tableNames);
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.util.Pair;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Coordinates an {@link AggregateCache} with the current transaction. Aggregates loaded within a transaction only get
+ * added to the cache after the transaction committed and aggregates written within a transaction get evicted once more
+ * after it committed. Until then the cache gets bypassed for them within the writing transaction, since the
+ * transaction sees its own changes while the cache doesn't.
+ * <p>
+ * An aggregate loaded while an aggregate gets evicted might represent the state before the change, so it doesn't get
+ * added to the cache. To keep this simple, any eviction prevents all aggregates loaded before it from getting cached.
+ * Since the cache is meant for aggregates that get read a lot more often than they get written this is rarely an issue.
+ * <p>
+ * The transaction state and the eviction count are kept per underlying {@link AggregateCache}, so all templates using
+ * the same cache, e.g. those backing different repositories, see each other's writes.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+class TransactionAwareAggregateCache {
+
+	private static final ConcurrentMap<AggregateCache, Evictions> EVICTIONS = new ConcurrentReferenceHashMap<>(16,
+			ReferenceType.WEAK);
+
+	private final AggregateCache cache;
+	private final Evictions evictions;
+
+	TransactionAwareAggregateCache(AggregateCache cache) {
+
+		this.cache = cache;
+		this.evictions = EVICTIONS.computeIfAbsent(cache, it -> new Evictions());
+	}
+
+	/**
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @return whether aggregates of the given type get cached.
+	 */
+	boolean isCached(Class<?> domainType) {
+		return cache.isCached(domainType);
+	}
+
+	/**
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 * @return the cached aggregate. {@code null} if there is none or the aggregate got written in the current
+	 *         transaction.
+	 */
+	@Nullable
+	<T> T get(Class<T> domainType, Object id) {
+
+		TransactionState state = getState(false);
+
+		if (state != null && state.isWritten(domainType, id)) {
+			return null;
+		}
+
+		return cache.get(domainType, id);
+	}
+
+	/**
+	 * @return a marker to be obtained before loading an aggregate and to be passed to
+	 *         {@link #put(Class, Object, Object, long)}.
+	 */
+	long getEvictionCount() {
+		return evictions.getCount();
+	}
+
+	/**
+	 * Adds an aggregate to the cache, unless an aggregate got evicted since it got loaded. Within a transaction the
+	 * aggregate gets added after the transaction committed, unless it got written in the meantime. In that case it gets
+	 * copied right away, so changes the caller makes to the returned instance before the commit don't end up in the
+	 * cache.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 * @param aggregateRoot the aggregate root. Must not be {@code null}.
+	 * @param evictionCount the result of {@link #getEvictionCount()} before loading the aggregate.
+	 */
+	<T> void put(Class<T> domainType, Object id, T aggregateRoot, long evictionCount) {
+
+		TransactionState state = getState(true);
+
+		if (state == null) {
+			putUnlessEvicted(domainType, id, aggregateRoot, evictionCount);
+		} else if (!state.isWritten(domainType, id)) {
+
+			T snapshot = cache.copy(domainType, aggregateRoot);
+			state.pending.add(() -> putUnlessEvicted(domainType, id, snapshot, evictionCount));
+		}
+	}
+
+	/**
+	 * Evicts the aggregate with the given type and id. Within a transaction it gets evicted again after the transaction
+	 * committed.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 * @param id the id of the aggregate root. Must not be {@code null}.
+	 */
+	void evict(Class<?> domainType, Object id) {
+
+		if (!cache.isCached(domainType)) {
+			return;
+		}
+
+		evictNow(() -> cache.evict(domainType, id));
+
+		TransactionState state = getState(true);
+
+		if (state != null) {
+			state.written.add(Pair.of(domainType, id));
+		}
+	}
+
+	/**
+	 * Evicts all aggregates of the given type. Within a transaction they get evicted again after the transaction
+	 * committed.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@code null}.
+	 */
+	void evictAll(Class<?> domainType) {
+
+		if (!cache.isCached(domainType)) {
+			return;
+		}
+
+		evictNow(() -> cache.evictAll(domainType));
+
+		TransactionState state = getState(true);
+
+		if (state != null) {
+			state.writtenTypes.add(domainType);
+		}
+	}
+
+	private void evictNow(Runnable eviction) {
+		evictions.evict(eviction);
+	}
+
+	private <T> void putUnlessEvicted(Class<T> domainType, Object id, T aggregateRoot, long evictionCount) {
+		evictions.runUnlessEvicted(evictionCount, () -> cache.put(domainType, id, aggregateRoot));
+	}
+
+	@Nullable
+	private TransactionState getState(boolean create) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		TransactionState state = (TransactionState) TransactionSynchronizationManager.getResource(cache);
+
+		if (state == null && create) {
+
+			state = new TransactionState();
+			TransactionSynchronizationManager.bindResource(cache, state);
+			TransactionSynchronizationManager.registerSynchronization(new CacheSynchronization(state));
+		}
+
+		return state;
+	}
+
+	/**
+	 * Counts the evictions of an {@link AggregateCache}, shared by all {@link TransactionAwareAggregateCache}s wrapping
+	 * it.
+	 */
+	private static class Evictions {
+
+		private long count = 0;
+
+		synchronized long getCount() {
+			return count;
+		}
+
+		synchronized void evict(Runnable eviction) {
+
+			count++;
+			eviction.run();
+		}
+
+		synchronized void runUnlessEvicted(long evictionCount, Runnable action) {
+
+			if (count == evictionCount) {
+				action.run();
+			}
+		}
+	}
+
+	/**
+	 * The aggregates loaded and written within a transaction.
+	 */
+	private static class TransactionState {
+
+		private final List<Runnable> pending = new ArrayList<>();
+		private final Set<Pair<Class<?>, Object>> written = new HashSet<>();
+		private final Set<Class<?>> writtenTypes = new HashSet<>();
+
+		boolean isWritten(Class<?> domainType, Object id) {
+			return writtenTypes.contains(domainType) || written.contains(Pair.of(domainType, id));
+		}
+	}
+
+	/**
+	 * Applies the pending changes to the cache after commit and unbinds the state from the thread when the transaction
+	 * gets suspended or completed.
+	 */
+	private class CacheSynchronization extends TransactionSynchronizationAdapter {
+
+		private final TransactionState state;
+
+		CacheSynchronization(TransactionState state) {
+			this.state = state;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(cache, state);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+
+			if (status != TransactionSynchronization.STATUS_COMMITTED) {
+				return;
+			}
+
+			state.pending.forEach(Runnable::run);
+			state.written.forEach(key -> evictNow(() -> cache.evict(key.getFirst(), key.getSecond())));
+			state.writtenTypes.forEach(type -> evictNow(() -> cache.evictAll(type)));
+		}
+	}
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.domain.Identifier;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResultSetExtractor} reading complete aggregates from a single {@link ResultSet} which contains the rows of all
+ * entities of the aggregate joined to the row of their aggregate root, as selected by
+ * {@link SqlGenerator#getFindOneWithCollections()}.
+ * <p>
+ * Joining collections multiplies the rows, so the rows get read twice: first the rows get grouped by the id of the
+ * aggregate root and the id, list index or map key of the referenced entities, then each aggregate root and each
+ * referenced entity gets converted exactly once. This requires a scrollable {@link ResultSet}. If the driver doesn't
+ * support that, each aggregate root gets converted from its first row and its collections get loaded by the fallback
+ * {@link RelationResolver}.
+ * <p>
+ * The extractor may also be used with custom queries as long as they select the columns using the same aliases.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public class AggregateResultSetExtractor<T> implements ResultSetExtractor<List<T>> {
+
+	private final RelationalMappingContext context;
+	private final JdbcConverter converter;
+	private final RelationResolver fallback;
+	private final IdentifierProcessing identifierProcessing;
+
+	private final PersistentPropertyPathExtension rootPath;
+	private final RelationalPersistentProperty rootIdProperty;
+	private final List<PersistentPropertyPathExtension> collectionPaths = new ArrayList<>();
+
+	/**
+	 * Creates a new {@link AggregateResultSetExtractor}.
+	 *
+	 * @param context the mapping context. Must not be {@literal null}.
+	 * @param entity the entity of the aggregate root. Must have an id property. Must not be {@literal null}.
+	 * @param converter the converter used for converting the rows. Must not be {@literal null}.
+	 * @param fallback resolves relations if the {@link ResultSet} isn't scrollable. Must not be {@literal null}.
+	 * @param identifierProcessing used for rendering the column aliases. Must not be {@literal null}.
+	 */
+	public AggregateResultSetExtractor(RelationalMappingContext context, RelationalPersistentEntity<T> entity,
+			JdbcConverter converter, RelationResolver fallback, IdentifierProcessing identifierProcessing) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+		Assert.notNull(entity, "RelationalPersistentEntity must not be null");
+		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(fallback, "RelationResolver must not be null");
+		Assert.notNull(identifierProcessing, "IdentifierProcessing must not be null");
+
+		this.context = context;
+		this.converter = converter;
+		this.fallback = fallback;
+		this.identifierProcessing = identifierProcessing;
+
+		this.rootPath = new PersistentPropertyPathExtension(context, entity);
+		this.rootIdProperty = entity.getRequiredIdProperty();
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : context
+				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(context, path);
+
+			if (extPath.isEntity() && extPath.isMultiValued()) {
+				collectionPaths.add(extPath);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.jdbc.core.ResultSetExtractor#extractData(java.sql.ResultSet)
+	 */
+	@Override
+	public List<T> extractData(ResultSet resultSet) throws SQLException {
+
+		if (resultSet.getType() == ResultSet.TYPE_FORWARD_ONLY) {
+			return extractFirstRows(resultSet);
+		}
+
+		Map<Object, Integer> rootRows = new LinkedHashMap<>();
+		Map<String, Map<Object, Map<Object, Integer>>> elementRows = new HashMap<>();
+
+		while (resultSet.next()) {
+
+			int row = resultSet.getRow();
+			rootRows.putIfAbsent(readId(resultSet, rootPath, rootIdProperty), row);
+
+			for (PersistentPropertyPathExtension path : collectionPaths) {
+
+				Object parentId = readParentId(resultSet, path);
+				if (parentId == null) {
+					continue;
+				}
+
+				elementRows.computeIfAbsent(path.getRequiredPersistentPropertyPath().toDotPath(), p -> new HashMap<>()) //
+						.computeIfAbsent(parentId, id -> new LinkedHashMap<>()) //
+						.putIfAbsent(readElementKey(resultSet, path, row), row);
+			}
+		}
+
+		RelationResolver relationResolver = new JoinedRowsRelationResolver(resultSet, elementRows);
+
+		List<T> result = new ArrayList<>(rootRows.size());
+		int rowNumber = 0;
+		for (int row : rootRows.values()) {
+
+			resultSet.absolute(row);
+			result.add(converter.mapRow(rootPath, resultSet, Identifier.empty(), rowNumber++, relationResolver));
+		}
+
+		return result;
+	}
+
+	private List<T> extractFirstRows(ResultSet resultSet) throws SQLException {
+
+		Map<Object, T> result = new LinkedHashMap<>();
+		int rowNumber = 0;
+
+		while (resultSet.next()) {
+
+			Object id = readId(resultSet, rootPath, rootIdProperty);
+			if (!result.containsKey(id)) {
+				result.put(id, converter.mapRow(rootPath, resultSet, Identifier.empty(), rowNumber++, fallback));
+			}
+		}
+
+		return new ArrayList<>(result.values());
+	}
+
+	/**
+	 * Reads the value of the back reference of an entity referenced via a collection, i.e. the id of the entity
+	 * referencing it. {@literal null} if the row doesn't contain such an entity.
+	 */
+	@Nullable
+	private Object readParentId(ResultSet resultSet, PersistentPropertyPathExtension path) throws SQLException {
+
+		Object value = resultSet.getObject(path.getReverseColumnNameAlias().getReference(identifierProcessing));
+
+		if (value == null) {
+			return null;
+		}
+
+		RelationalPersistentProperty parentIdProperty = path.getIdDefiningParentPath().getRequiredIdProperty();
+		return converter.readValue(value, parentIdProperty.getTypeInformation());
+	}
+
+	/**
+	 * Identifies an element within its collection: by its id if it has one, by its list index or map key otherwise. An
+	 * element without either, i.e. the element of a {@link java.util.Set} without id, is identified by its row.
+	 */
+	private Object readElementKey(ResultSet resultSet, PersistentPropertyPathExtension path, int row)
+			throws SQLException {
+
+		RelationalPersistentProperty idProperty = path.getLeafEntity().getIdProperty();
+		if (idProperty != null) {
+			return readId(resultSet, path, idProperty);
+		}
+
+		if (path.isQualified()) {
+			return readQualifier(resultSet, path);
+		}
+
+		return row;
+	}
+
+	@Nullable
+	private Object readId(ResultSet resultSet, PersistentPropertyPathExtension path,
+			RelationalPersistentProperty idProperty) throws SQLException {
+
+		Object value = resultSet.getObject(path.extendBy(idProperty).getColumnAlias().getReference(identifierProcessing));
+		return converter.readValue(value, idProperty.getTypeInformation());
+	}
+
+	@Nullable
+	private Object readQualifier(ResultSet resultSet, PersistentPropertyPathExtension path) throws SQLException {
+
+		SqlIdentifier qualifierColumnAlias = path.getQualifierColumnAlias();
+
+		Assert.state(qualifierColumnAlias != null, () -> "No key column for " + path);
+
+		return resultSet.getObject(qualifierColumnAlias.getReference(identifierProcessing));
+	}
+
+	/**
+	 * Resolves relations by converting the rows of the referenced entities found while grouping the rows.
+	 */
+	private class JoinedRowsRelationResolver implements RelationResolver {
+
+		private final ResultSet resultSet;
+		private final Map<String, Map<Object, Map<Object, Integer>>> elementRows;
+
+		JoinedRowsRelationResolver(ResultSet resultSet, Map<String, Map<Object, Map<Object, Integer>>> elementRows) {
+
+			this.resultSet = resultSet;
+			this.elementRows = elementRows;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.jdbc.core.convert.RelationResolver#findAllByPath(org.springframework.data.relational.domain.Identifier, org.springframework.data.mapping.PersistentPropertyPath)
+		 */
+		@Override
+		public Iterable<Object> findAllByPath(Identifier identifier,
+				PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+			PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, propertyPath);
+
+			if (identifier.size() != 1 || !collectionPaths.contains(path)) {
+				return fallback.findAllByPath(identifier, propertyPath);
+			}
+
+			Object parentId = identifier.toMap().values().iterator().next();
+			Map<Object, Integer> rows = elementRows.getOrDefault(propertyPath.toDotPath(), Collections.emptyMap())
+					.getOrDefault(parentId, Collections.emptyMap());
+
+			try {
+				return readElements(path, parentId, rows.values());
+			} catch (SQLException e) {
+				throw new MappingException(String.format("Could not read the elements of %s from result set!", path), e);
+			}
+		}
+
+		private List<Object> readElements(PersistentPropertyPathExtension path, Object parentId, Iterable<Integer> rows)
+				throws SQLException {
+
+			int currentRow = resultSet.getRow();
+			Identifier identifier = Identifier.of(path.getReverseColumnName(), parentId, Object.class);
+
+			List<Map.Entry<Object, Object>> elements = new ArrayList<>();
+			for (int row : rows) {
+
+				resultSet.absolute(row);
+
+				Object key = path.isQualified() ? readQualifier(resultSet, path) : elements.size();
+				elements.add(new AbstractMap.SimpleEntry<>(key,
+						converter.mapJoinedRow(path, resultSet, identifier, key, this)));
+			}
+
+			resultSet.absolute(currentRow);
+
+			if (path.isOrdered()) {
+				elements.sort(Comparator.comparingInt(e -> ((Number) e.getKey()).intValue()));
+			}
+
+			List<Object> result = new ArrayList<>(elements.size());
+			for (Map.Entry<Object, Object> element : elements) {
+				result.add(path.isMap() ? element : element.getValue());
+			}
+
+			return result;
+		}
+	}
+}
@@ -18,7 +18,9 @@ package org.springframework.data.jdbc.core.convert;
 import java.sql.Array;
 import java.sql.JDBCType;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -28,6 +30,7 @@ import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.data.jdbc.core.convert.RowMappingPlan.EntityPlan;
 import org.springframework.data.jdbc.support.JdbcUtil;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
@@ -47,8 +50,11 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.domain.Identifier;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
 
 /**
  * {@link RelationalConverter} that uses a {@link MappingContext} to apply basic conversion of relational values to
@@ -335,12 +341,138 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		return new ReadingContext<T>(
 				new PersistentPropertyPathExtension(
 						(MappingContext<RelationalPersistentEntity<?>, RelationalPersistentProperty>) getMappingContext(), entity),
-				resultSet, Identifier.empty(), key).mapRow();
+				resultSet, Identifier.empty(), key, relationResolver).mapRow();
 	}
 
 	@Override
 	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key) {
-		return new ReadingContext<T>(path, resultSet, identifier, key).mapRow();
+		return new ReadingContext<T>(path, resultSet, identifier, key, relationResolver).mapRow();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#createRowMappingPlan(org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension, java.sql.ResultSet)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public RowMappingPlan createRowMappingPlan(PersistentPropertyPathExtension path, ResultSet resultSet) {
+
+		RelationalPersistentEntity<?> entity = path.getLeafEntity();
+
+		Assert.notNull(entity, "The path must point to an entity.");
+
+		PersistentPropertyPathExtension entityPath = new PersistentPropertyPathExtension(
+				(MappingContext<RelationalPersistentEntity<?>, RelationalPersistentProperty>) getMappingContext(), entity);
+
+		return new RowMappingPlan(resultSet, path,
+				createEntityPlan(entity, path, entityPath, getColumnIndexes(resultSet)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#mapRow(org.springframework.data.jdbc.core.convert.RowMappingPlan, java.sql.ResultSet, org.springframework.data.relational.domain.Identifier, java.lang.Object)
+	 */
+	@Override
+	public <T> T mapRow(RowMappingPlan plan, ResultSet resultSet, Identifier identifier, Object key) {
+
+		EntityPlan entityPlan = plan.getEntityPlan();
+
+		if (entityPlan == null) {
+			return mapRow(plan.getPath(), resultSet, identifier, key);
+		}
+
+		return new ReadingContext<T>(entityPlan, resultSet, identifier, key, relationResolver).mapRow();
+	}
+
+	/**
+	 * Maps the labels of the columns of the {@link ResultSet} to their position. If there are multiple columns with the
+	 * same label, the first one wins, just as when looking up columns by label.
+	 */
+	private static Map<String, Integer> getColumnIndexes(ResultSet resultSet) {
+
+		Map<String, Integer> columnIndexes = new LinkedCaseInsensitiveMap<>();
+
+		try {
+
+			ResultSetMetaData metaData = resultSet.getMetaData();
+			if (metaData == null) {
+				return columnIndexes;
+			}
+
+			for (int index = 1; index <= metaData.getColumnCount(); index++) {
+				columnIndexes.putIfAbsent(JdbcUtils.lookupColumnName(metaData, index), index);
+			}
+		} catch (SQLException e) {
+			LOG.debug("Could not determine the columns of the ResultSet. Columns will be read by name.", e);
+		}
+
+		return columnIndexes;
+	}
+
+	private EntityPlan createEntityPlan(RelationalPersistentEntity<?> entity, PersistentPropertyPathExtension rootPath,
+			PersistentPropertyPathExtension path, Map<String, Integer> columnIndexes) {
+
+		Map<RelationalPersistentProperty, Integer> propertyColumnIndexes = new HashMap<>();
+		Map<RelationalPersistentProperty, EntityPlan> nestedPlans = new HashMap<>();
+
+		for (RelationalPersistentProperty property : entity) {
+
+			// collections get loaded by the RelationResolver
+			if ((property.isCollectionLike() && property.isEntity()) || property.isMap()) {
+				continue;
+			}
+
+			if (property.isEmbedded() || property.isEntity()) {
+
+				nestedPlans.put(property,
+						createEntityPlan(getMappingContext().getRequiredPersistentEntity(property.getActualType()),
+								rootPath.extendBy(property), path.extendBy(property), columnIndexes));
+				continue;
+			}
+
+			Integer columnIndex = columnIndexes
+					.get(path.extendBy(property).getColumnAlias().getReference(identifierProcessing));
+			if (columnIndex != null) {
+				propertyColumnIndexes.put(property, columnIndex);
+			}
+		}
+
+		Integer reverseColumnIndex = path.getLength() == 0 || path.isEmbedded() || entity.hasIdProperty() //
+				? null //
+				: columnIndexes.get(path.getReverseColumnNameAlias().getReference(identifierProcessing));
+
+		return new EntityPlan(entity, rootPath, path, propertyColumnIndexes, reverseColumnIndex, nestedPlans);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#mapRow(org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension, java.sql.ResultSet, org.springframework.data.relational.domain.Identifier, java.lang.Object, org.springframework.data.jdbc.core.convert.RelationResolver)
+	 */
+	@Override
+	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key,
+			RelationResolver relationResolver) {
+
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		return new ReadingContext<T>(path, resultSet, identifier, key, relationResolver).mapRow();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#mapJoinedRow(org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension, java.sql.ResultSet, org.springframework.data.relational.domain.Identifier, java.lang.Object, org.springframework.data.jdbc.core.convert.RelationResolver)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T mapJoinedRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier,
+			Object key, RelationResolver relationResolver) {
+
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) path.getLeafEntity();
+
+		Assert.notNull(entity, "The path must point to an entity.");
+
+		return new ReadingContext<T>(entity, resultSet, path, path, identifier, key, relationResolver, null).mapRow();
 	}
 
 	private class ReadingContext<T> {
@@ -352,10 +484,12 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		private final PersistentPropertyPathExtension path;
 		private final Identifier identifier;
 		private final Object key;
+		private final RelationResolver relationResolver;
+		@Nullable private final EntityPlan plan;
 
 		@SuppressWarnings("unchecked")
 		private ReadingContext(PersistentPropertyPathExtension rootPath, ResultSet resultSet, Identifier identifier,
-				Object key) {
+				Object key, RelationResolver relationResolver) {
 
 			RelationalPersistentEntity<T> newEntity = (RelationalPersistentEntity<T>) rootPath.getLeafEntity();
 
@@ -369,11 +503,21 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 					this.entity);
 			this.identifier = identifier;
 			this.key = key;
+			this.relationResolver = relationResolver;
+			this.plan = null;
+		}
+
+		@SuppressWarnings("unchecked")
+		private ReadingContext(EntityPlan plan, ResultSet resultSet, Identifier identifier, Object key,
+				RelationResolver relationResolver) {
+
+			this((RelationalPersistentEntity<T>) plan.getEntity(), resultSet, plan.getRootPath(), plan.getPath(),
+					identifier, key, relationResolver, plan);
 		}
 
 		private ReadingContext(RelationalPersistentEntity<T> entity, ResultSet resultSet,
 				PersistentPropertyPathExtension rootPath, PersistentPropertyPathExtension path, Identifier identifier,
-				Object key) {
+				Object key, RelationResolver relationResolver, @Nullable EntityPlan plan) {
 
 			this.entity = entity;
 			this.resultSet = resultSet;
@@ -381,12 +525,20 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			this.path = path;
 			this.identifier = identifier;
 			this.key = key;
+			this.relationResolver = relationResolver;
+			this.plan = plan;
 		}
 
 		private <S> ReadingContext<S> extendBy(RelationalPersistentProperty property) {
+
+			EntityPlan nestedPlan = plan == null ? null : plan.getNestedPlans().get(property);
+			if (nestedPlan != null) {
+				return new ReadingContext<>(nestedPlan, resultSet, identifier, key, relationResolver);
+			}
+
 			return new ReadingContext<>(
 					(RelationalPersistentEntity<S>) getMappingContext().getRequiredPersistentEntity(property.getActualType()),
-					resultSet, rootPath.extendBy(property), path.extendBy(property), identifier, key);
+					resultSet, rootPath.extendBy(property), path.extendBy(property), identifier, key, relationResolver, null);
 		}
 
 		T mapRow() {
@@ -457,7 +609,13 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		private Object readFrom(RelationalPersistentProperty property) {
 
 			if (property.isEntity()) {
-				return readEntityFrom(property, path);
+				return readEntityFrom(property);
+			}
+
+			Integer columnIndex = plan == null ? null : plan.getColumnIndexes().get(property);
+
+			if (columnIndex != null) {
+				return readPlannedValue(getObjectFromResultSet(columnIndex), property);
 			}
 
 			Object value = getObjectFromResultSet(
@@ -465,6 +623,48 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			return readValue(value, property.getTypeInformation());
 		}
 
+		/**
+		 * Reads a value using the {@link EntityPlan}, skipping the conversion for values of a type that needs none for the
+		 * given property. Whether a type needs a conversion gets decided by the type alone and remembered per property.
+		 */
+		@Nullable
+		private Object readPlannedValue(@Nullable Object value, RelationalPersistentProperty property) {
+
+			Assert.state(plan != null, "Planned values require an EntityPlan");
+
+			if (value == null) {
+				return null;
+			}
+
+			Map<RelationalPersistentProperty, Class<?>> unconvertedValueTypes = plan.getUnconvertedValueTypes();
+			Class<?> valueType = value.getClass();
+
+			if (valueType == unconvertedValueTypes.get(property)) {
+				return value;
+			}
+
+			if (needsNoConversion(valueType, property.getType())) {
+
+				unconvertedValueTypes.put(property, valueType);
+				return value;
+			}
+
+			return readValue(value, property.getTypeInformation());
+		}
+
+		/**
+		 * Mirrors the checks of {@link #readValue(Object, TypeInformation)}: values get returned as they are if no custom
+		 * read converter is registered for their type, they are assignable to the target type and are neither a JDBC
+		 * {@link Array} nor read into an {@link AggregateReference}.
+		 */
+		private boolean needsNoConversion(Class<?> valueType, Class<?> targetType) {
+
+			return !getConversions().hasCustomReadTarget(valueType, targetType) //
+					&& ClassUtils.isAssignable(targetType, valueType) //
+					&& !Array.class.isAssignableFrom(valueType) //
+					&& !AggregateReference.class.isAssignableFrom(targetType);
+		}
+
 		@Nullable
 		private Object readEmbeddedEntityFrom(@Nullable Object idValue, RelationalPersistentProperty property) {
 
@@ -512,7 +712,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 		@Nullable
 		@SuppressWarnings("unchecked")
-		private Object readEntityFrom(RelationalPersistentProperty property, PersistentPropertyPathExtension path) {
+		private Object readEntityFrom(RelationalPersistentProperty property) {
 
 			ReadingContext<?> newContext = extendBy(property);
 			RelationalPersistentEntity<?> newEntity = getMappingContext().getRequiredPersistentEntity(property.getActualType());
@@ -523,8 +723,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			if (idProperty != null) {
 				idValue = newContext.readFrom(idProperty);
 			} else {
-				idValue = newContext.getObjectFromResultSet(
-						path.extendBy(property).getReverseColumnNameAlias().getReference(identifierProcessing));
+				idValue = newContext.readBackReference();
 			}
 
 			if (idValue == null) {
@@ -534,6 +733,29 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			return newContext.createInstanceInternal(idValue);
 		}
 
+		/**
+		 * Reads the back reference of an entity without id, which tells if the entity is present at all.
+		 */
+		@Nullable
+		private Object readBackReference() {
+
+			Integer columnIndex = plan == null ? null : plan.getReverseColumnIndex();
+			return columnIndex != null //
+					? getObjectFromResultSet(columnIndex) //
+					: getObjectFromResultSet(path.getReverseColumnNameAlias().getReference(identifierProcessing));
+		}
+
+		@Nullable
+		private Object getObjectFromResultSet(int columnIndex) {
+
+			try {
+				return resultSet.getObject(columnIndex);
+			} catch (SQLException e) {
+				throw new MappingException(String.format("Could not read value of column %d from result set!", columnIndex),
+						e);
+			}
+		}
+
 		@Nullable
 		private Object getObjectFromResultSet(String backreferenceName) {
 
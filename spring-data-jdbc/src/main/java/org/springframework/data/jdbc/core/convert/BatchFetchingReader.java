@@ -0,0 +1,249 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.domain.Identifier;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Reads aggregates loading the entities referenced via collection like properties, i.e. {@link Set}s, {@link List}s and
+ * {@link Map}s, with one query per property path instead of one query per loaded entity.
+ * <p>
+ * The rows of each level of the aggregate get read twice from a scrollable {@link ResultSet}: first to collect the ids
+ * of all entities, then to convert them. Relations of an entity get resolved by loading the referenced entities of all
+ * entities of the level with a single {@code WHERE back_reference IN (:ids)} query, split into chunks if there are many
+ * ids. The referenced entities get read the same way, so the number of queries depends on the number of property paths,
+ * not on the number of entities.
+ * <p>
+ * Relations that can't get resolved this way, e.g. those of entities without an id, get resolved by the fallback
+ * {@link RelationResolver}. The same happens if the driver doesn't support scrollable result sets.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+class BatchFetchingReader {
+
+	private final SqlGeneratorSource sqlGeneratorSource;
+	private final RelationalMappingContext context;
+	private final JdbcConverter converter;
+	private final NamedParameterJdbcOperations operations;
+	private final RelationResolver fallback;
+	private final IdentifierProcessing identifierProcessing;
+
+	BatchFetchingReader(SqlGeneratorSource sqlGeneratorSource, RelationalMappingContext context,
+			JdbcConverter converter, NamedParameterJdbcOperations operations, RelationResolver fallback) {
+
+		this.sqlGeneratorSource = sqlGeneratorSource;
+		this.context = context;
+		this.converter = converter;
+		this.operations = operations;
+		this.fallback = fallback;
+		this.identifierProcessing = sqlGeneratorSource.getDialect().getIdentifierProcessing();
+	}
+
+	/**
+	 * Executes the query and reads all aggregates returned by it.
+	 *
+	 * @param sql the query selecting the aggregate roots. Must not be {@literal null}.
+	 * @param parameters the parameters of the query. Must not be {@literal null}.
+	 * @param entity the entity of the aggregate root. Must not be {@literal null}.
+	 * @return the aggregates. Guaranteed to be not {@literal null}.
+	 */
+	<T> List<T> read(String sql, SqlParameterSource parameters, RelationalPersistentEntity<T> entity) {
+
+		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, entity);
+
+		return query(sql, parameters, entity,
+				(resultSet, rowNumber, relationResolver) -> converter.mapRow(path, resultSet, Identifier.empty(), rowNumber,
+						relationResolver));
+	}
+
+	private <T> List<T> query(String sql, SqlParameterSource parameters, RelationalPersistentEntity<?> entity,
+			LevelMapper<T> mapper) {
+
+		List<T> result = operations.getJdbcOperations().query( //
+				DefaultDataAccessStrategy.scrollableStatement(sql, parameters), //
+				(ResultSetExtractor<List<T>>) resultSet -> read(resultSet, entity, mapper) //
+		);
+
+		return result == null ? Collections.emptyList() : result;
+	}
+
+	private <T> List<T> read(ResultSet resultSet, RelationalPersistentEntity<?> entity, LevelMapper<T> mapper)
+			throws SQLException {
+
+		RelationResolver relationResolver = fallback;
+
+		RelationalPersistentProperty idProperty = entity.getIdProperty();
+		if (idProperty != null && resultSet.getType() != ResultSet.TYPE_FORWARD_ONLY) {
+
+			String idColumn = new PersistentPropertyPathExtension(context, entity).extendBy(idProperty).getColumnAlias()
+					.getReference(identifierProcessing);
+
+			Set<Object> ids = new LinkedHashSet<>();
+			while (resultSet.next()) {
+
+				Object id = converter.readValue(resultSet.getObject(idColumn), idProperty.getTypeInformation());
+				if (id != null) {
+					ids.add(id);
+				}
+			}
+			resultSet.beforeFirst();
+
+			relationResolver = new BatchRelationResolver(entity, idProperty, ids);
+		}
+
+		List<T> result = new ArrayList<>();
+		int rowNumber = 0;
+		while (resultSet.next()) {
+			result.add(mapper.mapRow(resultSet, rowNumber++, relationResolver));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Converts the current row of a {@link ResultSet} using the given {@link RelationResolver}.
+	 */
+	@FunctionalInterface
+	private interface LevelMapper<T> {
+
+		T mapRow(ResultSet resultSet, int rowNumber, RelationResolver relationResolver) throws SQLException;
+	}
+
+	/**
+	 * Resolves the relations of the entities of a single level of an aggregate by loading the referenced entities of all
+	 * of them on first access.
+	 */
+	private class BatchRelationResolver implements RelationResolver {
+
+		private final RelationalPersistentEntity<?> entity;
+		private final RelationalPersistentProperty idProperty;
+		private final Set<Object> ids;
+		private final Map<String, Map<Object, List<Object>>> loaded = new HashMap<>();
+
+		BatchRelationResolver(RelationalPersistentEntity<?> entity, RelationalPersistentProperty idProperty,
+				Set<Object> ids) {
+
+			this.entity = entity;
+			this.idProperty = idProperty;
+			this.ids = ids;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.jdbc.core.convert.RelationResolver#findAllByPath(org.springframework.data.relational.domain.Identifier, org.springframework.data.mapping.PersistentPropertyPath)
+		 */
+		@Override
+		public Iterable<Object> findAllByPath(Identifier identifier,
+				PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+			if (!isReferencedByIdOfLevel(identifier, path)) {
+				return fallback.findAllByPath(identifier, path);
+			}
+
+			Map.Entry<SqlIdentifier, Object> backReference = identifier.toMap().entrySet().iterator().next();
+
+			return loaded //
+					.computeIfAbsent(path.toDotPath(), p -> load(backReference.getKey(), path)) //
+					.getOrDefault(backReference.getValue(), Collections.emptyList());
+		}
+
+		/**
+		 * Relations get referenced by the id of an entity of this level if the {@link Identifier} consists of just that id
+		 * and the path is owned by the entity of this level, possibly through embedded entities. Only the part of the path
+		 * below that entity gets considered, so it doesn't matter whether the path starts at the aggregate root or at the
+		 * entity of this level.
+		 */
+		private boolean isReferencedByIdOfLevel(Identifier identifier,
+				PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+			if (identifier.size() != 1 || !ids.contains(identifier.toMap().values().iterator().next())) {
+				return false;
+			}
+
+			PersistentPropertyPath<RelationalPersistentProperty> ownerPath = path.getParentPath();
+			while (ownerPath.getLength() > 0 && ownerPath.getRequiredLeafProperty().isEmbedded()) {
+				ownerPath = ownerPath.getParentPath();
+			}
+
+			Class<?> ownerType = ownerPath.getLength() == 0 //
+					? path.getBaseProperty().getOwner().getType() //
+					: ownerPath.getRequiredLeafProperty().getActualType();
+
+			return entity.getType().equals(ownerType);
+		}
+
+		private Map<Object, List<Object>> load(SqlIdentifier backReferenceColumn,
+				PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+			PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, propertyPath);
+			SqlGenerator sqlGenerator = sqlGeneratorSource.getSqlGenerator(path.getActualType());
+			SqlIdentifier keyColumn = path.getQualifierColumn();
+
+			String sql = sqlGenerator.getFindAllByBackReferenceIn(backReferenceColumn, keyColumn, path.isOrdered());
+			String backReferenceAlias = backReferenceColumn.getReference(identifierProcessing);
+			String keyAlias = keyColumn == null ? null : keyColumn.getReference(identifierProcessing);
+
+			Map<Object, List<Object>> elementsByParent = new HashMap<>();
+
+			for (List<Object> chunk : DefaultDataAccessStrategy.chunk(ids, sqlGenerator.getMaxInListSize())) {
+
+				SqlIdentifierParameterSource parameters = new SqlIdentifierParameterSource(identifierProcessing);
+				parameters.addValue(IDS_SQL_PARAMETER,
+						DefaultDataAccessStrategy.padToBucketSize(chunk, sqlGenerator.getMaxInListSize()));
+
+				query(sql, parameters, path.getLeafEntity(), (resultSet, rowNumber, relationResolver) -> {
+
+					Object parentId = converter.readValue(resultSet.getObject(backReferenceAlias),
+							idProperty.getTypeInformation());
+					List<Object> elements = elementsByParent.computeIfAbsent(parentId, id -> new ArrayList<>());
+
+					Object key = keyAlias == null ? elements.size() : resultSet.getObject(keyAlias);
+					Object element = converter.mapRow(path, resultSet,
+							Identifier.of(backReferenceColumn, parentId, Object.class), key, relationResolver);
+
+					elements.add(path.isMap() ? new AbstractMap.SimpleEntry<>(key, element) : element);
+					return element;
+				});
+			}
+
+			return elementsByParent;
+		}
+	}
+}
@@ -18,14 +18,18 @@ package org.springframework.data.jdbc.core.convert;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.domain.Identifier;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 
 /**
@@ -64,6 +68,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.insert(instance, domainType, identifier));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insertAll(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <T> Object[] insertAll(List<InsertSubject<T>> insertSubjects, Class<T> domainType) {
+		return collect(das -> das.insertAll(insertSubjects, domainType));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class)
@@ -82,6 +95,34 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.updateWithVersion(instance, domainType, previousVersion));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#update(java.lang.Object, java.lang.Class, java.util.Set)
+	 */
+	@Override
+	public <T> boolean update(T instance, Class<T> domainType, Set<SqlIdentifier> columns) {
+		return collect(das -> das.update(instance, domainType, columns));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#updateWithVersion(java.lang.Object, java.lang.Class, java.lang.Number, java.util.Set)
+	 */
+	@Override
+	public <T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion,
+			Set<SqlIdentifier> columns) {
+		return collect(das -> das.updateWithVersion(instance, domainType, previousVersion, columns));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#upsert(java.lang.Object, java.lang.Class, org.springframework.data.relational.domain.Identifier)
+	 */
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType, Identifier identifier) {
+		collectVoid(das -> das.upsert(instance, domainType, identifier));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
@@ -109,6 +150,44 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		collectVoid(das -> das.delete(rootId, propertyPath));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllById(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public void deleteAllById(Iterable<?> ids, Class<?> domainType) {
+		collectVoid(das -> das.deleteAllById(ids, domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllWithVersion(java.util.Map, java.lang.Class)
+	 */
+	@Override
+	public <T> void deleteAllWithVersion(Map<Object, Number> previousVersions, Class<T> domainType) {
+		collectVoid(das -> das.deleteAllWithVersion(previousVersions, domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllByRootIds(java.lang.Iterable, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void deleteAllByRootIds(Iterable<?> rootIds,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		collectVoid(das -> das.deleteAllByRootIds(rootIds, propertyPath));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllByPath(org.springframework.data.relational.domain.Identifier, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void deleteAllByPath(Identifier identifier,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		collectVoid(das -> das.deleteAllByPath(identifier, propertyPath));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(java.lang.Class)
@@ -136,6 +215,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.count(domainType));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#estimateCount(java.lang.Class)
+	 */
+	@Override
+	public long estimateCount(Class<?> domainType) {
+		return collect(das -> das.estimateCount(domainType));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findById(java.lang.Object, java.lang.Class)
@@ -200,6 +288,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAll(domainType, sort));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#streamAll(java.lang.Class, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+		return collect(das -> das.streamAll(domainType, sort));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAll(java.lang.Class, org.springframework.data.domain.Pageable)
@@ -209,6 +306,24 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAll(domainType, pageable));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findPage(java.lang.Class, org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public <T> Page<T> findPage(Class<T> domainType, Pageable pageable) {
+		return collect(das -> das.findPage(domainType, pageable));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.relational.domain.KeysetScrollPosition, org.springframework.data.domain.Sort, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, KeysetScrollPosition position, Sort sort, int limit) {
+		return collect(das -> das.findAll(domainType, position, sort, limit));
+	}
+
 	private <T> T collect(Function<DataAccessStrategy, T> function) {
 
 		// Keep <T> as Eclipse fails to compile if <> is used.
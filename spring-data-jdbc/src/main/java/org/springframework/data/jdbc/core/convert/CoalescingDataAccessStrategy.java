@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.domain.Identifier;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link DataAccessStrategy} decorator coalescing concurrent identical calls of {@link #findById(Object, Class)} and
+ * {@link #findAllByPath(Identifier, PersistentPropertyPath)}: while a query for a certain id or path is in flight,
+ * further calls for the same id or path wait for it and return its result instead of executing the query again.
+ * <p>
+ * All coalesced callers receive the same instances, so they must not modify them. Coalescing is skipped while a
+ * transaction is active, since the result of a query executed in one transaction must not be handed to another.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public class CoalescingDataAccessStrategy extends DelegatingDataAccessStrategy {
+
+	private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder executedQueries = new LongAdder();
+	private final LongAdder coalescedCalls = new LongAdder();
+
+	/**
+	 * Creates a new {@link CoalescingDataAccessStrategy} decorating the given {@link DataAccessStrategy}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CoalescingDataAccessStrategy(DataAccessStrategy delegate) {
+		setDelegate(delegate);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DelegatingDataAccessStrategy#findById(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <T> T findById(Object id, Class<T> domainType) {
+		return coalesce(Arrays.asList("findById", domainType, id), () -> super.findById(id, domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DelegatingDataAccessStrategy#findAllByPath(org.springframework.data.relational.domain.Identifier, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public Iterable<Object> findAllByPath(Identifier identifier,
+			PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return coalesce(Arrays.asList("findAllByPath", identifier, path), () -> super.findAllByPath(identifier, path));
+	}
+
+	/**
+	 * @return the number of coalescable queries that actually got executed, i.e. that didn't get coalesced with another
+	 *         call. Doesn't include queries executed within transactions.
+	 */
+	public long getExecutedQueryCount() {
+		return executedQueries.sum();
+	}
+
+	/**
+	 * @return the number of calls that didn't execute a query but waited for the result of an identical query in flight.
+	 */
+	public long getCoalescedCallCount() {
+		return coalescedCalls.sum();
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> T coalesce(Object key, Supplier<T> query) {
+
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return query.get();
+		}
+
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+
+		if (existing != null) {
+
+			coalescedCalls.increment();
+			return (T) await(existing);
+		}
+
+		executedQueries.increment();
+
+		try {
+
+			T result = query.get();
+			future.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+	@Nullable
+	private static Object await(CompletableFuture<Object> future) {
+
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw e;
+		}
+	}
+}
@@ -15,15 +15,23 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.domain.Identifier;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.lang.Nullable;
 
@@ -68,6 +76,31 @@ public interface DataAccessStrategy extends RelationResolver {
 		return insert(instance, domainType, identifier.toMap());
 	}
 
+	/**
+	 * Inserts the data of multiple entities of the same type. Referenced entities don't get handled. Implementations are
+	 * free to execute the inserts as a single batch. The default implementation inserts each entity separately.
+	 *
+	 * @param insertSubjects the instances to be stored together with their respective {@link Identifier}. Must not be
+	 *          {@code null}.
+	 * @param domainType the type of the instances. Must not be {@code null}.
+	 * @param <T> the type of the instances.
+	 * @return the ids generated by the database if any, in the order of {@code insertSubjects}. Elements are
+	 *         {@code null} when no id got generated for the respective instance. Guaranteed to be not {@code null}.
+	 * @since 2.0
+	 */
+	default <T> Object[] insertAll(List<InsertSubject<T>> insertSubjects, Class<T> domainType) {
+
+		Object[] ids = new Object[insertSubjects.size()];
+
+		for (int i = 0; i < ids.length; i++) {
+
+			InsertSubject<T> subject = insertSubjects.get(i);
+			ids[i] = insert(subject.getInstance(), domainType, subject.getIdentifier());
+		}
+
+		return ids;
+	}
+
 	/**
 	 * Updates the data of a single entity in the database. Referenced entities don't get handled.
 	 *
@@ -96,6 +129,63 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion);
 
+	/**
+	 * Updates the given columns of a single entity in the database. Referenced entities don't get handled. The default
+	 * implementation updates all columns.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param columns the columns to update. Must not be {@code null}.
+	 * @param <T> the type of the instance to save.
+	 * @return whether the update actually updated a row.
+	 * @since 2.0
+	 */
+	default <T> boolean update(T instance, Class<T> domainType, Set<SqlIdentifier> columns) {
+		return update(instance, domainType);
+	}
+
+	/**
+	 * Updates the given columns of a single entity in the database and enforce optimistic record locking using the
+	 * {@code previousVersion} property. The version column always gets updated. Referenced entities don't get handled.
+	 * The default implementation updates all columns.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param previousVersion The previous version assigned to the instance being saved.
+	 * @param columns the columns to update. Must not be {@code null}.
+	 * @param <T> the type of the instance to save.
+	 * @return whether the update actually updated a row.
+	 * @throws OptimisticLockingFailureException if the update fails to update at least one row assuming the the
+	 *           optimistic locking version check failed.
+	 * @since 2.0
+	 */
+	default <T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion,
+			Set<SqlIdentifier> columns) {
+		return updateWithVersion(instance, domainType, previousVersion);
+	}
+
+	/**
+	 * Inserts the data of a single entity or updates the existing row if there already is one with the same id.
+	 * Referenced entities don't get handled. The entity must have an id.
+	 * <p>
+	 * The default implementation tries an update and falls back to an insert if no row got updated, which takes two
+	 * statements and isn't atomic. Implementations should use a single upsert statement where the database supports it.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param identifier information about data that needs to be considered for the insert but which is not part of the
+	 *          entity. Namely references back to a parent entity and key/index columns for entities that are stored in a
+	 *          {@link Map} or {@link List}.
+	 * @param <T> the type of the instance to save.
+	 * @since 2.0
+	 */
+	default <T> void upsert(T instance, Class<T> domainType, Identifier identifier) {
+
+		if (!update(instance, domainType)) {
+			insert(instance, domainType, identifier);
+		}
+	}
+
 	/**
 	 * Deletes a single row identified by the id, from the table identified by the domainType. Does not handle cascading
 	 * deletes.
@@ -131,6 +221,62 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath);
 
+	/**
+	 * Deletes multiple aggregate roots identified by their ids. Does not handle cascading deletes. The default
+	 * implementation deletes each root on its own.
+	 *
+	 * @param ids the ids of the rows to be deleted. Must not be {@code null}.
+	 * @param domainType the type of entity to be deleted. Implicitly determines the table to operate on. Must not be
+	 *          {@code null}.
+	 * @since 2.0
+	 */
+	default void deleteAllById(Iterable<?> ids, Class<?> domainType) {
+		ids.forEach(id -> delete(id, domainType));
+	}
+
+	/**
+	 * Deletes multiple aggregate roots and enforces optimistic record locking using their previous versions. Does not
+	 * handle cascading deletes. The default implementation deletes each root on its own.
+	 *
+	 * @param previousVersions the previous versions of the rows to be deleted, keyed by id. Must not be {@code null}.
+	 * @param domainType the type of entity to be deleted. Implicitly determines the table to operate on. Must not be
+	 *          {@code null}.
+	 * @param <T> type of the domain type.
+	 * @throws OptimisticLockingFailureException if any of the rows wasn't deleted, assuming the optimistic locking
+	 *           version check failed.
+	 * @since 2.0
+	 */
+	default <T> void deleteAllWithVersion(Map<Object, Number> previousVersions, Class<T> domainType) {
+		previousVersions.forEach((id, previousVersion) -> deleteWithVersion(id, domainType, previousVersion));
+	}
+
+	/**
+	 * Deletes all entities reachable via {@literal propertyPath} from the aggregate roots identified by
+	 * {@literal rootIds}. The default implementation deletes the entities of each root on its own.
+	 *
+	 * @param rootIds Ids of the roots for which to delete the referenced entities. Must not be {@code null}.
+	 * @param propertyPath Leading from the root object to the entities to be deleted. Must not be {@code null}.
+	 * @since 2.0
+	 */
+	default void deleteAllByRootIds(Iterable<?> rootIds,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		rootIds.forEach(rootId -> delete(rootId, propertyPath));
+	}
+
+	/**
+	 * Deletes all entities reachable via {@literal propertyPath} that match the given {@link Identifier}. The
+	 * {@link Identifier} might contain the id of the entity to delete or the back reference to the parent entity together
+	 * with the key of the entity in a {@link java.util.List} or {@link Map}.
+	 *
+	 * <p>
+	 * Used for differential updates of referenced entities.
+	 *
+	 * @param identifier the column values identifying the rows to delete. Must not be {@code null}.
+	 * @param propertyPath Leading from the root object to the entities to be deleted. Must not be {@code null}.
+	 * @since 2.0
+	 */
+	void deleteAllByPath(Identifier identifier, PersistentPropertyPath<RelationalPersistentProperty> propertyPath);
+
 	/**
 	 * Deletes all entities of the given domain type.
 	 *
@@ -154,6 +300,21 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	long count(Class<?> domainType);
 
+	/**
+	 * Estimates the number of rows in the table representing the given domain type, e.g. from statistics maintained by
+	 * the database. Estimates are much cheaper than counting for large tables but might deviate from the actual number of
+	 * rows.
+	 * <p>
+	 * The default implementation counts the rows using {@link #count(Class)}.
+	 *
+	 * @param domainType the domain type for which to estimate the number of elements. Must not be {@code null}.
+	 * @return the estimated count.
+	 * @since 2.0
+	 */
+	default long estimateCount(Class<?> domainType) {
+		return count(domainType);
+	}
+
 	/**
 	 * Loads a single entity identified by type and id.
 	 *
@@ -226,6 +387,22 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType, Sort sort);
 
+	/**
+	 * Loads all entities of the given type, sorted, as a {@link Stream} that loads the entities lazily while it gets
+	 * consumed. The returned {@link Stream} might hold on to database resources and must be closed after use.
+	 * <p>
+	 * The default implementation loads all entities using {@link #findAll(Class, Sort)}.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.0
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+		return StreamSupport.stream(findAll(domainType, sort).spliterator(), false);
+	}
+
 	/**
 	 * Loads all entities of the given type, paged and sorted.
 	 *
@@ -236,4 +413,45 @@ public interface DataAccessStrategy extends RelationResolver {
 	 * @since 2.0
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Loads a page of entities of the given type including the total number of entities.
+	 * <p>
+	 * The default implementation loads the entities with {@link #findAll(Class, Pageable)} and counts them with
+	 * {@link #count(Class)} unless the total can be derived from the page itself.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @param pageable the pagination information. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.0
+	 */
+	default <T> Page<T> findPage(Class<T> domainType, Pageable pageable) {
+
+		List<T> content = StreamSupport.stream(findAll(domainType, pageable).spliterator(), false)
+				.collect(Collectors.toList());
+
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(domainType));
+	}
+
+	/**
+	 * Loads a limited number of entities of the given type sorted after the given position. The sort must result in a
+	 * unique order and consist of simple properties of the aggregate root only, which must not be {@literal null}.
+	 * <p>
+	 * The default implementation loads all entities using {@link #findAll(Class, Sort)} and skips those up to and
+	 * including the position, comparing the values of the sort properties using their natural order. Since it reads the
+	 * complete table for each window, implementations should restrict the query to the requested entities instead.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @param position the values of the sort properties of the last entity loaded before. Must not be {@code null} and
+	 *          must not contain {@literal null} values.
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @param limit the maximum number of entities to load.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.0
+	 */
+	default <T> Iterable<T> findAll(Class<T> domainType, KeysetScrollPosition position, Sort sort, int limit) {
+		return KeysetPositions.after(findAll(domainType, sort), position, sort, limit);
+	}
 }
@@ -17,40 +17,79 @@ package org.springframework.data.jdbc.core.convert;
 
 import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
 
+import java.lang.reflect.Array;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.mapping.SingleQueryLoading;
+import org.springframework.data.jdbc.support.JdbcStreams;
 import org.springframework.data.jdbc.support.JdbcUtil;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.relational.core.dialect.RowCountEstimates;
+import org.springframework.data.relational.core.mapping.IdGeneration;
+import org.springframework.data.relational.core.mapping.IdGenerator;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.mapping.TimeOrderedUuidGenerator;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.domain.Identifier;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import lombok.NonNull;
 
 /**
@@ -68,10 +107,24 @@ import lombok.NonNull;
  */
 public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
+	private static final Set<String> BATCH_GENERATED_KEYS_DATABASES = new HashSet<>(
+			Arrays.asList("PostgreSQL", "MySQL", "MariaDB"));
+
 	private final SqlGeneratorSource sqlGeneratorSource;
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final NamedParameterJdbcOperations operations;
+	private final Map<Class<?>, IdGenerator> idGenerators = new ConcurrentHashMap<>();
+	private final BatchFetchingReader batchFetchingReader;
+
+	private boolean batchFetchingEnabled = false;
+	private int streamingWindowSize = 100;
+	private int streamingFetchSize = 0;
+	private boolean windowedCountEnabled = false;
+	private int findAllByIdChunkSize = 0;
+	private @Nullable Executor findAllByIdExecutor;
+	private int findAllByIdParallelism = 4;
+	private boolean findAllByIdInIdOrder = false;
 
 	/**
 	 * Creates a {@link DefaultDataAccessStrategy}
@@ -94,6 +147,133 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		this.context = context;
 		this.converter = converter;
 		this.operations = operations;
+		this.batchFetchingReader = new BatchFetchingReader(sqlGeneratorSource, context, converter, operations, this);
+	}
+
+	/**
+	 * Configures whether entities referenced via {@link Set}s, {@link List}s and {@link Map}s get loaded for all
+	 * aggregates returned by a {@code findAll…} method at once, with one query per property path and chunk of ids. When
+	 * disabled, which is the default, they get loaded with separate queries for every entity referencing them.
+	 *
+	 * @param batchFetchingEnabled whether referenced entities should get loaded in batches.
+	 * @since 2.0
+	 */
+	public void setBatchFetchingEnabled(boolean batchFetchingEnabled) {
+		this.batchFetchingEnabled = batchFetchingEnabled;
+	}
+
+	/**
+	 * Configures how many aggregates {@link #streamAll(Class, Sort)} loads at once. Their referenced entities get loaded
+	 * with one query per property path for the complete window. Defaults to 100. The effective size is limited by the
+	 * number of ids the database accepts in a single {@code IN} list.
+	 *
+	 * @param streamingWindowSize the number of aggregates loaded at once. Must be greater than zero.
+	 * @since 2.0
+	 */
+	public void setStreamingWindowSize(int streamingWindowSize) {
+
+		Assert.isTrue(streamingWindowSize > 0, "Streaming window size must be greater than zero");
+
+		this.streamingWindowSize = streamingWindowSize;
+	}
+
+	/**
+	 * Configures the fetch size of the cursor over the ids of the aggregates read by {@link #streamAll(Class, Sort)}.
+	 * {@literal 0}, the default, uses the streaming window size.
+	 *
+	 * @param streamingFetchSize the number of ids fetched from the database at once. Must not be negative.
+	 * @since 2.0
+	 */
+	public void setStreamingFetchSize(int streamingFetchSize) {
+
+		Assert.isTrue(streamingFetchSize >= 0, "Streaming fetch size must not be negative");
+
+		this.streamingFetchSize = streamingFetchSize;
+	}
+
+	/**
+	 * Configures whether {@link #findPage(Class, Pageable)} selects the total number of entities as
+	 * {@code COUNT(*) OVER()} with the entities of the page, saving the round trip for a separate count query. Only
+	 * effective for dialects supporting window functions and when batch fetching is disabled. Disabled by default.
+	 *
+	 * @param windowedCountEnabled whether the total should be selected with the page.
+	 * @since 2.0
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsWindowFunctions()
+	 */
+	public void setWindowedCountEnabled(boolean windowedCountEnabled) {
+		this.windowedCountEnabled = windowedCountEnabled;
+	}
+
+	/**
+	 * Configures the maximum number of ids {@link #findAllById(Iterable, Class)} selects with a single statement. Larger
+	 * sets of ids get split into chunks loaded with separate statements. {@literal 0}, the default, uses the maximum
+	 * number of values of an {@code IN} list supported by the dialect, which is also the upper limit for all other
+	 * values.
+	 *
+	 * @param findAllByIdChunkSize the maximum number of ids per statement. Must not be negative.
+	 * @since 2.0
+	 */
+	public void setFindAllByIdChunkSize(int findAllByIdChunkSize) {
+
+		Assert.isTrue(findAllByIdChunkSize >= 0, "Chunk size must not be negative");
+
+		this.findAllByIdChunkSize = findAllByIdChunkSize;
+	}
+
+	/**
+	 * Configures an {@link Executor} used by {@link #findAllById(Iterable, Class)} to load multiple chunks of ids
+	 * concurrently. Each concurrently running task obtains its own connection, so chunks get only loaded concurrently
+	 * when no transaction is active. {@literal null}, the default, loads all chunks sequentially.
+	 *
+	 * @param findAllByIdExecutor the executor for loading chunks of ids. May be {@literal null}.
+	 * @since 2.0
+	 * @see #setFindAllByIdParallelism(int)
+	 */
+	public void setFindAllByIdExecutor(@Nullable Executor findAllByIdExecutor) {
+		this.findAllByIdExecutor = findAllByIdExecutor;
+	}
+
+	/**
+	 * Configures the maximum number of tasks {@link #findAllById(Iterable, Class)} submits to the
+	 * {@link #setFindAllByIdExecutor(Executor) executor} for a single invocation, and therefore the maximum number of
+	 * connections used at once. Defaults to 4.
+	 *
+	 * @param findAllByIdParallelism the maximum number of chunks loaded concurrently. Must be greater than zero.
+	 * @since 2.0
+	 */
+	public void setFindAllByIdParallelism(int findAllByIdParallelism) {
+
+		Assert.isTrue(findAllByIdParallelism > 0, "Parallelism must be greater than zero");
+
+		this.findAllByIdParallelism = findAllByIdParallelism;
+	}
+
+	/**
+	 * Configures whether {@link #findAllById(Iterable, Class)} returns the aggregates in the order of the ids. Otherwise
+	 * the order is determined by the database. Disabled by default.
+	 *
+	 * @param findAllByIdInIdOrder whether the aggregates should be returned in the order of the ids.
+	 * @since 2.0
+	 */
+	public void setFindAllByIdInIdOrder(boolean findAllByIdInIdOrder) {
+		this.findAllByIdInIdOrder = findAllByIdInIdOrder;
+	}
+
+	/**
+	 * Registers the {@link IdGenerator} used for entities of the given type. Required for entities annotated with
+	 * {@link IdGeneration} using {@link IdGeneration.Strategy#CUSTOM}. For other entities a registered generator replaces
+	 * the one the configured strategy would use, or enables client side id generation if the id isn't annotated at all.
+	 *
+	 * @param domainType the type of the entities to generate ids for. Must not be {@literal null}.
+	 * @param idGenerator the generator to use. Must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void registerIdGenerator(Class<?> domainType, IdGenerator idGenerator) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(idGenerator, "IdGenerator must not be null");
+
+		idGenerators.put(domainType, idGenerator);
 	}
 
 	/*
@@ -116,27 +296,103 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		SqlGenerator sqlGenerator = sql(domainType);
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
 
-		SqlIdentifierParameterSource parameterSource = getParameterSource(instance, persistentEntity, "",
-				PersistentProperty::isIdProperty, getIdentifierProcessing());
+		Object generatedId = generateIdIfNecessary(instance, persistentEntity);
+		SqlIdentifierParameterSource parameterSource = getInsertParameterSource(instance, persistentEntity, identifier,
+				generatedId);
 
-		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
+		if (generatedId != null) {
 
-		Object idValue = getIdValueOrNull(instance, persistentEntity);
-		if (idValue != null) {
+			operations.update(sqlGenerator.getInsert(parameterSource.getIdentifiers()), parameterSource);
+			return generatedId;
+		}
 
-			RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
-			addConvertedPropertyValue(parameterSource, idProperty, idValue, idProperty.getColumnName());
+		return executeInsert(sqlGenerator.getInsert(parameterSource.getIdentifiers()), parameterSource, persistentEntity);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insertAll(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <T> Object[] insertAll(List<InsertSubject<T>> insertSubjects, Class<T> domainType) {
+
+		Assert.notNull(insertSubjects, "InsertSubjects must not be null.");
+
+		SqlGenerator sqlGenerator = sql(domainType);
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		Object[] ids = new Object[insertSubjects.size()];
+		SqlIdentifierParameterSource[] parameterSources = new SqlIdentifierParameterSource[ids.length];
+
+		// rows with a different set of columns, e.g. with and without a preset id, require different statements.
+		Map<Set<SqlIdentifier>, List<Integer>> rowsByColumns = new LinkedHashMap<>();
+
+		for (int i = 0; i < ids.length; i++) {
+
+			InsertSubject<T> subject = insertSubjects.get(i);
+			ids[i] = generateIdIfNecessary(subject.getInstance(), persistentEntity);
+			parameterSources[i] = getInsertParameterSource(subject.getInstance(), persistentEntity,
+					subject.getIdentifier(), ids[i]);
+
+			rowsByColumns.computeIfAbsent(parameterSources[i].getIdentifiers(), k -> new ArrayList<>()).add(i);
 		}
 
-		KeyHolder holder = new GeneratedKeyHolder();
+		rowsByColumns.forEach((columns, rows) -> {
 
-		operations.update( //
-				sqlGenerator.getInsert(new HashSet<>(parameterSource.getIdentifiers())), //
-				parameterSource, //
-				holder //
-		);
+			SqlIdentifierParameterSource[] batch = rows.stream().map(i -> parameterSources[i])
+					.toArray(SqlIdentifierParameterSource[]::new);
 
-		return getIdFromHolder(holder, persistentEntity);
+			if (!persistentEntity.hasIdProperty() || columns.contains(persistentEntity.getIdColumn())) {
+
+				executeInsertWithoutGeneratedKeys(sqlGenerator, columns, batch);
+				return;
+			}
+
+			String insertSql = sqlGenerator.getInsert(columns);
+			Object[] generatedIds = executeBatchInsertReturningKeys(insertSql, batch, persistentEntity);
+			for (int i = 0; i < generatedIds.length; i++) {
+				ids[rows.get(i)] = generatedIds[i];
+			}
+		});
+
+		return ids;
+	}
+
+	/**
+	 * Inserts rows that don't require generated keys. If the dialect supports it, rows get combined into multi row
+	 * inserts, which perform better than JDBC batches on drivers that don't rewrite batched statements. Otherwise all
+	 * rows get inserted as a single JDBC batch.
+	 */
+	private void executeInsertWithoutGeneratedKeys(SqlGenerator sqlGenerator, Set<SqlIdentifier> columns,
+			SqlIdentifierParameterSource[] rows) {
+
+		int rowsPerStatement = sqlGenerator.getMaxRowsPerInsert(columns.size());
+
+		if (rows.length < 2 || rowsPerStatement < 2) {
+
+			operations.batchUpdate(sqlGenerator.getInsert(columns), rows);
+			return;
+		}
+
+		for (int offset = 0; offset < rows.length; offset += rowsPerStatement) {
+
+			int rowCount = Math.min(rowsPerStatement, rows.length - offset);
+
+			MapSqlParameterSource parameters = new MapSqlParameterSource();
+			for (int row = 0; row < rowCount; row++) {
+
+				SqlIdentifierParameterSource rowParameters = rows[offset + row];
+
+				for (SqlIdentifier column : columns) {
+
+					String name = column.getReference(getIdentifierProcessing());
+					parameters.addValue(sqlGenerator.getBindParameterName(column, row), rowParameters.getValue(name),
+							rowParameters.getSqlType(name));
+				}
+			}
+
+			operations.update(sqlGenerator.getInsert(columns, rowCount), parameters);
+		}
 	}
 
 	/*
@@ -145,9 +401,22 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 */
 	@Override
 	public <S> boolean update(S instance, Class<S> domainType) {
+		return update(instance, domainType, sql(domainType).getUpdate());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#update(java.lang.Object, java.lang.Class, java.util.Set)
+	 */
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType, Set<SqlIdentifier> columns) {
+		return update(instance, domainType, sql(domainType).getUpdate(columns));
+	}
+
+	private <S> boolean update(S instance, Class<S> domainType, String updateSql) {
 
 		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
-		return operations.update(sql(domainType).getUpdate(),
+		return operations.update(updateSql,
 				getParameterSource(instance, persistentEntity, "", Predicates.includeAll(), getIdentifierProcessing())) != 0;
 	}
 
@@ -157,6 +426,20 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 */
 	@Override
 	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion) {
+		return updateWithVersion(instance, domainType, previousVersion, sql(domainType).getUpdateWithVersion());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#updateWithVersion(java.lang.Object, java.lang.Class, java.lang.Number, java.util.Set)
+	 */
+	@Override
+	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion,
+			Set<SqlIdentifier> columns) {
+		return updateWithVersion(instance, domainType, previousVersion, sql(domainType).getUpdateWithVersion(columns));
+	}
+
+	private <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion, String updateSql) {
 
 		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
 
@@ -165,7 +448,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				Predicates.includeAll(), getIdentifierProcessing());
 		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
 
-		int affectedRows = operations.update(sql(domainType).getUpdateWithVersion(), parameterSource);
+		int affectedRows = operations.update(updateSql, parameterSource);
 
 		if (affectedRows == 0) {
 
@@ -176,6 +459,31 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return true;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#upsert(java.lang.Object, java.lang.Class, org.springframework.data.relational.domain.Identifier)
+	 */
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType, Identifier identifier) {
+
+		SqlGenerator sqlGenerator = sql(domainType);
+
+		if (!sqlGenerator.isUpsertSupported()) {
+
+			DataAccessStrategy.super.upsert(instance, domainType, identifier);
+			return;
+		}
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		Assert.notNull(getIdValueOrNull(instance, persistentEntity), "Upserts require an entity with an id");
+
+		SqlIdentifierParameterSource parameterSource = getInsertParameterSource(instance, persistentEntity, identifier,
+				null);
+
+		operations.update(sqlGenerator.getUpsert(parameterSource.getIdentifiers()), parameterSource);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
@@ -232,6 +540,99 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllById(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public void deleteAllById(Iterable<?> ids, Class<?> domainType) {
+
+		SqlGenerator sqlGenerator = sql(domainType);
+		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
+
+		for (List<Object> chunk : chunk(ids, sqlGenerator.getMaxInListSize())) {
+
+			SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+			addConvertedPropertyValuesAsList(parameterSource, idProperty, chunk, IDS_SQL_PARAMETER, sqlGenerator);
+
+			operations.update(sqlGenerator.getDeleteByList(), parameterSource);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllWithVersion(java.util.Map, java.lang.Class)
+	 */
+	@Override
+	public <T> void deleteAllWithVersion(Map<Object, Number> previousVersions, Class<T> domainType) {
+
+		if (previousVersions.isEmpty()) {
+			return;
+		}
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		List<SqlIdentifierParameterSource> parameterSources = new ArrayList<>(previousVersions.size());
+		previousVersions.forEach((id, previousVersion) -> {
+
+			SqlIdentifierParameterSource parameterSource = createIdParameterSource(id, domainType);
+			parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
+			parameterSources.add(parameterSource);
+		});
+
+		int[] affectedRows = operations.batchUpdate(sql(domainType).getDeleteByIdAndVersion(),
+				parameterSources.toArray(new SqlParameterSource[0]));
+
+		// drivers may report Statement.SUCCESS_NO_INFO for batches, so only an explicit zero counts as failure.
+		for (int rows : affectedRows) {
+			if (rows == 0) {
+				throw new OptimisticLockingFailureException(
+						String.format("Optimistic lock exception deleting entity of type %s.", persistentEntity.getName()));
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllByRootIds(java.lang.Iterable, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void deleteAllByRootIds(Iterable<?> rootIds,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		Class<?> rootType = propertyPath.getBaseProperty().getOwner().getType();
+		SqlGenerator sqlGenerator = sql(rootType);
+		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(rootType).getRequiredIdProperty();
+		String delete = sqlGenerator.createDeleteInByPath(propertyPath);
+
+		for (List<Object> chunk : chunk(rootIds, sqlGenerator.getMaxInListSize())) {
+
+			SqlIdentifierParameterSource parameters = new SqlIdentifierParameterSource(getIdentifierProcessing());
+			addConvertedPropertyValuesAsList(parameters, idProperty, chunk, ROOT_ID_PARAMETER, sqlGenerator);
+			operations.update(delete, parameters);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllByPath(org.springframework.data.relational.domain.Identifier, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void deleteAllByPath(Identifier identifier,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		Assert.notNull(identifier, "identifier must not be null.");
+		Assert.notNull(propertyPath, "propertyPath must not be null.");
+
+		Class<?> actualType = new PersistentPropertyPathExtension(context, propertyPath).getActualType();
+		String delete = sql(actualType).getDeleteByIdentifier(identifier);
+
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
+
+		operations.update(delete, parameterSource);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(java.lang.Class)
@@ -265,6 +666,35 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return result;
 	}
 
+	/**
+	 * Uses the row count estimate of the dialect if available, falling back to {@link #count(Class)} if the dialect
+	 * doesn't support estimates or the database has no statistics for the table yet.
+	 *
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#estimateCount(java.lang.Class)
+	 * @see RowCountEstimates
+	 */
+	@Override
+	public long estimateCount(Class<?> domainType) {
+
+		String estimateSql = sql(domainType).getRowCountEstimate();
+
+		if (estimateSql != null) {
+
+			SqlIdentifier tableName = getRequiredPersistentEntity(domainType).getTableName();
+			MapSqlParameterSource parameters = new MapSqlParameterSource() //
+					.addValue(RowCountEstimates.TABLE_PARAMETER, tableName.toSql(getIdentifierProcessing())) //
+					.addValue(RowCountEstimates.TABLE_NAME_PARAMETER, tableName.getReference(getIdentifierProcessing()));
+
+			List<Long> estimate = operations.queryForList(estimateSql, parameters, Long.class);
+
+			if (!estimate.isEmpty() && estimate.get(0) != null && estimate.get(0) >= 0) {
+				return estimate.get(0);
+			}
+		}
+
+		return count(domainType);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findById(java.lang.Object, java.lang.Class)
@@ -273,9 +703,16 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@SuppressWarnings("unchecked")
 	public <T> T findById(Object id, Class<T> domainType) {
 
-		String findOneSql = sql(domainType).getFindOne();
 		SqlIdentifierParameterSource parameter = createIdParameterSource(id, domainType);
 
+		if (isSingleQueryLoading(domainType)) {
+
+			List<T> result = readWithSingleQuery(sql(domainType).getFindOneWithCollections(), parameter, domainType);
+			return result.isEmpty() ? null : result.get(0);
+		}
+
+		String findOneSql = sql(domainType).getFindOne();
+
 		try {
 			return operations.queryForObject(findOneSql, parameter, (RowMapper<T>) getEntityRowMapper(domainType));
 		} catch (EmptyResultDataAccessException e) {
@@ -290,7 +727,19 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAll(Class<T> domainType) {
-		return operations.query(sql(domainType).getFindAll(), (RowMapper<T>) getEntityRowMapper(domainType));
+
+		if (isSingleQueryLoading(domainType)) {
+			return readWithSingleQuery(sql(domainType).getFindAllWithCollections(), EmptySqlParameterSource.INSTANCE,
+					domainType);
+		}
+
+		String findAllSql = sql(domainType).getFindAll();
+
+		if (batchFetchingEnabled) {
+			return readWithBatchFetching(findAllSql, EmptySqlParameterSource.INSTANCE, domainType);
+		}
+
+		return operations.query(findAllSql, (RowMapper<T>) getEntityRowMapper(domainType));
 	}
 
 	/*
@@ -298,21 +747,98 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllById(java.lang.Iterable, java.lang.Class)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 
 		if (!ids.iterator().hasNext()) {
 			return Collections.emptyList();
 		}
 
+		Set<Object> distinctIds = new LinkedHashSet<>();
+		ids.forEach(distinctIds::add);
+
+		int maxInListSize = sql(domainType).getMaxInListSize();
+		int chunkSize = findAllByIdChunkSize == 0 ? maxInListSize : Math.min(findAllByIdChunkSize, maxInListSize);
+		List<List<Object>> chunks = chunk(distinctIds, chunkSize);
+
+		List<T> aggregates;
+		if (chunks.size() == 1) {
+			aggregates = findAllByIdChunk(chunks.get(0), domainType);
+		} else if (findAllByIdExecutor != null && findAllByIdParallelism > 1
+				&& !TransactionSynchronizationManager.isActualTransactionActive()) {
+			aggregates = findAllByIdConcurrently(chunks, domainType, findAllByIdExecutor);
+		} else {
+
+			aggregates = new ArrayList<>();
+			for (List<Object> chunk : chunks) {
+				aggregates.addAll(findAllByIdChunk(chunk, domainType));
+			}
+		}
+
+		return findAllByIdInIdOrder ? inIdOrder(aggregates, distinctIds, getRequiredPersistentEntity(domainType))
+				: aggregates;
+	}
+
+	/**
+	 * Loads the chunks with tasks submitted to the executor. Each task loads a contiguous range of chunks, so the result
+	 * has the same order as if the chunks got loaded sequentially.
+	 */
+	private <T> List<T> findAllByIdConcurrently(List<List<Object>> chunks, Class<T> domainType, Executor executor) {
+
+		int chunksPerTask = (chunks.size() + findAllByIdParallelism - 1) / findAllByIdParallelism;
+
+		List<CompletableFuture<List<T>>> tasks = new ArrayList<>();
+		for (int start = 0; start < chunks.size(); start += chunksPerTask) {
+
+			List<List<Object>> chunksOfTask = chunks.subList(start, Math.min(start + chunksPerTask, chunks.size()));
+			tasks.add(CompletableFuture.supplyAsync(() -> {
+
+				List<T> loaded = new ArrayList<>();
+				for (List<Object> chunk : chunksOfTask) {
+					loaded.addAll(findAllByIdChunk(chunk, domainType));
+				}
+				return loaded;
+			}, executor));
+		}
+
+		List<T> aggregates = new ArrayList<>();
+		try {
+
+			for (CompletableFuture<List<T>> task : tasks) {
+				aggregates.addAll(task.join());
+			}
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+
+		return aggregates;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> List<T> findAllByIdChunk(List<Object> ids, Class<T> domainType) {
+
 		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
 		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
 
-		addConvertedPropertyValuesAsList(parameterSource, idProperty, ids, IDS_SQL_PARAMETER);
+		addConvertedPropertyValuesAsList(parameterSource, idProperty, ids, IDS_SQL_PARAMETER, sql(domainType));
+
+		if (isSingleQueryLoading(domainType)) {
+			return readWithSingleQuery(sql(domainType).getFindAllInListWithCollections(), parameterSource, domainType);
+		}
 
 		String findAllInListSql = sql(domainType).getFindAllInList();
 
-		return operations.query(findAllInListSql, parameterSource, (RowMapper<T>) getEntityRowMapper(domainType));
+		if (batchFetchingEnabled) {
+			return readWithBatchFetching(findAllInListSql, parameterSource, domainType);
+		}
+
+		List<T> aggregates = operations.query(findAllInListSql, parameterSource,
+				(RowMapper<T>) getEntityRowMapper(domainType));
+
+		return aggregates == null ? Collections.emptyList() : aggregates;
 	}
 
 	/*
@@ -387,7 +913,14 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
-		return operations.query(sql(domainType).getFindAll(sort), (RowMapper<T>) getEntityRowMapper(domainType));
+
+		String findAllSql = sql(domainType).getFindAll(sort);
+
+		if (batchFetchingEnabled) {
+			return readWithBatchFetching(findAllSql, EmptySqlParameterSource.INSTANCE, domainType);
+		}
+
+		return operations.query(findAllSql, (RowMapper<T>) getEntityRowMapper(domainType));
 	}
 
 	/*
@@ -397,7 +930,178 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
-		return operations.query(sql(domainType).getFindAll(pageable), (RowMapper<T>) getEntityRowMapper(domainType));
+
+		String findAllSql = sql(domainType).getFindAll(pageable);
+
+		if (batchFetchingEnabled) {
+			return readWithBatchFetching(findAllSql, EmptySqlParameterSource.INSTANCE, domainType);
+		}
+
+		return operations.query(findAllSql, (RowMapper<T>) getEntityRowMapper(domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findPage(java.lang.Class, org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Page<T> findPage(Class<T> domainType, Pageable pageable) {
+
+		String findAllSql = windowedCountEnabled && !batchFetchingEnabled && pageable.isPaged() //
+				? sql(domainType).getFindAllWithTotalCount(pageable) //
+				: null;
+
+		if (findAllSql == null) {
+			return DataAccessStrategy.super.findPage(domainType, pageable);
+		}
+
+		TotalCountCapturingRowMapper<T> rowMapper = new TotalCountCapturingRowMapper<>(
+				(RowMapper<T>) getEntityRowMapper(domainType));
+		List<T> content = operations.query(findAllSql, rowMapper);
+
+		// a page behind the last one contains no row to take the total from.
+		return PageableExecutionUtils.getPage(content, pageable, () -> content.isEmpty() //
+				? count(domainType) //
+				: rowMapper.getTotalCount());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.relational.domain.KeysetScrollPosition, org.springframework.data.domain.Sort, int)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Iterable<T> findAll(Class<T> domainType, KeysetScrollPosition position, Sort sort, int limit) {
+
+		RelationalPersistentEntity<T> entity = getRequiredPersistentEntity(domainType);
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+
+		if (!position.isInitial()) {
+
+			for (Sort.Order order : sort) {
+
+				Object value = position.getKeys().get(order.getProperty());
+
+				Assert.isTrue(position.getKeys().containsKey(order.getProperty()),
+						() -> String.format("Position must contain a value for sort property %s", order.getProperty()));
+
+				if (value == null) {
+					throw new InvalidDataAccessApiUsageException(String.format(
+							"Keyset pagination doesn't support null values of sort properties but the position contains null for %s",
+							order.getProperty()));
+				}
+
+				RelationalPersistentProperty property = entity.getRequiredPersistentProperty(order.getProperty());
+				addConvertedPropertyValue(parameterSource, property, value, property.getColumnName());
+			}
+		}
+
+		String findAllSql = sql(domainType).getFindAllByKeyset(sort, !position.isInitial(), limit);
+
+		if (batchFetchingEnabled) {
+			return readWithBatchFetching(findAllSql, parameterSource, domainType);
+		}
+
+		return operations.query(findAllSql, parameterSource, (RowMapper<T>) getEntityRowMapper(domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#streamAll(java.lang.Class, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+
+		SqlGenerator sqlGenerator = sql(domainType);
+		int windowSize = Math.min(streamingWindowSize, sqlGenerator.getMaxInListSize());
+
+		Stream<Object> ids = JdbcStreams.queryForStream(operations, sqlGenerator.getFindAllIds(sort),
+				EmptySqlParameterSource.INSTANCE, (rs, rowNum) -> rs.getObject(1),
+				streamingFetchSize > 0 ? streamingFetchSize : windowSize);
+
+		// only the ids are read using a cursor, the aggregates get loaded per window of ids.
+		return JdbcStreams.chunked(ids, windowSize).flatMap(window -> findAllInWindow(window, domainType).stream());
+	}
+
+	/**
+	 * Loads the aggregates with the given ids, including their referenced entities, in the order of the ids. Ids of
+	 * aggregates deleted since the ids got read are skipped.
+	 */
+	private <T> List<T> findAllInWindow(List<Object> ids, Class<T> domainType) {
+
+		RelationalPersistentEntity<T> entity = getRequiredPersistentEntity(domainType);
+		RelationalPersistentProperty idProperty = entity.getRequiredIdProperty();
+
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+		addConvertedPropertyValuesAsList(parameterSource, idProperty, ids, IDS_SQL_PARAMETER, sql(domainType));
+
+		List<T> aggregates = isSingleQueryLoading(domainType)
+				? readWithSingleQuery(sql(domainType).getFindAllInListWithCollections(), parameterSource, domainType)
+				: readWithBatchFetching(sql(domainType).getFindAllInList(), parameterSource, domainType);
+
+		return inIdOrder(aggregates, ids, entity);
+	}
+
+	/**
+	 * Sorts the aggregates in the order of the given ids. Ids without an aggregate get skipped.
+	 */
+	private <T> List<T> inIdOrder(List<T> aggregates, Collection<Object> ids, RelationalPersistentEntity<T> entity) {
+
+		RelationalPersistentProperty idProperty = entity.getRequiredIdProperty();
+
+		Map<Object, T> aggregatesById = new HashMap<>(aggregates.size());
+		for (T aggregate : aggregates) {
+			aggregatesById.put(entity.getIdentifierAccessor(aggregate).getRequiredIdentifier(), aggregate);
+		}
+
+		List<T> result = new ArrayList<>(ids.size());
+		for (Object id : ids) {
+
+			T aggregate = aggregatesById.get(converter.readValue(id, idProperty.getTypeInformation()));
+			if (aggregate != null) {
+				result.add(aggregate);
+			}
+		}
+
+		return result;
+	}
+
+	private <T> List<T> readWithBatchFetching(String sql, SqlParameterSource parameters, Class<T> domainType) {
+		return batchFetchingReader.read(sql, parameters, getRequiredPersistentEntity(domainType));
+	}
+
+	private boolean isSingleQueryLoading(Class<?> domainType) {
+
+		return getRequiredPersistentEntity(domainType).isAnnotationPresent(SingleQueryLoading.class)
+				&& sql(domainType).isSingleQueryLoadingSupported();
+	}
+
+	private <T> List<T> readWithSingleQuery(String sql, SqlParameterSource parameters, Class<T> domainType) {
+
+		AggregateResultSetExtractor<T> extractor = new AggregateResultSetExtractor<>(context,
+				getRequiredPersistentEntity(domainType), converter, this, getIdentifierProcessing());
+
+		List<T> result = operations.getJdbcOperations().query(scrollableStatement(sql, parameters), extractor);
+
+		return result == null ? Collections.emptyList() : result;
+	}
+
+	/**
+	 * Creates a {@link PreparedStatementCreator} for the given statement with named parameters, requesting a scrollable
+	 * {@link ResultSet}, so the rows can get read multiple times.
+	 */
+	static PreparedStatementCreator scrollableStatement(String sql, SqlParameterSource parameters) {
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, parameters);
+
+		PreparedStatementCreatorFactory statementFactory = new PreparedStatementCreatorFactory(sqlToUse,
+				NamedParameterUtils.buildSqlParameterList(parsedSql, parameters));
+		statementFactory.setResultSetType(ResultSet.TYPE_SCROLL_INSENSITIVE);
+
+		return statementFactory
+				.newPreparedStatementCreator(NamedParameterUtils.buildValueArray(parsedSql, parameters, null));
 	}
 
 	private <S, T> SqlIdentifierParameterSource getParameterSource(@Nullable S instance,
@@ -457,6 +1161,160 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				|| (idProperty.getType() == long.class && idValue.equals(0L));
 	}
 
+	private <S> SqlIdentifierParameterSource getInsertParameterSource(S instance,
+			RelationalPersistentEntity<S> persistentEntity, Identifier identifier, @Nullable Object generatedId) {
+
+		SqlIdentifierParameterSource parameterSource = getParameterSource(instance, persistentEntity, "",
+				PersistentProperty::isIdProperty, getIdentifierProcessing());
+
+		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
+
+		Object idValue = generatedId != null ? generatedId : getIdValueOrNull(instance, persistentEntity);
+		if (idValue != null) {
+
+			RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+			addConvertedPropertyValue(parameterSource, idProperty, idValue, idProperty.getColumnName());
+		}
+
+		return parameterSource;
+	}
+
+	/**
+	 * Generates an id on the client side if the entity is configured for it by {@link IdGeneration} or a registered
+	 * {@link IdGenerator} and the instance doesn't have an id yet.
+	 *
+	 * @return the generated id converted to the type of the id property or {@literal null} if the database is expected
+	 *         to generate the id or the instance already has one.
+	 */
+	@Nullable
+	private <S> Object generateIdIfNecessary(S instance, RelationalPersistentEntity<S> persistentEntity) {
+
+		if ((persistentEntity.getIdGeneration() == null && !idGenerators.containsKey(persistentEntity.getType()))
+				|| getIdValueOrNull(instance, persistentEntity) != null) {
+			return null;
+		}
+
+		IdGenerator idGenerator = idGenerators.computeIfAbsent(persistentEntity.getType(),
+				type -> createIdGenerator(persistentEntity));
+
+		return converter.readValue(idGenerator.generate(), persistentEntity.getRequiredIdProperty().getTypeInformation());
+	}
+
+	private IdGenerator createIdGenerator(RelationalPersistentEntity<?> persistentEntity) {
+
+		IdGeneration idGeneration = persistentEntity.getIdGeneration();
+		Assert.state(idGeneration != null, () -> String.format("No id generation configured for %s", persistentEntity));
+
+		switch (idGeneration.strategy()) {
+
+			case TIME_ORDERED_UUID:
+				return new TimeOrderedUuidGenerator();
+			case SEQUENCE:
+				return new PooledSequenceIdGenerator(operations.getJdbcOperations(),
+						sql(persistentEntity.getType()).getNextSequenceValue(), idGeneration.allocationSize());
+			default:
+				throw new IllegalStateException(
+						String.format("No IdGenerator registered for %s using the %s id generation strategy",
+								persistentEntity.getName(), idGeneration.strategy()));
+		}
+	}
+
+	@Nullable
+	private Object executeInsert(String insertSql, SqlParameterSource parameterSource,
+			RelationalPersistentEntity<?> persistentEntity) {
+
+		KeyHolder holder = new GeneratedKeyHolder();
+
+		operations.update( //
+				insertSql, //
+				parameterSource, //
+				holder //
+		);
+
+		return getIdFromHolder(holder, persistentEntity);
+	}
+
+	/**
+	 * Executes the insert for all parameter sources as a single JDBC batch and collects the generated keys. Falls back to
+	 * separate inserts unless the database is known to return the generated keys of all rows of a batch.
+	 *
+	 * @see #supportsBatchGeneratedKeys(Connection)
+	 */
+	private Object[] executeBatchInsertReturningKeys(String insertSql, SqlParameterSource[] batch,
+			RelationalPersistentEntity<?> persistentEntity) {
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(insertSql);
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, batch[0]);
+		PreparedStatementCreatorFactory statementFactory = new PreparedStatementCreatorFactory(sqlToUse,
+				NamedParameterUtils.buildSqlParameterList(parsedSql, batch[0]));
+
+		List<Map<String, Object>> keys = operations.getJdbcOperations()
+				.execute((ConnectionCallback<List<Map<String, Object>>>) connection -> {
+
+					if (!supportsBatchGeneratedKeys(connection)) {
+						return null;
+					}
+
+					try (PreparedStatement statement = connection.prepareStatement(sqlToUse, Statement.RETURN_GENERATED_KEYS)) {
+
+						for (SqlParameterSource parameterSource : batch) {
+
+							statementFactory
+									.newPreparedStatementSetter(NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null))
+									.setValues(statement);
+							statement.addBatch();
+						}
+
+						statement.executeBatch();
+
+						try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+							return generatedKeys == null ? Collections.emptyList()
+									: new RowMapperResultSetExtractor<>(new ColumnMapRowMapper()).extractData(generatedKeys);
+						}
+					}
+				});
+
+		Object[] ids = new Object[batch.length];
+
+		if (keys == null) {
+
+			for (int i = 0; i < batch.length; i++) {
+				ids[i] = executeInsert(insertSql, batch[i], persistentEntity);
+			}
+
+			return ids;
+		}
+
+		if (keys.size() != batch.length) {
+			throw new DataRetrievalFailureException(
+					String.format("Batch insert of %d %s instances returned %d generated keys.", batch.length,
+							persistentEntity.getName(), keys.size()));
+		}
+
+		for (int i = 0; i < batch.length; i++) {
+			ids[i] = getIdFromKeys(keys.get(i), persistentEntity);
+		}
+
+		return ids;
+	}
+
+	/**
+	 * Many drivers report support for batch updates and generated keys but return the keys of the last statement of a
+	 * batch only, e.g. the ones for SQL Server, Oracle and DB2. Since the rows are already inserted once that becomes
+	 * apparent, batches with generated keys are only used for databases known to return the keys of all rows.
+	 */
+	private static boolean supportsBatchGeneratedKeys(Connection connection) throws SQLException {
+
+		if (!JdbcUtils.supportsBatchUpdates(connection)) {
+			return false;
+		}
+
+		DatabaseMetaData metaData = connection.getMetaData();
+
+		return metaData.supportsGetGeneratedKeys()
+				&& BATCH_GENERATED_KEYS_DATABASES.contains(JdbcUtils.commonDatabaseName(metaData.getDatabaseProductName()));
+	}
+
 	@Nullable
 	private <S> Object getIdFromHolder(KeyHolder holder, RelationalPersistentEntity<S> persistentEntity) {
 
@@ -477,6 +1335,18 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		}
 	}
 
+	@Nullable
+	private Object getIdFromKeys(Map<String, Object> keys, RelationalPersistentEntity<?> persistentEntity) {
+
+		// MySQL just returns one value with a special name
+		if (keys.size() == 1) {
+			return keys.values().iterator().next();
+		}
+
+		// Postgres returns a value for each column
+		return keys.get(persistentEntity.getIdColumn().getReference(getIdentifierProcessing()));
+	}
+
 	private EntityRowMapper<?> getEntityRowMapper(Class<?> domainType) {
 		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter);
 	}
@@ -493,6 +1363,60 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return new MapEntityRowMapper<>(path, converter, identifier, keyColumn, getIdentifierProcessing());
 	}
 
+	/**
+	 * Splits the values into lists of at most {@code size} elements, so they can get bound to the {@code IN} lists of
+	 * separate statements.
+	 */
+	static List<List<Object>> chunk(Iterable<?> values, int size) {
+
+		List<List<Object>> chunks = new ArrayList<>();
+		List<Object> current = new ArrayList<>();
+
+		for (Object value : values) {
+
+			if (current.size() == size) {
+
+				chunks.add(current);
+				current = new ArrayList<>();
+			}
+
+			current.add(value);
+		}
+
+		if (!current.isEmpty()) {
+			chunks.add(current);
+		}
+
+		return chunks;
+	}
+
+	/**
+	 * Pads the values to the next power of two, but at most {@code maxSize}, by repeating the last value. The
+	 * {@code IN} lists the values get expanded to then have one of only a few sizes, so the database and the driver
+	 * can reuse the statements instead of preparing one for every number of values. Repeated values don't change the
+	 * result of an {@code IN} condition.
+	 */
+	static List<Object> padToBucketSize(List<Object> values, int maxSize) {
+
+		int size = values.size();
+		if (size < 2 || size >= maxSize) {
+			return values;
+		}
+
+		int bucketSize = Math.min(Integer.highestOneBit(size - 1) << 1, maxSize);
+		if (bucketSize == size) {
+			return values;
+		}
+
+		List<Object> padded = new ArrayList<>(bucketSize);
+		padded.addAll(values);
+		while (padded.size() < bucketSize) {
+			padded.add(values.get(size - 1));
+		}
+
+		return padded;
+	}
+
 	private <T> SqlIdentifierParameterSource createIdParameterSource(Object id, Class<T> domainType) {
 
 		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
@@ -537,8 +1461,12 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType()));
 	}
 
+	/**
+	 * Adds the converted values as a single parameter for an {@code IN} list or, if the {@link SqlGenerator} renders the
+	 * condition as {@code = ANY(…)}, as a JDBC array.
+	 */
 	private void addConvertedPropertyValuesAsList(SqlIdentifierParameterSource parameterSource,
-			RelationalPersistentProperty property, Iterable<?> values, SqlIdentifier paramName) {
+			RelationalPersistentProperty property, Iterable<?> values, SqlIdentifier paramName, SqlGenerator sqlGenerator) {
 
 		List<Object> convertedIds = new ArrayList<>();
 		JdbcValue jdbcValue = null;
@@ -553,10 +1481,20 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		Assert.state(jdbcValue != null, "JdbcValue must be not null at this point. Please report this as a bug.");
 
+		if (sqlGenerator.isIdListBoundAsArray()) {
+
+			Class<?> componentType = ClassUtils.resolvePrimitiveIfNecessary(converter.getColumnType(property));
+			Object[] array = convertedIds.toArray((Object[]) Array.newInstance(componentType, 0));
+			JdbcValue arrayValue = converter.writeJdbcValue(array, array.getClass(), Types.ARRAY);
+
+			parameterSource.addValue(paramName, arrayValue.getValue(), JdbcUtil.sqlTypeFor(arrayValue.getJdbcType()));
+			return;
+		}
+
 		JDBCType jdbcType = jdbcValue.getJdbcType();
 		int typeNumber = jdbcType == null ? JdbcUtils.TYPE_UNKNOWN : jdbcType.getVendorTypeNumber();
 
-		parameterSource.addValue(paramName, convertedIds, typeNumber);
+		parameterSource.addValue(paramName, padToBucketSize(convertedIds, sqlGenerator.getMaxInListSize()), typeNumber);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -587,6 +1525,36 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		}
 	}
 
+	/**
+	 * {@link RowMapper} taking the total number of rows from the {@link SqlGenerator#TOTAL_COUNT_COLUMN} of the first
+	 * row while delegating the mapping of the entities.
+	 *
+	 * @param <T> the type of the mapped entities.
+	 */
+	private static class TotalCountCapturingRowMapper<T> implements RowMapper<T> {
+
+		private final RowMapper<T> delegate;
+		private long totalCount;
+
+		TotalCountCapturingRowMapper(RowMapper<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public T mapRow(ResultSet resultSet, int rowNumber) throws SQLException {
+
+			if (rowNumber == 0) {
+				totalCount = resultSet.getLong(TOTAL_COUNT_COLUMN.getReference());
+			}
+
+			return delegate.mapRow(resultSet, rowNumber);
+		}
+
+		long getTotalCount() {
+			return totalCount;
+		}
+	}
+
 	/**
 	 * A {@link PersistentPropertyAccessor} implementation always returning null
 	 *
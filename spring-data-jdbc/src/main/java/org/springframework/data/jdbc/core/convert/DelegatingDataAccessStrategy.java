@@ -15,13 +15,18 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.domain.Identifier;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.util.Assert;
 
@@ -56,6 +61,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.insert(instance, domainType, identifier);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insertAll(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <T> Object[] insertAll(List<InsertSubject<T>> insertSubjects, Class<T> domainType) {
+		return delegate.insertAll(insertSubjects, domainType);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class)
@@ -84,6 +98,72 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		delegate.delete(rootId, propertyPath);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllById(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public void deleteAllById(Iterable<?> ids, Class<?> domainType) {
+		delegate.deleteAllById(ids, domainType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllWithVersion(java.util.Map, java.lang.Class)
+	 */
+	@Override
+	public <T> void deleteAllWithVersion(Map<Object, Number> previousVersions, Class<T> domainType) {
+		delegate.deleteAllWithVersion(previousVersions, domainType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllByRootIds(java.lang.Iterable, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void deleteAllByRootIds(Iterable<?> rootIds,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		delegate.deleteAllByRootIds(rootIds, propertyPath);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllByPath(org.springframework.data.relational.domain.Identifier, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void deleteAllByPath(Identifier identifier,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		delegate.deleteAllByPath(identifier, propertyPath);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#update(java.lang.Object, java.lang.Class, java.util.Set)
+	 */
+	@Override
+	public <T> boolean update(T instance, Class<T> domainType, Set<SqlIdentifier> columns) {
+		return delegate.update(instance, domainType, columns);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#updateWithVersion(java.lang.Object, java.lang.Class, java.lang.Number, java.util.Set)
+	 */
+	@Override
+	public <T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion,
+			Set<SqlIdentifier> columns) {
+		return delegate.updateWithVersion(instance, domainType, previousVersion, columns);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#upsert(java.lang.Object, java.lang.Class, org.springframework.data.relational.domain.Identifier)
+	 */
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType, Identifier identifier) {
+		delegate.upsert(instance, domainType, identifier);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
@@ -129,6 +209,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.count(domainType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#estimateCount(java.lang.Class)
+	 */
+	@Override
+	public long estimateCount(Class<?> domainType) {
+		return delegate.estimateCount(domainType);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findById(java.lang.Object, java.lang.Class)
@@ -199,6 +288,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(domainType, sort);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#streamAll(java.lang.Class, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+		return delegate.streamAll(domainType, sort);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAll(java.lang.Class, org.springframework.data.domain.Pageable)
@@ -208,6 +306,24 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(domainType, pageable);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findPage(java.lang.Class, org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public <T> Page<T> findPage(Class<T> domainType, Pageable pageable) {
+		return delegate.findPage(domainType, pageable);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.relational.domain.KeysetScrollPosition, org.springframework.data.domain.Sort, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, KeysetScrollPosition position, Sort sort, int limit) {
+		return delegate.findAll(domainType, position, sort, limit);
+	}
+
 	/**
 	 * Must be called exactly once before calling any of the other methods.
 	 *
@@ -17,14 +17,20 @@ package org.springframework.data.jdbc.core.convert;
 
 import java.sql.ResultSet;
 
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.domain.Identifier;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
 
 /**
  * Maps a {@link ResultSet} to an entity of type {@code T}, including entities referenced. This {@link RowMapper} might
  * trigger additional SQL statements in order to load other members of the same aggregate.
+ * <p>
+ * The positions of the columns get resolved once per {@link ResultSet} using a {@link RowMappingPlan}, so all rows get
+ * read by column index.
  *
  * @author Jens Schauder
  * @author Oliver Gierke
@@ -40,6 +46,8 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	private final JdbcConverter converter;
 	private final Identifier identifier;
 
+	@Nullable private volatile RowMappingPlan plan;
+
 	@SuppressWarnings("unchecked")
 	public EntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier) {
 
@@ -54,7 +62,7 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 		this.entity = entity;
 		this.path = null;
 		this.converter = converter;
-		this.identifier = null;
+		this.identifier = Identifier.empty();
 	}
 
 	/*
@@ -63,9 +71,31 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	 */
 	@Override
 	public T mapRow(ResultSet resultSet, int rowNumber) {
+		return converter.mapRow(getPlan(resultSet), resultSet, identifier, rowNumber);
+	}
+
+	/**
+	 * The plan gets created for the first row of each {@link ResultSet}. The mapper might get used for multiple
+	 * statements concurrently, in which case each thread replaces the plan when it doesn't match its {@link ResultSet}.
+	 */
+	@SuppressWarnings("unchecked")
+	private RowMappingPlan getPlan(ResultSet resultSet) {
+
+		RowMappingPlan plan = this.plan;
+
+		if (plan == null || !plan.isFor(resultSet)) {
+
+			PersistentPropertyPathExtension pathToUse = path != null ? path
+					: new PersistentPropertyPathExtension(
+							(MappingContext<RelationalPersistentEntity<?>, RelationalPersistentProperty>) converter
+									.getMappingContext(),
+							entity);
+
+			plan = converter.createRowMappingPlan(pathToUse, resultSet);
+			this.plan = plan;
+		}
 
-		return path == null ? converter.mapRow(entity, resultSet, rowNumber)
-				: converter.mapRow(path, resultSet, identifier, rowNumber);
+		return plan;
 	}
 
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import lombok.Value;
+
+import org.springframework.data.relational.domain.Identifier;
+import org.springframework.util.Assert;
+
+/**
+ * The subject of a single row of a batched insert: the instance to be stored together with the {@link Identifier}
+ * holding the values that are not part of the entity, like back references and list or map keys.
+ *
+ * @param <T> the type of the instance to be inserted.
+ * @author Jens Schauder
+ * @since 2.0
+ * @see DataAccessStrategy#insertAll(java.util.List, Class)
+ */
+@Value
+public class InsertSubject<T> {
+
+	T instance;
+	Identifier identifier;
+
+	/**
+	 * Creates a new {@link InsertSubject}.
+	 *
+	 * @param instance the instance to be inserted. Must not be {@literal null}.
+	 * @param identifier the additional values to be inserted. Must not be {@literal null}.
+	 * @param <T> the type of the instance.
+	 * @return a new {@link InsertSubject}. Guaranteed to be not {@literal null}.
+	 */
+	public static <T> InsertSubject<T> describedBy(T instance, Identifier identifier) {
+
+		Assert.notNull(instance, "Instance must not be null");
+		Assert.notNull(identifier, "Identifier must not be null");
+
+		return new InsertSubject<>(instance, identifier);
+	}
+}
@@ -68,6 +68,80 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	<T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key);
 
+	/**
+	 * Resolves the positions of the columns of the given {@link ResultSet} needed for reading the entity at the end of
+	 * the given path, so all rows of the {@link ResultSet} can get read by column index.
+	 * <p>
+	 * The default implementation creates a plan without any column positions, so rows get read like with
+	 * {@link #mapRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object)}.
+	 *
+	 * @param path path to the owning property. Must not be {@literal null}.
+	 * @param resultSet the {@link ResultSet} to be read. Must not be {@literal null}.
+	 * @return a plan to be used with {@link #mapRow(RowMappingPlan, ResultSet, Identifier, Object)}. Guaranteed to be not
+	 *         {@literal null}.
+	 * @since 2.0
+	 */
+	default RowMappingPlan createRowMappingPlan(PersistentPropertyPathExtension path, ResultSet resultSet) {
+		return new RowMappingPlan(resultSet, path, null);
+	}
+
+	/**
+	 * Read the current row from {@link ResultSet} like
+	 * {@link #mapRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object)}, using the column positions of the
+	 * given plan. The default implementation ignores the column positions.
+	 *
+	 * @param plan created for the {@link ResultSet} by {@link #createRowMappingPlan(PersistentPropertyPathExtension, ResultSet)}.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param identifier entity identifier.
+	 * @param key primary key.
+	 * @return the entity read from the current row.
+	 * @since 2.0
+	 */
+	default <T> T mapRow(RowMappingPlan plan, ResultSet resultSet, Identifier identifier, Object key) {
+		return mapRow(plan.getPath(), resultSet, identifier, key);
+	}
+
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link PersistentPropertyPathExtension#getActualType() entity},
+	 * resolving relations to other entities of the aggregate with the given {@link RelationResolver} instead of the one
+	 * the converter got configured with.
+	 * <p>
+	 * The default implementation ignores the given {@link RelationResolver} and resolves relations like
+	 * {@link #mapRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object)}, so the result is the same, just
+	 * without the benefit of loading relations in batches.
+	 *
+	 * @param path path to the owning property.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param identifier entity identifier.
+	 * @param key primary key.
+	 * @param relationResolver resolves relations of the entity. Must not be {@literal null}.
+	 * @return the entity read from the current row.
+	 * @since 2.0
+	 */
+	default <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key,
+			RelationResolver relationResolver) {
+		return mapRow(path, resultSet, identifier, key);
+	}
+
+	/**
+	 * Read the current row from a {@link ResultSet} holding the columns of a complete aggregate to the entity at the end
+	 * of the given path. In contrast to {@link #mapRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object)}
+	 * the columns are expected to use the aliases of the path within the aggregate, i.e. prefixed with the table alias
+	 * of the path just like the columns of one-to-one relationships.
+	 * <p>
+	 * Used for loading aggregates annotated with {@link org.springframework.data.jdbc.core.mapping.SingleQueryLoading}.
+	 *
+	 * @param path path from the aggregate root to the entity. Must not be {@literal null}.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param identifier entity identifier.
+	 * @param key the list index or map key of the entity.
+	 * @param relationResolver resolves relations of the entity. Must not be {@literal null}.
+	 * @return the entity read from the current row.
+	 * @since 2.0
+	 */
+	<T> T mapJoinedRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key,
+			RelationResolver relationResolver);
+
 	/**
 	 * The type to be used to store this property in the database. Multidimensional arrays are unwrapped to reflect a
 	 * top-level array type (e.g. {@code String[][]} returns {@code String[]}).
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+
+/**
+ * Selects the entities following a {@link KeysetScrollPosition} from entities already sorted by the database, for
+ * {@link DataAccessStrategy}s that can't restrict the query to them.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+final class KeysetPositions {
+
+	private KeysetPositions() {
+		throw new IllegalStateException("Can't instantiate a utility class");
+	}
+
+	/**
+	 * Skips the entities up to and including the given position and returns at most {@code limit} of the following ones.
+	 * The values of the sort properties get compared using their natural order.
+	 *
+	 * @param sorted entities sorted by the given {@link Sort}. Must not be {@code null}.
+	 * @param position the values of the sort properties of the last entity loaded before. Must not be {@code null}.
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @param limit the maximum number of entities to return.
+	 * @return Guaranteed to be not {@code null}.
+	 */
+	static <T> List<T> after(Iterable<T> sorted, KeysetScrollPosition position, Sort sort, int limit) {
+
+		List<T> result = new ArrayList<>();
+		boolean afterPosition = position.isInitial();
+
+		for (T entity : sorted) {
+
+			if (result.size() >= limit) {
+				break;
+			}
+
+			afterPosition = afterPosition || isAfter(entity, position, sort);
+
+			if (afterPosition) {
+				result.add(entity);
+			}
+		}
+
+		return result;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static boolean isAfter(Object entity, KeysetScrollPosition position, Sort sort) {
+
+		BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
+
+		for (Sort.Order order : sort) {
+
+			Object value = wrapper.getPropertyValue(order.getProperty());
+			Object positionValue = position.getKeys().get(order.getProperty());
+
+			if (value == null || positionValue == null) {
+				throw new InvalidDataAccessApiUsageException(String.format(
+						"Keyset pagination doesn't support null values of sort properties but %s is null", order.getProperty()));
+			}
+
+			if (!(value instanceof Comparable)) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("Keyset pagination requires comparable values but %s is of type %s", order.getProperty(),
+								value.getClass().getName()));
+			}
+
+			int comparison = ((Comparable) value).compareTo(positionValue);
+
+			if (comparison != 0) {
+				return order.isAscending() ? comparison > 0 : comparison < 0;
+			}
+		}
+
+		return false;
+	}
+}
@@ -45,6 +45,8 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 	private final SqlIdentifier keyColumn;
 	private final IdentifierProcessing identifierProcessing;
 
+	private RowMappingPlan plan;
+
 	@NonNull
 	@Override
 	public Map.Entry<Object, T> mapRow(ResultSet rs, int rowNum) throws SQLException {
@@ -54,6 +56,11 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 	}
 
 	private T mapEntity(ResultSet resultSet, Object key) {
-		return converter.mapRow(path, resultSet, identifier, key);
+
+		if (plan == null || !plan.isFor(resultSet)) {
+			plan = converter.createRowMappingPlan(path, resultSet);
+		}
+
+		return converter.mapRow(plan, resultSet, identifier, key);
 	}
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.relational.core.mapping.IdGenerator;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.util.Assert;
+
+/**
+ * {@link IdGenerator} obtaining ids from a database sequence. Each value obtained from the sequence reserves a block of
+ * {@code allocationSize} ids starting with that value, which get handed out without further round trips to the
+ * database. The sequence therefore must get incremented by {@code allocationSize}, which also keeps ids unique when
+ * other clients use the sequence directly.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+class PooledSequenceIdGenerator implements IdGenerator {
+
+	private final JdbcOperations operations;
+	private final String nextValueSql;
+	private final int allocationSize;
+
+	private long next;
+	private long remaining;
+
+	/**
+	 * @param operations used to query the sequence. Must not be {@literal null}.
+	 * @param nextValueSql the statement returning the next value of the sequence. Must not be {@literal null}.
+	 * @param allocationSize the number of ids reserved by a single value of the sequence. Must be greater than zero.
+	 */
+	PooledSequenceIdGenerator(JdbcOperations operations, String nextValueSql, int allocationSize) {
+
+		Assert.notNull(operations, "JdbcOperations must not be null");
+		Assert.hasText(nextValueSql, "Next value statement must not be null or empty");
+		Assert.isTrue(allocationSize > 0, "Allocation size must be greater than zero");
+
+		this.operations = operations;
+		this.nextValueSql = nextValueSql;
+		this.allocationSize = allocationSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.mapping.IdGenerator#generate()
+	 */
+	@Override
+	public synchronized Long generate() {
+
+		if (remaining == 0) {
+
+			Long value = operations.queryForObject(nextValueSql, Long.class);
+			if (value == null) {
+				throw new DataRetrievalFailureException(String.format("%s returned null.", nextValueSql));
+			}
+
+			next = value;
+			remaining = allocationSize;
+		}
+
+		remaining--;
+		return next++;
+	}
+}
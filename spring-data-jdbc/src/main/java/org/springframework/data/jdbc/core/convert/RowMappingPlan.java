@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import lombok.Value;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+
+/**
+ * The positions of the columns of a {@link ResultSet} holding entities of a certain path, resolved once per
+ * {@link ResultSet}. Reading rows with a plan accesses columns by index instead of assembling the column alias of each
+ * property for every row and looking the column up by that alias.
+ * <p>
+ * Columns not found in the {@link ResultSet} metadata get read by their alias as before, so a plan never changes the
+ * result of a mapping, just its cost. The same holds for plans without any column positions, as created by the default
+ * implementation of {@link JdbcConverter#createRowMappingPlan(PersistentPropertyPathExtension, ResultSet)}.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ * @see JdbcConverter#createRowMappingPlan(PersistentPropertyPathExtension, ResultSet)
+ */
+public final class RowMappingPlan {
+
+	private final WeakReference<ResultSet> resultSet;
+	private final PersistentPropertyPathExtension path;
+	private final @Nullable EntityPlan entityPlan;
+
+	RowMappingPlan(ResultSet resultSet, PersistentPropertyPathExtension path, @Nullable EntityPlan entityPlan) {
+
+		this.resultSet = new WeakReference<>(resultSet);
+		this.path = path;
+		this.entityPlan = entityPlan;
+	}
+
+	/**
+	 * @param resultSet the {@link ResultSet} to be read.
+	 * @return whether this plan got created for the given {@link ResultSet}.
+	 */
+	public boolean isFor(ResultSet resultSet) {
+		return this.resultSet.get() == resultSet;
+	}
+
+	/**
+	 * @return the path to the entity this plan got created for. Guaranteed to be not {@literal null}.
+	 */
+	PersistentPropertyPathExtension getPath() {
+		return path;
+	}
+
+	/**
+	 * @return the column positions, or {@literal null} if the plan doesn't contain any, i.e. rows get read by column
+	 *         alias.
+	 */
+	@Nullable
+	EntityPlan getEntityPlan() {
+		return entityPlan;
+	}
+
+	/**
+	 * The column positions for a single entity, i.e. the entity at the end of the path, or an embedded or one-to-one
+	 * referenced entity of it.
+	 * <p>
+	 * Which conversion a value needs depends on the type the driver returns for the column, which is only known once a
+	 * value got read. So instead of converters, the plan remembers per property the type of values that turned out to
+	 * need no conversion at all, which is the common case, and hands out values of that type as they are.
+	 */
+	@Value
+	static class EntityPlan {
+
+		RelationalPersistentEntity<?> entity;
+		PersistentPropertyPathExtension rootPath;
+		PersistentPropertyPathExtension path;
+		Map<RelationalPersistentProperty, Integer> columnIndexes;
+		@Nullable Integer reverseColumnIndex;
+		Map<RelationalPersistentProperty, EntityPlan> nestedPlans;
+		Map<RelationalPersistentProperty, Class<?>> unconvertedValueTypes = new ConcurrentHashMap<>();
+	}
+}
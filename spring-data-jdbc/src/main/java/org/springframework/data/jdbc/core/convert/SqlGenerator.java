@@ -18,18 +18,25 @@ package org.springframework.data.jdbc.core.convert;
 import lombok.Value;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.repository.support.SimpleJdbcRepository;
+import org.springframework.data.jdbc.support.JdbcUtil;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.MultiRowInserts;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.dialect.RowCountEstimates;
+import org.springframework.data.relational.core.dialect.Sequences;
+import org.springframework.data.relational.core.mapping.IdGeneration;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -41,6 +48,7 @@ import org.springframework.data.relational.domain.Identifier;
 import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Generates SQL statements to be used by {@link SimpleJdbcRepository}
@@ -60,6 +68,19 @@ class SqlGenerator {
 	static final SqlIdentifier ID_SQL_PARAMETER = SqlIdentifier.unquoted("id");
 	static final SqlIdentifier IDS_SQL_PARAMETER = SqlIdentifier.unquoted("ids");
 	static final SqlIdentifier ROOT_ID_PARAMETER = SqlIdentifier.unquoted("rootId");
+	static final SqlIdentifier TOTAL_COUNT_COLUMN = SqlIdentifier.unquoted("relational_total_count");
+
+	/**
+	 * Upper bound for the number of distinct {@code INSERT} and partial {@code UPDATE} statements cached per entity and
+	 * kind of statement. Statements for further column combinations get rendered on demand.
+	 */
+	static final int STATEMENT_CACHE_SIZE = 64;
+
+	/**
+	 * Upper limit for the number of values in a single {@code IN} list, independent of the limits of the dialect. Large
+	 * lists don't perform well and some databases limit the number of elements in such a list.
+	 */
+	static final int MAX_IN_LIST_SIZE = 1000;
 
 	private static final Pattern parameterPattern = Pattern.compile("\\W");
 	private final RelationalPersistentEntity<?> entity;
@@ -69,16 +90,32 @@ class SqlGenerator {
 	private final SqlContext sqlContext;
 	private final SqlRenderer sqlRenderer;
 	private final Columns columns;
+	private final MultiRowInserts multiRowInserts;
+	private final Sequences sequences;
+	private final boolean rowValueComparisonSupported;
+	private final RowCountEstimates rowCountEstimates;
+	private final boolean windowFunctionsSupported;
+	private final Lazy<Boolean> idListBoundAsArray;
 
 	private final Lazy<String> findOneSql = Lazy.of(this::createFindOneSql);
 	private final Lazy<String> findAllSql = Lazy.of(this::createFindAllSql);
 	private final Lazy<String> findAllInListSql = Lazy.of(this::createFindAllInListSql);
+	private final Lazy<Boolean> singleQueryLoadingSupported = Lazy.of(this::determineSingleQueryLoadingSupport);
+	private final Lazy<String> findOneWithCollectionsSql = Lazy.of(this::createFindOneWithCollectionsSql);
+	private final Lazy<String> findAllWithCollectionsSql = Lazy.of(this::createFindAllWithCollectionsSql);
+	private final Lazy<String> findAllInListWithCollectionsSql = Lazy.of(this::createFindAllInListWithCollectionsSql);
 
 	private final Lazy<String> existsSql = Lazy.of(this::createExistsSql);
 	private final Lazy<String> countSql = Lazy.of(this::createCountSql);
 
+	private final Map<Set<SqlIdentifier>, String> insertSql = new ConcurrentHashMap<>();
+	private final Map<Set<SqlIdentifier>, String> fullMultiRowInsertSql = new ConcurrentHashMap<>();
+	private final Map<Set<SqlIdentifier>, String> upsertSql = new ConcurrentHashMap<>();
+
 	private final Lazy<String> updateSql = Lazy.of(this::createUpdateSql);
 	private final Lazy<String> updateWithVersionSql = Lazy.of(this::createUpdateWithVersionSql);
+	private final Map<BitSet, String> partialUpdateSql = new ConcurrentHashMap<>();
+	private final Map<BitSet, String> partialUpdateWithVersionSql = new ConcurrentHashMap<>();
 
 	private final Lazy<String> deleteByIdSql = Lazy.of(this::createDeleteSql);
 	private final Lazy<String> deleteByIdAndVersionSql = Lazy.of(this::createDeleteByIdAndVersionSql);
@@ -101,6 +138,33 @@ class SqlGenerator {
 		this.sqlRenderer = SqlRenderer.create(new RenderContextFactory(dialect).createRenderContext());
 		this.columns = new Columns(entity, mappingContext, converter);
 		this.renderContext = new RenderContextFactory(dialect).createRenderContext();
+		this.multiRowInserts = dialect.getMultiRowInsertSupport();
+		this.sequences = dialect.getSequenceSupport();
+		this.rowValueComparisonSupported = dialect.supportsRowValueComparison();
+		this.rowCountEstimates = dialect.getRowCountEstimates();
+		this.windowFunctionsSupported = dialect.supportsWindowFunctions();
+		this.idListBoundAsArray = Lazy.of(() -> dialect.supportsArrayComparison() && entity.hasIdProperty()
+				&& JdbcUtil.jdbcTypeFor(converter.getColumnType(entity.getRequiredIdProperty())) != null);
+
+		verifyIdGeneration(entity, sequences);
+	}
+
+	/**
+	 * Verifies that ids of the entity can get generated as configured by {@link IdGeneration}, so misconfigurations get
+	 * detected when the entity gets first accessed instead of when the first instance gets inserted.
+	 */
+	private static void verifyIdGeneration(RelationalPersistentEntity<?> entity, Sequences sequences) {
+
+		IdGeneration idGeneration = entity.getIdGeneration();
+
+		if (idGeneration == null || idGeneration.strategy() != IdGeneration.Strategy.SEQUENCE) {
+			return;
+		}
+
+		Assert.state(StringUtils.hasText(idGeneration.sequence()),
+				() -> String.format("No sequence configured for the id of %s", entity.getName()));
+		Assert.state(sequences.isSupported(), () -> String.format(
+				"The dialect does not support sequences, which are required to generate the ids of %s", entity.getName()));
 	}
 
 	/**
@@ -162,6 +226,19 @@ class SqlGenerator {
 		return findAllInListSql.get();
 	}
 
+	/**
+	 * Returns whether the ids for {@link #getFindAllInList()}, {@link #getFindAllInListWithCollections()} and
+	 * {@link #getDeleteByList()} get bound as a single array parameter compared with {@code id = ANY(:ids)}. Otherwise
+	 * they get bound as list expanded into an {@code IN (…)} list.
+	 *
+	 * @return {@literal true} if the ids must be bound as array.
+	 * @since 2.0
+	 * @see Dialect#supportsArrayComparison()
+	 */
+	boolean isIdListBoundAsArray() {
+		return idListBoundAsArray.get();
+	}
+
 	/**
 	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
 	 *
@@ -191,6 +268,95 @@ class SqlGenerator {
 		return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build());
 	}
 
+	/**
+	 * Returns a query like {@link #getFindAll(Pageable)} additionally selecting the total number of rows as
+	 * {@code COUNT(*) OVER()} in the column {@link #TOTAL_COUNT_COLUMN}, so no separate count query is required.
+	 *
+	 * @param pageable the pagination information. Must not be {@code null}.
+	 * @return a SQL statement. {@literal null} if the dialect doesn't support window functions.
+	 * @since 2.0
+	 */
+	@Nullable
+	String getFindAllWithTotalCount(Pageable pageable) {
+
+		if (!windowFunctionsSupported) {
+			return null;
+		}
+
+		Expression totalCount = Functions.countOver(Expressions.asterisk()).as(TOTAL_COUNT_COLUMN);
+
+		return render(
+				selectBuilder(Collections.emptyList(), Collections.singletonList(totalCount), pageable.getSort(), pageable)
+						.build());
+	}
+
+	/**
+	 * Returns a query for selecting the ids of all entities, sorted by the given parameter. Used to scroll through all
+	 * aggregates while loading the aggregates themselves in chunks.
+	 *
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 2.0
+	 */
+	String getFindAllIds(Sort sort) {
+
+		Select select = StatementBuilder //
+				.select(getIdColumn()) //
+				.from(getTable()) //
+				.orderBy(extractOrderByFields(sort)) //
+				.build();
+
+		return render(select);
+	}
+
+	/**
+	 * Returns a query for selecting a limited number of entities sorted by the given parameter for keyset pagination.
+	 * Instead of skipping rows with an {@code OFFSET} it selects only rows sorted after the position given by bind
+	 * parameters named like the columns of the sort properties. Depending on the dialect the position gets compared as
+	 * row value, e.g. {@code (last_name, id) > (:last_name, :id)}, or with the equivalent combination of simple
+	 * comparisons.
+	 *
+	 * @param sort the sorting information. Must contain only simple properties of the entity and result in a unique
+	 *          order. Must not be {@code null}.
+	 * @param afterPosition whether to select only rows after the position, {@literal false} for the first page.
+	 * @param limit the maximum number of rows to select.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 2.0
+	 */
+	String getFindAllByKeyset(Sort sort, boolean afterPosition, int limit) {
+
+		Assert.isTrue(sort.isSorted(), "Keyset pagination requires a sort");
+
+		Table table = getTable();
+
+		List<Sort.Order> orders = sort.toList();
+		List<Column> columns = new ArrayList<>(orders.size());
+		List<Expression> bindMarkers = new ArrayList<>(orders.size());
+		List<OrderByField> orderByFields = new ArrayList<>(orders.size());
+
+		for (Sort.Order order : orders) {
+
+			RelationalPersistentProperty property = entity.getRequiredPersistentProperty(order.getProperty());
+
+			Assert.isTrue(!property.isEntity() && !property.isEmbedded(),
+					() -> String.format("Keyset pagination requires simple sort properties but %s isn't", property.getName()));
+
+			Column column = table.column(property.getColumnName());
+
+			columns.add(column);
+			bindMarkers.add(getBindMarker(property.getColumnName()));
+			orderByFields.add(OrderByField.from(column, order.getDirection()));
+		}
+
+		SelectBuilder.SelectOrdered select = afterPosition //
+				? selectBuilder().where(createKeysetCondition(orders, columns, bindMarkers)) //
+				: selectBuilder();
+
+		select = applyPagination(PageRequest.of(0, limit), select);
+
+		return render(select.orderBy(orderByFields).build());
+	}
+
 	/**
 	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
 	 * Results are limited to those rows referencing some other entity using the column specified by
@@ -226,6 +392,61 @@ class SqlGenerator {
 		return render(select);
 	}
 
+	/**
+	 * Returns a query like {@link #getFindAllByProperty(Identifier, SqlIdentifier, boolean)} but selecting the rows
+	 * referencing any of multiple entities, which get bound as a collection to {@code :ids}. The back reference column
+	 * gets selected as well, so the rows can get assigned to the entities referenced by them.
+	 *
+	 * @param backReferenceColumn the column referencing the parent entity. Must not be {@literal null}.
+	 * @param keyColumn if the property is of type {@link Map} or {@link List} this column contains the map key or list
+	 *          index.
+	 * @param ordered whether the SQL statement should include an ORDER BY for the keyColumn. If this is {@code true}, the
+	 *          keyColumn must not be {@code null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 */
+	String getFindAllByBackReferenceIn(SqlIdentifier backReferenceColumn, @Nullable SqlIdentifier keyColumn,
+			boolean ordered) {
+
+		Assert.isTrue(keyColumn != null || !ordered,
+				"If the SQL statement should be ordered a keyColumn to order by must be provided.");
+
+		Table table = getTable();
+
+		List<SqlIdentifier> additionalColumns = new ArrayList<>();
+		additionalColumns.add(backReferenceColumn);
+		if (keyColumn != null) {
+			additionalColumns.add(keyColumn);
+		}
+
+		SelectBuilder.SelectWhereAndOr withWhereClause = selectBuilder(additionalColumns) //
+				.where(table.column(backReferenceColumn).in(getBindMarker(IDS_SQL_PARAMETER)));
+
+		Select select = ordered //
+				? withWhereClause.orderBy(table.column(keyColumn).as(keyColumn)).build() //
+				: withWhereClause.build();
+
+		return render(select);
+	}
+
+	/**
+	 * Create a {@code DELETE FROM … WHERE :column = … AND …} statement restricting the rows to delete by all the columns
+	 * contained in the given {@link Identifier}.
+	 *
+	 * @param identifier the columns to restrict the delete by. Must not be empty.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 */
+	String getDeleteByIdentifier(Identifier identifier) {
+
+		Table table = getTable();
+
+		Delete delete = Delete.builder() //
+				.from(table) //
+				.where(buildConditionForBackReference(identifier, table)) //
+				.build();
+
+		return render(delete);
+	}
+
 	private Condition buildConditionForBackReference(Identifier parentIdentifier, Table table) {
 
 		Condition condition = null;
@@ -259,12 +480,136 @@ class SqlGenerator {
 	}
 
 	/**
-	 * Create a {@code INSERT INTO … (…) VALUES(…)} statement.
+	 * Determines whether the complete aggregate can get loaded with a single statement as created by
+	 * {@link #getFindOneWithCollections()}. This requires all entities referenced by entities in collections to be joined
+	 * via the id of their parent and rows to be distinguishable, so entities without an id in a {@link Set} are only
+	 * supported if there is no other collection in the aggregate.
+	 *
+	 * @return whether the aggregate can get loaded with a single statement.
+	 */
+	boolean isSingleQueryLoadingSupported() {
+		return singleQueryLoadingSupported.get();
+	}
+
+	/**
+	 * Create a {@code SELECT … FROM … WHERE :id = …} statement like {@link #getFindOne()}, but joining the tables of all
+	 * entities of the aggregate, including those referenced via collections, which are selected together with their
+	 * back reference and, if applicable, their list index or map key.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @see #isSingleQueryLoadingSupported()
+	 */
+	String getFindOneWithCollections() {
+		return findOneWithCollectionsSql.get();
+	}
+
+	/**
+	 * Create a statement selecting all aggregates with a single statement like {@link #getFindOneWithCollections()}.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @see #isSingleQueryLoadingSupported()
+	 */
+	String getFindAllWithCollections() {
+		return findAllWithCollectionsSql.get();
+	}
+
+	/**
+	 * Create a statement selecting the aggregates with the ids bound to {@code :ids} with a single statement like
+	 * {@link #getFindOneWithCollections()}.
 	 *
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @see #isSingleQueryLoadingSupported()
+	 */
+	String getFindAllInListWithCollections() {
+		return findAllInListWithCollectionsSql.get();
+	}
+
+	/**
+	 * Create a {@code INSERT INTO … (…) VALUES(…)} statement. Statements get cached per set of additional columns, so
+	 * the set passed in must not get modified afterwards.
+	 *
+	 * @param additionalColumns columns to insert in addition to the insertable columns of the entity, e.g. back
+	 *          references and list or map keys. Must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getInsert(Set<SqlIdentifier> additionalColumns) {
-		return createInsertSql(additionalColumns);
+
+		String sql = insertSql.get(additionalColumns);
+
+		if (sql != null) {
+			return sql;
+		}
+
+		return getCachedStatement(insertSql, Collections.unmodifiableSet(new HashSet<>(additionalColumns)),
+				this::createInsertSql);
+	}
+
+	/**
+	 * Create a {@code INSERT INTO … (…) VALUES (…), (…)} statement inserting the given number of rows. The bind
+	 * parameters of each row are named as determined by {@link #getBindParameterName(SqlIdentifier, int)}. Only
+	 * statements for the maximum number of rows get cached, since these statements are large and the number of rows of
+	 * the last statement of a batch varies.
+	 *
+	 * @param additionalColumns columns to insert in addition to the insertable columns of the entity. Must not be
+	 *          {@literal null}.
+	 * @param rows the number of rows. Must not exceed {@link #getMaxRowsPerInsert(int)}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 */
+	String getInsert(Set<SqlIdentifier> additionalColumns, int rows) {
+
+		Assert.isTrue(rows > 0, "Number of rows must be greater than zero");
+
+		if (rows != getMaxRowsPerInsert(additionalColumns.size())) {
+			return createMultiRowInsertSql(additionalColumns, rows);
+		}
+
+		return getCachedStatement(fullMultiRowInsertSql, Collections.unmodifiableSet(new HashSet<>(additionalColumns)),
+				columns -> createMultiRowInsertSql(columns, rows));
+	}
+
+	/**
+	 * Create a statement inserting a row or updating the existing row with the same id, using the upsert syntax of the
+	 * dialect. Statements get cached per set of additional columns.
+	 *
+	 * @param additionalColumns columns to insert in addition to the insertable columns of the entity. Must contain the id
+	 *          column. Must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @see #isUpsertSupported()
+	 */
+	String getUpsert(Set<SqlIdentifier> additionalColumns) {
+
+		Assert.state(isUpsertSupported(), "The dialect does not support upserts");
+
+		return getCachedStatement(upsertSql, Collections.unmodifiableSet(new HashSet<>(additionalColumns)),
+				this::createUpsertSql);
+	}
+
+	/**
+	 * @return whether the dialect supports upserts, i.e. whether {@link #getUpsert(Set)} may get called.
+	 */
+	boolean isUpsertSupported() {
+		return renderContext.getUpsert().isSupported();
+	}
+
+	/**
+	 * Determines how many rows may get inserted by a single statement as created by {@link #getInsert(Set, int)}.
+	 *
+	 * @param columnCount the number of columns to insert.
+	 * @return the maximum number of rows. {@literal 1} if the dialect doesn't support multi row inserts.
+	 */
+	int getMaxRowsPerInsert(int columnCount) {
+		return multiRowInserts.getMaxRows(columnCount);
+	}
+
+	/**
+	 * The name of the bind parameter for the given column in the given row of a multi row insert.
+	 *
+	 * @param column the column. Must not be {@literal null}.
+	 * @param row the zero based index of the row.
+	 * @return the parameter name. Guaranteed to be not {@literal null}.
+	 */
+	String getBindParameterName(SqlIdentifier column, int row) {
+		return parameterPattern.matcher(renderReference(column)).replaceAll("") + "_" + row;
 	}
 
 	/**
@@ -285,6 +630,60 @@ class SqlGenerator {
 		return updateWithVersionSql.get();
 	}
 
+	/**
+	 * Create a {@code UPDATE … SET …} statement only assigning the given columns. Columns that aren't updateable get
+	 * ignored. If none of the columns is updateable, the statement for all columns gets returned.
+	 *
+	 * @param columnsToUpdate the columns to assign. Must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 */
+	String getUpdate(Set<SqlIdentifier> columnsToUpdate) {
+
+		BitSet positions = columns.getUpdateableColumnPositions(columnsToUpdate);
+
+		if (positions.isEmpty() || positions.cardinality() == columns.getUpdateableColumns().size()) {
+			return getUpdate();
+		}
+
+		return getCachedStatement(partialUpdateSql, positions, p -> render(createBaseUpdate(p).build()));
+	}
+
+	/**
+	 * Create a {@code UPDATE … SET … WHERE ID = :id and VERSION_COLUMN = :___oldOptimisticLockingVersion } statement
+	 * only assigning the given columns plus the version column.
+	 *
+	 * @param columnsToUpdate the columns to assign. Must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 */
+	String getUpdateWithVersion(Set<SqlIdentifier> columnsToUpdate) {
+
+		BitSet positions = columns.getUpdateableColumnPositions(columnsToUpdate);
+		positions.or(columns.getUpdateableColumnPositions(
+				Collections.singleton(entity.getRequiredVersionProperty().getColumnName())));
+
+		if (positions.cardinality() == columns.getUpdateableColumns().size()) {
+			return getUpdateWithVersion();
+		}
+
+		return getCachedStatement(partialUpdateWithVersionSql, positions,
+				p -> render(createBaseUpdate(p).and(getVersionCondition()).build()));
+	}
+
+	private static <K> String getCachedStatement(Map<K, String> cache, K key, Function<K, String> statementCreator) {
+
+		String sql = cache.get(key);
+
+		if (sql != null) {
+			return sql;
+		}
+
+		if (cache.size() >= STATEMENT_CACHE_SIZE) {
+			return statementCreator.apply(key);
+		}
+
+		return cache.computeIfAbsent(key, statementCreator);
+	}
+
 	/**
 	 * Create a {@code SELECT COUNT(*) FROM …} statement.
 	 *
@@ -294,6 +693,18 @@ class SqlGenerator {
 		return countSql.get();
 	}
 
+	/**
+	 * Returns the dialect specific statement estimating the number of rows of the table from catalog statistics.
+	 *
+	 * @return the statement as a {@link String}. {@literal null} if the dialect doesn't support row count estimates.
+	 * @see RowCountEstimates
+	 * @since 2.0
+	 */
+	@Nullable
+	String getRowCountEstimate() {
+		return rowCountEstimates.isSupported() ? rowCountEstimates.getEstimateStatement() : null;
+	}
+
 	/**
 	 * Create a {@code DELETE FROM … WHERE :id = …} statement.
 	 *
@@ -321,6 +732,33 @@ class SqlGenerator {
 		return deleteByListSql.get();
 	}
 
+	/**
+	 * Determines how many ids may get bound to the {@code IN} list of a single statement like the one created by
+	 * {@link #getDeleteByList()}.
+	 *
+	 * @return the maximum number of ids per statement.
+	 */
+	int getMaxInListSize() {
+		return Math.min(MAX_IN_LIST_SIZE, multiRowInserts.getMaxBindParameters());
+	}
+
+	/**
+	 * Create a statement returning the next value of the sequence configured for the id of the entity by
+	 * {@link IdGeneration#sequence()}.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 */
+	String getNextSequenceValue() {
+
+		IdGeneration idGeneration = entity.getIdGeneration();
+
+		Assert.state(idGeneration != null && StringUtils.hasText(idGeneration.sequence()),
+				() -> String.format("No sequence configured for the id of %s", entity.getName()));
+		Assert.state(sequences.isSupported(), "The dialect does not support sequences");
+
+		return sequences.getNextValueStatement(idGeneration.sequence());
+	}
+
 	/**
 	 * Create a {@code DELETE} query and optionally filter by {@link PersistentPropertyPath}.
 	 *
@@ -351,6 +789,23 @@ class SqlGenerator {
 				filterColumn -> filterColumn.isEqualTo(getBindMarker(ROOT_ID_PARAMETER)));
 	}
 
+	/**
+	 * Create a {@code DELETE} query deleting the entities reachable via the given {@link PersistentPropertyPath} from
+	 * all the aggregate roots with the ids bound to {@code :rootId} as a list, or as array if
+	 * {@link #isIdListBoundAsArray()}.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 */
+	String createDeleteInByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		BindMarker rootIds = getBindMarker(ROOT_ID_PARAMETER);
+
+		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path),
+				filterColumn -> isIdListBoundAsArray() ? filterColumn.isEqualTo(Functions.any(rootIds))
+						: filterColumn.in(rootIds));
+	}
+
 	private String createFindOneSql() {
 
 		Select select = selectBuilder().where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER))) //
@@ -363,11 +818,119 @@ class SqlGenerator {
 		return render(selectBuilder().build());
 	}
 
+	private boolean determineSingleQueryLoadingSupport() {
+
+		if (!entity.hasIdProperty()) {
+			return false;
+		}
+
+		int collections = 0;
+		boolean unqualifiedCollectionWithoutId = false;
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
+				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(mappingContext, path);
+
+			if (!extPath.isEntity() || extPath.isEmbedded()) {
+				continue;
+			}
+
+			// below a collection the join must use the id of the parent, a list index or map key can't be used.
+			if (extPath.getParentPath().isMultiValued() && !Objects.equals(extPath.getIdDefiningParentPath().getTableAlias(),
+					extPath.getParentPath().getTableAlias())) {
+				return false;
+			}
+
+			if (extPath.isCollectionLike() || extPath.isQualified()) {
+
+				collections++;
+				unqualifiedCollectionWithoutId |= !extPath.isQualified() && !extPath.hasIdProperty();
+			}
+		}
+
+		return !unqualifiedCollectionWithoutId || collections == 1;
+	}
+
+	private String createFindOneWithCollectionsSql() {
+
+		Select select = selectWithCollectionsBuilder()
+				.where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER))) //
+				.build();
+
+		return render(select);
+	}
+
+	private String createFindAllWithCollectionsSql() {
+		return render(selectWithCollectionsBuilder().build());
+	}
+
+	private String createFindAllInListWithCollectionsSql() {
+
+		Select select = selectWithCollectionsBuilder().where(idInList()).build();
+
+		return render(select);
+	}
+
+	private SelectBuilder.SelectWhere selectWithCollectionsBuilder() {
+
+		Table table = getTable();
+
+		List<Expression> columnExpressions = new ArrayList<>();
+		List<Join> joinTables = new ArrayList<>();
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
+				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(mappingContext, path);
+
+			if (extPath.isEmbedded()) {
+				continue;
+			}
+
+			if (!extPath.isEntity()) {
+
+				columnExpressions.add(sqlContext.getColumn(extPath));
+				continue;
+			}
+
+			joinTables.add(createJoin(extPath));
+
+			// the back reference tells if there is an entity at all and to which parent it belongs.
+			if (extPath.isMultiValued() || !extPath.hasIdProperty()) {
+				columnExpressions.add(sqlContext.getReverseColumn(extPath));
+			}
+
+			if (extPath.isQualified()) {
+
+				SqlIdentifier keyColumn = extPath.getQualifierColumn();
+				SqlIdentifier keyColumnAlias = extPath.getQualifierColumnAlias();
+
+				Assert.state(keyColumn != null && keyColumnAlias != null, () -> "No key column for " + extPath);
+
+				columnExpressions.add(sqlContext.getTable(extPath).column(keyColumn).as(keyColumnAlias));
+			}
+		}
+
+		SelectBuilder.SelectJoin baseSelect = StatementBuilder.select(columnExpressions).from(table);
+
+		for (Join join : joinTables) {
+			baseSelect = baseSelect.leftOuterJoin(join.joinTable).on(join.joinColumn).isequals(join.parentId);
+		}
+
+		return (SelectBuilder.SelectWhere) baseSelect;
+	}
+
 	private SelectBuilder.SelectWhere selectBuilder() {
 		return selectBuilder(Collections.emptyList());
 	}
 
 	private SelectBuilder.SelectWhere selectBuilder(Collection<SqlIdentifier> keyColumns) {
+		return selectBuilder(keyColumns, Collections.emptyList());
+	}
+
+	private SelectBuilder.SelectWhere selectBuilder(Collection<SqlIdentifier> keyColumns,
+			List<Expression> additionalExpressions) {
 
 		Table table = getTable();
 
@@ -395,6 +958,8 @@ class SqlGenerator {
 			columnExpressions.add(table.column(keyColumn).as(keyColumn));
 		}
 
+		columnExpressions.addAll(additionalExpressions);
+
 		SelectBuilder.SelectAndFrom selectBuilder = StatementBuilder.select(columnExpressions);
 		SelectBuilder.SelectJoin baseSelect = selectBuilder.from(table);
 
@@ -407,13 +972,52 @@ class SqlGenerator {
 
 	private SelectBuilder.SelectOrdered selectBuilder(Collection<SqlIdentifier> keyColumns, Sort sort,
 			Pageable pageable) {
+		return selectBuilder(keyColumns, Collections.emptyList(), sort, pageable);
+	}
 
-		SelectBuilder.SelectOrdered sortable = this.selectBuilder(keyColumns);
+	private SelectBuilder.SelectOrdered selectBuilder(Collection<SqlIdentifier> keyColumns,
+			List<Expression> additionalExpressions, Sort sort, Pageable pageable) {
+
+		SelectBuilder.SelectOrdered sortable = this.selectBuilder(keyColumns, additionalExpressions);
 		sortable = applyPagination(pageable, sortable);
 		return sortable.orderBy(extractOrderByFields(sort));
 
 	}
 
+	/**
+	 * Creates the condition for rows sorted after the position. A row value comparison is only possible if all sort
+	 * properties have the same direction.
+	 */
+	private Condition createKeysetCondition(List<Sort.Order> orders, List<Column> columns,
+			List<Expression> bindMarkers) {
+
+		boolean sameDirection = orders.stream().map(Sort.Order::getDirection).distinct().count() == 1;
+
+		if (rowValueComparisonSupported && sameDirection && columns.size() > 1) {
+			return after(RowValue.create(columns), RowValue.create(bindMarkers), orders.get(0).getDirection());
+		}
+
+		// c1 > :c1 OR (c1 = :c1 AND c2 > :c2) OR …
+		Condition condition = null;
+
+		for (int i = 0; i < columns.size(); i++) {
+
+			Condition term = after(columns.get(i), bindMarkers.get(i), orders.get(i).getDirection());
+
+			for (int j = i - 1; j >= 0; j--) {
+				term = columns.get(j).isEqualTo(bindMarkers.get(j)).and(term);
+			}
+
+			condition = condition == null ? term : condition.or(Conditions.nest(term));
+		}
+
+		return condition;
+	}
+
+	private static Condition after(Expression left, Expression right, Sort.Direction direction) {
+		return direction.isAscending() ? Conditions.isGreater(left, right) : Conditions.isLess(left, right);
+	}
+
 	private SelectBuilder.SelectOrdered applyPagination(Pageable pageable, SelectBuilder.SelectOrdered select) {
 
 		if (!pageable.isPaged()) {
@@ -475,6 +1079,11 @@ class SqlGenerator {
 			return null;
 		}
 
+		return createJoin(path);
+	}
+
+	private Join createJoin(PersistentPropertyPathExtension path) {
+
 		Table currentTable = sqlContext.getTable(path);
 
 		PersistentPropertyPathExtension idDefiningParentPath = path.getIdDefiningParentPath();
@@ -489,7 +1098,7 @@ class SqlGenerator {
 
 	private String createFindAllInListSql() {
 
-		Select select = selectBuilder().where(getIdColumn().in(getBindMarker(IDS_SQL_PARAMETER))).build();
+		Select select = selectBuilder().where(idInList()).build();
 
 		return render(select);
 	}
@@ -521,24 +1130,83 @@ class SqlGenerator {
 
 	private String createInsertSql(Set<SqlIdentifier> additionalColumns) {
 
+		Set<SqlIdentifier> columnNamesForInsert = getColumnNamesForInsert(additionalColumns);
+		InsertBuilder.InsertIntoColumnsAndValuesWithBuild insert = createInsertInto(columnNamesForInsert);
+
+		InsertBuilder.InsertValuesWithBuild insertWithValues = null;
+		for (SqlIdentifier cn : columnNamesForInsert) {
+			insertWithValues = (insertWithValues == null ? insert : insertWithValues).values(getBindMarker(cn));
+		}
+
+		return render(insertWithValues == null ? insert.build() : insertWithValues.build());
+	}
+
+	private String createMultiRowInsertSql(Set<SqlIdentifier> additionalColumns, int rows) {
+
+		Set<SqlIdentifier> columnNamesForInsert = getColumnNamesForInsert(additionalColumns);
+
+		Assert.state(!columnNamesForInsert.isEmpty(), "Multi row inserts require at least one column");
+
+		InsertBuilder.InsertIntoColumnsAndValuesWithBuild insert = createInsertInto(columnNamesForInsert);
+
+		InsertBuilder.InsertValuesWithBuild insertWithValues = null;
+		for (int row = 0; row < rows; row++) {
+
+			List<Expression> bindMarkers = new ArrayList<>(columnNamesForInsert.size());
+			for (SqlIdentifier cn : columnNamesForInsert) {
+				bindMarkers.add(SQL.bindMarker(":" + getBindParameterName(cn, row)));
+			}
+
+			insertWithValues = (insertWithValues == null ? insert : insertWithValues.nextRow()).values(bindMarkers);
+		}
+
+		return render(insertWithValues.build());
+	}
+
+	private String createUpsertSql(Set<SqlIdentifier> additionalColumns) {
+
 		Table table = getTable();
+		SqlIdentifier idColumn = entity.getIdColumn();
+
+		Assert.isTrue(additionalColumns.contains(idColumn), "Upserts require a value for the id column");
+
+		List<Column> columnsToUpsert = new ArrayList<>();
+		List<Expression> values = new ArrayList<>();
+		for (SqlIdentifier cn : getColumnNamesForInsert(additionalColumns)) {
+
+			columnsToUpsert.add(table.column(cn));
+			values.add(getBindMarker(cn));
+		}
+
+		Upsert upsert = Upsert.builder() //
+				.into(table) //
+				.columns(columnsToUpsert) //
+				.values(values) //
+				.onConflict(Collections.singletonList(table.column(idColumn))) //
+				.build();
+
+		return this.sqlRenderer.render(upsert);
+	}
+
+	private Set<SqlIdentifier> getColumnNamesForInsert(Set<SqlIdentifier> additionalColumns) {
 
 		Set<SqlIdentifier> columnNamesForInsert = new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
 		columnNamesForInsert.addAll(columns.getInsertableColumns());
 		columnNamesForInsert.addAll(additionalColumns);
 
+		return columnNamesForInsert;
+	}
+
+	private InsertBuilder.InsertIntoColumnsAndValuesWithBuild createInsertInto(Set<SqlIdentifier> columnNames) {
+
+		Table table = getTable();
 		InsertBuilder.InsertIntoColumnsAndValuesWithBuild insert = Insert.builder().into(table);
 
-		for (SqlIdentifier cn : columnNamesForInsert) {
+		for (SqlIdentifier cn : columnNames) {
 			insert = insert.column(table.column(cn));
 		}
 
-		InsertBuilder.InsertValuesWithBuild insertWithValues = null;
-		for (SqlIdentifier cn : columnNamesForInsert) {
-			insertWithValues = (insertWithValues == null ? insert : insertWithValues).values(getBindMarker(cn));
-		}
-
-		return render(insertWithValues == null ? insert.build() : insertWithValues.build());
+		return insert;
 	}
 
 	private String createUpdateSql() {
@@ -548,17 +1216,29 @@ class SqlGenerator {
 	private String createUpdateWithVersionSql() {
 
 		Update update = createBaseUpdate() //
-				.and(getVersionColumn().isEqualTo(SQL.bindMarker(":" + renderReference(VERSION_SQL_PARAMETER)))) //
+				.and(getVersionCondition()) //
 				.build();
 
 		return render(update);
 	}
 
+	private Condition getVersionCondition() {
+		return getVersionColumn().isEqualTo(SQL.bindMarker(":" + renderReference(VERSION_SQL_PARAMETER)));
+	}
+
 	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate() {
+		return createBaseUpdate(columns.getUpdateableColumns());
+	}
+
+	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate(BitSet positions) {
+		return createBaseUpdate(columns.getUpdateableColumns(positions));
+	}
+
+	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate(Collection<SqlIdentifier> columnsToUpdate) {
 
 		Table table = getTable();
 
-		List<AssignValue> assignments = columns.getUpdateableColumns() //
+		List<AssignValue> assignments = columnsToUpdate //
 				.stream() //
 				.map(columnName -> Assignments.value( //
 						table.column(columnName), //
@@ -620,12 +1300,20 @@ class SqlGenerator {
 
 		Delete delete = Delete.builder() //
 				.from(table) //
-				.where(getIdColumn().in(getBindMarker(IDS_SQL_PARAMETER))) //
+				.where(idInList()) //
 				.build();
 
 		return render(delete);
 	}
 
+	private Condition idInList() {
+
+		Column idColumn = getIdColumn();
+		BindMarker ids = getBindMarker(IDS_SQL_PARAMETER);
+
+		return isIdListBoundAsArray() ? idColumn.isEqualTo(Functions.any(ids)) : idColumn.in(ids);
+	}
+
 	private String render(Select select) {
 		return this.sqlRenderer.render(select);
 	}
@@ -691,6 +1379,8 @@ class SqlGenerator {
 		private final Set<SqlIdentifier> readOnlyColumnNames = new HashSet<>();
 		private final Set<SqlIdentifier> insertableColumns;
 		private final Set<SqlIdentifier> updateableColumns;
+		private final List<SqlIdentifier> updateableColumnList;
+		private final Map<SqlIdentifier, Integer> updateableColumnPositions = new HashMap<>();
 
 		Columns(RelationalPersistentEntity<?> entity,
 				MappingContext<RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext,
@@ -712,6 +1402,11 @@ class SqlGenerator {
 			updateable.removeAll(readOnlyColumnNames);
 
 			this.updateableColumns = Collections.unmodifiableSet(updateable);
+			this.updateableColumnList = new ArrayList<>(updateable);
+
+			for (int i = 0; i < updateableColumnList.size(); i++) {
+				updateableColumnPositions.put(updateableColumnList.get(i), i);
+			}
 		}
 
 		private void populateColumnNameCache(RelationalPersistentEntity<?> entity, String prefix) {
@@ -767,5 +1462,37 @@ class SqlGenerator {
 		Set<SqlIdentifier> getUpdateableColumns() {
 			return updateableColumns;
 		}
+
+		/**
+		 * @param columnNames the columns to look up. Must not be {@literal null}.
+		 * @return a new {@link BitSet} holding the positions of the given columns within the updateable columns. Columns
+		 *         that aren't updateable are ignored.
+		 */
+		BitSet getUpdateableColumnPositions(Set<SqlIdentifier> columnNames) {
+
+			BitSet positions = new BitSet(updateableColumnList.size());
+
+			for (SqlIdentifier columnName : columnNames) {
+
+				Integer position = updateableColumnPositions.get(columnName);
+				if (position != null) {
+					positions.set(position);
+				}
+			}
+
+			return positions;
+		}
+
+		/**
+		 * @param positions positions as obtained from {@link #getUpdateableColumnPositions(Set)}.
+		 * @return the updateable columns at the given positions, in their natural order.
+		 */
+		List<SqlIdentifier> getUpdateableColumns(BitSet positions) {
+
+			List<SqlIdentifier> result = new ArrayList<>(positions.cardinality());
+			positions.stream().forEach(position -> result.add(updateableColumnList.get(position)));
+
+			return result;
+		}
 	}
 }
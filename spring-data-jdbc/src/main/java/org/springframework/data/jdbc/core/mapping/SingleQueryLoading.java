@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an aggregate root to get loaded with a single statement joining the tables of all entities of the aggregate,
+ * including those referenced via {@link java.util.Set}s, {@link java.util.List}s and {@link java.util.Map}s, instead
+ * of one additional statement per collection and loaded entity.
+ * <p>
+ * Every joined collection multiplies the number of rows returned for an aggregate, so this works best for aggregates
+ * with few or small collections. Aggregates that can't get loaded with a single statement, e.g. because an entity
+ * without id is referenced from within a collection, get loaded as if the annotation wasn't present.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.ANNOTATION_TYPE })
+@Documented
+@Inherited
+public @interface SingleQueryLoading {}
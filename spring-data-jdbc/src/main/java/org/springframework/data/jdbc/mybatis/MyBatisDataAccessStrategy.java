@@ -19,6 +19,7 @@ import static java.util.Arrays.*;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -36,6 +37,7 @@ import org.springframework.data.jdbc.core.convert.CascadingDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DelegatingDataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.SqlGeneratorSource;
 import org.springframework.data.mapping.PersistentPropertyPath;
@@ -46,6 +48,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.domain.Identifier;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.util.Assert;
 
@@ -175,6 +178,30 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return myBatisContext.getId();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insertAll(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <T> Object[] insertAll(List<InsertSubject<T>> insertSubjects, Class<T> domainType) {
+
+		// each element uses the regular insert statement. A SqlSession using ExecutorType.BATCH combines them.
+		String statement = namespace(domainType) + ".insert";
+		Object[] ids = new Object[insertSubjects.size()];
+
+		for (int i = 0; i < ids.length; i++) {
+
+			InsertSubject<T> subject = insertSubjects.get(i);
+			MyBatisContext myBatisContext = new MyBatisContext(null, subject.getInstance(), domainType,
+					convertToParameterMap(subject.getIdentifier().toMap()));
+			sqlSession().insert(statement, myBatisContext);
+
+			ids[i] = myBatisContext.getId();
+		}
+
+		return ids;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class)
@@ -247,6 +274,21 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteAllByPath(org.springframework.data.relational.domain.Identifier, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void deleteAllByPath(Identifier identifier,
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		String statement = namespace(propertyPath.getBaseProperty().getOwner().getType()) + ".deleteAllByPath-"
+				+ toDashPath(propertyPath);
+		MyBatisContext parameter = new MyBatisContext(identifier, null,
+				propertyPath.getRequiredLeafProperty().getActualType());
+		sqlSession().delete(statement, parameter);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(java.lang.Class)
@@ -395,6 +437,27 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 				new MyBatisContext(null, null, domainType, additionalContext));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.relational.domain.KeysetScrollPosition, org.springframework.data.domain.Sort, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, KeysetScrollPosition position, Sort sort, int limit) {
+
+		String statement = namespace(domainType) + ".findAllByKeyset";
+
+		// without a mapped statement, filter the results of findAllSorted.
+		if (!sqlSession().getConfiguration().hasStatement(statement, false)) {
+			return DataAccessStrategy.super.findAll(domainType, position, sort, limit);
+		}
+
+		Map<String, Object> additionalContext = new HashMap<>();
+		additionalContext.put("position", position);
+		additionalContext.put("sort", sort);
+		additionalContext.put("limit", limit);
+		return sqlSession().selectList(statement, new MyBatisContext(null, null, domainType, additionalContext));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#count(java.lang.Class)
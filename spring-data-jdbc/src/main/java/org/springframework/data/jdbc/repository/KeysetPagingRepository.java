@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
+import org.springframework.data.relational.domain.Window;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+/**
+ * Extension of {@link PagingAndSortingRepository} providing keyset pagination. In contrast to {@code OFFSET} based
+ * paging the time to load a {@link Window} doesn't grow with its position, which makes it a better fit for iterating
+ * over large tables.
+ *
+ * @param <T> the domain type of the repository.
+ * @param <ID> the type of the id of the domain type.
+ * @author Jens Schauder
+ * @since 2.0
+ * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAll(Class, KeysetScrollPosition, Sort, int)
+ */
+@NoRepositoryBean
+public interface KeysetPagingRepository<T, ID> extends PagingAndSortingRepository<T, ID> {
+
+	/**
+	 * Returns a {@link Window} of entities sorted after the given position.
+	 *
+	 * @param position the position to continue after, {@link KeysetScrollPosition#initial()} for the first window. Must
+	 *          not be {@literal null}.
+	 * @param sort the sorting information. Must only reference simple properties of the aggregate root. Must not be
+	 *          {@literal null}.
+	 * @param limit the maximum number of entities in the window. Must be greater than zero.
+	 * @return a {@link Window} of entities. Guaranteed to be not {@literal null}.
+	 */
+	Window<T> findAll(KeysetScrollPosition position, Sort sort, int limit);
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+/**
+ * Extension of {@link PagingAndSortingRepository} providing {@link Slice}s. In contrast to a
+ * {@link org.springframework.data.domain.Page} a {@link Slice} doesn't know the total number of entities, so loading
+ * it doesn't require a count query.
+ *
+ * @param <T> the domain type of the repository.
+ * @param <ID> the type of the id of the domain type.
+ * @author Jens Schauder
+ * @since 2.0
+ * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findSlice(Class, Pageable)
+ */
+@NoRepositoryBean
+public interface SlicingRepository<T, ID> extends PagingAndSortingRepository<T, ID> {
+
+	/**
+	 * Returns a {@link Slice} of entities meeting the paging restriction provided in the {@link Pageable} object.
+	 *
+	 * @param pageable the pagination information. Must not be {@literal null}.
+	 * @return a {@link Slice} of entities. Guaranteed to be not {@literal null}.
+	 */
+	Slice<T> findSlice(Pageable pageable);
+}
@@ -22,6 +22,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.jdbc.core.AggregateCache;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
@@ -33,6 +34,7 @@ import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.jdbc.core.convert.SqlGeneratorSource;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.repository.support.QueryResultCache;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
@@ -106,13 +108,19 @@ public class AbstractJdbcConfiguration {
 	 * @param applicationContext for publishing events. Must not be {@literal null}.
 	 * @param mappingContext the mapping context to be used. Must not be {@literal null}.
 	 * @param converter the conversions used when reading and writing from/to the database. Must not be {@literal null}.
-	 * @return a {@link JdbcAggregateTemplate}. Will never be {@literal null}.
+	 * @return a {@link JdbcAggregateTemplate} using the {@link AggregateCache} and notifying the {@link QueryResultCache}
+	 *         registered as beans, if any. Will never be {@literal null}.
 	 */
 	@Bean
 	public JdbcAggregateTemplate jdbcAggregateTemplate(ApplicationContext applicationContext,
 			JdbcMappingContext mappingContext, JdbcConverter converter, DataAccessStrategy dataAccessStrategy) {
 
-		return new JdbcAggregateTemplate(applicationContext, mappingContext, converter, dataAccessStrategy);
+		JdbcAggregateTemplate template = new JdbcAggregateTemplate(applicationContext, mappingContext, converter,
+				dataAccessStrategy);
+		applicationContext.getBeanProvider(AggregateCache.class).ifAvailable(template::setAggregateCache);
+		applicationContext.getBeanProvider(QueryResultCache.class).ifAvailable(template::setTableWriteListener);
+
+		return template;
 	}
 
 	/**
@@ -112,4 +112,14 @@ public @interface EnableJdbcRepositories {
 	 * be used to create repositories discovered through this annotation. Defaults to {@code defaultDataAccessStrategy}.
 	 */
 	String dataAccessStrategyRef() default "";
+
+	/**
+	 * Configures whether the repositories discovered through this annotation hold the aggregates loaded or saved within
+	 * a transaction until it completes, returning the same instances when they get requested again. Defaults to
+	 * {@literal false}.
+	 *
+	 * @since 2.0
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateTemplate#setIdentityMapEnabled(boolean)
+	 */
+	boolean identityMapEnabled() default false;
 }
@@ -23,6 +23,7 @@ import java.util.Locale;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.data.jdbc.repository.support.JdbcRepositoryFactoryBean;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.util.StringUtils;
@@ -80,6 +81,15 @@ public class JdbcRepositoryConfigExtension extends RepositoryConfigurationExtens
 				.ifPresent(s -> builder.addPropertyReference("dataAccessStrategy", s));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#postProcess(org.springframework.beans.factory.support.BeanDefinitionBuilder, org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource)
+	 */
+	@Override
+	public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
+		builder.addPropertyValue("identityMapEnabled", config.getAttributes().getBoolean("identityMapEnabled"));
+	}
+
 	/**
 	 * In strict mode only domain types having a {@link Table} annotation get a repository.
 	 */
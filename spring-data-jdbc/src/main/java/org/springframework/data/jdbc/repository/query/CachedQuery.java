@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks a query method for caching its results in the
+ * {@link org.springframework.data.jdbc.repository.support.QueryResultCache} configured for the repositories. Results
+ * get cached per combination of argument values and expire after {@link #timeToLive()}. Saving or deleting aggregates
+ * through a {@link org.springframework.data.jdbc.core.JdbcAggregateTemplate} notifying the cache evicts the results of
+ * all cached queries reading from the written tables.
+ * <p>
+ * Meant for queries of data that rarely changes. Cached results get returned to all callers, so the returned entities
+ * must not be modified. Modifying queries and queries returning a {@link java.util.stream.Stream} can't be cached. Has
+ * no effect if no {@link org.springframework.data.jdbc.repository.support.QueryResultCache} is configured.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface CachedQuery {
+
+	/**
+	 * The duration after which a cached result expires, in {@link #timeUnit()}s.
+	 */
+	long timeToLive() default 60;
+
+	/**
+	 * The unit of {@link #timeToLive()}.
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+	/**
+	 * The maximum number of results cached for the method. When the limit is reached the least recently used result gets
+	 * evicted.
+	 */
+	int maximumSize() default 100;
+
+	/**
+	 * The tables the query reads from. Writes to any of them evict the cached results. If not defined, the tables get
+	 * detected from the {@code FROM} and {@code JOIN} clauses of the query.
+	 */
+	String[] tables() default {};
+}
@@ -25,9 +25,20 @@ import java.lang.annotation.Target;
  * Indicates a method should be regarded as modifying query.
  * 
  * @author Kazuki Shimizu
+ * @author Jens Schauder
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
 @Documented
 public @interface Modifying {
+
+	/**
+	 * The tables the query writes to. After the query got executed, the results of all {@link CachedQuery cached
+	 * queries} reading from them get evicted. If not defined, the table gets detected from the {@code INSERT INTO},
+	 * {@code UPDATE}, {@code DELETE FROM} or {@code MERGE INTO} clause of the query. Only relevant if a
+	 * {@link org.springframework.data.jdbc.repository.support.QueryResultCache} is configured.
+	 *
+	 * @since 2.0
+	 */
+	String[] tables() default {};
 }
@@ -61,4 +61,13 @@ public @interface Query {
 	 * used along with {@link #rowMapperClass()} only one of the two can be set.
 	 */
 	Class<? extends ResultSetExtractor> resultSetExtractorClass() default ResultSetExtractor.class;
+
+	/**
+	 * The number of rows to be fetched from the database at once when the method returns a {@link java.util.stream.Stream}.
+	 * Such methods read the rows while the {@link java.util.stream.Stream} gets consumed and must get closed after use.
+	 * Defaults to the fetch size of the {@link org.springframework.jdbc.core.JdbcTemplate}.
+	 *
+	 * @since 2.0
+	 */
+	int fetchSize() default 0;
 }
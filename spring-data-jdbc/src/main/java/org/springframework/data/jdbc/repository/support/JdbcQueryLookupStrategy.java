@@ -34,6 +34,7 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 
 /**
  * {@link QueryLookupStrategy} for JDBC repositories. Currently only supports annotated queries.
@@ -54,6 +55,15 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 	private final JdbcConverter converter;
 	private final QueryMappingConfiguration queryMappingConfiguration;
 	private final NamedParameterJdbcOperations operations;
+	private @Nullable QueryResultCache queryResultCache;
+
+	/**
+	 * @param queryResultCache the cache for the results of query methods annotated with
+	 *          {@link org.springframework.data.jdbc.repository.query.CachedQuery}. May be {@literal null}.
+	 */
+	void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
 
 	/*
 	 * (non-Javadoc)
@@ -67,7 +77,8 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 
 		RowMapper<?> mapper = queryMethod.isModifyingQuery() ? null : createMapper(queryMethod);
 
-		return new JdbcRepositoryQuery(publisher, callbacks, context, queryMethod, operations, mapper, converter);
+		return new JdbcRepositoryQuery(publisher, callbacks, context, queryMethod, operations, mapper, converter,
+				queryResultCache);
 	}
 
 	private RowMapper<?> createMapper(JdbcQueryMethod queryMethod) {
@@ -19,6 +19,7 @@ import java.lang.reflect.Method;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.jdbc.repository.query.CachedQuery;
 import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.projection.ProjectionFactory;
@@ -119,6 +120,41 @@ public class JdbcQueryMethod extends QueryMethod {
 		return getMergedAnnotationAttribute("resultSetExtractorClass");
 	}
 
+	/**
+	 * Returns the fetch size to be used for streaming the result of the query.
+	 *
+	 * @return {@code 0} if not configured.
+	 */
+	int getFetchSize() {
+
+		Integer fetchSize = getMergedAnnotationAttribute("fetchSize");
+		return fetchSize == null ? 0 : fetchSize;
+	}
+
+	/**
+	 * Returns the configuration for caching the results of the query method.
+	 *
+	 * @return {@code null} if the results shouldn't get cached.
+	 * @since 2.0
+	 */
+	@Nullable
+	CachedQuery getCachedQuery() {
+		return AnnotatedElementUtils.findMergedAnnotation(method, CachedQuery.class);
+	}
+
+	/**
+	 * Returns the tables declared to be written by a modifying query method.
+	 *
+	 * @return the declared tables. Empty if none are declared or the query method isn't a modifying one.
+	 * @since 2.0
+	 */
+	String[] getModifiedTables() {
+
+		Modifying modifying = AnnotatedElementUtils.findMergedAnnotation(method, Modifying.class);
+
+		return modifying == null ? new String[0] : modifying.tables();
+	}
+
 	/**
 	 * Returns whether the query method is a modifying one.
 	 *
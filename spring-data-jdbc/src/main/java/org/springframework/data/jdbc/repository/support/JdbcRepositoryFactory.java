@@ -18,6 +18,7 @@ package org.springframework.data.jdbc.repository.support;
 import java.util.Optional;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jdbc.core.AggregateCache;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
@@ -55,6 +56,9 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
 	private EntityCallbacks entityCallbacks;
+	private @Nullable QueryResultCache queryResultCache;
+	private @Nullable AggregateCache aggregateCache;
+	private boolean identityMapEnabled = false;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactory} for the given {@link DataAccessStrategy},
@@ -125,6 +129,10 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 			template.setEntityCallbacks(entityCallbacks);
 		}
 
+		template.setTableWriteListener(queryResultCache);
+		template.setAggregateCache(aggregateCache);
+		template.setIdentityMapEnabled(identityMapEnabled);
+
 		return repository;
 	}
 
@@ -150,6 +158,7 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 
 			JdbcQueryLookupStrategy strategy = new JdbcQueryLookupStrategy(publisher, entityCallbacks, context, converter,
 					queryMappingConfiguration, operations);
+			strategy.setQueryResultCache(queryResultCache);
 			return Optional.of(strategy);
 		}
 
@@ -163,4 +172,41 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 	public void setEntityCallbacks(EntityCallbacks entityCallbacks) {
 		this.entityCallbacks = entityCallbacks;
 	}
+
+	/**
+	 * Configures the cache for the results of query methods annotated with
+	 * {@link org.springframework.data.jdbc.repository.query.CachedQuery}. The repositories created by this factory
+	 * notify the cache about the tables written when saving or deleting aggregates.
+	 *
+	 * @param queryResultCache the cache to use. May be {@literal null}, in which case no results get cached.
+	 * @since 2.0
+	 */
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * Configures the cache consulted by {@code findById} of the repositories created by this factory. All repositories
+	 * share the cache, so an aggregate saved or deleted through one repository gets evicted for all of them.
+	 *
+	 * @param aggregateCache the cache to use. May be {@literal null}, in which case no aggregates get cached.
+	 * @since 2.0
+	 * @see JdbcAggregateTemplate#setAggregateCache(AggregateCache)
+	 */
+	public void setAggregateCache(@Nullable AggregateCache aggregateCache) {
+		this.aggregateCache = aggregateCache;
+	}
+
+	/**
+	 * Configures whether the repositories created by this factory hold the aggregates loaded or saved within a
+	 * transaction until it completes. The aggregates held get shared by all repositories using the same
+	 * {@link DataAccessStrategy}. Disabled by default.
+	 *
+	 * @param identityMapEnabled whether aggregates should be held for the duration of the transaction.
+	 * @since 2.0
+	 * @see JdbcAggregateTemplate#setIdentityMapEnabled(boolean)
+	 */
+	public void setIdentityMapEnabled(boolean identityMapEnabled) {
+		this.identityMapEnabled = identityMapEnabled;
+	}
 }
@@ -21,6 +21,7 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.jdbc.core.AggregateCache;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
@@ -58,6 +59,9 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, I>, S, I extends
 	private NamedParameterJdbcOperations operations;
 	private EntityCallbacks entityCallbacks;
 	private Dialect dialect;
+	private QueryResultCache queryResultCache;
+	private AggregateCache aggregateCache;
+	private boolean identityMapEnabled = false;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactoryBean} for the given repository interface.
@@ -90,6 +94,9 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, I>, S, I extends
 				converter, publisher, operations);
 		jdbcRepositoryFactory.setQueryMappingConfiguration(queryMappingConfiguration);
 		jdbcRepositoryFactory.setEntityCallbacks(entityCallbacks);
+		jdbcRepositoryFactory.setQueryResultCache(queryResultCache);
+		jdbcRepositoryFactory.setAggregateCache(aggregateCache);
+		jdbcRepositoryFactory.setIdentityMapEnabled(identityMapEnabled);
 
 		return jdbcRepositoryFactory;
 	}
@@ -132,6 +139,34 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, I>, S, I extends
 		setQueryMappingConfiguration(rowMapperMap);
 	}
 
+	/**
+	 * @param queryResultCache can be {@literal null}, in which case no query results get cached.
+	 * @since 2.0
+	 */
+	@Autowired(required = false)
+	public void setQueryResultCache(QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * @param aggregateCache can be {@literal null}, in which case no aggregates get cached.
+	 * @since 2.0
+	 */
+	@Autowired(required = false)
+	public void setAggregateCache(AggregateCache aggregateCache) {
+		this.aggregateCache = aggregateCache;
+	}
+
+	/**
+	 * @param identityMapEnabled whether the repositories hold the aggregates loaded or saved within a transaction until
+	 *          it completes.
+	 * @since 2.0
+	 * @see JdbcRepositoryFactory#setIdentityMapEnabled(boolean)
+	 */
+	public void setIdentityMapEnabled(boolean identityMapEnabled) {
+		this.identityMapEnabled = identityMapEnabled;
+	}
+
 	public void setJdbcOperations(NamedParameterJdbcOperations operations) {
 		this.operations = operations;
 	}
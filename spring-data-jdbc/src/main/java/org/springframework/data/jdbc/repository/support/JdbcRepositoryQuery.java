@@ -17,7 +17,13 @@ package org.springframework.data.jdbc.repository.support;
 
 import java.lang.reflect.Constructor;
 import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.context.ApplicationEventPublisher;
@@ -25,6 +31,9 @@ import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.jdbc.core.convert.JdbcColumnTypes;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcValue;
+import org.springframework.data.jdbc.repository.query.CachedQuery;
+import org.springframework.data.jdbc.support.AfterLoadListeners;
+import org.springframework.data.jdbc.support.JdbcStreams;
 import org.springframework.data.jdbc.support.JdbcUtil;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
@@ -32,6 +41,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentEnti
 import org.springframework.data.relational.core.mapping.event.AfterLoadCallback;
 import org.springframework.data.relational.core.mapping.event.RelationalEventWithIdAndEntity;
 import org.springframework.data.relational.core.mapping.event.Identifier;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.jdbc.core.ResultSetExtractor;
@@ -57,12 +67,16 @@ class JdbcRepositoryQuery implements RepositoryQuery {
 	private static final String PARAMETER_NEEDS_TO_BE_NAMED = "For queries with named parameters you need to provide names for method parameters. Use @Param for query method parameters, or when on Java 8+ use the javac flag -parameters.";
 
 	private final ApplicationEventPublisher publisher;
+	private final AfterLoadListeners afterLoadListeners;
 	private final EntityCallbacks callbacks;
 	private final RelationalMappingContext context;
 	private final JdbcQueryMethod queryMethod;
 	private final NamedParameterJdbcOperations operations;
 	private final QueryExecutor<Object> executor;
 	private final JdbcConverter converter;
+	private final @Nullable QueryResultCache.Region cachedResults;
+	private final @Nullable QueryResultCache queryResultCache;
+	private final Set<SqlIdentifier> writtenTables;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryQuery} for the given {@link JdbcQueryMethod}, {@link RelationalMappingContext}
@@ -77,6 +91,25 @@ class JdbcRepositoryQuery implements RepositoryQuery {
 	JdbcRepositoryQuery(ApplicationEventPublisher publisher, @Nullable EntityCallbacks callbacks,
 			RelationalMappingContext context, JdbcQueryMethod queryMethod, NamedParameterJdbcOperations operations,
 			RowMapper<?> defaultRowMapper, JdbcConverter converter) {
+		this(publisher, callbacks, context, queryMethod, operations, defaultRowMapper, converter, null);
+	}
+
+	/**
+	 * Creates a new {@link JdbcRepositoryQuery} for the given {@link JdbcQueryMethod}, {@link RelationalMappingContext}
+	 * and {@link RowMapper}, caching the results in the given {@link QueryResultCache} if the method is annotated with
+	 * {@link CachedQuery} and notifying it about the tables written if it is a modifying query.
+	 *
+	 * @param publisher must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @param queryMethod must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param defaultRowMapper can be {@literal null} (only in case of a modifying query).
+	 * @param queryResultCache can be {@literal null}.
+	 * @since 2.0
+	 */
+	JdbcRepositoryQuery(ApplicationEventPublisher publisher, @Nullable EntityCallbacks callbacks,
+			RelationalMappingContext context, JdbcQueryMethod queryMethod, NamedParameterJdbcOperations operations,
+			RowMapper<?> defaultRowMapper, JdbcConverter converter, @Nullable QueryResultCache queryResultCache) {
 
 		Assert.notNull(publisher, "Publisher must not be null!");
 		Assert.notNull(context, "Context must not be null!");
@@ -88,10 +121,14 @@ class JdbcRepositoryQuery implements RepositoryQuery {
 		}
 
 		this.publisher = publisher;
+		this.afterLoadListeners = new AfterLoadListeners(publisher);
 		this.callbacks = callbacks == null ? EntityCallbacks.create() : callbacks;
 		this.context = context;
 		this.queryMethod = queryMethod;
 		this.operations = operations;
+		this.cachedResults = createCachedResults(queryResultCache);
+		this.queryResultCache = queryResultCache;
+		this.writtenTables = determineWrittenTables(queryResultCache);
 
 		RowMapper<Object> rowMapper = determineRowMapper(defaultRowMapper);
 		executor = createExecutor( //
@@ -103,14 +140,71 @@ class JdbcRepositoryQuery implements RepositoryQuery {
 		this.converter = converter;
 	}
 
+	@Nullable
+	private QueryResultCache.Region createCachedResults(@Nullable QueryResultCache queryResultCache) {
+
+		CachedQuery cachedQuery = queryMethod.getCachedQuery();
+
+		if (queryResultCache == null || cachedQuery == null) {
+			return null;
+		}
+
+		if (queryMethod.isModifyingQuery() || queryMethod.isStreamQuery()) {
+			throw new IllegalStateException(
+					String.format("Results of modifying queries and streams can't be cached: %s", queryMethod.getName()));
+		}
+
+		return queryResultCache.createRegion(cachedQuery, determineQuery());
+	}
+
+	/**
+	 * Determines the tables a modifying query writes to, for notifying the {@link QueryResultCache}.
+	 */
+	private Set<SqlIdentifier> determineWrittenTables(@Nullable QueryResultCache queryResultCache) {
+
+		if (queryResultCache == null || !queryMethod.isModifyingQuery()) {
+			return Collections.emptySet();
+		}
+
+		String query = determineQuery();
+		String[] declaredTables = queryMethod.getModifiedTables();
+		Collection<String> tables = declaredTables.length == 0 ? QueryResultCache.detectWrittenTables(query)
+				: Arrays.asList(declaredTables);
+
+		if (tables.isEmpty()) {
+			throw new IllegalStateException(String.format(
+					"Can't detect the table written by %s. Declare the written tables using @Modifying(tables = …)", query));
+		}
+
+		Set<SqlIdentifier> writtenTables = new LinkedHashSet<>();
+		tables.forEach(table -> writtenTables.add(SqlIdentifier.unquoted(table)));
+
+		return writtenTables;
+	}
+
 	private QueryExecutor<Object> createExecutor(JdbcQueryMethod queryMethod,
 			@Nullable ResultSetExtractor<Object> extractor, RowMapper<Object> rowMapper) {
 
+		QueryExecutor<Object> executor = createUncachedExecutor(queryMethod, extractor, rowMapper);
+
+		if (cachedResults == null) {
+			return executor;
+		}
+
+		return parameters -> cachedResults.getOrLoad(parameters, () -> executor.execute(parameters));
+	}
+
+	private QueryExecutor<Object> createUncachedExecutor(JdbcQueryMethod queryMethod,
+			@Nullable ResultSetExtractor<Object> extractor, RowMapper<Object> rowMapper) {
+
 		String query = determineQuery();
 
 		if (queryMethod.isModifyingQuery()) {
 			return createModifyingQueryExecutor(query);
 		}
+		if (queryMethod.isStreamQuery() && extractor == null) {
+			return createStreamQueryExecutor(query, rowMapper);
+		}
 		if (queryMethod.isCollectionQuery() || queryMethod.isStreamQuery()) {
 			QueryExecutor<Object> innerExecutor = extractor != null ? createResultSetExtractorQueryExecutor(query, extractor)
 					: createListRowMapperQueryExecutor(query, rowMapper);
@@ -164,11 +258,35 @@ class JdbcRepositoryQuery implements RepositoryQuery {
 		};
 	}
 
+	/**
+	 * Streams the rows of an open {@link java.sql.ResultSet}, converting them and publishing {@link AfterLoadCallback}s
+	 * and events one element at a time while the {@link Stream} gets consumed.
+	 */
+	private QueryExecutor<Object> createStreamQueryExecutor(String query, RowMapper<Object> rowMapper) {
+
+		return parameters -> {
+
+			Stream<Object> result = JdbcStreams.queryForStream(operations, query, parameters, rowMapper,
+					queryMethod.getFetchSize());
+
+			return result.map(entity -> {
+
+				publishAfterLoad(entity);
+				return entity;
+			});
+		};
+	}
+
 	private QueryExecutor<Object> createModifyingQueryExecutor(String query) {
 
 		return parameters -> {
 
 			int updatedCount = operations.update(query, parameters);
+
+			if (queryResultCache != null) {
+				queryResultCache.tablesWritten(writtenTables);
+			}
+
 			Class<?> returnedObjectType = queryMethod.getReturnedObjectType();
 
 			return (returnedObjectType == boolean.class || returnedObjectType == Boolean.class) ? updatedCount != 0
@@ -273,22 +391,29 @@ class JdbcRepositoryQuery implements RepositoryQuery {
 		return configuredClass == null || configuredClass == defaultClass;
 	}
 
-	private <T> void publishAfterLoad(Iterable<T> all) {
+	private <T> void publishAfterLoad(List<T> all) {
 
 		for (T e : all) {
 			publishAfterLoad(e);
 		}
+
+		if (!all.isEmpty() && all.get(0) != null && context.hasPersistentEntityFor(all.get(0).getClass())) {
+			afterLoadListeners.afterLoadAll(all);
+		}
 	}
 
 	private <T> void publishAfterLoad(@Nullable T entity) {
 
 		if (entity != null && context.hasPersistentEntityFor(entity.getClass())) {
 
-			RelationalPersistentEntity<?> e = context.getRequiredPersistentEntity(entity.getClass());
-			Object identifier = e.getIdentifierAccessor(entity).getIdentifier();
+			if (afterLoadListeners.hasEventListeners()) {
+
+				RelationalPersistentEntity<?> e = context.getRequiredPersistentEntity(entity.getClass());
+				Object identifier = e.getIdentifierAccessor(entity).getIdentifier();
 
-			if (identifier != null) {
-				publisher.publishEvent(new RelationalEventWithIdAndEntity(Identifier.of(identifier), entity, null));
+				if (identifier != null) {
+					publisher.publishEvent(new RelationalEventWithIdAndEntity(Identifier.of(identifier), entity, null));
+				}
 			}
 
 			callbacks.callback(AfterLoadCallback.class, entity);
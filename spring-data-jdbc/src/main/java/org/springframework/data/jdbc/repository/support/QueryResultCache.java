@@ -0,0 +1,380 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.data.jdbc.core.TableWriteListener;
+import org.springframework.data.jdbc.repository.query.CachedQuery;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Caches the results of query methods annotated with {@link CachedQuery}. Gets notified by the
+ * {@link org.springframework.data.jdbc.core.JdbcAggregateTemplate}s and the modifying query methods of the
+ * repositories about written tables and evicts
+ * the results of all queries reading from them, once immediately and once more after the writing transaction
+ * committed. Within the writing transaction, the cache gets bypassed for these queries.
+ * <p>
+ * A single instance should be shared by all repositories, e.g. by registering it as a bean.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public class QueryResultCache implements TableWriteListener {
+
+	private static final String TABLE = "([\\w.\"`\\[\\]]+)";
+	private static final String ALIAS = "(?:\\s+(?:AS\\s+)?\\w+)?";
+	private static final Pattern TABLE_REFERENCES = Pattern.compile(
+			"\\b(?:FROM|JOIN)\\s+" + TABLE + ALIAS + "((?:\\s*,\\s*[\\w.\"`\\[\\]]+" + ALIAS + ")*)",
+			Pattern.CASE_INSENSITIVE);
+	private static final Pattern WRITTEN_TABLE = Pattern.compile(
+			"^\\s*(?:INSERT\\s+INTO|UPDATE|DELETE\\s+FROM|MERGE\\s+INTO)\\s+" + TABLE, Pattern.CASE_INSENSITIVE);
+
+	private final List<Region> regions = new CopyOnWriteArrayList<>();
+	private final Clock clock;
+	private long evictions = 0;
+
+	/**
+	 * Creates a new, empty {@link QueryResultCache}.
+	 */
+	public QueryResultCache() {
+		this(Clock.systemUTC());
+	}
+
+	QueryResultCache(Clock clock) {
+		this.clock = clock;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.TableWriteListener#tablesWritten(java.util.Set)
+	 */
+	@Override
+	public void tablesWritten(Set<SqlIdentifier> tableNames) {
+
+		Set<String> tables = new HashSet<>();
+		tableNames.forEach(tableName -> tables.add(normalize(tableName.getReference())));
+
+		evict(tables);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			getWrittenTables(true).addAll(tables);
+		}
+	}
+
+	/**
+	 * Creates the region holding the cached results of a query.
+	 *
+	 * @param cachedQuery the configuration of the cache. Must not be {@code null}.
+	 * @param query the SQL of the query. Must not be {@code null}.
+	 * @return the new region. Guaranteed to be not {@code null}.
+	 * @throws IllegalStateException if no tables are configured and none can be detected from the query.
+	 */
+	Region createRegion(CachedQuery cachedQuery, String query) {
+
+		Set<String> tables = new HashSet<>();
+		Collection<String> configuredTables = cachedQuery.tables().length == 0 ? detectTables(query)
+				: Arrays.asList(cachedQuery.tables());
+		configuredTables.forEach(table -> tables.add(normalize(table)));
+
+		if (tables.isEmpty()) {
+			throw new IllegalStateException(String.format(
+					"Can't detect the tables read by %s. Declare them using @CachedQuery(tables = …)", query));
+		}
+
+		long timeToLive = cachedQuery.timeUnit().toMillis(cachedQuery.timeToLive());
+		Region region = new Region(tables, cachedQuery.maximumSize(), timeToLive);
+		regions.add(region);
+
+		return region;
+	}
+
+	/**
+	 * Detects the tables referenced in the {@code FROM} and {@code JOIN} clauses of a query.
+	 */
+	static Set<String> detectTables(String query) {
+
+		Set<String> tables = new LinkedHashSet<>();
+
+		Matcher matcher = TABLE_REFERENCES.matcher(query);
+		while (matcher.find()) {
+
+			tables.add(matcher.group(1));
+
+			for (String reference : matcher.group(2).split(",")) {
+				if (!reference.trim().isEmpty()) {
+					tables.add(reference.trim().split("\\s+")[0]);
+				}
+			}
+		}
+
+		return tables;
+	}
+
+	/**
+	 * Detects the table written by a modifying query from its {@code INSERT INTO}, {@code UPDATE}, {@code DELETE FROM} or
+	 * {@code MERGE INTO} clause.
+	 *
+	 * @return the written table. Empty if it can't be detected.
+	 */
+	static Set<String> detectWrittenTables(String query) {
+
+		Matcher matcher = WRITTEN_TABLE.matcher(query);
+
+		return matcher.find() ? Collections.singleton(matcher.group(1)) : Collections.emptySet();
+	}
+
+	private static String normalize(String tableName) {
+
+		String unquoted = tableName.replaceAll("[\"`\\[\\]]", "");
+		return unquoted.substring(unquoted.lastIndexOf('.') + 1).toUpperCase(Locale.ROOT);
+	}
+
+	private synchronized long getEvictionCount() {
+		return evictions;
+	}
+
+	private synchronized void evict(Set<String> tables) {
+
+		evictions++;
+
+		for (Region region : regions) {
+			if (region.readsFrom(tables)) {
+				region.clear();
+			}
+		}
+	}
+
+	private synchronized void putUnlessEvicted(Region region, Object key, Object result, long evictionCount) {
+
+		if (evictions == evictionCount) {
+			region.put(key, result, clock.millis());
+		}
+	}
+
+	private boolean isWrittenInTransaction(Region region) {
+
+		Set<String> writtenTables = getWrittenTables(false);
+		return writtenTables != null && region.readsFrom(writtenTables);
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Set<String> getWrittenTables(boolean create) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		Set<String> writtenTables = (Set<String>) TransactionSynchronizationManager.getResource(this);
+
+		if (writtenTables == null && create) {
+
+			writtenTables = new HashSet<>();
+			TransactionSynchronizationManager.bindResource(this, writtenTables);
+			TransactionSynchronizationManager.registerSynchronization(new WrittenTablesSynchronization(writtenTables));
+		}
+
+		return writtenTables;
+	}
+
+	/**
+	 * The cached results of a single query method, keyed by the values of the bound parameters and ordered from least to
+	 * most recently used.
+	 */
+	class Region {
+
+		private final Set<String> tables;
+		private final long timeToLive;
+		private final LinkedHashMap<Object, Entry> entries;
+
+		private Region(Set<String> tables, int maximumSize, long timeToLive) {
+
+			this.tables = tables;
+			this.timeToLive = timeToLive;
+			this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+					return size() > maximumSize;
+				}
+			};
+		}
+
+		/**
+		 * Executes the query unless a result for the given parameters is cached. Collection results get copied, so callers
+		 * can't modify the cached result. {@code null} results don't get cached.
+		 *
+		 * @param parameters the bound parameters. Must not be {@code null}.
+		 * @param query executes the query. Must not be {@code null}.
+		 * @return the cached or loaded result.
+		 */
+		@Nullable
+		Object getOrLoad(MapSqlParameterSource parameters, QueryLoader query) {
+
+			if (isWrittenInTransaction(this)) {
+				return query.load();
+			}
+
+			Object key = keyOf(parameters);
+			Object cached = get(key, clock.millis());
+
+			if (cached != null) {
+				return copyOf(cached);
+			}
+
+			long evictionCount = getEvictionCount();
+			Object result = query.load();
+
+			if (result != null) {
+				putUnlessEvicted(this, key, copyOf(result), evictionCount);
+			}
+
+			return result;
+		}
+
+		boolean readsFrom(Set<String> writtenTables) {
+			return !Collections.disjoint(tables, writtenTables);
+		}
+
+		@Nullable
+		private Object get(Object key, long now) {
+
+			synchronized (entries) {
+
+				Entry entry = entries.get(key);
+
+				if (entry == null) {
+					return null;
+				}
+
+				if (entry.expiresAt <= now) {
+
+					entries.remove(key);
+					return null;
+				}
+
+				return entry.result;
+			}
+		}
+
+		private void put(Object key, Object result, long now) {
+
+			synchronized (entries) {
+				entries.put(key, new Entry(result, now + timeToLive));
+			}
+		}
+
+		private void clear() {
+
+			synchronized (entries) {
+				entries.clear();
+			}
+		}
+
+		/**
+		 * Arrays don't implement {@code equals} based on their content, so they get converted to lists.
+		 */
+		private Object keyOf(MapSqlParameterSource parameters) {
+
+			Map<String, Object> key = new HashMap<>();
+			parameters.getValues().forEach((name, value) -> key.put(name,
+					value != null && value.getClass().isArray() ? Arrays.asList(ObjectUtils.toObjectArray(value)) : value));
+
+			return key;
+		}
+
+		private Object copyOf(Object result) {
+			return result instanceof List ? new ArrayList<>((List<?>) result) : result;
+		}
+	}
+
+	/**
+	 * Executes a cached query.
+	 */
+	@FunctionalInterface
+	interface QueryLoader {
+
+		@Nullable
+		Object load();
+	}
+
+	private static class Entry {
+
+		private final Object result;
+		private final long expiresAt;
+
+		Entry(Object result, long expiresAt) {
+
+			this.result = result;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	/**
+	 * Evicts the results of queries reading from the written tables again after commit and unbinds the written tables
+	 * from the thread when the transaction gets suspended or completed.
+	 */
+	private class WrittenTablesSynchronization extends TransactionSynchronizationAdapter {
+
+		private final Set<String> writtenTables;
+
+		WrittenTablesSynchronization(Set<String> writtenTables) {
+			this.writtenTables = writtenTables;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResourceIfPossible(QueryResultCache.this);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(QueryResultCache.this, writtenTables);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(QueryResultCache.this);
+
+			if (status == TransactionSynchronization.STATUS_COMMITTED) {
+				evict(writtenTables);
+			}
+		}
+	}
+}
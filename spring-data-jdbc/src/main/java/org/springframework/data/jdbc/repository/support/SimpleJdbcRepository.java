@@ -19,16 +19,18 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.data.jdbc.repository.KeysetPagingRepository;
+import org.springframework.data.jdbc.repository.SlicingRepository;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
+import org.springframework.data.relational.domain.Window;
 import org.springframework.data.repository.CrudRepository;
-import org.springframework.data.repository.PagingAndSortingRepository;
-import org.springframework.data.util.Streamable;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -40,7 +42,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class SimpleJdbcRepository<T, I> implements PagingAndSortingRepository<T, I> {
+public class SimpleJdbcRepository<T, I> implements KeysetPagingRepository<T, I>, SlicingRepository<T, I> {
 
 	private final @NonNull JdbcAggregateOperations entityOperations;
 	private final @NonNull PersistentEntity<T, ?> entity;
@@ -63,9 +65,7 @@ public class SimpleJdbcRepository<T, I> implements PagingAndSortingRepository<T,
 	@Override
 	public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
 
-		return Streamable.of(entities).stream() //
-				.map(this::save) //
-				.collect(Collectors.toList());
+		return entityOperations.saveAll(entities);
 	}
 
 	/*
@@ -139,9 +139,8 @@ public class SimpleJdbcRepository<T, I> implements PagingAndSortingRepository<T,
 	 */
 	@Transactional
 	@Override
-	@SuppressWarnings("unchecked")
 	public void deleteAll(Iterable<? extends T> entities) {
-		entities.forEach(it -> entityOperations.delete(it, (Class<T>) it.getClass()));
+		entityOperations.deleteAll(entities, entity.getType());
 	}
 
 	@Transactional
@@ -167,4 +166,22 @@ public class SimpleJdbcRepository<T, I> implements PagingAndSortingRepository<T,
 	public Page<T> findAll(Pageable pageable) {
 		return entityOperations.findAll(entity.getType(), pageable);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.repository.KeysetPagingRepository#findAll(org.springframework.data.relational.domain.KeysetScrollPosition, org.springframework.data.domain.Sort, int)
+	 */
+	@Override
+	public Window<T> findAll(KeysetScrollPosition position, Sort sort, int limit) {
+		return entityOperations.findAll(entity.getType(), position, sort, limit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.repository.SlicingRepository#findSlice(org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public Slice<T> findSlice(Pageable pageable) {
+		return entityOperations.findSlice(entity.getType(), pageable);
+	}
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.relational.core.mapping.event.AfterLoadAllCallback;
+import org.springframework.data.relational.core.mapping.event.RelationalEventWithIdAndEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Determines whether there are listeners interested in loaded aggregates, so that creating and publishing
+ * {@link RelationalEventWithIdAndEntity}s can be skipped entirely if nobody listens, and invokes
+ * {@link AfterLoadAllCallback}s.
+ * <p>
+ * Once a listener got found, events always get published. As long as none got found, listeners get looked up again
+ * whenever listeners or bean definitions got registered with the context or one of its parents since the last lookup,
+ * so listeners registered late in or after the refresh of the context, e.g. for {@code @EventListener} methods, get
+ * considered. While a context isn't active, events always get published. {@link AfterLoadAllCallback}s get resolved
+ * once per domain type, so callbacks registered later are not considered. If the {@link ApplicationEventPublisher} is
+ * not an {@link AbstractApplicationContext}, listeners can't be determined and events always get published.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public class AfterLoadListeners {
+
+	private static final ResolvableType EVENT_TYPE = ResolvableType.forClass(RelationalEventWithIdAndEntity.class);
+
+	private final ApplicationEventPublisher publisher;
+	private volatile boolean eventListenersPresent = false;
+	private volatile @Nullable List<Integer> registrationsWithoutEventListeners;
+	private final Map<Class<?>, List<AfterLoadAllCallback<Object>>> afterLoadAllCallbacks = new ConcurrentHashMap<>();
+
+	/**
+	 * @param publisher the publisher of the events. Must not be {@literal null}.
+	 */
+	public AfterLoadListeners(ApplicationEventPublisher publisher) {
+
+		this.publisher = publisher;
+	}
+
+	/**
+	 * @return whether there might be listeners for {@link RelationalEventWithIdAndEntity}s published after loading an
+	 *         aggregate.
+	 */
+	public boolean hasEventListeners() {
+
+		if (eventListenersPresent) {
+			return true;
+		}
+
+		List<Integer> registrations = getRegistrations();
+
+		if (registrations == null) {
+			return true;
+		}
+
+		if (registrations.equals(registrationsWithoutEventListeners)) {
+			return false;
+		}
+
+		if (detectEventListeners()) {
+
+			eventListenersPresent = true;
+			return true;
+		}
+
+		registrationsWithoutEventListeners = registrations;
+		return false;
+	}
+
+	/**
+	 * Invokes the {@link AfterLoadAllCallback}s for the type of the given aggregates, if any.
+	 *
+	 * @param aggregates the loaded aggregates. Must not be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> void afterLoadAll(List<T> aggregates) {
+
+		if (aggregates.isEmpty()) {
+			return;
+		}
+
+		Class<?> domainType = ClassUtils.getUserClass(aggregates.get(0));
+
+		for (AfterLoadAllCallback<Object> callback : afterLoadAllCallbacks.computeIfAbsent(domainType,
+				this::findAfterLoadAllCallbacks)) {
+			callback.onAfterLoadAll((List<Object>) aggregates);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<AfterLoadAllCallback<Object>> findAfterLoadAllCallbacks(Class<?> domainType) {
+
+		List<AfterLoadAllCallback<Object>> callbacks = new ArrayList<>();
+
+		if (publisher instanceof ListableBeanFactory) {
+
+			((ListableBeanFactory) publisher).getBeanProvider(AfterLoadAllCallback.class).orderedStream()
+					.filter(callback -> accepts(callback.getClass(), AfterLoadAllCallback.class,
+							ResolvableType.forClass(domainType)))
+					.forEach(callback -> callbacks.add((AfterLoadAllCallback<Object>) callback));
+		}
+
+		return callbacks;
+	}
+
+	/**
+	 * Counts the listeners and bean definitions registered with the context and its parents, which changes whenever
+	 * listeners might have been added.
+	 *
+	 * @return {@literal null} if listeners can't be determined because the publisher isn't an
+	 *         {@link AbstractApplicationContext} or a context isn't active.
+	 */
+	@Nullable
+	private List<Integer> getRegistrations() {
+
+		if (!(publisher instanceof ApplicationContext)) {
+			return null;
+		}
+
+		List<Integer> registrations = new ArrayList<>();
+
+		for (ApplicationContext context = (ApplicationContext) publisher; context != null; context = context.getParent()) {
+
+			if (!(context instanceof AbstractApplicationContext) || !((AbstractApplicationContext) context).isActive()) {
+				return null;
+			}
+
+			registrations.add(((AbstractApplicationContext) context).getApplicationListeners().size());
+			registrations.add(context.getBeanDefinitionCount());
+		}
+
+		return registrations;
+	}
+
+	private boolean detectEventListeners() {
+
+		for (ApplicationContext context = (ApplicationContext) publisher; context != null; context = context.getParent()) {
+
+			if (!(context instanceof AbstractApplicationContext)) {
+				return true;
+			}
+
+			for (ApplicationListener<?> listener : ((AbstractApplicationContext) context).getApplicationListeners()) {
+				if (new GenericApplicationListenerAdapter(listener).supportsEventType(EVENT_TYPE)) {
+					return true;
+				}
+			}
+
+			for (String beanName : context.getBeanNamesForType(ApplicationListener.class, true, false)) {
+
+				Class<?> listenerType = context.getType(beanName);
+
+				if (listenerType == null || SmartApplicationListener.class.isAssignableFrom(listenerType)
+						|| accepts(listenerType, ApplicationListener.class, EVENT_TYPE)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Determines whether an implementation of a generic listener or callback interface accepts the given type. If the
+	 * type parameter can't be resolved it is assumed that it does.
+	 */
+	private static boolean accepts(Class<?> implementation, Class<?> genericInterface, ResolvableType type) {
+
+		ResolvableType declared = ResolvableType.forClass(implementation).as(genericInterface).getGeneric();
+
+		return declared.resolve() == null || declared.isAssignableFrom(type);
+	}
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.support;
+
+import lombok.experimental.UtilityClass;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Executes queries returning a {@link Stream} backed by an open {@link ResultSet}. Rows get converted lazily while the
+ * {@link Stream} gets consumed, so the result doesn't need to fit into memory. The {@link ResultSet}, its statement and
+ * the connection are held until the {@link Stream} gets closed or all rows got consumed.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+@UtilityClass
+public class JdbcStreams {
+
+	/**
+	 * Executes the query and returns a {@link Stream} of the rows converted by the given {@link RowMapper}. The
+	 * {@link Stream} must get closed after use, preferably using try-with-resources.
+	 * <p>
+	 * Some drivers, most prominently PostgreSQL, ignore the fetch size and read the complete result if the connection is
+	 * in auto commit mode. For those an {@link InvalidDataAccessApiUsageException} gets thrown when no transaction is
+	 * active. If the {@link JdbcOperations} aren't a {@link JdbcTemplate}, the result gets read completely before it
+	 * gets streamed.
+	 *
+	 * @param operations the operations to obtain the connection from. Must not be {@literal null}.
+	 * @param sql the query with named parameters. Must not be {@literal null}.
+	 * @param parameters the parameters of the query. Must not be {@literal null}.
+	 * @param rowMapper converts the rows. Must not be {@literal null}.
+	 * @param fetchSize the number of rows to be fetched from the database at once. {@literal 0} for the fetch size
+	 *          configured for the {@link JdbcTemplate}.
+	 * @return a lazily populated {@link Stream}. Guaranteed to be not {@literal null}.
+	 */
+	public static <T> Stream<T> queryForStream(NamedParameterJdbcOperations operations, String sql,
+			SqlParameterSource parameters, RowMapper<T> rowMapper, int fetchSize) {
+
+		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
+		Assert.notNull(sql, "Sql must not be null");
+		Assert.notNull(parameters, "SqlParameterSource must not be null");
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+
+		JdbcOperations jdbcOperations = operations.getJdbcOperations();
+
+		if (!(jdbcOperations instanceof JdbcTemplate)) {
+			return operations.query(sql, parameters, rowMapper).stream();
+		}
+
+		JdbcTemplate template = (JdbcTemplate) jdbcOperations;
+		DataSource dataSource = template.getDataSource();
+
+		Assert.state(dataSource != null, "JdbcTemplate must have a DataSource");
+
+		PreparedStatementCreator statementCreator = createStatementCreator(sql, parameters);
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		PreparedStatement statement = null;
+		ResultSet resultSet = null;
+
+		try {
+
+			assertCursorsSupported(connection, sql);
+
+			statement = statementCreator.createPreparedStatement(connection);
+
+			int fetchSizeToUse = fetchSize > 0 ? fetchSize : template.getFetchSize();
+			if (fetchSizeToUse > 0) {
+				statement.setFetchSize(fetchSizeToUse);
+			}
+			DataSourceUtils.applyTimeout(statement, dataSource, template.getQueryTimeout());
+
+			resultSet = statement.executeQuery();
+
+			Resources resources = new Resources(dataSource, connection, statement, resultSet, statementCreator);
+
+			return StreamSupport.stream(new ResultSetSpliterator<>(resources, rowMapper, template, sql), false) //
+					.onClose(resources::close);
+
+		} catch (SQLException e) {
+
+			new Resources(dataSource, connection, statement, resultSet, statementCreator).close();
+			throw translate(template, sql, e);
+		} catch (RuntimeException e) {
+
+			new Resources(dataSource, connection, statement, resultSet, statementCreator).close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Groups the elements of the given {@link Stream} into consecutive {@link List}s of the given size. Only the last
+	 * {@link List} might be smaller. Elements get pulled from the source lazily, one chunk at a time. Closing the
+	 * returned {@link Stream} closes the source.
+	 *
+	 * @param source the {@link Stream} to group. Must not be {@literal null}.
+	 * @param size the maximum number of elements per chunk. Must be greater than zero.
+	 * @return a lazily populated {@link Stream} of chunks. Guaranteed to be not {@literal null}.
+	 */
+	public static <T> Stream<List<T>> chunked(Stream<T> source, int size) {
+
+		Assert.notNull(source, "Source Stream must not be null");
+		Assert.isTrue(size > 0, "Chunk size must be greater than zero");
+
+		return StreamSupport.stream(new ChunkingSpliterator<>(source.spliterator(), size), false) //
+				.onClose(source::close);
+	}
+
+	private static PreparedStatementCreator createStatementCreator(String sql, SqlParameterSource parameters) {
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, parameters);
+
+		PreparedStatementCreatorFactory statementFactory = new PreparedStatementCreatorFactory(sqlToUse,
+				NamedParameterUtils.buildSqlParameterList(parsedSql, parameters));
+
+		return statementFactory
+				.newPreparedStatementCreator(NamedParameterUtils.buildValueArray(parsedSql, parameters, null));
+	}
+
+	/**
+	 * PostgreSQL only uses a cursor, and therefore honors the fetch size, if auto commit is disabled. Without it a
+	 * {@link Stream} wouldn't save any memory, so we rather fail than silently read the complete result.
+	 */
+	private static void assertCursorsSupported(Connection connection, String sql) throws SQLException {
+
+		if (connection.getAutoCommit() && "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Streaming the results of [%s] requires an active transaction, since the driver reads the complete result otherwise",
+					sql));
+		}
+	}
+
+	private static DataAccessException translate(JdbcTemplate template, String sql, SQLException e) {
+
+		DataAccessException translated = template.getExceptionTranslator().translate("Stream query", sql, e);
+		return translated != null ? translated : new InvalidDataAccessApiUsageException(e.getMessage(), e);
+	}
+
+	/**
+	 * The JDBC resources held by a {@link Stream}. Closing them is idempotent.
+	 */
+	private static class Resources {
+
+		private final DataSource dataSource;
+		private final Connection connection;
+		private final PreparedStatement statement;
+		private final ResultSet resultSet;
+		private final PreparedStatementCreator statementCreator;
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		Resources(DataSource dataSource, Connection connection, PreparedStatement statement, ResultSet resultSet,
+				PreparedStatementCreator statementCreator) {
+
+			this.dataSource = dataSource;
+			this.connection = connection;
+			this.statement = statement;
+			this.resultSet = resultSet;
+			this.statementCreator = statementCreator;
+		}
+
+		void close() {
+
+			if (!closed.compareAndSet(false, true)) {
+				return;
+			}
+
+			JdbcUtils.closeResultSet(resultSet);
+			if (statementCreator instanceof ParameterDisposer) {
+				((ParameterDisposer) statementCreator).cleanupParameters();
+			}
+			JdbcUtils.closeStatement(statement);
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+	}
+
+	/**
+	 * Converts one row per {@link #tryAdvance(Consumer)} and releases the resources once the last row got read.
+	 */
+	private static class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+		private final Resources resources;
+		private final RowMapper<T> rowMapper;
+		private final JdbcTemplate template;
+		private final String sql;
+		private int rowNumber = 0;
+
+		ResultSetSpliterator(Resources resources, RowMapper<T> rowMapper, JdbcTemplate template, String sql) {
+
+			super(Long.MAX_VALUE, Spliterator.ORDERED);
+
+			this.resources = resources;
+			this.rowMapper = rowMapper;
+			this.template = template;
+			this.sql = sql;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+		 */
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+
+			if (resources.closed.get()) {
+				return false;
+			}
+
+			try {
+
+				if (!resources.resultSet.next()) {
+
+					resources.close();
+					return false;
+				}
+
+				action.accept(rowMapper.mapRow(resources.resultSet, rowNumber++));
+				return true;
+
+			} catch (SQLException e) {
+
+				resources.close();
+				throw translate(template, sql, e);
+			}
+		}
+	}
+
+	/**
+	 * Pulls up to {@code size} elements from the source {@link Spliterator} per {@link #tryAdvance(Consumer)}.
+	 */
+	private static class ChunkingSpliterator<T> extends Spliterators.AbstractSpliterator<List<T>> {
+
+		private final Spliterator<T> source;
+		private final int size;
+
+		ChunkingSpliterator(Spliterator<T> source, int size) {
+
+			super(Long.MAX_VALUE, Spliterator.ORDERED);
+
+			this.source = source;
+			this.size = size;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+		 */
+		@Override
+		public boolean tryAdvance(Consumer<? super List<T>> action) {
+
+			List<T> chunk = new ArrayList<>(size);
+
+			boolean remaining = true;
+			while (remaining && chunk.size() < size) {
+				remaining = source.tryAdvance(chunk::add);
+			}
+
+			if (chunk.isEmpty()) {
+				return false;
+			}
+
+			action.accept(chunk);
+			return true;
+		}
+	}
+}
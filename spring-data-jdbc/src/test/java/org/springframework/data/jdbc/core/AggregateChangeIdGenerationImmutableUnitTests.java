@@ -542,6 +542,11 @@ public class AggregateChangeIdGenerationImmutableUnitTests {
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public <T> void interpret(DbAction.UpsertRoot<T> upsert) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public <T> void interpret(DbAction.Merge<T> update) {
 			throw new UnsupportedOperationException();
@@ -552,6 +557,11 @@ public class AggregateChangeIdGenerationImmutableUnitTests {
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public <T> void interpret(DbAction.DeleteByIdentifier<T> delete) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public <T> void interpret(DbAction.DeleteRoot<T> deleteRoot) {
 			throw new UnsupportedOperationException();
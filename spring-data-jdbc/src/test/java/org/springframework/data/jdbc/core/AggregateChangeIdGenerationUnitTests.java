@@ -18,6 +18,7 @@ package org.springframework.data.jdbc.core;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -57,7 +58,8 @@ public class AggregateChangeIdGenerationUnitTests {
 	RelationalConverter converter = new BasicRelationalConverter(context);
 	DbAction.WithEntity<?> rootInsert = new DbAction.InsertRoot<>(entity);
 
-	AggregateChangeExecutor executor = new AggregateChangeExecutor(new IdSettingInterpreter(), converter);
+	IdSettingInterpreter interpreter = new IdSettingInterpreter();
+	AggregateChangeExecutor executor = new AggregateChangeExecutor(interpreter, converter);
 
 	@Test // DATAJDBC-291
 	public void singleRoot() {
@@ -88,6 +90,36 @@ public class AggregateChangeIdGenerationUnitTests {
 		});
 	}
 
+	@Test
+	public void multipleAggregatesGetInsertedRootsFirst() {
+
+		DummyEntity other = new DummyEntity();
+		entity.single = content;
+		other.single = content2;
+
+		AggregateChange<DummyEntity> aggregateChange = AggregateChange.forSave(entity);
+		aggregateChange.addAction(rootInsert);
+		aggregateChange.addAction(createInsert("single", content, null));
+
+		DbAction.InsertRoot<DummyEntity> otherRootInsert = new DbAction.InsertRoot<>(other);
+		DbAction.Insert<Object> otherInsert = new DbAction.Insert<>(content2,
+				context.getPersistentPropertyPath("single", DummyEntity.class), otherRootInsert);
+
+		AggregateChange<DummyEntity> otherChange = AggregateChange.forSave(other);
+		otherChange.addAction(otherRootInsert);
+		otherChange.addAction(otherInsert);
+
+		executor.executeAll(Arrays.asList(aggregateChange, otherChange));
+
+		SoftAssertions.assertSoftly(softly -> {
+
+			softly.assertThat(entity.rootId).isEqualTo(1);
+			softly.assertThat(other.rootId).isEqualTo(2);
+			softly.assertThat(entity.single.id).isEqualTo(3);
+			softly.assertThat(other.single.id).isEqualTo(4);
+		});
+	}
+
 	@Test // DATAJDBC-291
 	public void listReference() {
 
@@ -316,6 +348,100 @@ public class AggregateChangeIdGenerationUnitTests {
 		});
 	}
 
+	@Test
+	public void consecutiveInsertsOfTheSamePathGetExecutedAsBatch() {
+
+		content.tagList.add(tag1);
+		content2.tagList.add(tag2);
+		content2.tagList.add(tag3);
+		entity.contentList.add(content);
+		entity.contentList.add(content2);
+
+		DbAction.Insert<?> parentInsert1 = createInsert("contentList", content, 0);
+		DbAction.Insert<?> parentInsert2 = createInsert("contentList", content2, 1);
+
+		AggregateChange<DummyEntity> aggregateChange = AggregateChange.forSave(entity);
+		aggregateChange.addAction(rootInsert);
+		aggregateChange.addAction(parentInsert1);
+		aggregateChange.addAction(parentInsert2);
+		aggregateChange.addAction(createDeepInsert("tagList", tag1, 0, parentInsert1));
+		aggregateChange.addAction(createDeepInsert("tagList", tag2, 0, parentInsert2));
+		aggregateChange.addAction(createDeepInsert("tagList", tag3, 1, parentInsert2));
+
+		executor.execute(aggregateChange);
+
+		assertThat(interpreter.batchSizes).containsExactly(2, 3);
+	}
+
+	@Test
+	public void insertsOfDifferentPathsDoNotGetBatched() {
+
+		Content other = new Content();
+		entity.contentList.add(content);
+		entity.contentList.add(other);
+		entity.single = content2;
+
+		AggregateChange<DummyEntity> aggregateChange = AggregateChange.forSave(entity);
+		aggregateChange.addAction(rootInsert);
+		aggregateChange.addAction(createInsert("contentList", content, 0));
+		aggregateChange.addAction(createInsert("single", content2, null));
+		aggregateChange.addAction(createInsert("contentList", other, 1));
+
+		executor.execute(aggregateChange);
+
+		assertThat(interpreter.batchSizes).isEmpty();
+		assertThat(entity.contentList).extracting(c -> c.id).containsExactly(2, 4);
+		assertThat(entity.single.id).isEqualTo(3);
+	}
+
+	@Test
+	public void insertsOfTheSamePathOfMultipleAggregatesGetExecutedAsBatch() {
+
+		DummyEntity other = new DummyEntity();
+		entity.single = content;
+		other.single = content2;
+
+		AggregateChange<DummyEntity> aggregateChange = AggregateChange.forSave(entity);
+		aggregateChange.addAction(rootInsert);
+		aggregateChange.addAction(createInsert("single", content, null));
+
+		DbAction.InsertRoot<DummyEntity> otherRootInsert = new DbAction.InsertRoot<>(other);
+		AggregateChange<DummyEntity> otherChange = AggregateChange.forSave(other);
+		otherChange.addAction(otherRootInsert);
+		otherChange.addAction(new DbAction.Insert<>(content2,
+				context.getPersistentPropertyPath("single", DummyEntity.class), otherRootInsert));
+
+		executor.executeAll(Arrays.asList(aggregateChange, otherChange));
+
+		assertThat(interpreter.batchSizes).containsExactly(2);
+	}
+
+	@Test
+	public void updatesGetExecutedInOrderWithInsertsOfMultipleAggregates() {
+
+		DummyEntity existing = new DummyEntity();
+		existing.rootId = 23;
+		DummyEntity other = new DummyEntity();
+
+		AggregateChange<DummyEntity> aggregateChange = AggregateChange.forSave(entity);
+		aggregateChange.addAction(rootInsert);
+
+		AggregateChange<DummyEntity> updateChange = AggregateChange.forSave(existing);
+		updateChange.addAction(new DbAction.UpdateRoot<>(existing));
+
+		AggregateChange<DummyEntity> otherChange = AggregateChange.forSave(other);
+		otherChange.addAction(new DbAction.InsertRoot<>(other));
+
+		executor.executeAll(Arrays.asList(aggregateChange, updateChange, otherChange));
+
+		SoftAssertions.assertSoftly(softly -> {
+
+			softly.assertThat(entity.rootId).isEqualTo(1);
+			softly.assertThat(interpreter.idsBeforeUpdates).containsExactly(1);
+			softly.assertThat(other.rootId).isEqualTo(2);
+		});
+	}
+
 	DbAction.Insert<?> createInsert(String propertyName, Object value, @Nullable Object key) {
 
 		DbAction.Insert<Object> insert = new DbAction.Insert<>(value,
@@ -376,6 +502,15 @@ public class AggregateChangeIdGenerationUnitTests {
 
 	private static class IdSettingInterpreter implements Interpreter {
 		int id = 0;
+		List<Integer> batchSizes = new ArrayList<>();
+		List<Integer> idsBeforeUpdates = new ArrayList<>();
+
+		@Override
+		public <T> void interpret(DbAction.InsertBatch<T> batch) {
+
+			batchSizes.add(batch.getInserts().size());
+			batch.getInserts().forEach(insert -> interpret(insert));
+		}
 
 		@Override
 		public <T> void interpret(DbAction.Insert<T> insert) {
@@ -395,6 +530,11 @@ public class AggregateChangeIdGenerationUnitTests {
 
 		@Override
 		public <T> void interpret(DbAction.UpdateRoot<T> update) {
+			idsBeforeUpdates.add(id);
+		}
+
+		@Override
+		public <T> void interpret(DbAction.UpsertRoot<T> upsert) {
 			throw new UnsupportedOperationException();
 		}
 
@@ -408,6 +548,11 @@ public class AggregateChangeIdGenerationUnitTests {
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public <T> void interpret(DbAction.DeleteByIdentifier<T> delete) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public <T> void interpret(DbAction.DeleteRoot<T> deleteRoot) {
 			throw new UnsupportedOperationException();
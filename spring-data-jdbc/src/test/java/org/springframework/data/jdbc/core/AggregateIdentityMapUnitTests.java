@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link AggregateIdentityMap}.
+ *
+ * @author Jens Schauder
+ */
+public class AggregateIdentityMapUnitTests {
+
+	DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class);
+	AggregateIdentityMap identityMap = new AggregateIdentityMap(accessStrategy);
+
+	@After
+	public void tearDown() {
+
+		new ArrayList<>(TransactionSynchronizationManager.getResourceMap().keySet())
+				.forEach(TransactionSynchronizationManager::unbindResource);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void doesNotRegisterAggregatesOutsideOfTransactions() {
+
+		identityMap.register(String.class, 1L, "one");
+
+		assertThat(identityMap.get(String.class, 1L)).isNull();
+	}
+
+	@Test
+	public void returnsAggregatesRegisteredInTheTransaction() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		String aggregate = "one";
+		identityMap.register(String.class, 1L, aggregate);
+
+		assertThat(identityMap.get(String.class, 1L)).isSameAs(aggregate);
+		assertThat(identityMap.get(String.class, 2L)).isNull();
+		assertThat(identityMap.get(Integer.class, 1L)).isNull();
+	}
+
+	@Test
+	public void removesSingleAndAllAggregatesOfAType() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		identityMap.register(String.class, 1L, "one");
+		identityMap.register(String.class, 2L, "two");
+		identityMap.register(Integer.class, 1L, 1);
+
+		identityMap.remove(String.class, 1L);
+
+		assertThat(identityMap.get(String.class, 1L)).isNull();
+		assertThat(identityMap.get(String.class, 2L)).isEqualTo("two");
+
+		identityMap.removeAll(String.class);
+
+		assertThat(identityMap.get(String.class, 2L)).isNull();
+		assertThat(identityMap.get(Integer.class, 1L)).isEqualTo(1);
+	}
+
+	@Test
+	public void sharesAggregatesWithIdentityMapsForTheSameDataAccessStrategy() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		identityMap.register(String.class, 1L, "one");
+
+		assertThat(new AggregateIdentityMap(accessStrategy).get(String.class, 1L)).isEqualTo("one");
+		assertThat(new AggregateIdentityMap(mock(DataAccessStrategy.class)).get(String.class, 1L)).isNull();
+	}
+
+	@Test
+	public void forgetsAggregatesWhenTheTransactionCompletes() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		identityMap.register(String.class, 1L, "one");
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		TransactionSynchronizationManager.clearSynchronization();
+		TransactionSynchronizationManager.initSynchronization();
+
+		assertThat(identityMap.get(String.class, 1L)).isNull();
+	}
+}
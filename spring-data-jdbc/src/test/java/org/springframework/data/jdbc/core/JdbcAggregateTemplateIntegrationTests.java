@@ -50,6 +50,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
@@ -60,6 +61,8 @@ import org.springframework.data.relational.core.conversion.DbActionExecutionExce
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
+import org.springframework.data.relational.domain.Window;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.test.annotation.IfProfileValue;
 import org.springframework.test.annotation.ProfileValueSourceConfiguration;
@@ -271,6 +274,42 @@ public class JdbcAggregateTemplateIntegrationTests {
 				.containsExactly("Star");
 	}
 
+	@Test
+	public void loadWindowsUsingKeysetPagination() {
+
+		template.save(createLegoSet("Lava"));
+		template.save(createLegoSet("Star"));
+		template.save(createLegoSet("Frozen"));
+
+		Window<LegoSet> first = template.findAll(LegoSet.class, KeysetScrollPosition.initial(), Sort.by("name"), 2);
+
+		assertThat(first).extracting("name").containsExactly("Frozen", "Lava");
+		assertThat(first.hasNext()).isTrue();
+
+		Window<LegoSet> second = template.findAll(LegoSet.class, first.getNextPosition(), Sort.by("name"), 2);
+
+		assertThat(second).extracting("name").containsExactly("Star");
+		assertThat(second.hasNext()).isFalse();
+	}
+
+	@Test
+	public void loadSlicesWithoutCounting() {
+
+		template.save(createLegoSet("Lava"));
+		template.save(createLegoSet("Star"));
+		template.save(createLegoSet("Frozen"));
+
+		Slice<LegoSet> first = template.findSlice(LegoSet.class, PageRequest.of(0, 2, Sort.by("name")));
+
+		assertThat(first).extracting("name").containsExactly("Frozen", "Lava");
+		assertThat(first.hasNext()).isTrue();
+
+		Slice<LegoSet> second = template.findSlice(LegoSet.class, first.nextPageable());
+
+		assertThat(second).extracting("name").containsExactly("Star");
+		assertThat(second.hasNext()).isFalse();
+	}
+
 	@Test // DATAJDBC-112
 	public void saveAndLoadManyEntitiesByIdWithReferencedEntity() {
 
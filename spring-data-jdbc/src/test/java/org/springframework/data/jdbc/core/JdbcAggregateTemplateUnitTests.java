@@ -0,0 +1,247 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.RelationResolver;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.relational.core.mapping.event.RelationalEventWithIdAndEntity;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link JdbcAggregateTemplate}.
+ *
+ * @author Jens Schauder
+ */
+public class JdbcAggregateTemplateUnitTests {
+
+	DataAccessStrategy dataAccessStrategy = mock(DataAccessStrategy.class);
+	ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	RelationResolver relationResolver = mock(RelationResolver.class);
+	RelationalMappingContext context = new JdbcMappingContext();
+
+	JdbcAggregateTemplate template;
+
+	@Before
+	public void before() {
+
+		JdbcConverter converter = new BasicJdbcConverter(context, relationResolver);
+		template = new JdbcAggregateTemplate(eventPublisher, context, converter, dataAccessStrategy);
+
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@After
+	public void after() {
+
+		new ArrayList<>(TransactionSynchronizationManager.getResourceMap().keySet())
+				.forEach(TransactionSynchronizationManager::unbindResource);
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	public void unchangedAggregateDoesNotGetUpdated() {
+
+		template.setDirtyCheckingEnabled(true);
+		when(dataAccessStrategy.findById(23L, SampleEntity.class)).thenReturn(new SampleEntity(23L, "Alfred"));
+
+		template.save(template.findById(23L, SampleEntity.class));
+
+		verify(dataAccessStrategy, never()).update(any(), any());
+		verify(dataAccessStrategy, never()).update(any(), any(), anySet());
+	}
+
+	@Test
+	public void unchangedAggregateLoadedByIdOfDifferentTypeDoesNotGetUpdated() {
+
+		template.setDirtyCheckingEnabled(true);
+		when(dataAccessStrategy.findById(23, SampleEntity.class)).thenReturn(new SampleEntity(23L, "Alfred"));
+
+		template.save(template.findById(23, SampleEntity.class));
+
+		verify(dataAccessStrategy, never()).update(any(), any());
+		verify(dataAccessStrategy, never()).update(any(), any(), anySet());
+	}
+
+	@Test
+	public void aggregateSavedThroughOtherTemplateGetsUpdatedAgain() {
+
+		JdbcAggregateTemplate other = new JdbcAggregateTemplate(eventPublisher, context,
+				new BasicJdbcConverter(context, relationResolver), dataAccessStrategy);
+		template.setDirtyCheckingEnabled(true);
+		when(dataAccessStrategy.findById(23L, SampleEntity.class)).thenReturn(new SampleEntity(23L, "a"));
+		when(dataAccessStrategy.update(any(), eq(SampleEntity.class))).thenReturn(true);
+
+		SampleEntity loaded = template.findById(23L, SampleEntity.class);
+		other.save(new SampleEntity(23L, "b"));
+		template.save(loaded);
+
+		verify(dataAccessStrategy).update(loaded, SampleEntity.class);
+	}
+
+	@Test
+	public void changesMadeByBeforeSaveListenersGetWrittenForDirtyCheckedAggregates() {
+
+		template.setDirtyCheckingEnabled(true);
+		when(dataAccessStrategy.findById(23L, SampleEntity.class)).thenReturn(new SampleEntity(23L, "Alfred"));
+		when(dataAccessStrategy.update(any(), eq(SampleEntity.class), anySet())).thenReturn(true);
+		doAnswer(invocation -> {
+
+			((SampleEntity) invocation.<BeforeSaveEvent> getArgument(0).getEntity()).name = "Bruce";
+			return null;
+		}).when(eventPublisher).publishEvent(any(BeforeSaveEvent.class));
+
+		SampleEntity entity = template.findById(23L, SampleEntity.class);
+		template.save(entity);
+
+		SqlIdentifier nameColumn = context.getRequiredPersistentEntity(SampleEntity.class)
+				.getRequiredPersistentProperty("name").getColumnName();
+		verify(dataAccessStrategy).update(entity, SampleEntity.class, Collections.singleton(nameColumn));
+		assertThat(entity.name).isEqualTo("Bruce");
+	}
+
+	@Test
+	public void unchangedVersionedAggregateGetsItsVersionCheckedAndIncremented() {
+
+		template.setDirtyCheckingEnabled(true);
+		when(dataAccessStrategy.findById(23L, VersionedEntity.class)).thenReturn(new VersionedEntity(23L, 5L));
+		when(dataAccessStrategy.updateWithVersion(any(), eq(VersionedEntity.class), any(Number.class), anySet()))
+				.thenReturn(true);
+
+		VersionedEntity saved = template.save(template.findById(23L, VersionedEntity.class));
+
+		verify(dataAccessStrategy).updateWithVersion(any(), eq(VersionedEntity.class), eq(5L),
+				eq(Collections.emptySet()));
+		assertThat(saved.version).isEqualTo(6L);
+	}
+
+	@Test
+	public void streamAllPublishesEventsWhileStreamGetsConsumedAndClosesSource() {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		when(dataAccessStrategy.streamAll(SampleEntity.class, Sort.unsorted())) //
+				.thenReturn(Stream.of(new SampleEntity(1L, "one"), new SampleEntity(2L, "two")) //
+						.onClose(() -> closed.set(true)));
+
+		try (Stream<SampleEntity> stream = template.streamAll(SampleEntity.class, Sort.unsorted())) {
+
+			verify(eventPublisher, never()).publishEvent(any(RelationalEventWithIdAndEntity.class));
+
+			assertThat(stream.map(e -> e.name)).containsExactly("one", "two");
+		}
+
+		verify(eventPublisher, times(2)).publishEvent(any(RelationalEventWithIdAndEntity.class));
+		assertThat(closed).isTrue();
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+	}
+
+	@Test
+	public void keysetPaginationRejectsNullSortValues() {
+
+		when(dataAccessStrategy.findAll(eq(SampleEntity.class), any(KeysetScrollPosition.class), any(Sort.class),
+				anyInt())).thenReturn(Arrays.asList(new SampleEntity(1L, null), new SampleEntity(2L, "two")));
+
+		assertThatThrownBy(() -> template.findAll(SampleEntity.class, KeysetScrollPosition.initial(), Sort.by("name"), 5)) //
+				.isInstanceOf(InvalidDataAccessApiUsageException.class) //
+				.hasMessageContaining("name");
+	}
+
+	@Test
+	public void findByIdReturnsAggregateHeldByIdentityMapForIdsOfDifferentType() {
+
+		template.setIdentityMapEnabled(true);
+		when(dataAccessStrategy.findById(23L, SampleEntity.class)).thenReturn(new SampleEntity(23L, "Alfred"));
+
+		SampleEntity loaded = template.findById(23L, SampleEntity.class);
+
+		assertThat(template.findById(23L, SampleEntity.class)).isSameAs(loaded);
+		assertThat(template.findById(23, SampleEntity.class)).isSameAs(loaded);
+		verify(dataAccessStrategy, times(1)).findById(any(), eq(SampleEntity.class));
+	}
+
+	@Test
+	public void findAllByIdOnlyLoadsAggregatesNotHeldByIdentityMap() {
+
+		template.setIdentityMapEnabled(true);
+		SampleEntity one = new SampleEntity(1L, "one");
+		SampleEntity two = new SampleEntity(2L, "two");
+		when(dataAccessStrategy.findById(1L, SampleEntity.class)).thenReturn(one);
+		when(dataAccessStrategy.findAllById(Collections.singletonList(2L), SampleEntity.class))
+				.thenReturn(Collections.singletonList(two));
+
+		template.findById(1L, SampleEntity.class);
+
+		assertThat(template.findAllById(Arrays.asList(2, 1, 2L), SampleEntity.class)).containsExactly(two, one);
+		assertThat(template.findById(2, SampleEntity.class)).isSameAs(two);
+		verify(dataAccessStrategy, times(1)).findAllById(any(), eq(SampleEntity.class));
+	}
+
+	@Test
+	public void templatesUsingTheSameDataAccessStrategyShareTheIdentityMap() {
+
+		JdbcAggregateTemplate other = new JdbcAggregateTemplate(eventPublisher, context,
+				new BasicJdbcConverter(context, relationResolver), dataAccessStrategy);
+		template.setIdentityMapEnabled(true);
+		other.setIdentityMapEnabled(true);
+		when(dataAccessStrategy.findById(23L, SampleEntity.class)).thenReturn(new SampleEntity(23L, "Alfred"));
+
+		SampleEntity loaded = template.findById(23L, SampleEntity.class);
+
+		assertThat(other.findById(23L, SampleEntity.class)).isSameAs(loaded);
+		verify(dataAccessStrategy, times(1)).findById(any(), eq(SampleEntity.class));
+	}
+
+	@AllArgsConstructor
+	private static class SampleEntity {
+
+		@Id Long id;
+		String name;
+	}
+
+	@AllArgsConstructor
+	private static class VersionedEntity {
+
+		@Id Long id;
+		@Version Long version;
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import lombok.AllArgsConstructor;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LruAggregateCache}.
+ *
+ * @author Jens Schauder
+ */
+public class LruAggregateCacheUnitTests {
+
+	Clock clock = mock(Clock.class);
+	LruAggregateCache cache = new LruAggregateCache(clock);
+
+	@Test
+	public void onlyCachesRegisteredTypes() {
+
+		cache.cache(Immutable.class, 10, Duration.ofMinutes(1));
+
+		cache.put(Immutable.class, 1L, new Immutable("one"));
+		cache.put(Mutable.class, 1L, new Mutable("one"));
+
+		assertThat(cache.isCached(Immutable.class)).isTrue();
+		assertThat(cache.isCached(Mutable.class)).isFalse();
+		assertThat(cache.get(Immutable.class, 1L)).isNotNull();
+		assertThat(cache.get(Mutable.class, 1L)).isNull();
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedAggregate() {
+
+		cache.cache(Immutable.class, 2, Duration.ofMinutes(1));
+
+		cache.put(Immutable.class, 1L, new Immutable("one"));
+		cache.put(Immutable.class, 2L, new Immutable("two"));
+		cache.get(Immutable.class, 1L);
+		cache.put(Immutable.class, 3L, new Immutable("three"));
+
+		assertThat(cache.get(Immutable.class, 1L)).isNotNull();
+		assertThat(cache.get(Immutable.class, 2L)).isNull();
+		assertThat(cache.get(Immutable.class, 3L)).isNotNull();
+	}
+
+	@Test
+	public void aggregatesExpireAfterTimeToLive() {
+
+		cache.cache(Immutable.class, 10, Duration.ofSeconds(10));
+
+		when(clock.millis()).thenReturn(1000L);
+		cache.put(Immutable.class, 1L, new Immutable("one"));
+
+		when(clock.millis()).thenReturn(10999L);
+		assertThat(cache.get(Immutable.class, 1L)).isNotNull();
+
+		when(clock.millis()).thenReturn(11000L);
+		assertThat(cache.get(Immutable.class, 1L)).isNull();
+	}
+
+	@Test
+	public void sharesImmutableAggregates() {
+
+		cache.cache(Immutable.class, 10, Duration.ofMinutes(1));
+
+		Immutable aggregate = new Immutable("one");
+		cache.put(Immutable.class, 1L, aggregate);
+
+		assertThat(cache.get(Immutable.class, 1L)).isSameAs(aggregate);
+	}
+
+	@Test
+	public void copiesMutableAggregatesOnPutAndGet() {
+
+		cache.cache(Mutable.class, 10, Duration.ofMinutes(1), m -> new Mutable(m.name));
+
+		Mutable aggregate = new Mutable("one");
+		cache.put(Mutable.class, 1L, aggregate);
+		aggregate.name = "changed after put";
+
+		Mutable cached = cache.get(Mutable.class, 1L);
+		cached.name = "changed after get";
+
+		assertThat(cached).isNotSameAs(aggregate);
+		assertThat(cache.get(Mutable.class, 1L).name).isEqualTo("one");
+	}
+
+	@Test
+	public void copiesOnlyAggregatesOfTypesRegisteredWithACopier() {
+
+		cache.cache(Mutable.class, 10, Duration.ofMinutes(1), m -> new Mutable(m.name));
+
+		Mutable mutable = new Mutable("one");
+		Immutable immutable = new Immutable("one");
+
+		assertThat(cache.copy(Mutable.class, mutable)).isNotSameAs(mutable);
+		assertThat(cache.copy(Immutable.class, immutable)).isSameAs(immutable);
+	}
+
+	@Test
+	public void evictsSingleAndAllAggregatesOfAType() {
+
+		cache.cache(Immutable.class, 10, Duration.ofMinutes(1));
+
+		cache.put(Immutable.class, 1L, new Immutable("one"));
+		cache.put(Immutable.class, 2L, new Immutable("two"));
+		cache.put(Immutable.class, 3L, new Immutable("three"));
+
+		cache.evict(Immutable.class, 1L);
+
+		assertThat(cache.get(Immutable.class, 1L)).isNull();
+		assertThat(cache.get(Immutable.class, 2L)).isNotNull();
+
+		cache.evictAll(Immutable.class);
+
+		assertThat(cache.get(Immutable.class, 2L)).isNull();
+		assertThat(cache.get(Immutable.class, 3L)).isNull();
+	}
+
+	@AllArgsConstructor
+	static class Immutable {
+		final String name;
+	}
+
+	@AllArgsConstructor
+	static class Mutable {
+		String name;
+	}
+}
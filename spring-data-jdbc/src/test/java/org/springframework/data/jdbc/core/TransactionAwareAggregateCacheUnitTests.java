@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link TransactionAwareAggregateCache}.
+ *
+ * @author Jens Schauder
+ */
+public class TransactionAwareAggregateCacheUnitTests {
+
+	LruAggregateCache target = new LruAggregateCache().cache(String.class, 10, Duration.ofMinutes(1));
+	TransactionAwareAggregateCache cache = new TransactionAwareAggregateCache(target);
+
+	@After
+	public void tearDown() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void putsImmediatelyOutsideOfTransactions() {
+
+		cache.put(String.class, 1L, "one", cache.getEvictionCount());
+
+		assertThat(target.get(String.class, 1L)).isEqualTo("one");
+	}
+
+	@Test
+	public void doesNotPutAggregatesLoadedBeforeAnEviction() {
+
+		long evictionCount = cache.getEvictionCount();
+		cache.evict(String.class, 2L);
+		cache.put(String.class, 1L, "one", evictionCount);
+
+		assertThat(target.get(String.class, 1L)).isNull();
+	}
+
+	@Test
+	public void putsAggregatesLoadedInATransactionAfterCommit() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.put(String.class, 1L, "one", cache.getEvictionCount());
+
+		assertThat(target.get(String.class, 1L)).isNull();
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(target.get(String.class, 1L)).isEqualTo("one");
+	}
+
+	@Test
+	public void discardsAggregatesLoadedInATransactionOnRollback() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.put(String.class, 1L, "one", cache.getEvictionCount());
+
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertThat(target.get(String.class, 1L)).isNull();
+	}
+
+	@Test
+	public void bypassesCacheForAggregatesWrittenInTheTransactionAndEvictsThemAgainAfterCommit() {
+
+		target.put(String.class, 1L, "one");
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.evict(String.class, 1L);
+		target.put(String.class, 1L, "stale");
+
+		assertThat(cache.get(String.class, 1L)).isNull();
+
+		cache.put(String.class, 1L, "changed", cache.getEvictionCount());
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(target.get(String.class, 1L)).isNull();
+	}
+
+	@Test
+	public void bypassesCacheForTypesDeletedInTheTransaction() {
+
+		target.put(String.class, 1L, "one");
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.evictAll(String.class);
+		target.put(String.class, 1L, "stale");
+
+		assertThat(cache.get(String.class, 1L)).isNull();
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(target.get(String.class, 1L)).isNull();
+	}
+
+	@Test
+	public void snapshotsAggregatesLoadedInATransactionWhenTheyGetLoaded() {
+
+		target.cache(StringBuilder.class, 10, Duration.ofMinutes(1), StringBuilder::new);
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		StringBuilder loaded = new StringBuilder("one");
+		cache.put(StringBuilder.class, 1L, loaded, cache.getEvictionCount());
+		loaded.append(" changed before commit");
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(target.get(StringBuilder.class, 1L)).hasToString("one");
+	}
+
+	@Test
+	public void sharesTransactionStateWithOtherWrappersOfTheSameCache() {
+
+		TransactionAwareAggregateCache other = new TransactionAwareAggregateCache(target);
+		target.put(String.class, 1L, "one");
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		long evictionCount = cache.getEvictionCount();
+		other.evict(String.class, 1L);
+		target.put(String.class, 1L, "stale");
+
+		assertThat(cache.get(String.class, 1L)).isNull();
+
+		cache.put(String.class, 2L, "two", evictionCount);
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(target.get(String.class, 1L)).isNull();
+		assertThat(target.get(String.class, 2L)).isNull();
+	}
+
+	private static void complete(int status) {
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(status));
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link CoalescingDataAccessStrategy}.
+ *
+ * @author Jens Schauder
+ */
+public class CoalescingDataAccessStrategyUnitTests {
+
+	DataAccessStrategy delegate = mock(DataAccessStrategy.class);
+	CoalescingDataAccessStrategy accessStrategy = new CoalescingDataAccessStrategy(delegate);
+
+	CountDownLatch queryStarted = new CountDownLatch(1);
+	CountDownLatch releaseQuery = new CountDownLatch(1);
+
+	@After
+	public void tearDown() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+
+	@Test
+	public void concurrentIdenticalCallsShareOneQuery() throws Exception {
+
+		String entity = "entity";
+		when(delegate.findById(23L, String.class)).thenAnswer(invocation -> {
+
+			queryStarted.countDown();
+			releaseQuery.await(5, TimeUnit.SECONDS);
+			return entity;
+		});
+
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> accessStrategy.findById(23L, String.class));
+		assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> accessStrategy.findById(23L, String.class));
+		awaitCoalescedCalls(1);
+
+		releaseQuery.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(entity);
+		assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(entity);
+		verify(delegate, times(1)).findById(23L, String.class);
+		assertThat(accessStrategy.getExecutedQueryCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void coalescedCallsGetTheExceptionOfTheSharedQuery() throws Exception {
+
+		IllegalStateException exception = new IllegalStateException("query failed");
+		when(delegate.findById(23L, String.class)).thenAnswer(invocation -> {
+
+			queryStarted.countDown();
+			releaseQuery.await(5, TimeUnit.SECONDS);
+			throw exception;
+		});
+
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> accessStrategy.findById(23L, String.class));
+		assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> accessStrategy.findById(23L, String.class));
+		awaitCoalescedCalls(1);
+
+		releaseQuery.countDown();
+
+		assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCause(exception);
+		assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCause(exception);
+	}
+
+	@Test
+	public void sequentialCallsExecuteSeparateQueries() {
+
+		accessStrategy.findById(23L, String.class);
+		accessStrategy.findById(23L, String.class);
+
+		verify(delegate, times(2)).findById(23L, String.class);
+		assertThat(accessStrategy.getCoalescedCallCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void doesNotCoalesceWithinTransactions() {
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		accessStrategy.findById(23L, String.class);
+
+		verify(delegate).findById(23L, String.class);
+		assertThat(accessStrategy.getExecutedQueryCount()).isEqualTo(0);
+	}
+
+	private void awaitCoalescedCalls(long expected) throws InterruptedException {
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (accessStrategy.getCoalescedCallCount() < expected && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+
+		assertThat(accessStrategy.getCoalescedCallCount()).isEqualTo(expected);
+	}
+}
@@ -23,26 +23,63 @@ import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.core.mapping.SingleQueryLoading;
+import org.springframework.data.jdbc.testing.AnsiDialect;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.mapping.IdGeneration;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.domain.Identifier;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlProvider;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.util.LinkedCaseInsensitiveMap;
 
 /**
  * Unit tests for {@link DefaultDataAccessStrategy}.
@@ -57,6 +94,10 @@ public class DefaultDataAccessStrategyUnitTests {
 
 	NamedParameterJdbcOperations namedJdbcOperations = mock(NamedParameterJdbcOperations.class);
 	JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+	DataSource dataSource = mock(DataSource.class);
+	Connection cursorConnection = mock(Connection.class);
+	PreparedStatement cursorStatement = mock(PreparedStatement.class);
+	ResultSet idResultSet = mock(ResultSet.class);
 	RelationalMappingContext context = new JdbcMappingContext();
 
 	HashMap<SqlIdentifier, Object> additionalParameters = new HashMap<>();
@@ -139,6 +180,536 @@ public class DefaultDataAccessStrategyUnitTests {
 		assertThat(paramSourceCaptor.getValue().getValue("flag")).isEqualTo("T");
 	}
 
+	@Test
+	public void insertAllWithPresetIdsUsesSingleBatch() {
+
+		ArgumentCaptor<SqlParameterSource[]> batchCaptor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+
+		Object[] ids = accessStrategy.insertAll(Arrays.asList( //
+				InsertSubject.describedBy(new DummyEntity(ORIGINAL_ID), Identifier.empty()), //
+				InsertSubject.describedBy(new DummyEntity(ORIGINAL_ID + 1), Identifier.empty())), //
+				DummyEntity.class);
+
+		verify(namedJdbcOperations).batchUpdate(eq("INSERT INTO \"DUMMY_ENTITY\" (\"ID\") VALUES (:id)"),
+				batchCaptor.capture());
+		verify(namedJdbcOperations, never()).update(anyString(), any(SqlParameterSource.class), any(KeyHolder.class));
+
+		assertThat(batchCaptor.getValue()).extracting(source -> source.getValue("id")) //
+				.containsExactly(ORIGINAL_ID, ORIGINAL_ID + 1);
+		assertThat(ids).containsExactly(null, null);
+	}
+
+	@Test
+	public void insertAllWithGeneratedIdsUsesSingleBatchIfDatabaseReturnsAllKeys() throws SQLException {
+
+		Connection connection = connectionTo("PostgreSQL");
+		PreparedStatement statement = mock(PreparedStatement.class);
+		ResultSet generatedKeys = generatedKeys(23L, 24L);
+		when(connection.prepareStatement(anyString(), eq(Statement.RETURN_GENERATED_KEYS))).thenReturn(statement);
+		when(statement.getGeneratedKeys()).thenReturn(generatedKeys);
+
+		Object[] ids = accessStrategy.insertAll(Arrays.asList( //
+				InsertSubject.describedBy(new DummyEntity(null), Identifier.empty()), //
+				InsertSubject.describedBy(new DummyEntity(null), Identifier.empty())), //
+				DummyEntity.class);
+
+		verify(statement, times(2)).addBatch();
+		verify(statement).executeBatch();
+		verify(namedJdbcOperations, never()).update(anyString(), any(SqlParameterSource.class), any(KeyHolder.class));
+
+		assertThat(ids).containsExactly(23L, 24L);
+	}
+
+	@Test
+	public void insertAllWithGeneratedIdsInsertsRowsSeparatelyIfDatabaseReturnsLastKeyOnly() throws SQLException {
+
+		Connection connection = connectionTo("Microsoft SQL Server");
+		AtomicInteger generatedId = new AtomicInteger(23);
+		doAnswer(invocation -> {
+
+			KeyHolder holder = invocation.getArgument(2);
+			holder.getKeyList().add(Collections.singletonMap("ID", generatedId.getAndIncrement()));
+			return 1;
+		}).when(namedJdbcOperations).update(anyString(), any(SqlParameterSource.class), any(KeyHolder.class));
+
+		Object[] ids = accessStrategy.insertAll(Arrays.asList( //
+				InsertSubject.describedBy(new DummyEntity(null), Identifier.empty()), //
+				InsertSubject.describedBy(new DummyEntity(null), Identifier.empty())), //
+				DummyEntity.class);
+
+		verify(connection, never()).prepareStatement(anyString(), anyInt());
+		verify(namedJdbcOperations, times(2)).update(anyString(), any(SqlParameterSource.class), any(KeyHolder.class));
+
+		assertThat(ids).containsExactly(23, 24);
+	}
+
+	@Test
+	public void insertAllWithPresetIdsUsesMultiRowInsertIfSupportedByDialect() {
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, PostgresDialect.INSTANCE), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+
+		accessStrategy.insertAll(Arrays.asList( //
+				InsertSubject.describedBy(new DummyEntity(ORIGINAL_ID), Identifier.empty()), //
+				InsertSubject.describedBy(new DummyEntity(ORIGINAL_ID + 1), Identifier.empty())), //
+				DummyEntity.class);
+
+		verify(namedJdbcOperations).update(sqlCaptor.capture(), paramSourceCaptor.capture());
+		verify(namedJdbcOperations, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+
+		assertThat(sqlCaptor.getValue()).endsWith("VALUES (:id_0), (:id_1)");
+		assertThat(paramSourceCaptor.getValue().getValue("id_0")).isEqualTo(ORIGINAL_ID);
+		assertThat(paramSourceCaptor.getValue().getValue("id_1")).isEqualTo(ORIGINAL_ID + 1);
+	}
+
+	@Test
+	public void upsertUsesSingleStatementIfSupportedByDialect() {
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, PostgresDialect.INSTANCE), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+
+		accessStrategy.upsert(new DummyEntity(ORIGINAL_ID), DummyEntity.class, Identifier.empty());
+
+		verify(namedJdbcOperations).update(sqlCaptor.capture(), paramSourceCaptor.capture());
+
+		assertThat(sqlCaptor.getValue()) //
+				.startsWith("INSERT INTO") //
+				.endsWith("VALUES (:id) ON CONFLICT (\"id\") DO NOTHING");
+		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo(ORIGINAL_ID);
+	}
+
+	@Test
+	public void deleteAllByIdSplitsIdsIntoChunks() {
+
+		List<Long> ids = new ArrayList<>();
+		for (long i = 0; i < SqlGenerator.MAX_IN_LIST_SIZE + 1; i++) {
+			ids.add(i);
+		}
+
+		accessStrategy.deleteAllById(ids, DummyEntity.class);
+
+		verify(namedJdbcOperations, times(2)).update(endsWith("IN (:ids)"), paramSourceCaptor.capture());
+
+		assertThat(paramSourceCaptor.getAllValues()) //
+				.extracting(it -> ((List<?>) it.getValue("ids")).size()) //
+				.containsExactly(SqlGenerator.MAX_IN_LIST_SIZE, 1);
+	}
+
+	@Test
+	public void deleteAllByRootIdsPadsIdsToPowerOfTwo() {
+
+		accessStrategy.deleteAllByRootIds(Arrays.asList(1L, 2L, 3L),
+				context.getPersistentPropertyPath("children", Parent.class));
+
+		verify(namedJdbcOperations).update(endsWith("IN (:rootId)"), paramSourceCaptor.capture());
+		assertThat(paramSourceCaptor.getValue().getValue("rootId")).isEqualTo(Arrays.asList(1L, 2L, 3L, 3L));
+	}
+
+	@Test
+	public void findAllByIdPadsIdsToPowerOfTwo() {
+
+		accessStrategy.findAllById(Arrays.asList(1L, 2L, 3L), DummyEntity.class);
+
+		verify(namedJdbcOperations).query(endsWith("IN (:ids)"), paramSourceCaptor.capture(), any(RowMapper.class));
+		assertThat(paramSourceCaptor.getValue().getValue("ids")).isEqualTo(Arrays.asList(1L, 2L, 3L, 3L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findAllByIdLoadsChunksConcurrentlyInIdOrder() {
+
+		AtomicInteger tasks = new AtomicInteger();
+		accessStrategy.setFindAllByIdChunkSize(2);
+		accessStrategy.setFindAllByIdExecutor(command -> {
+			tasks.incrementAndGet();
+			command.run();
+		});
+		accessStrategy.setFindAllByIdParallelism(2);
+		accessStrategy.setFindAllByIdInIdOrder(true);
+
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenAnswer(invocation -> {
+
+					List<Long> ids = new ArrayList<>((List<Long>) invocation.<SqlParameterSource> getArgument(1).getValue("ids"));
+					Collections.reverse(ids);
+					return ids.stream().distinct().map(DummyEntity::new).collect(Collectors.toList());
+				});
+
+		Iterable<DummyEntity> loaded = accessStrategy.findAllById(Arrays.asList(5L, 1L, 4L, 2L, 3L, 1L), DummyEntity.class);
+
+		assertThat(loaded).extracting(e -> e.id).containsExactly(5L, 1L, 4L, 2L, 3L);
+		assertThat(tasks).hasValue(2);
+		verify(namedJdbcOperations, times(3)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	public void paddingToBucketSizeIsLimitedByMaximumSize() {
+
+		assertThat(DefaultDataAccessStrategy.padToBucketSize(Arrays.asList(1, 2, 3, 4, 5), 6)) //
+				.containsExactly(1, 2, 3, 4, 5, 5);
+		assertThat(DefaultDataAccessStrategy.padToBucketSize(Arrays.asList(1, 2, 3, 4), 6)) //
+				.containsExactly(1, 2, 3, 4);
+		assertThat(DefaultDataAccessStrategy.padToBucketSize(Arrays.asList(1), 6)) //
+				.containsExactly(1);
+	}
+
+	@Test
+	public void insertUsesIdsReservedFromSequence() {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		when(jdbcOperations.queryForObject("CALL NEXT VALUE FOR entity_seq", Long.class)).thenReturn(100L);
+
+		Object firstId = accessStrategy.insert(new EntityWithSequenceId(null), EntityWithSequenceId.class,
+				Identifier.empty());
+		Object secondId = accessStrategy.insert(new EntityWithSequenceId(null), EntityWithSequenceId.class,
+				Identifier.empty());
+
+		assertThat(firstId).isEqualTo(100L);
+		assertThat(secondId).isEqualTo(101L);
+
+		verify(jdbcOperations, times(1)).queryForObject(anyString(), eq(Long.class));
+		verify(namedJdbcOperations, times(2)).update(startsWith("INSERT INTO"), paramSourceCaptor.capture());
+		verify(namedJdbcOperations, never()).update(anyString(), any(SqlParameterSource.class), any(KeyHolder.class));
+
+		assertThat(paramSourceCaptor.getAllValues()).extracting(it -> it.getValue("id")).containsExactly(100L, 101L);
+	}
+
+	@Test
+	public void insertUsesTimeOrderedUuidAsId() {
+
+		Object id = accessStrategy.insert(new EntityWithUuid(null), EntityWithUuid.class, Identifier.empty());
+
+		assertThat(id).isInstanceOf(UUID.class);
+		assertThat(((UUID) id).version()).isEqualTo(7);
+
+		verify(namedJdbcOperations).update(startsWith("INSERT INTO"), paramSourceCaptor.capture());
+		assertThat(paramSourceCaptor.getValue().getValue("id")).isNotNull();
+	}
+
+	@Test
+	public void insertUsesRegisteredIdGenerator() {
+
+		accessStrategy.registerIdGenerator(EntityWithCustomId.class, () -> "custom-id");
+
+		Object id = accessStrategy.insert(new EntityWithCustomId(null), EntityWithCustomId.class, Identifier.empty());
+
+		assertThat(id).isEqualTo("custom-id");
+		verify(namedJdbcOperations).update(startsWith("INSERT INTO"), paramSourceCaptor.capture());
+		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo("custom-id");
+	}
+
+	@Test
+	public void customIdGenerationWithoutRegisteredIdGeneratorFails() {
+
+		assertThatThrownBy(
+				() -> accessStrategy.insert(new EntityWithCustomId(null), EntityWithCustomId.class, Identifier.empty()))
+						.isInstanceOf(IllegalStateException.class) //
+						.hasMessageContaining("No IdGenerator registered");
+	}
+
+	@Test
+	public void sequenceIdGenerationFailsOnFirstAccessIfDialectDoesNotSupportSequences() {
+
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, AnsiDialect.INSTANCE), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+
+		assertThatThrownBy(() -> accessStrategy.findById(1L, EntityWithSequenceId.class)) //
+				.isInstanceOf(IllegalStateException.class) //
+				.hasMessageContaining("does not support sequences");
+	}
+
+	@Test
+	public void batchFetchingLoadsCollectionsOfAllAggregatesWithSingleQuery() throws SQLException {
+
+		accessStrategy.setBatchFetchingEnabled(true);
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		Iterator<ResultSet> resultSets = Arrays.asList( //
+				resultSet(row("ID", 1L, "NAME", "one"), row("ID", 2L, "NAME", "two")), //
+				resultSet(row("CONTENT", "a", "PARENT", 1L), row("CONTENT", "b", "PARENT", 1L),
+						row("CONTENT", "c", "PARENT", 2L)) //
+		).iterator();
+		List<String> statements = new ArrayList<>();
+		when(jdbcOperations.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+				.thenAnswer(invocation -> {
+
+					statements.add(((SqlProvider) invocation.getArgument(0)).getSql());
+					return invocation.<ResultSetExtractor<?>> getArgument(1).extractData(resultSets.next());
+				});
+
+		Iterable<Parent> parents = accessStrategy.findAll(Parent.class);
+
+		assertThat(parents).extracting(p -> p.name).containsExactly("one", "two");
+		assertThat(parents).extracting(p -> p.children.size()).containsExactly(2, 1);
+		assertThat(statements).hasSize(2);
+		assertThat(statements.get(1)).endsWith("WHERE \"CHILD\".\"PARENT\" IN (?, ?)");
+		verify(namedJdbcOperations, never()).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	public void batchFetchingLoadsNestedCollectionsWithSingleQueryPerPath() throws SQLException {
+
+		accessStrategy.setBatchFetchingEnabled(true);
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		Iterator<ResultSet> resultSets = Arrays.asList( //
+				resultSet(row("ID", 1L, "NAME", "one"), row("ID", 2L, "NAME", "two")), //
+				resultSet(row("ID", 10L, "NAME", "ten", "DEPARTMENT", 1L), row("ID", 11L, "NAME", "eleven", "DEPARTMENT", 1L),
+						row("ID", 20L, "NAME", "twenty", "DEPARTMENT", 2L)), //
+				resultSet(row("NAME", "a", "TEAM", 10L), row("NAME", "b", "TEAM", 11L), row("NAME", "c", "TEAM", 20L),
+						row("NAME", "d", "TEAM", 20L)) //
+		).iterator();
+		List<String> statements = new ArrayList<>();
+		when(jdbcOperations.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+				.thenAnswer(invocation -> {
+
+					statements.add(((SqlProvider) invocation.getArgument(0)).getSql());
+					return invocation.<ResultSetExtractor<?>> getArgument(1).extractData(resultSets.next());
+				});
+
+		Iterable<Department> departments = accessStrategy.findAll(Department.class);
+
+		assertThat(departments).extracting(d -> d.teams.size()).containsExactly(2, 1);
+		assertThat(departments).flatExtracting(d -> d.teams).extracting(t -> t.members.size()) //
+				.containsExactlyInAnyOrder(1, 1, 2);
+		assertThat(statements).hasSize(3);
+		assertThat(statements.get(1)).contains("\"TEAM\".\"DEPARTMENT\" IN (");
+		assertThat(statements.get(2)).contains("\"MEMBER\".\"TEAM\" IN (");
+		verify(namedJdbcOperations, never()).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	public void streamAllLoadsAggregatesPerWindowInIdOrder() throws SQLException {
+
+		List<String> statements = new ArrayList<>();
+		DefaultDataAccessStrategy accessStrategy = streamingAccessStrategy(statements, //
+				resultSet(row("ID", 1L), row("ID", 3L)), //
+				resultSet(row("ID", 5L), row("ID", 2L)), //
+				resultSet(row("ID", 4L)));
+
+		try (Stream<DummyEntity> stream = accessStrategy.streamAll(DummyEntity.class, Sort.unsorted())) {
+
+			Iterator<DummyEntity> iterator = stream.iterator();
+
+			assertThat(iterator.next().id).isEqualTo(3L);
+			assertThat(statements).hasSize(1);
+
+			List<Long> remaining = new ArrayList<>();
+			iterator.forEachRemaining(entity -> remaining.add(entity.id));
+
+			assertThat(remaining).containsExactly(1L, 2L, 5L, 4L);
+		}
+
+		assertThat(statements).hasSize(3).allSatisfy(sql -> assertThat(sql).contains("IN ("));
+		verify(cursorStatement).setFetchSize(2);
+	}
+
+	@Test
+	public void streamAllReleasesCursorWhenClosedEarly() throws SQLException {
+
+		List<String> statements = new ArrayList<>();
+		DefaultDataAccessStrategy accessStrategy = streamingAccessStrategy(statements, //
+				resultSet(row("ID", 3L), row("ID", 1L)));
+
+		Stream<DummyEntity> stream = accessStrategy.streamAll(DummyEntity.class, Sort.unsorted());
+
+		assertThat(stream.iterator().next().id).isEqualTo(3L);
+
+		stream.close();
+
+		assertThat(statements).hasSize(1);
+		verify(idResultSet).close();
+		verify(cursorStatement).close();
+		verify(cursorConnection).close();
+	}
+
+	@Test
+	public void keysetPositionWithNullValueGetsRejected() {
+
+		Map<String, Object> keys = new HashMap<>();
+		keys.put("id", null);
+
+		assertThatThrownBy(() -> accessStrategy.findAll(DummyEntity.class, KeysetScrollPosition.of(keys),
+				Sort.by("id"), 10)) //
+						.isInstanceOf(InvalidDataAccessApiUsageException.class) //
+						.hasMessageContaining("null");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findPageTakesTotalFromWindowedCount() throws SQLException {
+
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, PostgresDialect.INSTANCE), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+		accessStrategy.setWindowedCountEnabled(true);
+
+		ResultSet resultSet = resultSet(row("ID", 1L), row("ID", 2L));
+		when(resultSet.getLong("relational_total_count")).thenReturn(42L);
+		when(namedJdbcOperations.query(anyString(), any(RowMapper.class))).thenAnswer(invocation -> {
+
+			RowMapper<?> rowMapper = invocation.getArgument(1);
+			List<Object> result = new ArrayList<>();
+			while (resultSet.next()) {
+				result.add(rowMapper.mapRow(resultSet, result.size()));
+			}
+			return result;
+		});
+
+		Page<DummyEntity> page = accessStrategy.findPage(DummyEntity.class, PageRequest.of(0, 2));
+
+		assertThat(page.getContent()).extracting(e -> e.id).containsExactly(1L, 2L);
+		assertThat(page.getTotalElements()).isEqualTo(42L);
+		verify(namedJdbcOperations).query(contains("COUNT(*) OVER()"), any(RowMapper.class));
+		verify(jdbcOperations, never()).queryForObject(anyString(), eq(Long.class));
+	}
+
+	@Test
+	public void singleQueryLoadingReadsAggregatesFromJoinedRows() throws SQLException {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		ResultSet resultSet = resultSet( //
+				row("ID", 1L, "TITLE", "one", //
+						"POSTS_ID", 10L, "POSTS_TEXT", "second", "POSTS_BLOG", 1L, "POSTS_BLOG_KEY", 1), //
+				row("ID", 1L, "TITLE", "one", //
+						"POSTS_ID", 11L, "POSTS_TEXT", "first", "POSTS_BLOG", 1L, "POSTS_BLOG_KEY", 0), //
+				row("ID", 2L, "TITLE", "two"));
+		List<String> statements = new ArrayList<>();
+		when(jdbcOperations.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+				.thenAnswer(invocation -> {
+
+					statements.add(((SqlProvider) invocation.getArgument(0)).getSql());
+					return invocation.<ResultSetExtractor<?>> getArgument(1).extractData(resultSet);
+				});
+
+		Iterable<Blog> blogs = accessStrategy.findAll(Blog.class);
+
+		assertThat(blogs).extracting(b -> b.title).containsExactly("one", "two");
+		assertThat(blogs.iterator().next().posts).extracting(p -> p.text).containsExactly("first", "second");
+		assertThat(statements).hasSize(1);
+		assertThat(statements.get(0)).contains("LEFT OUTER JOIN \"POST\" AS \"posts\"");
+		verify(namedJdbcOperations, never()).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	/**
+	 * Makes the {@link JdbcOperations} execute {@link ConnectionCallback}s with a {@link Connection} to a database with the
+	 * given product name, supporting batch updates and generated keys.
+	 */
+	@SuppressWarnings("unchecked")
+	/**
+	 * Creates a {@link DefaultDataAccessStrategy} streaming the ids 3, 1, 2, 5, 4 with a window size of 2 and loading the
+	 * windows from the given {@link ResultSet}s.
+	 */
+	@SuppressWarnings("unchecked")
+	private DefaultDataAccessStrategy streamingAccessStrategy(List<String> statements, ResultSet... windows)
+			throws SQLException {
+
+		when(dataSource.getConnection()).thenReturn(cursorConnection);
+		when(cursorConnection.prepareStatement(anyString())).thenReturn(cursorStatement);
+		when(cursorStatement.executeQuery()).thenReturn(idResultSet);
+		when(idResultSet.next()).thenReturn(true, true, true, true, true, false);
+		when(idResultSet.getObject(1)).thenReturn(3L, 1L, 2L, 5L, 4L);
+
+		JdbcTemplate jdbcTemplate = spy(new JdbcTemplate(dataSource));
+		Iterator<ResultSet> windowResults = Arrays.asList(windows).iterator();
+		doAnswer(invocation -> {
+
+			statements.add(((SqlProvider) invocation.getArgument(0)).getSql());
+			return invocation.<ResultSetExtractor<?>> getArgument(1).extractData(windowResults.next());
+		}).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class));
+
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, HsqlDbDialect.INSTANCE), //
+				context, //
+				converter, //
+				new NamedParameterJdbcTemplate(jdbcTemplate));
+		accessStrategy.setStreamingWindowSize(2);
+
+		return accessStrategy;
+	}
+
+	private Connection connectionTo(String databaseProductName) throws SQLException {
+
+		Connection connection = mock(Connection.class);
+		DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+
+		when(connection.getMetaData()).thenReturn(metaData);
+		when(metaData.supportsBatchUpdates()).thenReturn(true);
+		when(metaData.supportsGetGeneratedKeys()).thenReturn(true);
+		when(metaData.getDatabaseProductName()).thenReturn(databaseProductName);
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		when(jdbcOperations.execute(any(ConnectionCallback.class)))
+				.thenAnswer(invocation -> invocation.<ConnectionCallback<?>> getArgument(0).doInConnection(connection));
+
+		return connection;
+	}
+
+	private static ResultSet generatedKeys(Object... keys) throws SQLException {
+
+		AtomicInteger cursor = new AtomicInteger(-1);
+		ResultSet resultSet = mock(ResultSet.class);
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+
+		when(resultSet.getMetaData()).thenReturn(metaData);
+		when(metaData.getColumnCount()).thenReturn(1);
+		when(metaData.getColumnLabel(1)).thenReturn("ID");
+		when(resultSet.next()).thenAnswer(invocation -> cursor.incrementAndGet() < keys.length);
+		when(resultSet.getObject(1)).thenAnswer(invocation -> keys[cursor.get()]);
+
+		return resultSet;
+	}
+
+	private static Map<String, Object> row(Object... keysAndValues) {
+
+		Map<String, Object> row = new LinkedCaseInsensitiveMap<>();
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			row.put((String) keysAndValues[i], keysAndValues[i + 1]);
+		}
+		return row;
+	}
+
+	/**
+	 * Creates a scrollable {@link ResultSet} supporting just the methods used for reading entities.
+	 */
+	@SafeVarargs
+	private static ResultSet resultSet(Map<String, Object>... rows) throws SQLException {
+
+		AtomicInteger cursor = new AtomicInteger(-1);
+		ResultSet resultSet = mock(ResultSet.class);
+
+		when(resultSet.getType()).thenReturn(ResultSet.TYPE_SCROLL_INSENSITIVE);
+		when(resultSet.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rows.length);
+		doAnswer(invocation -> {
+			cursor.set(-1);
+			return null;
+		}).when(resultSet).beforeFirst();
+		when(resultSet.getObject(anyString()))
+				.thenAnswer(invocation -> rows[cursor.get()].get(invocation.<String> getArgument(0)));
+		when(resultSet.getRow()).thenAnswer(invocation -> cursor.get() + 1);
+		when(resultSet.absolute(anyInt())).thenAnswer(invocation -> {
+			cursor.set(invocation.<Integer> getArgument(0) - 1);
+			return true;
+		});
+
+		return resultSet;
+	}
+
 	@RequiredArgsConstructor
 	private static class DummyEntity {
 
@@ -152,6 +723,69 @@ public class DefaultDataAccessStrategyUnitTests {
 		boolean flag;
 	}
 
+	private static class Parent {
+
+		@Id Long id;
+		String name;
+		Set<Child> children;
+	}
+
+	private static class Child {
+
+		String content;
+	}
+
+	private static class Department {
+
+		@Id Long id;
+		String name;
+		Set<Team> teams;
+	}
+
+	private static class Team {
+
+		@Id Long id;
+		String name;
+		Set<Member> members;
+	}
+
+	private static class Member {
+
+		String name;
+	}
+
+	@SingleQueryLoading
+	private static class Blog {
+
+		@Id Long id;
+		String title;
+		List<Post> posts;
+	}
+
+	private static class Post {
+
+		@Id Long id;
+		String text;
+	}
+
+	@RequiredArgsConstructor
+	private static class EntityWithSequenceId {
+
+		@Id @IdGeneration(sequence = "entity_seq", allocationSize = 50) private final Long id;
+	}
+
+	@RequiredArgsConstructor
+	private static class EntityWithUuid {
+
+		@Id @IdGeneration(strategy = IdGeneration.Strategy.TIME_ORDERED_UUID) private final UUID id;
+	}
+
+	@RequiredArgsConstructor
+	private static class EntityWithCustomId {
+
+		@Id @IdGeneration(strategy = IdGeneration.Strategy.CUSTOM) private final String id;
+	}
+
 	@WritingConverter
 	enum BooleanToStringConverter implements Converter<Boolean, String> {
 
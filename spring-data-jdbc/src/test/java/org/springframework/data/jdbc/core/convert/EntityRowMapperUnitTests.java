@@ -31,6 +31,7 @@ import lombok.Value;
 import lombok.With;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -48,8 +49,10 @@ import org.junit.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.PersistenceConstructor;
+import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.mapping.PersistentPropertyPath;
@@ -101,6 +104,60 @@ public class EntityRowMapperUnitTests {
 				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
 	}
 
+	@Test
+	public void readsColumnsByPositionResolvedOncePerResultSet() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "beta");
+		EntityRowMapper<Trivial> rowMapper = createRowMapper(Trivial.class);
+
+		rs.next();
+		Trivial first = rowMapper.mapRow(rs, 0);
+		rs.next();
+		Trivial second = rowMapper.mapRow(rs, 1);
+
+		assertThat(first.name).isEqualTo("alpha");
+		assertThat(second.name).isEqualTo("beta");
+		verify(rs, times(1)).getMetaData();
+		verify(rs, never()).getObject(anyString());
+	}
+
+	@Test
+	public void valuesOfOtherTypesStillGetConvertedWhenReadingByPosition() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", //
+				4711, "beta");
+		EntityRowMapper<Trivial> rowMapper = createRowMapper(Trivial.class);
+
+		rs.next();
+		Trivial first = rowMapper.mapRow(rs, 0);
+		rs.next();
+		Trivial second = rowMapper.mapRow(rs, 1);
+
+		assertThat(first.id).isEqualTo(ID_FOR_ENTITY_NOT_REFERENCING_MAP);
+		assertThat(second.id).isEqualTo(4711L);
+	}
+
+	@Test
+	public void customReadConvertersGetAppliedToEveryRowWhenReadingByPosition() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, " beta ");
+		EntityRowMapper<Trivial> rowMapper = createRowMapper(Trivial.class, NamingStrategy.INSTANCE,
+				new JdbcCustomConversions(singletonList(TrimmingConverter.INSTANCE)));
+
+		rs.next();
+		Trivial first = rowMapper.mapRow(rs, 0);
+		rs.next();
+		Trivial second = rowMapper.mapRow(rs, 1);
+
+		assertThat(first.name).isEqualTo("alpha");
+		assertThat(second.name).isEqualTo("beta");
+	}
+
 	@Test // DATAJDBC-181
 	public void namingStrategyGetsHonored() throws SQLException {
 
@@ -598,12 +655,28 @@ public class EntityRowMapperUnitTests {
 		return new FixtureBuilder<>();
 	}
 
+	@ReadingConverter
+	enum TrimmingConverter implements Converter<String, String> {
+
+		INSTANCE;
+
+		@Override
+		public String convert(String source) {
+			return source.trim();
+		}
+	}
+
 	private <T> EntityRowMapper<T> createRowMapper(Class<T> type) {
 		return createRowMapper(type, NamingStrategy.INSTANCE);
 	}
 
-	@SuppressWarnings("unchecked")
 	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy) {
+		return createRowMapper(type, namingStrategy, new JdbcCustomConversions());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy,
+			JdbcCustomConversions conversions) {
 
 		RelationalMappingContext context = new JdbcMappingContext(namingStrategy);
 
@@ -630,7 +703,7 @@ public class EntityRowMapperUnitTests {
 
 		
 
-		BasicJdbcConverter converter = new BasicJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
+		BasicJdbcConverter converter = new BasicJdbcConverter(context, accessStrategy, conversions,
 				JdbcTypeFactory.unsupported());
 
 		return new EntityRowMapper<>( //
@@ -691,7 +764,10 @@ public class EntityRowMapperUnitTests {
 				case "next":
 					return next();
 				case "getObject":
-					return getObject(invocation.getArgument(0));
+					Object column = invocation.getArgument(0);
+					return column instanceof Integer ? getObject((Integer) column) : getObject((String) column);
+				case "getMetaData":
+					return getMetaData();
 				case "isAfterLast":
 					return isAfterLast();
 				case "isBeforeFirst":
@@ -724,6 +800,32 @@ public class EntityRowMapperUnitTests {
 			return rowMap.get(column);
 		}
 
+		private Object getObject(int columnIndex) throws SQLException {
+			return getObject(getColumns().get(columnIndex - 1));
+		}
+
+		private List<String> getColumns() {
+			return values.isEmpty() ? emptyList() : new ArrayList<>(values.get(0).keySet());
+		}
+
+		private ResultSetMetaData getMetaData() {
+
+			List<String> columns = getColumns();
+
+			return mock(ResultSetMetaData.class, invocation -> {
+
+				switch (invocation.getMethod().getName()) {
+					case "getColumnCount":
+						return columns.size();
+					case "getColumnLabel":
+					case "getColumnName":
+						return columns.get(invocation.<Integer> getArgument(0) - 1);
+					default:
+						throw new OperationNotSupportedException(invocation.getMethod().getName());
+				}
+			});
+		}
+
 		private boolean next() {
 
 			index++;
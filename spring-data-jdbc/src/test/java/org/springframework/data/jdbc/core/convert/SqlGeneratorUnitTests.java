@@ -19,6 +19,8 @@ import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -39,6 +41,8 @@ import org.springframework.data.jdbc.core.mapping.PersistentPropertyPathTestUtil
 import org.springframework.data.jdbc.testing.AnsiDialect;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.MultiRowInserts;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
@@ -126,6 +130,15 @@ public class SqlGeneratorUnitTests {
 				"DELETE FROM second_level_referenced_entity WHERE second_level_referenced_entity.referenced_entity IN (SELECT referenced_entity.x_l1id FROM referenced_entity WHERE referenced_entity.dummy_entity = :rootId)");
 	}
 
+	@Test
+	public void cascadingDeleteForMultipleRoots() {
+
+		String sql = sqlGenerator.createDeleteInByPath(getPath("ref.further", DummyEntity.class));
+
+		assertThat(sql).isEqualTo(
+				"DELETE FROM second_level_referenced_entity WHERE second_level_referenced_entity.referenced_entity IN (SELECT referenced_entity.x_l1id FROM referenced_entity WHERE referenced_entity.dummy_entity IN (:rootId))");
+	}
+
 	@Test // DATAJDBC-112
 	public void deleteAll() {
 
@@ -194,6 +207,14 @@ public class SqlGeneratorUnitTests {
 				"ORDER BY x_name ASC");
 	}
 
+	@Test
+	public void findAllIdsSelectsOnlyTheIdSorted() {
+
+		String sql = sqlGenerator.getFindAllIds(Sort.by(Sort.Direction.DESC, "x_name"));
+
+		assertThat(sql).isEqualTo("SELECT dummy_entity.id1 FROM dummy_entity ORDER BY x_name DESC");
+	}
+
 	@Test // DATAJDBC-101
 	public void findAllSortedByMultipleFields() {
 
@@ -264,6 +285,68 @@ public class SqlGeneratorUnitTests {
 				"LIMIT 10");
 	}
 
+	@Test
+	public void findAllByKeysetForFirstWindow() {
+
+		String sql = sqlGenerator.getFindAllByKeyset(Sort.by("name", "id"), false, 10);
+
+		assertThat(sql).contains("FROM dummy_entity ", //
+				"ORDER BY x_name ASC, id1 ASC", //
+				"LIMIT 10") //
+				.doesNotContain("WHERE", "OFFSET");
+	}
+
+	@Test
+	public void findAllByKeysetComparesColumnsOneByOne() {
+
+		String sql = sqlGenerator.getFindAllByKeyset(Sort.by(Sort.Order.desc("name"), Sort.Order.asc("id")), true, 10);
+
+		assertThat(sql).contains(
+				"WHERE dummy_entity.x_name < :x_name OR (dummy_entity.x_name = :x_name AND dummy_entity.id1 > :id1)", //
+				"ORDER BY x_name DESC, id1 ASC", //
+				"LIMIT 10");
+	}
+
+	@Test
+	public void findAllByKeysetUsesRowValueComparisonIfSupported() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, PostgresDialect.INSTANCE);
+
+		String sql = sqlGenerator.getFindAllByKeyset(Sort.by("name", "id"), true, 10);
+
+		assertThat(sql).contains("WHERE (\"dummy_entity\".\"x_name\", \"dummy_entity\".\"id1\") > (:x_name, :id1)", //
+				"LIMIT 10");
+	}
+
+	@Test
+	public void findAllByKeysetFallsBackToSimpleComparisonsForMixedDirections() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, PostgresDialect.INSTANCE);
+
+		String sql = sqlGenerator.getFindAllByKeyset(Sort.by(Sort.Order.desc("name"), Sort.Order.asc("id")), true, 10);
+
+		assertThat(sql).contains("WHERE \"dummy_entity\".\"x_name\" < :x_name OR (");
+	}
+
+	@Test
+	public void rowCountEstimateIsProvidedByTheDialect() {
+
+		assertThat(createSqlGenerator(DummyEntity.class, PostgresDialect.INSTANCE).getRowCountEstimate())
+				.contains("pg_class");
+		assertThat(sqlGenerator.getRowCountEstimate()).isNull();
+	}
+
+	@Test
+	public void findAllWithTotalCountSelectsWindowedCount() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, PostgresDialect.INSTANCE);
+
+		String sql = sqlGenerator.getFindAllWithTotalCount(PageRequest.of(1, 10));
+
+		assertThat(sql).contains("COUNT(*) OVER() AS relational_total_count FROM", "LIMIT 10 OFFSET 10");
+		assertThat(this.sqlGenerator.getFindAllWithTotalCount(PageRequest.of(1, 10))).isNull();
+	}
+
 	@Test // DATAJDBC-131, DATAJDBC-111
 	public void findAllByProperty() {
 
@@ -346,6 +429,74 @@ public class SqlGeneratorUnitTests {
 				+ "WHERE dummy_entity.backref = :backref " + "ORDER BY key-column");
 	}
 
+	@Test
+	public void findAllByBackReferenceInWithKeyOrdered() {
+
+		String sql = sqlGenerator.getFindAllByBackReferenceIn(unquoted("backref"), unquoted("key-column"), true);
+
+		assertThat(sql).isEqualTo("SELECT dummy_entity.id1 AS id1, dummy_entity.x_name AS x_name, " //
+				+ "dummy_entity.x_other AS x_other, " //
+				+ "ref.x_l1id AS ref_x_l1id, ref.x_content AS ref_x_content, "
+				+ "ref_further.x_l2id AS ref_further_x_l2id, ref_further.x_something AS ref_further_x_something, " //
+				+ "dummy_entity.backref AS backref, dummy_entity.key-column AS key-column " //
+				+ "FROM dummy_entity " //
+				+ "LEFT OUTER JOIN referenced_entity AS ref ON ref.dummy_entity = dummy_entity.id1 " //
+				+ "LEFT OUTER JOIN second_level_referenced_entity AS ref_further ON ref_further.referenced_entity = ref.x_l1id " //
+				+ "WHERE dummy_entity.backref IN (:ids) " + "ORDER BY key-column");
+	}
+
+	@Test
+	public void findOneWithCollectionsJoinsAllTablesOfTheAggregate() {
+
+		String sql = sqlGenerator.getFindOneWithCollections();
+
+		assertThat(sql).startsWith("SELECT") //
+				.contains("dummy_entity.x_name AS x_name") //
+				.contains("ref_further.x_something AS ref_further_x_something") //
+				.contains("elements.x_content AS elements_x_content") //
+				.contains("elements.dummy_entity AS elements_dummy_entity") //
+				.contains("mappedElements.dummy_entity_key AS mappedElements_dummy_entity_key") //
+				.contains("LEFT OUTER JOIN referenced_entity AS ref ON ref.dummy_entity = dummy_entity.id1") //
+				.contains("LEFT OUTER JOIN element AS elements ON elements.dummy_entity = dummy_entity.id1") //
+				.contains("LEFT OUTER JOIN element AS mappedElements ON mappedElements.dummy_entity = dummy_entity.id1") //
+				.endsWith("WHERE dummy_entity.id1 = :id");
+	}
+
+	@Test
+	public void findAllInListWithCollectionsSelectsByIds() {
+		assertThat(sqlGenerator.getFindAllInListWithCollections()).endsWith("WHERE dummy_entity.id1 IN (:ids)");
+	}
+
+	@Test
+	public void idListsGetComparedAsArrayIfSupportedByDialect() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, PostgresDialect.INSTANCE);
+
+		assertThat(sqlGenerator.isIdListBoundAsArray()).isTrue();
+		assertThat(sqlGenerator.getFindAllInList()).endsWith("WHERE \"dummy_entity\".\"id1\" = ANY(:ids)");
+		assertThat(sqlGenerator.getDeleteByList()).endsWith("WHERE \"dummy_entity\".\"id1\" = ANY(:ids)");
+		assertThat(sqlGenerator.createDeleteInByPath(getPath("ref", DummyEntity.class)))
+				.endsWith("WHERE \"referenced_entity\".\"dummy_entity\" = ANY(:rootId)");
+		assertThat(this.sqlGenerator.isIdListBoundAsArray()).isFalse();
+	}
+
+	@Test
+	public void singleQueryLoadingIsSupportedForEntitiesJoinedByTheirParentsId() {
+
+		assertThat(sqlGenerator.isSingleQueryLoadingSupported()).isTrue();
+		assertThat(createSqlGenerator(ParentOfNoIdChild.class).isSingleQueryLoadingSupported()).isTrue();
+	}
+
+	@Test
+	public void singleQueryLoadingIsNotSupportedForEntitiesBelowElementsWithoutId() {
+		assertThat(createSqlGenerator(ParentOfNoIdElements.class).isSingleQueryLoadingSupported()).isFalse();
+	}
+
+	@Test
+	public void singleQueryLoadingIsNotSupportedForSetOfElementsWithoutIdNextToOtherCollections() {
+		assertThat(createSqlGenerator(SetOfNoIdElementsAndOtherSet.class).isSingleQueryLoadingSupported()).isFalse();
+	}
+
 	@Test // DATAJDBC-219
 	public void updateWithVersion() {
 
@@ -382,6 +533,48 @@ public class SqlGeneratorUnitTests {
 				+ "(\"test\"\"_@123\") " + "VALUES (:test_123)");
 	}
 
+	@Test
+	public void insertGetsCachedPerSetOfAdditionalColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+
+		Set<SqlIdentifier> additionalColumns = new HashSet<>(singleton(SqlIdentifier.unquoted("BACKREF")));
+
+		String first = sqlGenerator.getInsert(additionalColumns);
+		String second = sqlGenerator.getInsert(new HashSet<>(singleton(SqlIdentifier.unquoted("BACKREF"))));
+		String other = sqlGenerator.getInsert(emptySet());
+
+		assertThat(second).isSameAs(first);
+		assertThat(first).contains(":BACKREF");
+		assertThat(other).doesNotContain("BACKREF");
+
+		additionalColumns.clear();
+
+		assertThat(sqlGenerator.getInsert(singleton(SqlIdentifier.unquoted("BACKREF")))).isSameAs(first);
+	}
+
+	@Test
+	public void onlyMultiRowInsertsForTheMaximumNumberOfRowsGetCached() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, new AnsiDialect() {
+
+			@Override
+			public MultiRowInserts getMultiRowInsertSupport() {
+				return MultiRowInserts.supported(3, 100);
+			}
+		});
+
+		Set<SqlIdentifier> columns = singleton(SqlIdentifier.unquoted("id1"));
+		assertThat(sqlGenerator.getMaxRowsPerInsert(columns.size())).isEqualTo(3);
+
+		String full = sqlGenerator.getInsert(columns, 3);
+		String partial = sqlGenerator.getInsert(columns, 2);
+
+		assertThat(sqlGenerator.getInsert(columns, 3)).isSameAs(full);
+		assertThat(sqlGenerator.getInsert(columns, 2)).isEqualTo(partial).isNotSameAs(partial);
+		assertThat(partial.toLowerCase()).contains(":id1_1").doesNotContain(":id1_2");
+	}
+
 	@Test // DATAJDBC-266
 	public void joinForOneToOneWithoutIdIncludesTheBackReferenceOfTheOuterJoin() {
 
@@ -406,6 +599,52 @@ public class SqlGeneratorUnitTests {
 				"\"id1\" = :id1");
 	}
 
+	@Test
+	public void partialUpdateOnlyAssignsGivenColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+
+		String update = sqlGenerator.getUpdate(singleton(getColumnName(DummyEntity.class, "name")));
+
+		assertThat(update).isEqualTo("UPDATE \"DUMMY_ENTITY\" " //
+				+ "SET \"X_NAME\" = :X_NAME " //
+				+ "WHERE \"DUMMY_ENTITY\".\"id1\" = :id1");
+	}
+
+	@Test
+	public void partialUpdateGetsCached() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+
+		String first = sqlGenerator.getUpdate(singleton(getColumnName(DummyEntity.class, "name")));
+		String second = sqlGenerator.getUpdate(singleton(getColumnName(DummyEntity.class, "name")));
+
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	public void partialUpdateWithoutUpdateableColumnsUpdatesAllColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+
+		String update = sqlGenerator.getUpdate(singleton(getColumnName(DummyEntity.class, "id")));
+
+		assertThat(update).isEqualTo(sqlGenerator.getUpdate());
+	}
+
+	@Test
+	public void partialUpdateWithVersionAlwaysAssignsVersion() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(VersionedEntity.class, AnsiDialect.INSTANCE);
+
+		String update = sqlGenerator.getUpdateWithVersion(singleton(getColumnName(VersionedEntity.class, "name")));
+
+		assertThat(update) //
+				.contains("\"X_NAME\" = :X_NAME", "\"X_VERSION\" = :X_VERSION") //
+				.doesNotContain("X_OTHER") //
+				.endsWith("AND \"VERSIONED_ENTITY\".\"X_VERSION\" = :___oldOptimisticLockingVersion");
+	}
+
 	@Test // DATAJDBC-324
 	public void readOnlyPropertyExcludedFromQuery_when_generateUpdateSql() {
 
@@ -668,6 +907,10 @@ public class SqlGeneratorUnitTests {
 				.getColumn(new PersistentPropertyPathExtension(context, PropertyPathTestingUtils.toPath(path, type, context)));
 	}
 
+	private SqlIdentifier getColumnName(Class<?> type, String propertyName) {
+		return context.getRequiredPersistentEntity(type).getRequiredPersistentProperty(propertyName).getColumnName();
+	}
+
 	private PersistentPropertyPath<RelationalPersistentProperty> getPath(String path, Class<?> baseType) {
 		return PersistentPropertyPathTestUtils.getPath(context, path, baseType);
 	}
@@ -716,6 +959,21 @@ public class SqlGeneratorUnitTests {
 
 	static class NoIdChild {}
 
+	@SuppressWarnings("unused")
+	static class ParentOfNoIdElements {
+
+		@Id Long id;
+		List<NoIdChain1> elements;
+	}
+
+	@SuppressWarnings("unused")
+	static class SetOfNoIdElementsAndOtherSet {
+
+		@Id Long id;
+		Set<NoIdChain0> noIdElements;
+		Set<Element> elements;
+	}
+
 	static class OtherAggregate {
 		@Id Long id;
 		String name;
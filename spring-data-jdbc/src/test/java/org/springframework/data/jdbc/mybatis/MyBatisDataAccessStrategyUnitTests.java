@@ -25,6 +25,7 @@ import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 import java.util.Collections;
 
 import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.Before;
 import org.junit.Test;
@@ -40,6 +41,7 @@ import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.domain.Identifier;
+import org.springframework.data.relational.domain.KeysetScrollPosition;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 
 /**
@@ -446,6 +448,59 @@ public class MyBatisDataAccessStrategyUnitTests {
 				);
 	}
 
+	@Test // DATAJDBC-101
+	public void findAllByKeyset() {
+
+		Configuration configuration = mock(Configuration.class);
+		doReturn(configuration).when(session).getConfiguration();
+		doReturn(true).when(configuration).hasStatement("java.lang.StringMapper.findAllByKeyset", false);
+
+		KeysetScrollPosition position = KeysetScrollPosition.of(singletonMap("length", 3));
+		accessStrategy.findAll(String.class, position, Sort.by("length"), 21);
+
+		verify(session).selectList(eq("java.lang.StringMapper.findAllByKeyset"), captor.capture());
+
+		assertThat(captor.getValue()) //
+				.isNotNull() //
+				.extracting( //
+						MyBatisContext::getDomainType, //
+						c -> c.get("position"), //
+						c -> c.get("sort"), //
+						c -> c.get("limit") //
+				).containsExactly( //
+						String.class, //
+						position, //
+						Sort.by("length"), //
+						21 //
+				);
+	}
+
+	@Test // DATAJDBC-101
+	public void findAllByKeysetFiltersSortedResultsWithoutMappedStatement() {
+
+		doReturn(new Configuration()).when(session).getConfiguration();
+		doReturn(asList(new NamedEntity("d"), new NamedEntity("c"), new NamedEntity("b"), new NamedEntity("a")))
+				.when(session).selectList(endsWith("$NamedEntityMapper.findAllSorted"), any());
+
+		Iterable<NamedEntity> result = accessStrategy.findAll(NamedEntity.class,
+				KeysetScrollPosition.of(singletonMap("name", "d")), Sort.by(Sort.Direction.DESC, "name"), 2);
+
+		assertThat(result).extracting(e -> e.name).containsExactly("c", "b");
+	}
+
+	@Test // DATAJDBC-101
+	public void findAllByKeysetStartsAtFirstResultForInitialPositionWithoutMappedStatement() {
+
+		doReturn(new Configuration()).when(session).getConfiguration();
+		doReturn(asList(new NamedEntity("a"), new NamedEntity("b"), new NamedEntity("c"))).when(session)
+				.selectList(endsWith("$NamedEntityMapper.findAllSorted"), any());
+
+		Iterable<NamedEntity> result = accessStrategy.findAll(NamedEntity.class, KeysetScrollPosition.initial(),
+				Sort.by("name"), 2);
+
+		assertThat(result).extracting(e -> e.name).containsExactly("a", "b");
+	}
+
 	@SuppressWarnings("unused")
 	private static class DummyEntity {
 		ChildOne one;
@@ -457,4 +512,13 @@ public class MyBatisDataAccessStrategyUnitTests {
 	}
 
 	private static class ChildTwo {}
+
+	private static class NamedEntity {
+
+		final String name;
+
+		NamedEntity(String name) {
+			this.name = name;
+		}
+	}
 }
@@ -127,8 +127,8 @@ public class SimpleJdbcRepositoryEventsUnitTests {
 				.extracting(e -> (Class) e.getClass()) //
 				.containsExactly( //
 						BeforeSaveEvent.class, //
-						RelationalEventWithIdAndEntity.class, //
 						BeforeSaveEvent.class, //
+						RelationalEventWithIdAndEntity.class, //
 						RelationalEventWithIdAndEntity.class //
 				);
 	}
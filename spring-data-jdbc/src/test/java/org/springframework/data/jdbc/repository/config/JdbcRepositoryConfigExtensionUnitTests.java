@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.*;
 import java.util.Collection;
 
 import org.junit.Test;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.core.env.Environment;
@@ -27,6 +28,7 @@ import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.type.StandardAnnotationMetadata;
+import org.springframework.data.jdbc.repository.support.JdbcRepositoryFactoryBean;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
@@ -60,6 +62,23 @@ public class JdbcRepositoryConfigExtensionUnitTests {
 				.containsExactly(SampleRepository.class.getName());
 	}
 
+	@Test
+	public void passesIdentityMapEnabledToFactoryBean() {
+
+		BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(JdbcRepositoryFactoryBean.class);
+
+		new JdbcRepositoryConfigExtension().postProcess(builder,
+				new AnnotationRepositoryConfigurationSource(new StandardAnnotationMetadata(IdentityMapConfig.class, true),
+						EnableJdbcRepositories.class, loader, environment, registry));
+
+		assertThat(builder.getBeanDefinition().getPropertyValues().get("identityMapEnabled")).isEqualTo(true);
+	}
+
+	@EnableJdbcRepositories(identityMapEnabled = true)
+	static class IdentityMapConfig {
+
+	}
+
 	@EnableJdbcRepositories(considerNestedRepositories = true)
 	static class Config {
 
@@ -21,6 +21,10 @@ import static org.mockito.Mockito.*;
 
 import java.sql.ResultSet;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -32,10 +36,12 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
+import org.springframework.data.jdbc.repository.query.CachedQuery;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.event.AfterLoadCallback;
 import org.springframework.data.relational.core.mapping.event.RelationalEventWithIdAndEntity;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.repository.query.DefaultParameters;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.jdbc.core.ResultSetExtractor;
@@ -210,12 +216,105 @@ public class JdbcRepositoryQueryUnitTests {
 
 	}
 
+	@Test
+	public void streamQueryPublishesCallbacksWhileStreamGetsConsumed() {
+
+		doReturn("some sql statement").when(queryMethod).getDeclaredQuery();
+		doReturn(true).when(queryMethod).isStreamQuery();
+		DummyEntity first = new DummyEntity(1L);
+		DummyEntity second = new DummyEntity(2L);
+		doReturn(Arrays.asList(first, second)).when(operations).query(anyString(), any(SqlParameterSource.class),
+				any(RowMapper.class));
+		doReturn(true).when(context).hasPersistentEntityFor(DummyEntity.class);
+
+		Stream<?> result = (Stream<?>) new JdbcRepositoryQuery(publisher, callbacks, context, queryMethod, operations,
+				defaultRowMapper, converter).execute(new Object[] {});
+
+		verify(callbacks, never()).callback(eq(AfterLoadCallback.class), any());
+
+		Iterator<?> iterator = result.iterator();
+		iterator.next();
+
+		verify(callbacks).callback(AfterLoadCallback.class, first);
+		verify(callbacks, never()).callback(AfterLoadCallback.class, second);
+	}
+
+	@Test
+	public void cachedQueryReusesResultsUntilTheTableGetsWritten() throws NoSuchMethodException {
+
+		doReturn("SELECT * FROM dummy_entity").when(queryMethod).getDeclaredQuery();
+		doReturn(true).when(queryMethod).isCollectionQuery();
+		doReturn(JdbcRepositoryQueryUnitTests.class.getDeclaredMethod("cachedDummyMethod")
+				.getAnnotation(CachedQuery.class)).when(queryMethod).getCachedQuery();
+		doReturn(Arrays.asList(new DummyEntity(1L))).when(operations).query(anyString(), any(SqlParameterSource.class),
+				any(RowMapper.class));
+
+		QueryResultCache cache = new QueryResultCache();
+		JdbcRepositoryQuery query = new JdbcRepositoryQuery(publisher, callbacks, context, queryMethod, operations,
+				defaultRowMapper, converter, cache);
+
+		query.execute(new Object[] {});
+		Object cached = query.execute(new Object[] {});
+
+		assertThat((Iterable<?>) cached).hasSize(1);
+		verify(operations, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+
+		cache.tablesWritten(Collections.singleton(SqlIdentifier.quoted("DUMMY_ENTITY")));
+		query.execute(new Object[] {});
+
+		verify(operations, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	public void modifyingQueryNotifiesQueryResultCacheAboutDetectedTable() {
+
+		doReturn("UPDATE dummy_entity SET name = :name").when(queryMethod).getDeclaredQuery();
+		doReturn(true).when(queryMethod).isModifyingQuery();
+		doReturn(new String[0]).when(queryMethod).getModifiedTables();
+
+		QueryResultCache cache = mock(QueryResultCache.class);
+		new JdbcRepositoryQuery(publisher, callbacks, context, queryMethod, operations, defaultRowMapper, converter, cache)
+				.execute(new Object[] {});
+
+		verify(cache).tablesWritten(Collections.singleton(SqlIdentifier.unquoted("dummy_entity")));
+	}
+
+	@Test
+	public void modifyingQueryNotifiesQueryResultCacheAboutDeclaredTables() {
+
+		doReturn("CALL archive_entities()").when(queryMethod).getDeclaredQuery();
+		doReturn(true).when(queryMethod).isModifyingQuery();
+		doReturn(new String[] { "dummy_entity", "archive" }).when(queryMethod).getModifiedTables();
+
+		QueryResultCache cache = mock(QueryResultCache.class);
+		new JdbcRepositoryQuery(publisher, callbacks, context, queryMethod, operations, defaultRowMapper, converter, cache)
+				.execute(new Object[] {});
+
+		verify(cache).tablesWritten(new LinkedHashSet<>(
+				Arrays.asList(SqlIdentifier.unquoted("dummy_entity"), SqlIdentifier.unquoted("archive"))));
+	}
+
+	@Test
+	public void rejectsModifyingQueriesWithoutDetectableTablesWhenQueryResultCacheIsConfigured() {
+
+		doReturn("CALL archive_entities()").when(queryMethod).getDeclaredQuery();
+		doReturn(true).when(queryMethod).isModifyingQuery();
+		doReturn(new String[0]).when(queryMethod).getModifiedTables();
+
+		assertThatThrownBy(() -> new JdbcRepositoryQuery(publisher, callbacks, context, queryMethod, operations,
+				defaultRowMapper, converter, new QueryResultCache())).isInstanceOf(IllegalStateException.class);
+	}
+
 	/**
 	 * The whole purpose of this method is to easily generate a {@link DefaultParameters} instance during test setup.
 	 */
 	@SuppressWarnings("unused")
 	private void dummyMethod() {}
 
+	@CachedQuery
+	@SuppressWarnings("unused")
+	private void cachedDummyMethod() {}
+
 	private static class CustomRowMapper implements RowMapper<Object> {
 
 		@Override
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.data.jdbc.repository.query.CachedQuery;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link QueryResultCache}.
+ *
+ * @author Jens Schauder
+ */
+public class QueryResultCacheUnitTests {
+
+	Clock clock = mock(Clock.class);
+	QueryResultCache cache = new QueryResultCache(clock);
+	AtomicInteger executions = new AtomicInteger();
+
+	@After
+	public void tearDown() {
+
+		TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void detectsTablesFromFromAndJoinClauses() {
+
+		assertThat(QueryResultCache.detectTables(
+				"SELECT c.* FROM country c JOIN \"region\" r ON c.region = r.id, currency AS cur, public.language l WHERE 1 = 1"))
+						.containsExactly("country", "\"region\"", "currency", "public.language");
+	}
+
+	@Test
+	public void detectsWrittenTableOfModifyingQueries() {
+
+		assertThat(QueryResultCache.detectWrittenTables("insert into country (name) values (:name)"))
+				.containsExactly("country");
+		assertThat(QueryResultCache.detectWrittenTables(" UPDATE \"region\" SET name = :name")).containsExactly("\"region\"");
+		assertThat(QueryResultCache.detectWrittenTables("DELETE FROM public.language WHERE id = :id"))
+				.containsExactly("public.language");
+		assertThat(QueryResultCache.detectWrittenTables("MERGE INTO currency USING dual ON (1 = 1)"))
+				.containsExactly("currency");
+		assertThat(QueryResultCache.detectWrittenTables("CALL refresh()")).isEmpty();
+	}
+
+	@Test
+	public void rejectsQueriesWithoutDetectableTables() {
+
+		assertThatThrownBy(() -> cache.createRegion(cachedQuery("withDefaults"), "CALL refresh()"))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void cachesResultsPerParameterValues() {
+
+		QueryResultCache.Region region = cache.createRegion(cachedQuery("withDefaults"), "SELECT * FROM country");
+
+		assertThat(load(region, "de")).isEqualTo(1);
+		assertThat(load(region, "de")).isEqualTo(1);
+		assertThat(load(region, "fr")).isEqualTo(2);
+		assertThat(load(region, new byte[] { 1 })).isEqualTo(3);
+		assertThat(load(region, new byte[] { 1 })).isEqualTo(3);
+	}
+
+	@Test
+	public void resultsExpireAfterTimeToLive() {
+
+		QueryResultCache.Region region = cache.createRegion(cachedQuery("withDefaults"), "SELECT * FROM country");
+
+		when(clock.millis()).thenReturn(0L);
+		load(region, "de");
+
+		when(clock.millis()).thenReturn(59_999L);
+		assertThat(load(region, "de")).isEqualTo(1);
+
+		when(clock.millis()).thenReturn(60_000L);
+		assertThat(load(region, "de")).isEqualTo(2);
+	}
+
+	@Test
+	public void writesEvictResultsOfQueriesReadingTheWrittenTables() {
+
+		QueryResultCache.Region countries = cache.createRegion(cachedQuery("withDefaults"), "SELECT * FROM country");
+		QueryResultCache.Region currencies = cache.createRegion(cachedQuery("withTables"), "CALL currencies()");
+
+		load(countries, "de");
+		load(currencies, "de");
+
+		cache.tablesWritten(Collections.singleton(SqlIdentifier.unquoted("CURRENCY")));
+
+		assertThat(load(countries, "de")).isEqualTo(1);
+		assertThat(load(currencies, "de")).isEqualTo(3);
+	}
+
+	@Test
+	public void bypassesResultsOfTablesWrittenInTheTransactionAndEvictsThemAgainAfterCommit() {
+
+		QueryResultCache.Region region = cache.createRegion(cachedQuery("withDefaults"), "SELECT * FROM country");
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.tablesWritten(Collections.singleton(SqlIdentifier.quoted("COUNTRY")));
+
+		assertThat(load(region, "de")).isEqualTo(1);
+		assertThat(load(region, "de")).isEqualTo(2);
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		TransactionSynchronizationManager.clearSynchronization();
+
+		assertThat(load(region, "de")).isEqualTo(3);
+		assertThat(load(region, "de")).isEqualTo(3);
+	}
+
+	private Object load(QueryResultCache.Region region, Object value) {
+		return region.getOrLoad(new MapSqlParameterSource("value", value), executions::incrementAndGet);
+	}
+
+	private static CachedQuery cachedQuery(String methodName) {
+
+		try {
+			return QueryResultCacheUnitTests.class.getDeclaredMethod(methodName).getAnnotation(CachedQuery.class);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@CachedQuery
+	@SuppressWarnings("unused")
+	private void withDefaults() {}
+
+	@CachedQuery(tables = "currency")
+	@SuppressWarnings("unused")
+	private void withTables() {}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.relational.core.mapping.event.AfterLoadAllCallback;
+import org.springframework.data.relational.core.mapping.event.RelationalEventWithId;
+
+/**
+ * Unit tests for {@link AfterLoadListeners}.
+ *
+ * @author Jens Schauder
+ */
+public class AfterLoadListenersUnitTests {
+
+	@Test
+	public void assumesListenersForPublishersOtherThanApplicationContexts() {
+		assertThat(new AfterLoadListeners(mock(ApplicationEventPublisher.class)).hasEventListeners()).isTrue();
+	}
+
+	@Test
+	public void detectsAbsenceOfEventListeners() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(RefreshListener.class);
+		context.refresh();
+
+		assertThat(new AfterLoadListeners(context).hasEventListeners()).isFalse();
+	}
+
+	@Test
+	public void detectsEventListenerBeans() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(RelationalEventListener.class);
+		context.refresh();
+
+		assertThat(new AfterLoadListeners(context).hasEventListeners()).isTrue();
+	}
+
+	@Test
+	public void detectsProgrammaticallyAddedEventListeners() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		context.addApplicationListener(new RelationalEventListener());
+
+		assertThat(new AfterLoadListeners(context).hasEventListeners()).isTrue();
+	}
+
+	@Test
+	public void assumesListenersWhileTheContextIsNotActive() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		AfterLoadListeners listeners = new AfterLoadListeners(context);
+
+		assertThat(listeners.hasEventListeners()).isTrue();
+
+		context.refresh();
+
+		assertThat(listeners.hasEventListeners()).isFalse();
+	}
+
+	@Test
+	public void detectsEventListenersAddedAfterTheirAbsenceGotDetected() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		AfterLoadListeners listeners = new AfterLoadListeners(context);
+
+		assertThat(listeners.hasEventListeners()).isFalse();
+
+		context.addApplicationListener(new RelationalEventListener());
+
+		assertThat(listeners.hasEventListeners()).isTrue();
+	}
+
+	@Test
+	public void detectsEventListenerMethodsRegisteredAtTheEndOfTheRefresh() {
+
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		AfterLoadListeners listeners = new AfterLoadListeners(context);
+		AtomicBoolean presentDuringRefresh = new AtomicBoolean(true);
+
+		context.registerBean(EventListenerMethodBean.class);
+		context.registerBean("loadingDuringRefresh", Object.class, () -> {
+
+			presentDuringRefresh.set(listeners.hasEventListeners());
+			return new Object();
+		});
+		context.refresh();
+
+		assertThat(presentDuringRefresh).isFalse();
+		assertThat(listeners.hasEventListeners()).isTrue();
+	}
+
+	@Test
+	public void invokesAfterLoadAllCallbacksForMatchingTypes() {
+
+		StringCallback stringCallback = new StringCallback();
+		IntegerCallback integerCallback = new IntegerCallback();
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean(StringCallback.class, () -> stringCallback);
+		context.registerBean(IntegerCallback.class, () -> integerCallback);
+		context.refresh();
+
+		AfterLoadListeners listeners = new AfterLoadListeners(context);
+		listeners.afterLoadAll(Arrays.asList("one", "two"));
+		listeners.afterLoadAll(new ArrayList<>());
+
+		assertThat(stringCallback.batches).containsExactly(Arrays.asList("one", "two"));
+		assertThat(integerCallback.batches).isEmpty();
+	}
+
+	static class RefreshListener implements ApplicationListener<ContextRefreshedEvent> {
+
+		@Override
+		public void onApplicationEvent(ContextRefreshedEvent event) {}
+	}
+
+	static class EventListenerMethodBean {
+
+		@EventListener
+		public void onRelationalEvent(RelationalEventWithId event) {}
+	}
+
+	static class RelationalEventListener implements ApplicationListener<RelationalEventWithId> {
+
+		@Override
+		public void onApplicationEvent(RelationalEventWithId event) {}
+	}
+
+	static class StringCallback implements AfterLoadAllCallback<String> {
+
+		List<List<String>> batches = new ArrayList<>();
+
+		@Override
+		public void onAfterLoadAll(List<String> aggregates) {
+			batches.add(aggregates);
+		}
+	}
+
+	static class IntegerCallback implements AfterLoadAllCallback<Integer> {
+
+		List<List<Integer>> batches = new ArrayList<>();
+
+		@Override
+		public void onAfterLoadAll(List<Integer> aggregates) {
+			batches.add(aggregates);
+		}
+	}
+}
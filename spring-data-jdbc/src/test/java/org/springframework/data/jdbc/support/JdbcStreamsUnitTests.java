@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Unit tests for {@link JdbcStreams}.
+ *
+ * @author Jens Schauder
+ */
+public class JdbcStreamsUnitTests {
+
+	DataSource dataSource = mock(DataSource.class);
+	Connection connection = mock(Connection.class);
+	DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+	PreparedStatement statement = mock(PreparedStatement.class);
+	ResultSet resultSet = mock(ResultSet.class);
+
+	NamedParameterJdbcTemplate operations = new NamedParameterJdbcTemplate(new JdbcTemplate(dataSource));
+
+	@Before
+	public void before() throws SQLException {
+
+		when(dataSource.getConnection()).thenReturn(connection);
+		when(connection.getMetaData()).thenReturn(metaData);
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+		when(statement.executeQuery()).thenReturn(resultSet);
+		when(resultSet.next()).thenReturn(true, true, false);
+		when(resultSet.getString(1)).thenReturn("one", "two");
+	}
+
+	@Test
+	public void readsRowsWhileStreamGetsConsumed() throws SQLException {
+
+		Stream<String> stream = JdbcStreams.queryForStream(operations, "SELECT name FROM t",
+				EmptySqlParameterSource.INSTANCE, (rs, rowNumber) -> rs.getString(1), 100);
+
+		verify(statement).setFetchSize(100);
+		verify(resultSet, never()).next();
+
+		Iterator<String> iterator = stream.iterator();
+		assertThat(iterator.next()).isEqualTo("one");
+		verify(resultSet, times(1)).next();
+
+		stream.close();
+
+		verify(resultSet).close();
+		verify(statement).close();
+		verify(connection).close();
+	}
+
+	@Test
+	public void releasesResourcesAfterLastRow() throws SQLException {
+
+		Stream<String> stream = JdbcStreams.queryForStream(operations, "SELECT name FROM t",
+				EmptySqlParameterSource.INSTANCE, (rs, rowNumber) -> rs.getString(1), 0);
+
+		assertThat(stream).containsExactly("one", "two");
+
+		verify(statement, never()).setFetchSize(anyInt());
+		verify(resultSet).close();
+		verify(connection).close();
+	}
+
+	@Test
+	public void failsForPostgresWithoutTransaction() throws SQLException {
+
+		when(connection.getAutoCommit()).thenReturn(true);
+		when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+
+		assertThatThrownBy(() -> JdbcStreams.queryForStream(operations, "SELECT name FROM t",
+				EmptySqlParameterSource.INSTANCE, (rs, rowNumber) -> rs.getString(1), 100))
+						.isInstanceOf(InvalidDataAccessApiUsageException.class);
+
+		verify(connection, never()).prepareStatement(anyString());
+		verify(connection).close();
+	}
+
+	@Test
+	public void chunksElementsLazily() {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<Integer> source = Stream.of(1, 2, 3, 4, 5).onClose(() -> closed.set(true));
+
+		try (Stream<List<Integer>> chunks = JdbcStreams.chunked(source, 2)) {
+
+			assertThat(chunks.collect(Collectors.toList())) //
+					.containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5));
+		}
+
+		assertThat(closed).isTrue();
+	}
+}
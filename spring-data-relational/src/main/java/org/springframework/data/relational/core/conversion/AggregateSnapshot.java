@@ -0,0 +1,212 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The persistent state of an aggregate at a certain point in time, typically when it got loaded from the database.
+ * Comparing a snapshot with one taken from the current state of the aggregate tells if the aggregate root or the
+ * referenced entities changed and therefore need to be written to the database.
+ * <p>
+ * A snapshot contains copies of the values of all simple and embedded properties of all entities of the aggregate,
+ * keyed by their column name. It does not hold on to the entities themselves.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+@EqualsAndHashCode
+public final class AggregateSnapshot {
+
+	private final Map<SqlIdentifier, Object> rootState;
+	private final Map<String, Object> referencedState;
+
+	private AggregateSnapshot(EntityState rootState) {
+
+		this.rootState = rootState.getValues();
+		this.referencedState = rootState.getReferences();
+	}
+
+	/**
+	 * Creates a snapshot of the current state of the aggregate represented by the given root.
+	 *
+	 * @param context the mapping context. Must not be {@code null}.
+	 * @param root the aggregate root. Must not be {@code null}.
+	 * @return a new {@link AggregateSnapshot}. Guaranteed to be not {@code null}.
+	 */
+	public static AggregateSnapshot of(RelationalMappingContext context, Object root) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+		Assert.notNull(root, "Aggregate root must not be null");
+
+		return new AggregateSnapshot(new StateCollector(context).collect(root));
+	}
+
+	/**
+	 * @param other the snapshot to compare with. Must not be {@code null}.
+	 * @return whether the simple and embedded properties of the aggregate root are equal in both snapshots.
+	 */
+	public boolean hasSameRootState(AggregateSnapshot other) {
+		return rootState.equals(other.rootState);
+	}
+
+	/**
+	 * @param other the snapshot to compare with. Must not be {@code null}.
+	 * @return whether all entities referenced by the aggregate root are equal in both snapshots.
+	 */
+	public boolean hasSameReferencedState(AggregateSnapshot other) {
+		return referencedState.equals(other.referencedState);
+	}
+
+	/**
+	 * Determines the columns of the aggregate root table with values differing between this and the other snapshot.
+	 *
+	 * @param other the snapshot to compare with. Must not be {@code null}.
+	 * @return the names of the changed columns. Guaranteed to be not {@code null}.
+	 */
+	public Set<SqlIdentifier> getChangedRootColumns(AggregateSnapshot other) {
+
+		Set<SqlIdentifier> changedColumns = new LinkedHashSet<>();
+
+		rootState.forEach((column, value) -> {
+			if (!other.rootState.containsKey(column) || !ObjectUtils.nullSafeEquals(value, other.rootState.get(column))) {
+				changedColumns.add(column);
+			}
+		});
+
+		return changedColumns;
+	}
+
+	/**
+	 * The state of a single entity: the values of its simple properties, including those of embedded entities, keyed by
+	 * column name plus the states of the entities referenced by it, keyed by property name.
+	 */
+	@Value
+	private static class EntityState {
+
+		Map<SqlIdentifier, Object> values;
+		Map<String, Object> references;
+	}
+
+	private static class StateCollector {
+
+		private final RelationalMappingContext context;
+
+		StateCollector(RelationalMappingContext context) {
+			this.context = context;
+		}
+
+		EntityState collect(Object entity) {
+
+			Map<SqlIdentifier, Object> values = new LinkedHashMap<>();
+			Map<String, Object> references = new HashMap<>();
+
+			collect(entity, context.getRequiredPersistentEntity(entity.getClass()), "", values, references);
+
+			return new EntityState(values, references);
+		}
+
+		private void collect(@Nullable Object entity, RelationalPersistentEntity<?> persistentEntity, String prefix,
+				Map<SqlIdentifier, Object> values, Map<String, Object> references) {
+
+			PersistentPropertyAccessor<?> accessor = entity == null ? null : persistentEntity.getPropertyAccessor(entity);
+
+			for (RelationalPersistentProperty property : persistentEntity) {
+
+				Object value = accessor == null ? null : accessor.getProperty(property);
+
+				if (property.isEmbedded()) {
+
+					RelationalPersistentEntity<?> embeddedEntity = context.getRequiredPersistentEntity(property.getActualType());
+					collect(value, embeddedEntity, prefix + property.getEmbeddedPrefix(), values, references);
+				} else if (property.isEntity()) {
+					references.put(prefix + property.getName(), collectReference(property, value));
+				} else {
+					values.put(property.getColumnName().transform(prefix::concat), copyOf(value));
+				}
+			}
+		}
+
+		@Nullable
+		private Object collectReference(RelationalPersistentProperty property, @Nullable Object value) {
+
+			if (value == null) {
+				return null;
+			}
+
+			if (property.isMap()) {
+
+				Map<Object, Object> states = new HashMap<>();
+				((Map<?, ?>) value).forEach((k, v) -> states.put(k, v == null ? null : collect(v)));
+				return states;
+			}
+
+			if (property.isCollectionLike()) {
+
+				Iterable<?> elements = value.getClass().isArray() ? Arrays.asList((Object[]) value) : (Iterable<?>) value;
+
+				List<Object> states = new ArrayList<>();
+				elements.forEach(e -> states.add(e == null ? null : collect(e)));
+				return states;
+			}
+
+			return collect(value);
+		}
+
+		/**
+		 * Arrays and {@link Date}s are mutable and don't necessarily implement {@code equals} based on their content, so
+		 * they get copied.
+		 */
+		@Nullable
+		private static Object copyOf(@Nullable Object value) {
+
+			if (value == null) {
+				return null;
+			}
+
+			if (value.getClass().isArray()) {
+				return Collections.unmodifiableList(Arrays.asList(ObjectUtils.toObjectArray(value)));
+			}
+
+			if (value instanceof Date) {
+				return ((Date) value).clone();
+			}
+
+			return value;
+		}
+	}
+}
@@ -21,10 +21,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.domain.Identifier;
 import org.springframework.data.util.Pair;
 import org.springframework.lang.Nullable;
 
@@ -92,6 +96,30 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a batch of {@link Insert}s for entities that are reachable via the same {@link PersistentPropertyPath}.
+	 * Generated ids are set on the individual {@link Insert} instances.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 2.0
+	 */
+	@Value
+	class InsertBatch<T> implements WithPropertyPath<T> {
+
+		@NonNull List<Insert<T>> inserts;
+		@NonNull PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+
+		@Override
+		public void doExecuteWith(Interpreter interpreter) {
+			interpreter.interpret(this);
+		}
+
+		@Override
+		public Class<T> getEntityType() {
+			return inserts.get(0).getEntityType();
+		}
+	}
+
 	/**
 	 * Represents an insert statement for the root of an aggregate. Upon a successful insert, the initial version and
 	 * generated ids are populated.
@@ -112,6 +140,28 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a batch of {@link InsertRoot}s for the roots of multiple aggregates of the same type.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 2.0
+	 */
+	@Value
+	class InsertRootBatch<T> implements DbAction<T> {
+
+		@NonNull List<InsertRoot<T>> inserts;
+
+		@Override
+		public void doExecuteWith(Interpreter interpreter) {
+			interpreter.interpret(this);
+		}
+
+		@Override
+		public Class<T> getEntityType() {
+			return inserts.get(0).getEntityType();
+		}
+	}
+
 	/**
 	 * Represents an update statement for a single entity that is not the root of an aggregate.
 	 *
@@ -130,7 +180,8 @@ public interface DbAction<T> {
 	}
 
 	/**
-	 * Represents an update statement for the aggregate root.
+	 * Represents an update statement for the aggregate root. If the changed columns are known, only those need to be
+	 * updated.
 	 *
 	 * @param <T> type of the entity for which this represents a database interaction.
 	 */
@@ -140,6 +191,30 @@ public interface DbAction<T> {
 		@NonNull final T entity;
 		@Nullable Number nextVersion;
 
+		/**
+		 * The columns that changed since the aggregate root got loaded. {@code null} if unknown, i.e. all columns are to be
+		 * updated.
+		 */
+		@Nullable Set<SqlIdentifier> changedColumns;
+
+		@Override
+		public void doExecuteWith(Interpreter interpreter) {
+			interpreter.interpret(this);
+		}
+	}
+
+	/**
+	 * Represents an upsert statement for the aggregate root, i.e. an insert that updates the existing row instead if
+	 * there already is one with the same id.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 2.0
+	 */
+	@Value
+	class UpsertRoot<T> implements WithEntity<T> {
+
+		@NonNull T entity;
+
 		@Override
 		public void doExecuteWith(Interpreter interpreter) {
 			interpreter.interpret(this);
@@ -183,6 +258,45 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a batch of {@link Delete}s for the entities reachable via the same {@link PersistentPropertyPath} from
+	 * multiple aggregate roots.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 2.0
+	 */
+	@Value
+	class DeleteBatch<T> implements WithPropertyPath<T> {
+
+		@NonNull List<Delete<T>> deletes;
+		@NonNull PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+
+		@Override
+		public void doExecuteWith(Interpreter interpreter) {
+			interpreter.interpret(this);
+		}
+	}
+
+	/**
+	 * Represents a delete statement for the entities reachable via a given path from the aggregate root, that are
+	 * additionally restricted by the values of an {@link Identifier}, e.g. the id of a single entity or the back reference
+	 * and key of an element of a {@link java.util.List} or {@link Map}.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 2.0
+	 */
+	@Value
+	class DeleteByIdentifier<T> implements WithPropertyPath<T> {
+
+		@NonNull Identifier identifier;
+		@NonNull PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+
+		@Override
+		public void doExecuteWith(Interpreter interpreter) {
+			interpreter.interpret(this);
+		}
+	}
+
 	/**
 	 * Represents a delete statement for a aggregate root when only the ID is known.
 	 * <p>
@@ -204,6 +318,28 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a batch of {@link DeleteRoot}s for the roots of multiple aggregates of the same type.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 2.0
+	 */
+	@Value
+	class DeleteRootBatch<T> implements DbAction<T> {
+
+		@NonNull List<DeleteRoot<T>> deletes;
+
+		@Override
+		public void doExecuteWith(Interpreter interpreter) {
+			interpreter.interpret(this);
+		}
+
+		@Override
+		public Class<T> getEntityType() {
+			return deletes.get(0).getEntityType();
+		}
+	}
+
 	/**
 	 * Represents an delete statement for all entities that that a reachable via a give path from any aggregate root of a
 	 * given type.
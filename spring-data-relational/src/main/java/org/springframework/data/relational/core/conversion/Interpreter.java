@@ -18,12 +18,18 @@ package org.springframework.data.relational.core.conversion;
 import org.springframework.data.relational.core.conversion.DbAction.Delete;
 import org.springframework.data.relational.core.conversion.DbAction.DeleteAll;
 import org.springframework.data.relational.core.conversion.DbAction.DeleteAllRoot;
+import org.springframework.data.relational.core.conversion.DbAction.DeleteBatch;
+import org.springframework.data.relational.core.conversion.DbAction.DeleteByIdentifier;
 import org.springframework.data.relational.core.conversion.DbAction.DeleteRoot;
+import org.springframework.data.relational.core.conversion.DbAction.DeleteRootBatch;
 import org.springframework.data.relational.core.conversion.DbAction.Insert;
+import org.springframework.data.relational.core.conversion.DbAction.InsertBatch;
 import org.springframework.data.relational.core.conversion.DbAction.InsertRoot;
+import org.springframework.data.relational.core.conversion.DbAction.InsertRootBatch;
 import org.springframework.data.relational.core.conversion.DbAction.Merge;
 import org.springframework.data.relational.core.conversion.DbAction.Update;
 import org.springframework.data.relational.core.conversion.DbAction.UpdateRoot;
+import org.springframework.data.relational.core.conversion.DbAction.UpsertRoot;
 
 /**
  * An {@link Interpreter} gets called by a {@link AggregateChange} for each {@link DbAction} and is tasked with
@@ -39,6 +45,29 @@ public interface Interpreter {
 
 	<T> void interpret(InsertRoot<T> insert);
 
+	/**
+	 * Interpret an {@link InsertBatch}. The default implementation interprets each contained {@link Insert} on its own.
+	 *
+	 * @param <T> the type of entity to work on.
+	 * @param batch the {@link InsertBatch} to be executed.
+	 * @since 2.0
+	 */
+	default <T> void interpret(InsertBatch<T> batch) {
+		batch.getInserts().forEach(insert -> interpret(insert));
+	}
+
+	/**
+	 * Interpret an {@link InsertRootBatch}. The default implementation interprets each contained {@link InsertRoot} on
+	 * its own.
+	 *
+	 * @param <T> the type of entity to work on.
+	 * @param batch the {@link InsertRootBatch} to be executed.
+	 * @since 2.0
+	 */
+	default <T> void interpret(InsertRootBatch<T> batch) {
+		batch.getInserts().forEach(insert -> interpret(insert));
+	}
+
 	/**
 	 * Interpret an {@link Update}. Interpreting normally means "executing".
 	 *
@@ -49,12 +78,55 @@ public interface Interpreter {
 
 	<T> void interpret(UpdateRoot<T> update);
 
+	/**
+	 * Interpret an {@link UpsertRoot}. Interpreting normally means "executing". Such actions only get created for
+	 * explicit upserts.
+	 *
+	 * @param <T> the type of entity to work on.
+	 * @param upsert the {@link UpsertRoot} to be executed.
+	 * @since 2.0
+	 */
+	<T> void interpret(UpsertRoot<T> upsert);
+
 	<T> void interpret(Merge<T> update);
 
 	<T> void interpret(Delete<T> delete);
 
+	/**
+	 * Interpret a {@link DeleteBatch}. The default implementation interprets each contained {@link Delete} on its own.
+	 *
+	 * @param <T> the type of entity to work on.
+	 * @param batch the {@link DeleteBatch} to be executed.
+	 * @since 2.0
+	 */
+	default <T> void interpret(DeleteBatch<T> batch) {
+		batch.getDeletes().forEach(delete -> interpret(delete));
+	}
+
+	/**
+	 * Interpret a {@link DeleteByIdentifier}. Interpreting normally means "executing". Such actions only get created for
+	 * differential updates of referenced entities.
+	 *
+	 * @param <T> the type of entity to work on.
+	 * @param delete the {@link DeleteByIdentifier} to be executed.
+	 * @since 2.0
+	 */
+	<T> void interpret(DeleteByIdentifier<T> delete);
+
 	<T> void interpret(DeleteRoot<T> deleteRoot);
 
+	/**
+	 * Interpret a {@link DeleteRootBatch}. The default implementation interprets each contained {@link DeleteRoot} on
+	 * its own.
+	 *
+	 * @param <T> the type of entity to work on.
+	 * @param batch the {@link DeleteRootBatch} to be executed.
+	 * @since 2.0
+	 */
+	default <T> void interpret(DeleteRootBatch<T> batch) {
+		batch.getDeletes().forEach(delete -> interpret(delete));
+	}
+
 	<T> void interpret(DeleteAll<T> delete);
 
 	<T> void interpret(DeleteAllRoot<T> deleteAllRoot);
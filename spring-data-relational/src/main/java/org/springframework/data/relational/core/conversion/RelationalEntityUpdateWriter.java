@@ -16,9 +16,13 @@
 package org.springframework.data.relational.core.conversion;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import org.springframework.data.convert.EntityWriter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
 
 /**
  * Converts an aggregate represented by its root into an {@link AggregateChange}. Does not perform any isNew check.
@@ -42,7 +46,56 @@ public class RelationalEntityUpdateWriter implements EntityWriter<Object, Aggreg
 	@Override
 	public void write(Object root, AggregateChange<?> aggregateChange) {
 
-		List<DbAction<?>> actions = new WritingContext(context, root, aggregateChange).update();
+		write(root, null, aggregateChange);
+	}
+
+	/**
+	 * Converts the aggregate represented by {@literal root} into the {@link DbAction}s required to turn the
+	 * {@literal previousState} into the new state. When no previous state is given, all referenced entities get deleted
+	 * and reinserted.
+	 *
+	 * @param root the aggregate root to be written. Must not be {@code null}.
+	 * @param previousState the currently persisted state of the aggregate. May be {@code null}.
+	 * @param aggregateChange the {@link AggregateChange} to be populated. Must not be {@code null}.
+	 * @since 2.0
+	 */
+	public void write(Object root, @Nullable Object previousState, AggregateChange<?> aggregateChange) {
+
+		List<DbAction<?>> actions = new WritingContext(context, root, previousState, aggregateChange).update();
 		actions.forEach(aggregateChange::addAction);
 	}
+
+	/**
+	 * Converts the aggregate represented by {@literal root} into the {@link DbAction}s required to write the changes made
+	 * since the {@literal snapshot} got taken. If referenced entities didn't change, only the aggregate root gets updated.
+	 * Otherwise this falls back to {@link #write(Object, Object, AggregateChange)} obtaining the previous state from the
+	 * given {@link Supplier}. In any case the update of the aggregate root is restricted to the columns that actually
+	 * changed. The {@link DbAction.UpdateRoot} is added even if no column changed, so the version of versioned aggregates
+	 * still gets checked and incremented.
+	 *
+	 * @param root the aggregate root to be written. Must not be {@code null}.
+	 * @param snapshot the snapshot of the aggregate taken when it was loaded. Must not be {@code null}.
+	 * @param previousState supplies the persisted state of the aggregate if required. Must not be {@code null}, but may
+	 *          supply {@code null}.
+	 * @param aggregateChange the {@link AggregateChange} to be populated. Must not be {@code null}.
+	 * @since 2.0
+	 */
+	public void write(Object root, AggregateSnapshot snapshot, Supplier<?> previousState,
+			AggregateChange<?> aggregateChange) {
+
+		AggregateSnapshot currentState = AggregateSnapshot.of(context, root);
+		Set<SqlIdentifier> changedColumns = currentState.getChangedRootColumns(snapshot);
+
+		if (!currentState.hasSameReferencedState(snapshot)) {
+
+			List<DbAction<?>> actions = new WritingContext(context, root, previousState.get(), aggregateChange).update();
+			((DbAction.UpdateRoot<?>) actions.get(0)).setChangedColumns(changedColumns);
+			actions.forEach(aggregateChange::addAction);
+			return;
+		}
+
+		DbAction.UpdateRoot<?> updateRoot = new DbAction.UpdateRoot<>(root);
+		updateRoot.setChangedColumns(changedColumns);
+		aggregateChange.addAction(updateRoot);
+	}
 }
@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.springframework.data.convert.EntityWriter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.lang.Nullable;
 
 /**
  * Converts an aggregate represented by its root into an {@link AggregateChange}.
@@ -41,7 +42,22 @@ public class RelationalEntityWriter implements EntityWriter<Object, AggregateCha
 	@Override
 	public void write(Object root, AggregateChange<?> aggregateChange) {
 
-		List<DbAction<?>> actions = new WritingContext(context, root, aggregateChange).save();
+		write(root, null, aggregateChange);
+	}
+
+	/**
+	 * Converts the aggregate represented by {@literal root} into the {@link DbAction}s required to turn the
+	 * {@literal previousState} into the new state. When no previous state is given, all referenced entities get deleted
+	 * and reinserted.
+	 *
+	 * @param root the aggregate root to be written. Must not be {@code null}.
+	 * @param previousState the currently persisted state of the aggregate. May be {@code null}.
+	 * @param aggregateChange the {@link AggregateChange} to be populated. Must not be {@code null}.
+	 * @since 2.0
+	 */
+	public void write(Object root, @Nullable Object previousState, AggregateChange<?> aggregateChange) {
+
+		List<DbAction<?>> actions = new WritingContext(context, root, previousState, aggregateChange).save();
 		actions.forEach(aggregateChange::addAction);
 	}
 }
@@ -19,17 +19,22 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PersistentPropertyPaths;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.domain.Identifier;
 import org.springframework.data.util.Pair;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Holds context information for the current save operation.
@@ -43,6 +48,7 @@ class WritingContext {
 
 	private final RelationalMappingContext context;
 	private final Object root;
+	private final @Nullable Object previousRoot;
 	private final Object entity;
 	private final Class<?> entityType;
 	private final PersistentPropertyPaths<?, RelationalPersistentProperty> paths;
@@ -50,9 +56,25 @@ class WritingContext {
 	private Map<PersistentPropertyPath<RelationalPersistentProperty>, List<PathNode>> nodesCache = new HashMap<>();
 
 	WritingContext(RelationalMappingContext context, Object root, AggregateChange<?> aggregateChange) {
+		this(context, root, null, aggregateChange);
+	}
+
+	/**
+	 * Creates a {@link WritingContext} that knows about the currently persisted state of the aggregate. When such a
+	 * {@literal previousRoot} is present, updates of referenced entities get derived by comparing the previous state with
+	 * the new one instead of deleting and reinserting all of them.
+	 *
+	 * @param context the mapping context. Must not be {@code null}.
+	 * @param root the aggregate root to be written. Must not be {@code null}.
+	 * @param previousRoot the persisted state of the aggregate. May be {@code null}.
+	 * @param aggregateChange the {@link AggregateChange} to be populated. Must not be {@code null}.
+	 */
+	WritingContext(RelationalMappingContext context, Object root, @Nullable Object previousRoot,
+			AggregateChange<?> aggregateChange) {
 
 		this.context = context;
 		this.root = root;
+		this.previousRoot = previousRoot;
 		this.entity = aggregateChange.getEntity();
 		this.entityType = aggregateChange.getEntityType();
 		this.paths = context.findPersistentPropertyPaths(entityType, p -> p.isEntity() && !p.isEmbedded());
@@ -84,6 +106,19 @@ class WritingContext {
 
 		List<DbAction<?>> actions = new ArrayList<>();
 		actions.add(setRootAction(new DbAction.UpdateRoot<>(entity)));
+		actions.addAll(updateReferenced());
+		return actions;
+	}
+
+	/**
+	 * Upserts the aggregate root, i.e. inserts it or updates the existing row, and replaces all referenced entities.
+	 *
+	 * @return List of {@link DbAction}s
+	 */
+	List<DbAction<?>> upsert() {
+
+		List<DbAction<?>> actions = new ArrayList<>();
+		actions.add(setRootAction(new DbAction.UpsertRoot<>(entity)));
 		actions.addAll(deleteReferenced());
 		actions.addAll(insertReferenced());
 		return actions;
@@ -99,8 +134,7 @@ class WritingContext {
 		} else {
 
 			actions.add(setRootAction(new DbAction.UpdateRoot<>(entity)));
-			actions.addAll(deleteReferenced());
-			actions.addAll(insertReferenced());
+			actions.addAll(updateReferenced());
 		}
 
 		return actions;
@@ -121,34 +155,48 @@ class WritingContext {
 		return actions;
 	}
 
-	@SuppressWarnings("unchecked")
 	private List<DbAction<?>> insertAll(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
 
-		from(path).forEach(node -> {
+		from(path).forEach(node -> actions.add(insert(node)));
 
-			DbAction.WithEntity<?> parentAction = getAction(node.getParent());
-			DbAction.Insert<Object> insert;
-			if (node.getPath().getRequiredLeafProperty().isQualified()) {
+		return actions;
+	}
 
-				Pair<Object, Object> value = (Pair) node.getValue();
-				insert = new DbAction.Insert<>(value.getSecond(), path, parentAction);
-				insert.getQualifiers().put(node.getPath(), value.getFirst());
+	/**
+	 * Synchronizes the referenced entities with the database based on the differences to {@link #previousRoot}. Paths
+	 * that can't be compared reliably are handled by deleting and reinserting all referenced entities.
+	 *
+	 * @return List of {@link DbAction}s ordered as deletes, updates and inserts.
+	 */
+	private List<DbAction<?>> updateReferenced() {
 
-				RelationalPersistentEntity<?> parentEntity = context.getRequiredPersistentEntity(parentAction.getEntityType());
+		if (previousRoot == null) {
 
-				if (!parentEntity.hasIdProperty() && parentAction instanceof DbAction.Insert) {
-					insert.getQualifiers().putAll(((DbAction.Insert<?>) parentAction).getQualifiers());
-				}
+			List<DbAction<?>> actions = new ArrayList<>(deleteReferenced());
+			actions.addAll(insertReferenced());
+			return actions;
+		}
+
+		List<DbAction<?>> deletes = new ArrayList<>();
+		List<DbAction<?>> updates = new ArrayList<>();
+		List<DbAction<?>> inserts = new ArrayList<>();
+
+		paths.forEach(path -> {
 
+			if (isComparable(path)) {
+				compareReferenced(path, deletes, updates, inserts);
 			} else {
-				insert = new DbAction.Insert<>(node.getValue(), path, parentAction);
+
+				deletes.add(0, deleteReferenced(path));
+				inserts.addAll(insertAll(path));
 			}
-			previousActions.put(node, insert);
-			actions.add(insert);
 		});
 
+		List<DbAction<?>> actions = new ArrayList<>(deletes);
+		actions.addAll(updates);
+		actions.addAll(inserts);
 		return actions;
 	}
 
@@ -173,6 +221,171 @@ class WritingContext {
 		return new DbAction.Delete<>(id, path);
 	}
 
+	/**
+	 * Only entities directly referenced by the aggregate root, that don't reference further entities themselves, can be
+	 * compared. They also need to be identifiable either by an id or by their key in a {@link List} or {@link Map}.
+	 * Entities with an immutable id are excluded since setting a generated id would require recreating the whole
+	 * collection from the inserted elements only.
+	 */
+	private boolean isComparable(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		if (path.getLength() != 1) {
+			return false;
+		}
+
+		RelationalPersistentProperty property = path.getRequiredLeafProperty();
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> other : paths) {
+			if (other.getLength() > 1 && other.getBaseProperty().equals(property)) {
+				return false;
+			}
+		}
+
+		RelationalPersistentEntity<?> leafEntity = context.getRequiredPersistentEntity(property.getActualType());
+
+		if (leafEntity.hasIdProperty()) {
+			return !leafEntity.getRequiredIdProperty().isImmutable();
+		}
+
+		return property.isQualified();
+	}
+
+	private void compareReferenced(PersistentPropertyPath<RelationalPersistentProperty> path, List<DbAction<?>> deletes,
+			List<DbAction<?>> updates, List<DbAction<?>> inserts) {
+
+		RelationalPersistentEntity<?> leafEntity = context
+				.getRequiredPersistentEntity(path.getRequiredLeafProperty().getActualType());
+
+		if (leafEntity.hasIdProperty()) {
+			compareById(path, leafEntity, deletes, updates, inserts);
+		} else {
+			compareByQualifier(path, leafEntity, deletes, inserts);
+		}
+	}
+
+	private void compareById(PersistentPropertyPath<RelationalPersistentProperty> path,
+			RelationalPersistentEntity<?> leafEntity, List<DbAction<?>> deletes, List<DbAction<?>> updates,
+			List<DbAction<?>> inserts) {
+
+		Map<Object, PathNode> previousNodes = new LinkedHashMap<>();
+		createNodes(path, null, getFromValue(previousRoot, path)).forEach(node -> {
+
+			Object id = leafEntity.getIdentifierAccessor(node.getActualValue()).getIdentifier();
+			if (id != null) {
+				previousNodes.put(id, node);
+			}
+		});
+
+		from(path).forEach(node -> {
+
+			if (leafEntity.isNew(node.getActualValue())) {
+
+				inserts.add(insert(node));
+				return;
+			}
+
+			Object id = leafEntity.getIdentifierAccessor(node.getActualValue()).getRequiredIdentifier();
+			PathNode previousNode = previousNodes.remove(id);
+
+			if (previousNode == null) {
+				updates.add(merge(node));
+			} else if (!ObjectUtils.nullSafeEquals(getQualifier(node), getQualifier(previousNode))) {
+
+				// the key or index is not part of the entity, so the row gets replaced
+				deletes.add(deleteById(path, leafEntity, id));
+				inserts.add(insert(node));
+			} else if (!hasSameState(leafEntity, node.getActualValue(), previousNode.getActualValue())) {
+				updates.add(new DbAction.Update<>(node.getActualValue(), path));
+			}
+		});
+
+		previousNodes.keySet().forEach(id -> deletes.add(deleteById(path, leafEntity, id)));
+	}
+
+	private void compareByQualifier(PersistentPropertyPath<RelationalPersistentProperty> path,
+			RelationalPersistentEntity<?> leafEntity, List<DbAction<?>> deletes, List<DbAction<?>> inserts) {
+
+		Map<Object, PathNode> previousNodes = new LinkedHashMap<>();
+		createNodes(path, null, getFromValue(previousRoot, path))
+				.forEach(node -> previousNodes.put(getQualifier(node), node));
+
+		from(path).forEach(node -> {
+
+			Object qualifier = getQualifier(node);
+			PathNode previousNode = previousNodes.remove(qualifier);
+
+			if (previousNode == null) {
+				inserts.add(insert(node));
+			} else if (!hasSameState(leafEntity, node.getActualValue(), previousNode.getActualValue())) {
+
+				// without an id there is no way to address the row in an update statement
+				deletes.add(deleteByQualifier(path, qualifier));
+				inserts.add(insert(node));
+			}
+		});
+
+		previousNodes.keySet().forEach(qualifier -> deletes.add(deleteByQualifier(path, qualifier)));
+	}
+
+	private DbAction.DeleteByIdentifier<?> deleteById(PersistentPropertyPath<RelationalPersistentProperty> path,
+			RelationalPersistentEntity<?> leafEntity, Object id) {
+
+		Identifier identifier = Identifier.of(leafEntity.getIdColumn(), id, leafEntity.getRequiredIdProperty().getType());
+		return new DbAction.DeleteByIdentifier<>(identifier, path);
+	}
+
+	private DbAction.DeleteByIdentifier<?> deleteByQualifier(PersistentPropertyPath<RelationalPersistentProperty> path,
+			Object qualifier) {
+
+		RelationalPersistentEntity<?> rootEntity = context.getRequiredPersistentEntity(entityType);
+		PersistentPropertyPathExtension extension = new PersistentPropertyPathExtension(context, path);
+
+		Identifier identifier = Identifier //
+				.of(extension.getReverseColumnName(), rootEntity.getIdentifierAccessor(entity).getRequiredIdentifier(),
+						rootEntity.getRequiredIdProperty().getType()) //
+				.withPart(extension.getQualifierColumn(), qualifier, extension.getQualifierColumnType());
+
+		return new DbAction.DeleteByIdentifier<>(identifier, path);
+	}
+
+	@SuppressWarnings("unchecked")
+	private DbAction.Insert<Object> insert(PathNode node) {
+
+		PersistentPropertyPath<RelationalPersistentProperty> path = node.getPath();
+		DbAction.WithEntity<?> parentAction = getAction(node.getParent());
+		DbAction.Insert<Object> insert;
+		if (path.getRequiredLeafProperty().isQualified()) {
+
+			Pair<Object, Object> value = (Pair) node.getValue();
+			insert = new DbAction.Insert<>(value.getSecond(), path, parentAction);
+			insert.getQualifiers().put(path, value.getFirst());
+
+			RelationalPersistentEntity<?> parentEntity = context.getRequiredPersistentEntity(parentAction.getEntityType());
+
+			if (!parentEntity.hasIdProperty() && parentAction instanceof DbAction.Insert) {
+				insert.getQualifiers().putAll(((DbAction.Insert<?>) parentAction).getQualifiers());
+			}
+
+		} else {
+			insert = new DbAction.Insert<>(node.getValue(), path, parentAction);
+		}
+		previousActions.put(node, insert);
+
+		return insert;
+	}
+
+	private DbAction.Merge<Object> merge(PathNode node) {
+
+		DbAction.Merge<Object> merge = new DbAction.Merge<>(node.getActualValue(), node.getPath(),
+				getAction(node.getParent()));
+
+		if (node.getPath().getRequiredLeafProperty().isQualified()) {
+			merge.getQualifiers().put(node.getPath(), getQualifier(node));
+		}
+
+		return merge;
+	}
+
 	//// methods not directly related to the creation of DbActions
 
 	private DbAction<?> setRootAction(DbAction<?> dbAction) {
@@ -248,12 +461,17 @@ class WritingContext {
 
 	@Nullable
 	private Object getFromRootValue(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return getFromValue(entity, path);
+	}
+
+	@Nullable
+	private Object getFromValue(@Nullable Object root, PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		if (path.getLength() == 0) {
-			return entity;
+			return root;
 		}
 
-		Object parent = getFromRootValue(path.getParentPath());
+		Object parent = getFromValue(root, path.getParentPath());
 		if (parent == null) {
 			return null;
 		}
@@ -262,6 +480,43 @@ class WritingContext {
 				.getProperty(path.getRequiredLeafProperty());
 	}
 
+	@Nullable
+	private static Object getQualifier(PathNode node) {
+
+		return node.getPath().getRequiredLeafProperty().isQualified() //
+				? ((Pair<?, ?>) node.getValue()).getFirst() //
+				: null;
+	}
+
+	/**
+	 * Compares the values that get written to the table of the entity, i.e. all simple and embedded properties. The
+	 * {@code equals} method of the entity is intentionally not used since it is not necessarily based on the persistent
+	 * state.
+	 */
+	private boolean hasSameState(RelationalPersistentEntity<?> persistentEntity, Object current, Object previous) {
+
+		PersistentPropertyAccessor<?> currentAccessor = persistentEntity.getPropertyAccessor(current);
+		PersistentPropertyAccessor<?> previousAccessor = persistentEntity.getPropertyAccessor(previous);
+
+		for (RelationalPersistentProperty property : persistentEntity) {
+
+			Object currentValue = currentAccessor.getProperty(property);
+			Object previousValue = previousAccessor.getProperty(property);
+
+			if (property.isEmbedded() && currentValue != null && previousValue != null) {
+
+				if (!hasSameState(context.getRequiredPersistentEntity(property.getActualType()), currentValue,
+						previousValue)) {
+					return false;
+				}
+			} else if (!ObjectUtils.nullSafeEquals(currentValue, previousValue)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	private List<PathNode> createNodes(PersistentPropertyPath<RelationalPersistentProperty> path,
 			@Nullable PathNode parentNode, @Nullable Object value) {
 
@@ -16,6 +16,7 @@
 package org.springframework.data.relational.core.dialect;
 
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
+import org.springframework.data.relational.core.sql.render.UpsertRenderContext;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 
@@ -46,6 +47,83 @@ public interface Dialect {
 		return ArrayColumns.Unsupported.INSTANCE;
 	}
 
+	/**
+	 * Returns the object that describes whether and to what extent this dialect supports {@code INSERT} statements with
+	 * multiple rows in the {@code VALUES} clause.
+	 *
+	 * @return the multi row insert support object. Guaranteed to be not {@literal null}.
+	 * @since 2.0
+	 */
+	default MultiRowInserts getMultiRowInsertSupport() {
+		return MultiRowInserts.Unsupported.INSTANCE;
+	}
+
+	/**
+	 * Returns the {@link UpsertRenderContext} that renders statements inserting a row or updating it if a row with the
+	 * same key already exists.
+	 *
+	 * @return the upsert render context. Guaranteed to be not {@literal null}.
+	 * @since 2.0
+	 * @see Upserts
+	 */
+	default UpsertRenderContext getUpsertContext() {
+		return UpsertRenderContext.Unsupported.INSTANCE;
+	}
+
+	/**
+	 * Returns the object that describes whether and how this dialect supports sequences.
+	 *
+	 * @return the sequence support object. Guaranteed to be not {@literal null}.
+	 * @since 2.0
+	 */
+	default Sequences getSequenceSupport() {
+		return Sequences.Unsupported.INSTANCE;
+	}
+
+	/**
+	 * Returns the object that describes whether and how this dialect estimates the number of rows of a table from
+	 * catalog statistics.
+	 *
+	 * @return the row count estimate support object. Guaranteed to be not {@literal null}.
+	 * @since 2.0
+	 */
+	default RowCountEstimates getRowCountEstimates() {
+		return RowCountEstimates.Unsupported.INSTANCE;
+	}
+
+	/**
+	 * Returns whether this dialect supports comparisons of row values, i.e. {@code (a, b) > (:a, :b)}, evaluating to
+	 * {@literal true} if {@code a > :a} or {@code a = :a} and {@code b > :b}.
+	 *
+	 * @return {@literal true} if row value comparisons are supported.
+	 * @since 2.0
+	 */
+	default boolean supportsRowValueComparison() {
+		return false;
+	}
+
+	/**
+	 * Returns whether this dialect supports aggregate functions used as window functions, i.e. {@code COUNT(*) OVER()}.
+	 *
+	 * @return {@literal true} if window functions are supported.
+	 * @since 2.0
+	 */
+	default boolean supportsWindowFunctions() {
+		return false;
+	}
+
+	/**
+	 * Returns whether this dialect supports comparing a value with the elements of an array bound as a single parameter,
+	 * i.e. {@code id = ANY(:ids)}. In contrast to an {@code IN} list the statement doesn't depend on the number of
+	 * values. Requires {@link #getArraySupport() array support}.
+	 *
+	 * @return {@literal true} if comparisons with array parameters are supported.
+	 * @since 2.0
+	 */
+	default boolean supportsArrayComparison() {
+		return false;
+	}
+
 	/**
 	 * Obtain the {@link SelectRenderContext}.
 	 *
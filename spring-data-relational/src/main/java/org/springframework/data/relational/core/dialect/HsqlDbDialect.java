@@ -15,6 +15,8 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import org.springframework.data.relational.core.sql.render.UpsertRenderContext;
+
 /**
  * A {@link Dialect} for HsqlDb.
  *
@@ -31,6 +33,33 @@ public class HsqlDbDialect extends AbstractDialect {
 		return LIMIT_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getUpsertContext()
+	 */
+	@Override
+	public UpsertRenderContext getUpsertContext() {
+		return Upserts.MERGE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getSequenceSupport()
+	 */
+	@Override
+	public Sequences getSequenceSupport() {
+		return SEQUENCES;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsRowValueComparison()
+	 */
+	@Override
+	public boolean supportsRowValueComparison() {
+		return true;
+	}
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
@@ -53,4 +82,6 @@ public class HsqlDbDialect extends AbstractDialect {
 			return Position.AFTER_ORDER_BY;
 		}
 	};
+
+	private static final Sequences SEQUENCES = Sequences.supported("CALL NEXT VALUE FOR %s");
 }
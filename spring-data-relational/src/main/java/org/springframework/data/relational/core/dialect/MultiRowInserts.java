@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import org.springframework.util.Assert;
+
+/**
+ * Interface declaring methods that express how a dialect supports {@code INSERT} statements with multiple rows in the
+ * {@code VALUES} clause, i.e. {@code INSERT INTO t (a, b) VALUES (:a_0, :b_0), (:a_1, :b_1)}.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public interface MultiRowInserts {
+
+	/**
+	 * Returns {@literal true} if the dialect supports multiple rows in the {@code VALUES} clause of an {@code INSERT}.
+	 *
+	 * @return {@literal true} if the dialect supports multi row inserts.
+	 */
+	boolean isSupported();
+
+	/**
+	 * @return the maximum number of rows in a single {@code VALUES} clause.
+	 */
+	int getMaxRows();
+
+	/**
+	 * @return the maximum number of bind parameters in a single statement.
+	 */
+	int getMaxBindParameters();
+
+	/**
+	 * Determines the number of rows that can be inserted with a single statement, considering both the limit of rows and
+	 * the limit of bind parameters.
+	 *
+	 * @param columnCount the number of columns, i.e. bind parameters per row.
+	 * @return the maximum number of rows per statement. {@literal 1} if multi row inserts aren't supported.
+	 */
+	default int getMaxRows(int columnCount) {
+
+		if (!isSupported()) {
+			return 1;
+		}
+
+		return Math.max(1, Math.min(getMaxRows(), getMaxBindParameters() / Math.max(1, columnCount)));
+	}
+
+	/**
+	 * Creates a {@link MultiRowInserts} instance for a dialect supporting multi row inserts with the given limits.
+	 *
+	 * @param maxRows the maximum number of rows in a single {@code VALUES} clause. Must be greater than zero.
+	 * @param maxBindParameters the maximum number of bind parameters in a single statement. Must be greater than zero.
+	 * @return a {@link MultiRowInserts} instance. Guaranteed to be not {@literal null}.
+	 */
+	static MultiRowInserts supported(int maxRows, int maxBindParameters) {
+
+		Assert.isTrue(maxRows > 0, "Maximum number of rows must be greater than zero");
+		Assert.isTrue(maxBindParameters > 0, "Maximum number of bind parameters must be greater than zero");
+
+		return new MultiRowInserts() {
+
+			@Override
+			public boolean isSupported() {
+				return true;
+			}
+
+			@Override
+			public int getMaxRows() {
+				return maxRows;
+			}
+
+			@Override
+			public int getMaxBindParameters() {
+				return maxBindParameters;
+			}
+		};
+	}
+
+	/**
+	 * Default {@link MultiRowInserts} implementation for dialects that do not support multi row inserts.
+	 */
+	enum Unsupported implements MultiRowInserts {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.MultiRowInserts#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.MultiRowInserts#getMaxRows()
+		 */
+		@Override
+		public int getMaxRows() {
+			return 1;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.MultiRowInserts#getMaxBindParameters()
+		 */
+		@Override
+		public int getMaxBindParameters() {
+			return Integer.MAX_VALUE;
+		}
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.relational.core.dialect;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.LetterCasing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.Quoting;
+import org.springframework.data.relational.core.sql.render.UpsertRenderContext;
 
 /**
  * A SQL dialect for MySQL.
@@ -78,6 +79,11 @@ public class MySqlDialect extends AbstractDialect {
 		}
 	};
 
+	private static final MultiRowInserts MULTI_ROW_INSERTS = MultiRowInserts.supported(Integer.MAX_VALUE, 65535);
+
+	private static final RowCountEstimates ROW_COUNT_ESTIMATES = RowCountEstimates.supported(
+			"SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :tableName");
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.Dialect#limit()
@@ -87,8 +93,44 @@ public class MySqlDialect extends AbstractDialect {
 		return LIMIT_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getMultiRowInsertSupport()
+	 */
+	@Override
+	public MultiRowInserts getMultiRowInsertSupport() {
+		return MULTI_ROW_INSERTS;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getRowCountEstimates()
+	 */
+	@Override
+	public RowCountEstimates getRowCountEstimates() {
+		return ROW_COUNT_ESTIMATES;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getUpsertContext()
+	 */
+	@Override
+	public UpsertRenderContext getUpsertContext() {
+		return Upserts.ON_DUPLICATE_KEY_UPDATE;
+	}
+
 	@Override
 	public IdentifierProcessing getIdentifierProcessing() {
 		return IdentifierProcessing.create(new Quoting("`"), LetterCasing.LOWER_CASE);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsRowValueComparison()
+	 */
+	@Override
+	public boolean supportsRowValueComparison() {
+		return true;
+	}
 }
@@ -20,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.LetterCasing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.Quoting;
+import org.springframework.data.relational.core.sql.render.UpsertRenderContext;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -77,6 +78,13 @@ public class PostgresDialect extends AbstractDialect {
 		}
 	};
 
+	private static final MultiRowInserts MULTI_ROW_INSERTS = MultiRowInserts.supported(Integer.MAX_VALUE, Short.MAX_VALUE);
+
+	private static final Sequences SEQUENCES = Sequences.supported("SELECT nextval('%s')");
+
+	private static final RowCountEstimates ROW_COUNT_ESTIMATES = RowCountEstimates
+			.supported("SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(CAST(:table AS text))");
+
 	private final PostgresArrayColumns arrayColumns = new PostgresArrayColumns();
 
 	/*
@@ -97,6 +105,69 @@ public class PostgresDialect extends AbstractDialect {
 		return arrayColumns;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getMultiRowInsertSupport()
+	 */
+	@Override
+	public MultiRowInserts getMultiRowInsertSupport() {
+		return MULTI_ROW_INSERTS;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getUpsertContext()
+	 */
+	@Override
+	public UpsertRenderContext getUpsertContext() {
+		return Upserts.ON_CONFLICT;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getSequenceSupport()
+	 */
+	@Override
+	public Sequences getSequenceSupport() {
+		return SEQUENCES;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getRowCountEstimates()
+	 */
+	@Override
+	public RowCountEstimates getRowCountEstimates() {
+		return ROW_COUNT_ESTIMATES;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsRowValueComparison()
+	 */
+	@Override
+	public boolean supportsRowValueComparison() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsWindowFunctions()
+	 */
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsArrayComparison()
+	 */
+	@Override
+	public boolean supportsArrayComparison() {
+		return getArraySupport().isSupported();
+	}
+
 	@RequiredArgsConstructor
 	static class PostgresArrayColumns implements ArrayColumns {
 
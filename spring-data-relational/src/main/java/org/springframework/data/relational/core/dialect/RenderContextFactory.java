@@ -22,6 +22,7 @@ import org.springframework.data.relational.core.sql.render.NamingStrategies;
 import org.springframework.data.relational.core.sql.render.RenderContext;
 import org.springframework.data.relational.core.sql.render.RenderNamingStrategy;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
+import org.springframework.data.relational.core.sql.render.UpsertRenderContext;
 import org.springframework.util.Assert;
 
 /**
@@ -68,8 +69,9 @@ public class RenderContextFactory {
 	public RenderContext createRenderContext() {
 
 		SelectRenderContext select = dialect.getSelectContext();
+		UpsertRenderContext upsert = dialect.getUpsertContext();
 
-		return new DialectRenderContext(namingStrategy, dialect.getIdentifierProcessing(), select);
+		return new DialectRenderContext(namingStrategy, dialect.getIdentifierProcessing(), select, upsert);
 	}
 
 	/**
@@ -84,6 +86,8 @@ public class RenderContextFactory {
 
 		private final SelectRenderContext selectRenderContext;
 
+		private final UpsertRenderContext upsertRenderContext;
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.relational.core.sql.render.RenderContext#getNamingStrategy()
@@ -110,5 +114,14 @@ public class RenderContextFactory {
 		public SelectRenderContext getSelect() {
 			return selectRenderContext;
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.sql.render.RenderContext#getUpsert()
+		 */
+		@Override
+		public UpsertRenderContext getUpsert() {
+			return upsertRenderContext;
+		}
 	}
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import org.springframework.util.Assert;
+
+/**
+ * Interface declaring methods that express whether and how a dialect can estimate the number of rows of a table from
+ * catalog statistics, which is much cheaper than counting them with {@code SELECT COUNT(*)}.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public interface RowCountEstimates {
+
+	/**
+	 * Name of the bind parameter holding the name of the table as rendered into SQL, i.e. including quotes if the name is
+	 * quoted.
+	 */
+	String TABLE_PARAMETER = "table";
+
+	/**
+	 * Name of the bind parameter holding the plain name of the table without quotes.
+	 */
+	String TABLE_NAME_PARAMETER = "tableName";
+
+	/**
+	 * Returns {@literal true} if the dialect supports estimating the number of rows of a table.
+	 *
+	 * @return {@literal true} if row count estimates are supported.
+	 */
+	boolean isSupported();
+
+	/**
+	 * Returns a statement returning the estimated number of rows as a single row with a single numeric column. The
+	 * statement may use the bind parameters {@value #TABLE_PARAMETER} and {@value #TABLE_NAME_PARAMETER}. A negative
+	 * result or no row at all means no estimate is available.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @throws UnsupportedOperationException if the dialect doesn't support row count estimates.
+	 */
+	String getEstimateStatement();
+
+	/**
+	 * Creates a {@link RowCountEstimates} instance for a dialect estimating the number of rows with the given statement.
+	 *
+	 * @param statement the statement returning the estimate. Must not be {@literal null} or empty.
+	 * @return a {@link RowCountEstimates} instance. Guaranteed to be not {@literal null}.
+	 */
+	static RowCountEstimates supported(String statement) {
+
+		Assert.hasText(statement, "Statement must not be null or empty");
+
+		return new RowCountEstimates() {
+
+			@Override
+			public boolean isSupported() {
+				return true;
+			}
+
+			@Override
+			public String getEstimateStatement() {
+				return statement;
+			}
+		};
+	}
+
+	/**
+	 * Default {@link RowCountEstimates} implementation for dialects that can't estimate the number of rows.
+	 */
+	enum Unsupported implements RowCountEstimates {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.RowCountEstimates#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.RowCountEstimates#getEstimateStatement()
+		 */
+		@Override
+		public String getEstimateStatement() {
+			throw new UnsupportedOperationException("Row count estimates are not supported by the dialect");
+		}
+	}
+}
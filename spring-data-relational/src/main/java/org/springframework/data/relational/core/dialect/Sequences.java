@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import org.springframework.util.Assert;
+
+/**
+ * Interface declaring methods that express how a dialect supports database sequences, i.e. how to obtain the next value
+ * of a sequence.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public interface Sequences {
+
+	/**
+	 * Returns {@literal true} if the dialect supports sequences.
+	 *
+	 * @return {@literal true} if the dialect supports sequences.
+	 */
+	boolean isSupported();
+
+	/**
+	 * Creates a statement returning the next value of the given sequence as a single row with a single column.
+	 *
+	 * @param sequenceName the name of the sequence as rendered into SQL. Must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @throws UnsupportedOperationException if the dialect doesn't support sequences.
+	 */
+	String getNextValueStatement(String sequenceName);
+
+	/**
+	 * Creates a {@link Sequences} instance for a dialect obtaining the next value of a sequence with a statement created
+	 * from the given template.
+	 *
+	 * @param template a {@link String#format(String, Object...) format} string with a single placeholder for the name of
+	 *          the sequence, e.g. {@code SELECT NEXT VALUE FOR %s}. Must not be {@literal null}.
+	 * @return a {@link Sequences} instance. Guaranteed to be not {@literal null}.
+	 */
+	static Sequences supported(String template) {
+
+		Assert.hasText(template, "Template must not be null or empty");
+
+		return new Sequences() {
+
+			@Override
+			public boolean isSupported() {
+				return true;
+			}
+
+			@Override
+			public String getNextValueStatement(String sequenceName) {
+
+				Assert.hasText(sequenceName, "Sequence name must not be null or empty");
+
+				return String.format(template, sequenceName);
+			}
+		};
+	}
+
+	/**
+	 * Default {@link Sequences} implementation for dialects that do not support sequences.
+	 */
+	enum Unsupported implements Sequences {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.Sequences#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.Sequences#getNextValueStatement(java.lang.String)
+		 */
+		@Override
+		public String getNextValueStatement(String sequenceName) {
+			throw new UnsupportedOperationException("Sequences are not supported by the dialect");
+		}
+	}
+}
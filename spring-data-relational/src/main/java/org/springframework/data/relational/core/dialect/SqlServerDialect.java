@@ -16,6 +16,7 @@
 package org.springframework.data.relational.core.dialect;
 
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
+import org.springframework.data.relational.core.sql.render.UpsertRenderContext;
 import org.springframework.data.util.Lazy;
 
 /**
@@ -72,6 +73,14 @@ public class SqlServerDialect extends AbstractDialect {
 		}
 	};
 
+	// a table value constructor is limited to 1000 rows and a statement to 2100 parameters.
+	private static final MultiRowInserts MULTI_ROW_INSERTS = MultiRowInserts.supported(1000, 2100);
+
+	private static final Sequences SEQUENCES = Sequences.supported("SELECT NEXT VALUE FOR %s");
+
+	private static final RowCountEstimates ROW_COUNT_ESTIMATES = RowCountEstimates
+			.supported("SELECT SUM(p.rows) FROM sys.partitions p WHERE p.object_id = OBJECT_ID(:table) AND p.index_id IN (0, 1)");
+
 	private final Lazy<SelectRenderContext> selectRenderContext = Lazy
 			.of(() -> new SqlServerSelectRenderContext(getAfterOrderBy()));
 
@@ -84,6 +93,51 @@ public class SqlServerDialect extends AbstractDialect {
 		return LIMIT_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getMultiRowInsertSupport()
+	 */
+	@Override
+	public MultiRowInserts getMultiRowInsertSupport() {
+		return MULTI_ROW_INSERTS;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getUpsertContext()
+	 */
+	@Override
+	public UpsertRenderContext getUpsertContext() {
+		return Upserts.TERMINATED_MERGE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getSequenceSupport()
+	 */
+	@Override
+	public Sequences getSequenceSupport() {
+		return SEQUENCES;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#getRowCountEstimates()
+	 */
+	@Override
+	public RowCountEstimates getRowCountEstimates() {
+		return ROW_COUNT_ESTIMATES;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsWindowFunctions()
+	 */
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.AbstractDialect#getSelectContext()
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.relational.core.sql.render.UpsertParts;
+import org.springframework.data.relational.core.sql.render.UpsertRenderContext;
+
+/**
+ * The different flavours of upsert statements used by the various databases.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public enum Upserts implements UpsertRenderContext {
+
+	/**
+	 * {@code INSERT … ON CONFLICT (…) DO UPDATE SET …} as used by Postgres.
+	 */
+	ON_CONFLICT {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.sql.render.UpsertRenderContext#render(org.springframework.data.relational.core.sql.render.UpsertParts)
+		 */
+		@Override
+		public CharSequence render(UpsertParts parts) {
+
+			StringBuilder builder = insert(parts).append(" ON CONFLICT (").append(join(parts.getKeyColumns())).append(")");
+
+			List<CharSequence> updateColumns = parts.getUpdateColumns();
+			if (updateColumns.isEmpty()) {
+				return builder.append(" DO NOTHING");
+			}
+
+			return builder.append(" DO UPDATE SET ").append(join(updateColumns, it -> it + " = EXCLUDED." + it));
+		}
+	},
+
+	/**
+	 * {@code INSERT … ON DUPLICATE KEY UPDATE …} as used by MySQL and MariaDB. The key is determined by the primary key
+	 * and unique indexes of the table, not by the key columns of the upsert.
+	 */
+	ON_DUPLICATE_KEY_UPDATE {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.sql.render.UpsertRenderContext#render(org.springframework.data.relational.core.sql.render.UpsertParts)
+		 */
+		@Override
+		public CharSequence render(UpsertParts parts) {
+
+			List<CharSequence> updateColumns = parts.getUpdateColumns();
+
+			// an assignment is required, so without any other column the key gets assigned to itself.
+			List<CharSequence> assigned = updateColumns.isEmpty() ? parts.getKeyColumns().subList(0, 1) : updateColumns;
+
+			return insert(parts).append(" ON DUPLICATE KEY UPDATE ")
+					.append(join(assigned, it -> it + " = VALUES(" + it + ")"));
+		}
+	},
+
+	/**
+	 * The SQL standard {@code MERGE} statement as used by HSQLDB.
+	 */
+	MERGE {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.sql.render.UpsertRenderContext#render(org.springframework.data.relational.core.sql.render.UpsertParts)
+		 */
+		@Override
+		public CharSequence render(UpsertParts parts) {
+			return merge(parts);
+		}
+	},
+
+	/**
+	 * {@code MERGE} terminated by a semicolon as required by SQL Server.
+	 */
+	TERMINATED_MERGE {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.sql.render.UpsertRenderContext#render(org.springframework.data.relational.core.sql.render.UpsertParts)
+		 */
+		@Override
+		public CharSequence render(UpsertParts parts) {
+			return merge(parts).append(";");
+		}
+	};
+
+	private static final String SOURCE = "upsert_source";
+
+	private static StringBuilder insert(UpsertParts parts) {
+
+		return new StringBuilder("INSERT INTO ").append(parts.getTable()) //
+				.append(" (").append(join(parts.getColumns())).append(")") //
+				.append(" VALUES (").append(parts.getValues()).append(")");
+	}
+
+	private static StringBuilder merge(UpsertParts parts) {
+
+		CharSequence table = parts.getTable();
+
+		StringBuilder builder = new StringBuilder("MERGE INTO ").append(table) //
+				.append(" USING (VALUES (").append(parts.getValues()).append(")) AS ").append(SOURCE) //
+				.append(" (").append(join(parts.getColumns())).append(")") //
+				.append(" ON ").append(join(parts.getKeyColumns(), " AND ", it -> table + "." + it + " = " + SOURCE + "." + it));
+
+		List<CharSequence> updateColumns = parts.getUpdateColumns();
+		if (!updateColumns.isEmpty()) {
+			builder.append(" WHEN MATCHED THEN UPDATE SET ").append(join(updateColumns, it -> it + " = " + SOURCE + "." + it));
+		}
+
+		return builder.append(" WHEN NOT MATCHED THEN INSERT (").append(join(parts.getColumns())).append(")") //
+				.append(" VALUES (").append(join(parts.getColumns(), it -> SOURCE + "." + it)).append(")");
+	}
+
+	private static String join(List<CharSequence> parts) {
+		return join(parts, CharSequence::toString);
+	}
+
+	private static String join(List<CharSequence> parts, Function<CharSequence, String> mapper) {
+		return join(parts, ", ", mapper);
+	}
+
+	private static String join(List<CharSequence> parts, String delimiter, Function<CharSequence, String> mapper) {
+		return parts.stream().map(mapper).collect(Collectors.joining(delimiter));
+	}
+}
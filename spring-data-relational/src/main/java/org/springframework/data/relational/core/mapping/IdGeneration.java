@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the client side generation of identifiers for the annotated {@link org.springframework.data.annotation.Id}
+ * property. Entities with a client side generated id get their id assigned right before they get inserted. Compared to
+ * ids generated by the database this avoids retrieving generated keys after each insert and allows inserting multiple
+ * entities with a single statement.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface IdGeneration {
+
+	/**
+	 * The strategy used to generate ids.
+	 */
+	Strategy strategy() default Strategy.SEQUENCE;
+
+	/**
+	 * The name of the sequence to obtain ids from when using {@link Strategy#SEQUENCE}. Used as is, i.e. without quoting.
+	 */
+	String sequence() default "";
+
+	/**
+	 * The number of ids reserved with a single round trip to the database when using {@link Strategy#SEQUENCE}. The
+	 * sequence must get incremented by exactly this value, e.g. {@code CREATE SEQUENCE s INCREMENT BY 50}.
+	 */
+	int allocationSize() default 1;
+
+	/**
+	 * The available strategies for generating ids.
+	 */
+	enum Strategy {
+
+		/**
+		 * Obtain ids from a database sequence, reserving {@link IdGeneration#allocationSize()} ids with each call.
+		 */
+		SEQUENCE,
+
+		/**
+		 * Generate {@link java.util.UUID}s starting with the current time, so they are roughly ordered by creation time.
+		 *
+		 * @see TimeOrderedUuidGenerator
+		 */
+		TIME_ORDERED_UUID,
+
+		/**
+		 * Obtain ids from an {@link IdGenerator} registered for the entity type, e.g. with
+		 * {@code DefaultDataAccessStrategy#registerIdGenerator(Class, IdGenerator)}.
+		 */
+		CUSTOM
+	}
+}
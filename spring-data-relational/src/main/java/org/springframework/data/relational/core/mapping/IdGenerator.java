@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+/**
+ * Generates identifiers for entities on the client side, i.e. before the entity gets inserted.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ * @see IdGeneration
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+	/**
+	 * Generates the next identifier. Implementations must be thread safe.
+	 *
+	 * @return the generated identifier. Guaranteed to be not {@literal null}.
+	 */
+	Object generate();
+}
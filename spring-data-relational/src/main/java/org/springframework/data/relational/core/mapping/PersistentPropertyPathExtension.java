@@ -307,6 +307,19 @@ public class PersistentPropertyPathExtension {
 		return path == null ? SqlIdentifier.EMPTY : path.getRequiredLeafProperty().getKeyColumn();
 	}
 
+	/**
+	 * The alias used in select for the column used for the list index or map key of the leaf property of this path.
+	 *
+	 * @return May be {@literal null}.
+	 * @since 2.0
+	 */
+	@Nullable
+	public SqlIdentifier getQualifierColumnAlias() {
+
+		SqlIdentifier qualifierColumn = getQualifierColumn();
+		return qualifierColumn == null ? null : prefixWithTableAlias(qualifierColumn);
+	}
+
 	/**
 	 * The type of the qualifier column of the leaf property of this path or {@literal null} if this is not applicable.
 	 *
@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.mapping;
 
 import org.springframework.data.mapping.model.MutablePersistentEntity;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
 
 /**
  * A {@link org.springframework.data.mapping.PersistentEntity} interface with additional methods for JDBC/RDBMS related
@@ -40,4 +41,19 @@ public interface RelationalPersistentEntity<T> extends MutablePersistentEntity<T
 	 * @return will never be {@literal null}.
 	 */
 	SqlIdentifier getIdColumn();
+
+	/**
+	 * Returns how identifiers get generated on the client side as configured by an {@link IdGeneration} annotation on the
+	 * identifier property.
+	 *
+	 * @return the id generation configuration. {@literal null} if there is no identifier property or ids get generated
+	 *         by the database.
+	 * @since 2.0
+	 */
+	@Nullable
+	default IdGeneration getIdGeneration() {
+
+		RelationalPersistentProperty idProperty = getIdProperty();
+		return idProperty == null ? null : idProperty.findAnnotation(IdGeneration.class);
+	}
 }
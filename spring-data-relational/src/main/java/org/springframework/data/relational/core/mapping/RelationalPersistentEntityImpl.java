@@ -21,6 +21,7 @@ import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 /**
@@ -35,6 +36,7 @@ class RelationalPersistentEntityImpl<T> extends BasicPersistentEntity<T, Relatio
 
 	private final NamingStrategy namingStrategy;
 	private final Lazy<Optional<SqlIdentifier>> tableName;
+	private final Lazy<Optional<IdGeneration>> idGeneration;
 	private boolean forceQuote = true;
 
 	/**
@@ -53,6 +55,9 @@ class RelationalPersistentEntityImpl<T> extends BasicPersistentEntity<T, Relatio
 				.filter(StringUtils::hasText) //
 				.map(this::createSqlIdentifier) //
 		);
+		this.idGeneration = Lazy.of(() -> Optional.ofNullable(getIdProperty()) //
+				.map(idProperty -> idProperty.findAnnotation(IdGeneration.class)) //
+		);
 	}
 
 	private SqlIdentifier createSqlIdentifier(String name) {
@@ -96,6 +101,16 @@ class RelationalPersistentEntityImpl<T> extends BasicPersistentEntity<T, Relatio
 		return getRequiredIdProperty().getColumnName();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.mapping.RelationalPersistentEntity#getIdGeneration()
+	 */
+	@Override
+	@Nullable
+	public IdGeneration getIdGeneration() {
+		return idGeneration.get().orElse(null);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
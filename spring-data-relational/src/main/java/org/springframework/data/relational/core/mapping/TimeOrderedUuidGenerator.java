@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link IdGenerator} creating version 7 {@link UUID}s: the first 48 bits hold the current time in milliseconds since
+ * the epoch, the remaining bits, apart from version and variant, are random. Since ids generated later sort after ids
+ * generated earlier, inserts hit the end of an index on the id column instead of random pages, as they do with random
+ * UUIDs.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public class TimeOrderedUuidGenerator implements IdGenerator {
+
+	private static final long VERSION = 0x7000L;
+	private static final long VARIANT = 0x8000000000000000L;
+
+	private final LongSupplier clock;
+
+	/**
+	 * Creates a {@link TimeOrderedUuidGenerator} based on {@link System#currentTimeMillis()}.
+	 */
+	public TimeOrderedUuidGenerator() {
+		this(System::currentTimeMillis);
+	}
+
+	TimeOrderedUuidGenerator(LongSupplier clock) {
+
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.clock = clock;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.mapping.IdGenerator#generate()
+	 */
+	@Override
+	public UUID generate() {
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		long mostSignificantBits = (clock.getAsLong() << 16) | VERSION | (random.nextLong() & 0x0FFFL);
+		long leastSignificantBits = VARIANT | (random.nextLong() & 0x3FFFFFFFFFFFFFFFL);
+
+		return new UUID(mostSignificantBits, leastSignificantBits);
+	}
+}
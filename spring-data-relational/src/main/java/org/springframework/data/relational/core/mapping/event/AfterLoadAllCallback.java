@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping.event;
+
+import java.util.List;
+
+/**
+ * Callback that gets invoked once with all aggregates loaded by a single operation, e.g. {@code findAll}, after the
+ * {@link AfterLoadCallback}s of the individual aggregates. Unlike {@link AfterLoadCallback}s, implementations get
+ * discovered as beans of the {@link org.springframework.context.ApplicationContext} and can't replace the loaded
+ * instances.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+@FunctionalInterface
+public interface AfterLoadAllCallback<T> {
+
+	/**
+	 * Callback method invoked after a list of aggregate roots was loaded.
+	 *
+	 * @param aggregates the loaded aggregates. Guaranteed to be not {@literal null} nor empty.
+	 */
+	void onAfterLoadAll(List<T> aggregates);
+}
@@ -32,12 +32,17 @@ class DefaultInsert implements Insert {
 
 	private final Into into;
 	private final List<Column> columns;
-	private final Values values;
+	private final List<Values> values;
+
+	DefaultInsert(@Nullable Table into, List<Column> columns, List<List<Expression>> rows) {
 
-	DefaultInsert(@Nullable Table into, List<Column> columns, List<Expression> values) {
 		this.into = new Into(into);
 		this.columns = new ArrayList<>(columns);
-		this.values = new Values(new ArrayList<>(values));
+		this.values = new ArrayList<>(rows.size());
+
+		for (List<Expression> row : rows) {
+			this.values.add(new Values(new ArrayList<>(row)));
+		}
 	}
 
 	/* 
@@ -53,7 +58,7 @@ class DefaultInsert implements Insert {
 
 		into.visit(visitor);
 		columns.forEach(it -> it.visit(visitor));
-		values.visit(visitor);
+		values.forEach(it -> it.visit(visitor));
 
 		visitor.leave(this);
 	}
@@ -73,7 +78,11 @@ class DefaultInsert implements Insert {
 			builder.append(" (").append(StringUtils.collectionToDelimitedString(this.columns, ", ")).append(")");
 		}
 
-		builder.append(" ").append(this.values);
+		builder.append(" ").append(this.values.get(0));
+
+		for (int i = 1; i < this.values.size(); i++) {
+			builder.append(", ").append(this.values.get(i).toRowString());
+		}
 
 		return builder.toString();
 	}
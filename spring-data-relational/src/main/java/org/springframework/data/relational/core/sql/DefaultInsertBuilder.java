@@ -34,8 +34,13 @@ class DefaultInsertBuilder
 
 	private @Nullable Table into;
 	private List<Column> columns = new ArrayList<>();
+	private List<List<Expression>> rows = new ArrayList<>();
 	private List<Expression> values = new ArrayList<>();
 
+	DefaultInsertBuilder() {
+		rows.add(values);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.sql.InsertBuilder#into(org.springframework.data.relational.core.sql.Table)
@@ -129,12 +134,27 @@ class DefaultInsertBuilder
 		return this;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.InsertBuilder.InsertValuesWithBuild#nextRow()
+	 */
+	@Override
+	public InsertValues nextRow() {
+
+		Assert.state(!this.values.isEmpty(), "The current row must contain values before starting the next row!");
+
+		this.values = new ArrayList<>();
+		this.rows.add(this.values);
+
+		return this;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.sql.InsertBuilder.BuildInsert#build()
 	 */
 	@Override
 	public Insert build() {
-		return new DefaultInsert(this.into, this.columns, this.values);
+		return new DefaultInsert(this.into, this.columns, this.rows);
 	}
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link UpsertBuilder} implementation.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+class DefaultUpsertBuilder implements UpsertBuilder {
+
+	private @Nullable Table into;
+	private List<Column> columns = new ArrayList<>();
+	private List<Expression> values = new ArrayList<>();
+	private List<Column> keyColumns = new ArrayList<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.UpsertBuilder#into(org.springframework.data.relational.core.sql.Table)
+	 */
+	@Override
+	public UpsertBuilder into(Table table) {
+
+		Assert.notNull(table, "Upsert Into Table must not be null!");
+
+		this.into = table;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.UpsertBuilder#columns(java.util.Collection)
+	 */
+	@Override
+	public UpsertBuilder columns(Collection<Column> columns) {
+
+		Assert.notNull(columns, "Columns must not be null!");
+
+		this.columns.addAll(columns);
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.UpsertBuilder#values(java.util.Collection)
+	 */
+	@Override
+	public UpsertBuilder values(Collection<? extends Expression> values) {
+
+		Assert.notNull(values, "Values must not be null!");
+
+		this.values.addAll(values);
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.UpsertBuilder#onConflict(java.util.Collection)
+	 */
+	@Override
+	public UpsertBuilder onConflict(Collection<Column> keyColumns) {
+
+		Assert.notNull(keyColumns, "Key columns must not be null!");
+
+		this.keyColumns.addAll(keyColumns);
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.UpsertBuilder#build()
+	 */
+	@Override
+	public Upsert build() {
+
+		Assert.state(into != null, "Upsert requires a table");
+		Assert.state(!columns.isEmpty(), "Upsert requires at least one column");
+		Assert.state(columns.size() == values.size(), "Upsert requires one value per column");
+		Assert.state(!keyColumns.isEmpty(), "Upsert requires at least one key column");
+
+		return new DefaultUpsert(into, columns, values, keyColumns);
+	}
+}
@@ -53,6 +53,17 @@ public abstract class Expressions {
 		return table.asterisk();
 	}
 
+	/**
+	 * Creates a row value {@code (<expression 1>, <expression 2>, …)} {@link Expression}.
+	 *
+	 * @param expressions the elements of the row value. Must not be {@literal null} or empty.
+	 * @return a new {@link RowValue}.
+	 * @since 2.0
+	 */
+	public static RowValue rowValue(Expression... expressions) {
+		return RowValue.create(expressions);
+	}
+
 	@Override
 	public boolean equals(Object obj) {
     if (obj == null || this.getClass() != obj.getClass()) return false; //NOSONAR
@@ -18,6 +18,7 @@ package org.springframework.data.relational.core.sql;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 
 import org.springframework.util.Assert;
 
@@ -60,6 +61,34 @@ public class Functions {
 		return SimpleFunction.create("COUNT", new ArrayList<>(columns));
 	}
 
+	/**
+	 * Creates a new {@code COUNT} window function over all rows of the result, i.e. {@code COUNT(*) OVER()}, which
+	 * provides the total number of rows in each row of a limited result.
+	 *
+	 * @param columns columns to apply count, must not be {@literal null}.
+	 * @return the new {@link SimpleFunction count window function} for {@code columns}.
+	 * @since 2.0
+	 * @see SimpleFunction#over()
+	 */
+	public static SimpleFunction countOver(Expression... columns) {
+		return count(columns).over();
+	}
+
+	/**
+	 * Creates a new {@code ANY} function comparing a value with all elements of an array, e.g. {@code id = ANY(:ids)}.
+	 *
+	 * @param array the array expression, typically a bind marker, must not be {@literal null}.
+	 * @return the new {@link SimpleFunction any function} for {@code array}.
+	 * @since 2.0
+	 * @see Column#isEqualTo(Expression)
+	 */
+	public static SimpleFunction any(Expression array) {
+
+		Assert.notNull(array, "Array expression must not be null!");
+
+		return SimpleFunction.create("ANY", Collections.singletonList(array));
+	}
+
 	// Utility constructor.
 	private Functions() {}
 }
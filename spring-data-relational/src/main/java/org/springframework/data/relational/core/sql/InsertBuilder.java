@@ -117,6 +117,15 @@ public interface InsertBuilder {
 	 */
 	interface InsertValuesWithBuild extends InsertValues, BuildInsert {
 
+		/**
+		 * Start a further row of the {@code VALUES} clause. Values added afterwards end up in the new row, rendering
+		 * {@code VALUES (…), (…)}.
+		 *
+		 * @return {@code this} builder.
+		 * @since 2.0
+		 */
+		InsertValues nextRow();
+
 		/**
 		 * Add a {@link Expression value} to the {@code VALUES} list. Calling this method multiple times will add a
 		 * {@link Expression value} multiple times.
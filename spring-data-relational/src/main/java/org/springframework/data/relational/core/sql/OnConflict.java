@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.List;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * The key columns of an {@link Upsert} identifying the row that conflicts with the row to be inserted.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public class OnConflict extends AbstractSegment {
+
+	private final List<Column> columns;
+
+	OnConflict(List<Column> columns) {
+
+		super(columns.toArray(new Column[0]));
+
+		this.columns = columns;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "ON CONFLICT (" + StringUtils.collectionToDelimitedString(columns, ", ") + ")";
+	}
+}
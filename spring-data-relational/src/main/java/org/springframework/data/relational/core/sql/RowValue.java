@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Row value constructor {@link Expression} combining multiple {@link Expression}s into a single row value, e.g. for
+ * comparing multiple columns at once: {@code (last_name, id) > (:last_name, :id)}.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ * @see Conditions#isGreater(Expression, Expression)
+ */
+public class RowValue extends AbstractSegment implements Expression {
+
+	private final List<Expression> expressions;
+
+	private RowValue(List<Expression> expressions) {
+
+		super(expressions.toArray(new Expression[0]));
+
+		this.expressions = expressions;
+	}
+
+	/**
+	 * Creates a new {@link RowValue} from the given {@link Expression}s.
+	 *
+	 * @param expressions the elements of the row value. Must not be {@literal null} or empty.
+	 * @return the {@link RowValue}.
+	 */
+	public static RowValue create(Expression... expressions) {
+
+		Assert.notNull(expressions, "Expressions must not be null!");
+
+		return create(Arrays.asList(expressions));
+	}
+
+	/**
+	 * Creates a new {@link RowValue} from the given {@link Expression}s.
+	 *
+	 * @param expressions the elements of the row value. Must not be {@literal null} or empty.
+	 * @return the {@link RowValue}.
+	 */
+	public static RowValue create(List<? extends Expression> expressions) {
+
+		Assert.notEmpty(expressions, "Expressions must not be empty!");
+		Assert.noNullElements(expressions.toArray(), "Expressions must not contain null elements!");
+
+		return new RowValue(new ArrayList<>(expressions));
+	}
+
+	/**
+	 * @return the elements of the row value.
+	 */
+	public List<Expression> getExpressions() {
+		return expressions;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "(" + StringUtils.collectionToDelimitedString(expressions, ", ") + ")";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+
+		RowValue other = (RowValue) obj;
+		return expressions.equals(other.expressions);
+	}
+
+	@Override
+	public int hashCode() {
+		return expressions.hashCode();
+	}
+}
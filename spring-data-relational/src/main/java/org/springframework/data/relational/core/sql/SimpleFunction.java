@@ -31,13 +31,15 @@ public class SimpleFunction extends AbstractSegment implements Expression {
 
 	private String functionName;
 	private List<Expression> expressions;
+	private final boolean windowFunction;
 
-	private SimpleFunction(String functionName, List<Expression> expressions) {
+	private SimpleFunction(String functionName, List<Expression> expressions, boolean windowFunction) {
 
 		super(expressions.toArray(new Expression[0]));
 
 		this.functionName = functionName;
 		this.expressions = expressions;
+		this.windowFunction = windowFunction;
 	}
 
 	/**
@@ -52,7 +54,7 @@ public class SimpleFunction extends AbstractSegment implements Expression {
 		Assert.hasText(functionName, "Function name must not be null or empty");
 		Assert.notNull(expressions, "Expressions name must not be null");
 
-		return new SimpleFunction(functionName, expressions);
+		return new SimpleFunction(functionName, expressions, false);
 	}
 
 	/**
@@ -65,7 +67,7 @@ public class SimpleFunction extends AbstractSegment implements Expression {
 
 		Assert.hasText(alias, "Alias must not be null or empty");
 
-		return new AliasedFunction(functionName, expressions, SqlIdentifier.unquoted(alias));
+		return new AliasedFunction(functionName, expressions, windowFunction, SqlIdentifier.unquoted(alias));
 	}
 
 	/**
@@ -79,7 +81,18 @@ public class SimpleFunction extends AbstractSegment implements Expression {
 
 		Assert.notNull(alias, "Alias must not be null");
 
-		return new AliasedFunction(functionName, expressions, alias);
+		return new AliasedFunction(functionName, expressions, windowFunction, alias);
+	}
+
+	/**
+	 * Applies this function as window function to all rows of the result, i.e. {@code COUNT(*) OVER()}. The result
+	 * gets computed before {@code LIMIT} and {@code OFFSET} are applied.
+	 *
+	 * @return the {@link SimpleFunction} applied over all rows.
+	 * @since 2.0
+	 */
+	public SimpleFunction over() {
+		return new SimpleFunction(functionName, expressions, true);
 	}
 
 	/**
@@ -97,13 +110,23 @@ public class SimpleFunction extends AbstractSegment implements Expression {
 		return Collections.unmodifiableList(expressions);
 	}
 
+	/**
+	 * @return {@literal true} if the function gets applied as window function.
+	 * @since 2.0
+	 * @see #over()
+	 */
+	public boolean isWindowFunction() {
+		return windowFunction;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
-		return functionName + "(" + StringUtils.collectionToDelimitedString(expressions, ", ") + ")";
+		return functionName + "(" + StringUtils.collectionToDelimitedString(expressions, ", ") + ")"
+				+ (windowFunction ? " OVER()" : "");
 	}
 
 	@Override
@@ -127,8 +150,8 @@ public class SimpleFunction extends AbstractSegment implements Expression {
 
 		private final SqlIdentifier alias;
 
-		AliasedFunction(String functionName, List<Expression> expressions, SqlIdentifier alias) {
-			super(functionName, expressions);
+		AliasedFunction(String functionName, List<Expression> expressions, boolean windowFunction, SqlIdentifier alias) {
+			super(functionName, expressions, windowFunction);
 			this.alias = alias;
 		}
 
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+/**
+ * AST for an {@code UPSERT} statement, i.e. an {@code INSERT} that updates the existing row instead if a row with the
+ * same key columns already exists. There is no standard SQL syntax for this, so the actual statement depends on the
+ * dialect used for rendering. Visiting order:
+ * <ol>
+ * <li>Self</li>
+ * <li>{@link Into INTO table} clause</li>
+ * <li>{@link Column columns}</li>
+ * <li>{@link Values VALUEs}</li>
+ * <li>{@link OnConflict key columns}</li>
+ * </ol>
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ * @see UpsertBuilder
+ */
+public interface Upsert extends Segment, Visitable {
+
+	/**
+	 * Creates a new {@link UpsertBuilder}.
+	 *
+	 * @return a new {@link UpsertBuilder}.
+	 */
+	static UpsertBuilder builder() {
+		return new DefaultUpsertBuilder();
+	}
+}
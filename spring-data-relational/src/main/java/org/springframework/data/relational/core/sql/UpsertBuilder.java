@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.Collection;
+
+/**
+ * Entry point to construct an {@link Upsert} statement.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public interface UpsertBuilder {
+
+	/**
+	 * Declare the {@link Table} to insert into or update.
+	 *
+	 * @param table the table, must not be {@literal null}.
+	 * @return {@code this} builder.
+	 */
+	UpsertBuilder into(Table table);
+
+	/**
+	 * Add one or more {@link Column columns} to the column list.
+	 *
+	 * @param columns the columns, must not be {@literal null}.
+	 * @return {@code this} builder.
+	 */
+	UpsertBuilder columns(Collection<Column> columns);
+
+	/**
+	 * Add one or more {@link Expression values} to the {@code VALUES} list. There must be one value for each column.
+	 *
+	 * @param values the values, must not be {@literal null}.
+	 * @return {@code this} builder.
+	 */
+	UpsertBuilder values(Collection<? extends Expression> values);
+
+	/**
+	 * Declare the key columns used to detect an existing row. Key columns must also be part of the column list and are never
+	 * updated.
+	 *
+	 * @param keyColumns the key columns, must not be {@literal null}.
+	 * @return {@code this} builder.
+	 */
+	UpsertBuilder onConflict(Collection<Column> keyColumns);
+
+	/**
+	 * Build the {@link Upsert} statement.
+	 *
+	 * @return the build and immutable {@link Upsert} statement.
+	 */
+	Upsert build();
+}
@@ -47,7 +47,11 @@ public class Values extends AbstractSegment {
 	 */
 	@Override
 	public String toString() {
-		return "VALUES(" + StringUtils.collectionToDelimitedString(tables, ", ") + ")";
+		return "VALUES" + toRowString();
+	}
+
+	String toRowString() {
+		return "(" + StringUtils.collectionToDelimitedString(tables, ", ") + ")";
 	}
 
 	@Override
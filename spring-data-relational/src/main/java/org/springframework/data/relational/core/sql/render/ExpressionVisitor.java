@@ -21,6 +21,8 @@ import org.springframework.data.relational.core.sql.Condition;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Literal;
 import org.springframework.data.relational.core.sql.Named;
+import org.springframework.data.relational.core.sql.RowValue;
+import org.springframework.data.relational.core.sql.SimpleFunction;
 import org.springframework.data.relational.core.sql.SubselectExpression;
 import org.springframework.data.relational.core.sql.Visitable;
 import org.springframework.lang.Nullable;
@@ -33,6 +35,8 @@ import org.springframework.lang.Nullable;
  * @since 1.1
  * @see Column
  * @see SubselectExpression
+ * @see RowValue
+ * @see SimpleFunction
  */
 class ExpressionVisitor extends TypedSubtreeVisitor<Expression> implements PartRenderer {
 
@@ -59,6 +63,20 @@ class ExpressionVisitor extends TypedSubtreeVisitor<Expression> implements PartR
 			return Delegation.delegateTo(visitor);
 		}
 
+		if (segment instanceof RowValue) {
+
+			RowValueVisitor visitor = new RowValueVisitor(context);
+			partRenderer = visitor;
+			return Delegation.delegateTo(visitor);
+		}
+
+		if (segment instanceof SimpleFunction) {
+
+			SimpleFunctionVisitor visitor = new SimpleFunctionVisitor(context);
+			partRenderer = visitor;
+			return Delegation.delegateTo(visitor);
+		}
+
 		if (segment instanceof Column) {
 
 			Column column = (Column) segment;
@@ -35,12 +35,14 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 	private StringBuilder columns = new StringBuilder();
 	private StringBuilder values = new StringBuilder();
 
+	private final RenderContext context;
 	private IntoClauseVisitor intoClauseVisitor;
 	private ColumnVisitor columnVisitor;
-	private ValuesVisitor valuesVisitor;
 
 	InsertStatementVisitor(RenderContext context) {
 
+		this.context = context;
+
 		this.intoClauseVisitor = new IntoClauseVisitor(context, it -> {
 
 			if (into.length() != 0) {
@@ -58,8 +60,6 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 
 			columns.append(it);
 		});
-
-		this.valuesVisitor = new ValuesVisitor(context, values::append);
 	}
 
 	/*
@@ -78,7 +78,16 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 		}
 
 		if (segment instanceof Values) {
-			return Delegation.delegateTo(this.valuesVisitor);
+
+			// each row of a multi row insert gets rendered by its own visitor.
+			return Delegation.delegateTo(new ValuesVisitor(context, it -> {
+
+				if (values.length() != 0) {
+					values.append(", ");
+				}
+
+				values.append("(").append(it).append(")");
+			}));
 		}
 
 		return Delegation.retain();
@@ -101,7 +110,7 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 				builder.append(" (").append(columns).append(")");
 			}
 
-			builder.append(" VALUES (").append(values).append(")");
+			builder.append(" VALUES ").append(values);
 
 			return Delegation.leave();
 		}
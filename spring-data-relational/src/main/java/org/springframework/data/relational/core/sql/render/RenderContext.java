@@ -44,4 +44,15 @@ public interface RenderContext {
 	 * @return the {@link SelectRenderContext}.
 	 */
 	SelectRenderContext getSelect();
+
+	/**
+	 * Returns the {@link UpsertRenderContext}. Dialects without upsert support return
+	 * {@link UpsertRenderContext.Unsupported}.
+	 *
+	 * @return the {@link UpsertRenderContext}.
+	 * @since 2.0
+	 */
+	default UpsertRenderContext getUpsert() {
+		return UpsertRenderContext.Unsupported.INSTANCE;
+	}
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.RowValue;
+import org.springframework.data.relational.core.sql.Visitable;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link PartRenderer} for {@link RowValue}s, rendering the elements as comma separated list in parenthesis.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+class RowValueVisitor extends TypedSubtreeVisitor<RowValue> implements PartRenderer {
+
+	private final RenderContext context;
+	private final StringBuilder part = new StringBuilder();
+
+	private @Nullable ExpressionVisitor current;
+	private boolean first = true;
+
+	RowValueVisitor(RenderContext context) {
+		this.context = context;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.TypedSubtreeVisitor#enterMatched(org.springframework.data.relational.core.sql.Visitable)
+	 */
+	@Override
+	Delegation enterMatched(RowValue segment) {
+
+		part.append('(');
+
+		return super.enterMatched(segment);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.TypedSubtreeVisitor#enterNested(org.springframework.data.relational.core.sql.Visitable)
+	 */
+	@Override
+	Delegation enterNested(Visitable segment) {
+
+		if (segment instanceof Expression) {
+			this.current = new ExpressionVisitor(context);
+			return Delegation.delegateTo(this.current);
+		}
+
+		return super.enterNested(segment);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.TypedSubtreeVisitor#leaveNested(org.springframework.data.relational.core.sql.Visitable)
+	 */
+	@Override
+	Delegation leaveNested(Visitable segment) {
+
+		if (this.current != null) {
+
+			if (first) {
+				first = false;
+			} else {
+				part.append(", ");
+			}
+
+			part.append(this.current.getRenderedPart());
+			this.current = null;
+		}
+
+		return super.leaveNested(segment);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.TypedSubtreeVisitor#leaveMatched(org.springframework.data.relational.core.sql.Visitable)
+	 */
+	@Override
+	Delegation leaveMatched(RowValue segment) {
+
+		part.append(')');
+
+		return super.leaveMatched(segment);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.PartRenderer#getRenderedPart()
+	 */
+	@Override
+	public CharSequence getRenderedPart() {
+		return part;
+	}
+}
@@ -89,6 +89,9 @@ class SelectListVisitor extends TypedSubtreeVisitor<SelectList> implements PartR
 		if (segment instanceof SimpleFunction) {
 
 			builder.append(")");
+			if (((SimpleFunction) segment).isWindowFunction()) {
+				builder.append(" OVER()");
+			}
 			if (segment instanceof Aliased) {
 				builder.append(" AS ").append(NameRenderer.render(context, (Aliased) segment));
 			}
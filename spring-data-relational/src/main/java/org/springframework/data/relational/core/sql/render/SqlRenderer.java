@@ -19,6 +19,7 @@ import org.springframework.data.relational.core.sql.Delete;
 import org.springframework.data.relational.core.sql.Insert;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.Update;
+import org.springframework.data.relational.core.sql.Upsert;
 import org.springframework.util.Assert;
 
 /**
@@ -154,4 +155,19 @@ public class SqlRenderer implements Renderer {
 
 		return visitor.getRenderedPart().toString();
 	}
+
+	/**
+	 * Render the {@link Upsert} AST into a SQL statement. Requires a {@link RenderContext} supporting upserts.
+	 *
+	 * @return the rendered statement.
+	 * @see RenderContext#getUpsert()
+	 */
+	@Override
+	public String render(Upsert upsert) {
+
+		UpsertStatementVisitor visitor = new UpsertStatementVisitor(context);
+		upsert.visit(visitor);
+
+		return visitor.getRenderedPart().toString();
+	}
 }
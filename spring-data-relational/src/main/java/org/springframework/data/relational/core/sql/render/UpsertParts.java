@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.relational.core.sql.Upsert;
+
+/**
+ * The rendered parts of an {@link Upsert} to be assembled into a statement by an {@link UpsertRenderContext}.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+@Value
+public class UpsertParts {
+
+	/**
+	 * The rendered table name.
+	 */
+	CharSequence table;
+
+	/**
+	 * The rendered names of all columns, unqualified.
+	 */
+	List<CharSequence> columns;
+
+	/**
+	 * The rendered values, separated by comma, without surrounding parenthesis.
+	 */
+	CharSequence values;
+
+	/**
+	 * The rendered names of the key columns, unqualified.
+	 */
+	List<CharSequence> keyColumns;
+
+	/**
+	 * @return the rendered names of the columns to update when a row with the same key already exists, i.e. all columns
+	 *         that aren't key columns.
+	 */
+	public List<CharSequence> getUpdateColumns() {
+
+		List<String> keys = keyColumns.stream().map(CharSequence::toString).collect(Collectors.toList());
+
+		return columns.stream().filter(it -> !keys.contains(it.toString())).collect(Collectors.toList());
+	}
+}
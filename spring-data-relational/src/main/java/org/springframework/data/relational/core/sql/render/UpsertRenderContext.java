@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import org.springframework.data.relational.core.sql.Upsert;
+
+/**
+ * Render context for {@link Upsert} statements. There is no standard SQL syntax for an upsert, so each dialect
+ * supporting upserts provides an implementation assembling the statement from the already rendered
+ * {@link UpsertParts parts}.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+public interface UpsertRenderContext {
+
+	/**
+	 * Returns {@literal true} if the dialect supports upserts.
+	 *
+	 * @return {@literal true} if the dialect supports upserts.
+	 */
+	default boolean isSupported() {
+		return true;
+	}
+
+	/**
+	 * Assembles the upsert statement.
+	 *
+	 * @param parts the rendered parts of the {@link Upsert}, must not be {@literal null}.
+	 * @return the rendered statement.
+	 */
+	CharSequence render(UpsertParts parts);
+
+	/**
+	 * Default {@link UpsertRenderContext} for dialects that do not support upserts.
+	 */
+	enum Unsupported implements UpsertRenderContext {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.sql.render.UpsertRenderContext#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.sql.render.UpsertRenderContext#render(org.springframework.data.relational.core.sql.render.UpsertParts)
+		 */
+		@Override
+		public CharSequence render(UpsertParts parts) {
+			throw new UnsupportedOperationException("Upserts are not supported by the dialect");
+		}
+	}
+}
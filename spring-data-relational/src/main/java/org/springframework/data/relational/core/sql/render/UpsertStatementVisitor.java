@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Into;
+import org.springframework.data.relational.core.sql.OnConflict;
+import org.springframework.data.relational.core.sql.Upsert;
+import org.springframework.data.relational.core.sql.Values;
+import org.springframework.data.relational.core.sql.Visitable;
+
+/**
+ * {@link PartRenderer} for {@link Upsert} statements. Renders the individual parts and leaves assembling them to the
+ * {@link UpsertRenderContext} of the {@link RenderContext}.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ */
+class UpsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
+
+	private final StringBuilder into = new StringBuilder();
+	private final List<CharSequence> columns = new ArrayList<>();
+	private final StringBuilder values = new StringBuilder();
+	private final List<CharSequence> keyColumns = new ArrayList<>();
+
+	private final RenderContext context;
+	private final IntoClauseVisitor intoClauseVisitor;
+	private final ColumnVisitor columnVisitor;
+	private final ColumnVisitor keyColumnVisitor;
+	private final ValuesVisitor valuesVisitor;
+
+	private CharSequence rendered = "";
+	private boolean inOnConflict = false;
+
+	UpsertStatementVisitor(RenderContext context) {
+
+		this.context = context;
+		this.intoClauseVisitor = new IntoClauseVisitor(context, into::append);
+		this.columnVisitor = new ColumnVisitor(context, false, columns::add);
+		this.keyColumnVisitor = new ColumnVisitor(context, false, keyColumns::add);
+		this.valuesVisitor = new ValuesVisitor(context, values::append);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.DelegatingVisitor#doEnter(org.springframework.data.relational.core.sql.Visitable)
+	 */
+	@Override
+	public Delegation doEnter(Visitable segment) {
+
+		if (segment instanceof Into) {
+			return Delegation.delegateTo(this.intoClauseVisitor);
+		}
+
+		if (segment instanceof OnConflict) {
+			inOnConflict = true;
+			return Delegation.retain();
+		}
+
+		if (segment instanceof Column) {
+			return Delegation.delegateTo(inOnConflict ? this.keyColumnVisitor : this.columnVisitor);
+		}
+
+		if (segment instanceof Values) {
+			return Delegation.delegateTo(this.valuesVisitor);
+		}
+
+		return Delegation.retain();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.DelegatingVisitor#doLeave(org.springframework.data.relational.core.sql.Visitable)
+	 */
+	@Override
+	public Delegation doLeave(Visitable segment) {
+
+		if (segment instanceof OnConflict) {
+			inOnConflict = false;
+		}
+
+		if (segment instanceof Upsert) {
+
+			rendered = context.getUpsert().render(new UpsertParts(into, columns, values, keyColumns));
+			return Delegation.leave();
+		}
+
+		return Delegation.retain();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.PartRenderer#getRenderedPart()
+	 */
+	@Override
+	public CharSequence getRenderedPart() {
+		return rendered;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.domain;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * Position within a sorted result for keyset (aka seek) pagination. It holds the values of the sort properties of the
+ * last element of the previous {@link Window}, keyed by property name. The next {@link Window} starts with the first
+ * element sorted after these values, so reading a page doesn't require skipping all the preceding rows.
+ *
+ * @author Jens Schauder
+ * @since 2.0
+ * @see Window#getNextPosition()
+ */
+@EqualsAndHashCode
+@ToString
+public final class KeysetScrollPosition {
+
+	private static final KeysetScrollPosition INITIAL = new KeysetScrollPosition(Collections.emptyMap());
+
+	private final Map<String, Object> keys;
+
+	private KeysetScrollPosition(Map<String, Object> keys) {
+		this.keys = keys;
+	}
+
+	/**
+	 * Returns the position before the first element.
+	 *
+	 * @return the initial {@link KeysetScrollPosition}.
+	 */
+	public static KeysetScrollPosition initial() {
+		return INITIAL;
+	}
+
+	/**
+	 * Creates a {@link KeysetScrollPosition} from the values of the sort properties of the last element read.
+	 *
+	 * @param keys the values keyed by property name. Must not be {@literal null}.
+	 * @return a {@link KeysetScrollPosition}. The initial position if {@code keys} is empty.
+	 */
+	public static KeysetScrollPosition of(Map<String, ?> keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+
+		if (keys.isEmpty()) {
+			return INITIAL;
+		}
+
+		return new KeysetScrollPosition(Collections.unmodifiableMap(new LinkedHashMap<>(keys)));
+	}
+
+	/**
+	 * @return {@literal true} if this is the position before the first element.
+	 */
+	public boolean isInitial() {
+		return keys.isEmpty();
+	}
+
+	/**
+	 * @return the values of the sort properties keyed by property name. Guaranteed to be not {@literal null}.
+	 */
+	public Map<String, Object> getKeys() {
+		return keys;
+	}
+}
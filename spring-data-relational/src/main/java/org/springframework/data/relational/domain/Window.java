@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.domain;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.data.util.Streamable;
+import org.springframework.util.Assert;
+
+/**
+ * A chunk of elements read using keyset pagination, together with the {@link KeysetScrollPosition} to read the next
+ * {@link Window} from.
+ *
+ * @param <T> the type of the elements.
+ * @author Jens Schauder
+ * @since 2.0
+ */
+@EqualsAndHashCode
+@ToString
+public final class Window<T> implements Streamable<T> {
+
+	private final List<T> content;
+	private final boolean hasNext;
+	private final KeysetScrollPosition nextPosition;
+
+	private Window(List<T> content, boolean hasNext, KeysetScrollPosition nextPosition) {
+
+		this.content = content;
+		this.hasNext = hasNext;
+		this.nextPosition = nextPosition;
+	}
+
+	/**
+	 * Creates a new {@link Window}.
+	 *
+	 * @param content the elements of the window. Must not be {@literal null}.
+	 * @param hasNext whether there are more elements after the ones in this window.
+	 * @param nextPosition the position to read the next {@link Window} from. Must not be {@literal null}.
+	 * @return a new {@link Window}.
+	 */
+	public static <T> Window<T> from(List<T> content, boolean hasNext, KeysetScrollPosition nextPosition) {
+
+		Assert.notNull(content, "Content must not be null!");
+		Assert.notNull(nextPosition, "Next position must not be null!");
+
+		return new Window<>(Collections.unmodifiableList(new ArrayList<>(content)), hasNext, nextPosition);
+	}
+
+	/**
+	 * @return the elements of this window. Guaranteed to be not {@literal null}.
+	 */
+	public List<T> getContent() {
+		return content;
+	}
+
+	/**
+	 * @return the number of elements in this window.
+	 */
+	public int size() {
+		return content.size();
+	}
+
+	/**
+	 * @return {@literal true} if there are more elements after the ones in this window.
+	 */
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	/**
+	 * Returns the position after the last element of this window. For an empty window this is the position the window
+	 * was read from.
+	 *
+	 * @return the position to read the next {@link Window} from. Guaranteed to be not {@literal null}.
+	 */
+	public KeysetScrollPosition getNextPosition() {
+		return nextPosition;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return content.iterator();
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+/**
+ * Unit tests for {@link AggregateSnapshot}.
+ *
+ * @author Jens Schauder
+ */
+public class AggregateSnapshotUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+
+	@Test
+	public void snapshotsOfUnchangedAggregateAreEqual() {
+
+		Root root = createRoot();
+
+		AggregateSnapshot before = AggregateSnapshot.of(context, root);
+		AggregateSnapshot after = AggregateSnapshot.of(context, root);
+
+		assertThat(after).isEqualTo(before);
+		assertThat(after.hasSameRootState(before)).isTrue();
+		assertThat(after.hasSameReferencedState(before)).isTrue();
+	}
+
+	@Test
+	public void detectsChangeOfRoot() {
+
+		Root root = createRoot();
+		AggregateSnapshot before = AggregateSnapshot.of(context, root);
+
+		root.name = "changed";
+		AggregateSnapshot after = AggregateSnapshot.of(context, root);
+
+		assertThat(after.hasSameRootState(before)).isFalse();
+		assertThat(after.hasSameReferencedState(before)).isTrue();
+	}
+
+	@Test
+	public void detectsChangeOfReferencedEntity() {
+
+		Root root = createRoot();
+		AggregateSnapshot before = AggregateSnapshot.of(context, root);
+
+		root.elements.get(1).content = "changed";
+		AggregateSnapshot after = AggregateSnapshot.of(context, root);
+
+		assertThat(after.hasSameRootState(before)).isTrue();
+		assertThat(after.hasSameReferencedState(before)).isFalse();
+	}
+
+	@Test
+	public void detectsRemovalOfReferencedEntity() {
+
+		Root root = createRoot();
+		AggregateSnapshot before = AggregateSnapshot.of(context, root);
+
+		root.elements.remove(0);
+		AggregateSnapshot after = AggregateSnapshot.of(context, root);
+
+		assertThat(after.hasSameReferencedState(before)).isFalse();
+	}
+
+	@Test
+	public void detectsInPlaceModificationOfArray() {
+
+		Root root = createRoot();
+		AggregateSnapshot before = AggregateSnapshot.of(context, root);
+
+		root.data[0] = 42;
+		AggregateSnapshot after = AggregateSnapshot.of(context, root);
+
+		assertThat(after.hasSameRootState(before)).isFalse();
+	}
+
+	private static Root createRoot() {
+
+		Root root = new Root(23L, "name", new byte[] { 1, 2, 3 });
+		root.elements.add(new Element(1L, "one"));
+		root.elements.add(new Element(2L, "two"));
+		return root;
+	}
+
+	@AllArgsConstructor
+	static class Root {
+
+		@Id Long id;
+		String name;
+		byte[] data;
+		final List<Element> elements = new ArrayList<>();
+	}
+
+	@AllArgsConstructor
+	static class Element {
+
+		@Id Long id;
+		String content;
+	}
+}
@@ -17,14 +17,22 @@ package org.springframework.data.relational.core.conversion;
 
 import static org.assertj.core.api.Assertions.*;
 
+import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.conversion.AggregateChange.Kind;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 
 /**
  * Unit tests for the {@link RelationalEntityUpdateWriter}
@@ -57,6 +65,160 @@ public class RelationalEntityUpdateWriterUnitTests {
 				);
 	}
 
+	@Test
+	public void differentialUpdateOfEntitiesWithIdOnlyWritesChanges() {
+
+		ListContainer previous = new ListContainer(SOME_ENTITY_ID);
+		previous.elements.add(new ListElement(1L, "unchanged"));
+		previous.elements.add(new ListElement(2L, "old"));
+		previous.elements.add(new ListElement(3L, "removed"));
+
+		ListContainer entity = new ListContainer(SOME_ENTITY_ID);
+		entity.elements.add(new ListElement(1L, "unchanged"));
+		entity.elements.add(new ListElement(2L, "changed"));
+		entity.elements.add(new ListElement(null, "new"));
+
+		AggregateChange<ListContainer> aggregateChange = new AggregateChange<>(Kind.SAVE, ListContainer.class, entity);
+
+		converter.write(entity, previous, aggregateChange);
+
+		assertThat(aggregateChange.getActions()) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, ListContainer.class, ""), //
+						tuple(DbAction.DeleteByIdentifier.class, ListElement.class, "elements"), //
+						tuple(DbAction.Update.class, ListElement.class, "elements"), //
+						tuple(DbAction.Insert.class, ListElement.class, "elements") //
+				);
+
+		DbAction.DeleteByIdentifier<?> delete = (DbAction.DeleteByIdentifier<?>) aggregateChange.getActions().get(1);
+		assertThat(delete.getIdentifier().toMap()).containsExactly(entry(SqlIdentifier.unquoted("id"), 3L));
+
+		DbAction.Insert<?> insert = (DbAction.Insert<?>) aggregateChange.getActions().get(3);
+		assertThat(insert.getQualifiers()).containsValue(2);
+	}
+
+	@Test
+	public void differentialUpdateOfEntitiesWithPresetIdMissingInPreviousStateUsesMerge() {
+
+		ListContainer previous = new ListContainer(SOME_ENTITY_ID);
+
+		ListContainer entity = new ListContainer(SOME_ENTITY_ID);
+		entity.elements.add(new ListElement(4711L, "preset"));
+
+		AggregateChange<ListContainer> aggregateChange = new AggregateChange<>(Kind.SAVE, ListContainer.class, entity);
+
+		converter.write(entity, previous, aggregateChange);
+
+		assertThat(aggregateChange.getActions()) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, ListContainer.class, ""), //
+						tuple(DbAction.Merge.class, ListElement.class, "elements") //
+				);
+	}
+
+	@Test
+	public void differentialUpdateOfEntitiesWithoutIdComparesByKey() {
+
+		MapContainer previous = new MapContainer(SOME_ENTITY_ID);
+		previous.elements.put("unchanged", new KeyedElement("a"));
+		previous.elements.put("changed", new KeyedElement("b"));
+		previous.elements.put("removed", new KeyedElement("c"));
+
+		MapContainer entity = new MapContainer(SOME_ENTITY_ID);
+		entity.elements.put("unchanged", new KeyedElement("a"));
+		entity.elements.put("changed", new KeyedElement("x"));
+
+		AggregateChange<MapContainer> aggregateChange = new AggregateChange<>(Kind.SAVE, MapContainer.class, entity);
+
+		converter.write(entity, previous, aggregateChange);
+
+		assertThat(aggregateChange.getActions()) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, MapContainer.class, ""), //
+						tuple(DbAction.DeleteByIdentifier.class, KeyedElement.class, "elements"), //
+						tuple(DbAction.DeleteByIdentifier.class, KeyedElement.class, "elements"), //
+						tuple(DbAction.Insert.class, KeyedElement.class, "elements") //
+				);
+
+		assertThat(aggregateChange.getActions()) //
+				.filteredOn(DbAction.DeleteByIdentifier.class::isInstance) //
+				.extracting(a -> ((DbAction.DeleteByIdentifier<?>) a).getIdentifier().toMap()) //
+				.containsExactlyInAnyOrder( //
+						createKeyIdentifierMap("changed"), //
+						createKeyIdentifierMap("removed") //
+				);
+	}
+
+	@Test
+	public void unchangedAggregateResultsInUpdateRootWithoutChangedColumns() {
+
+		ListContainer entity = new ListContainer(SOME_ENTITY_ID);
+		entity.elements.add(new ListElement(1L, "unchanged"));
+		AggregateSnapshot snapshot = AggregateSnapshot.of(new RelationalMappingContext(), entity);
+
+		AggregateChange<ListContainer> aggregateChange = new AggregateChange<>(Kind.SAVE, ListContainer.class, entity);
+
+		converter.write(entity, snapshot, () -> {
+			throw new IllegalStateException("Previous state should not be required");
+		}, aggregateChange);
+
+		assertThat(aggregateChange.getActions()) //
+				.extracting(DbAction::getClass, action -> ((DbAction.UpdateRoot<?>) action).getChangedColumns()) //
+				.containsExactly(tuple(DbAction.UpdateRoot.class, Collections.emptySet()));
+	}
+
+	@Test
+	public void changedRootOnlyResultsInUpdateRoot() {
+
+		SingleReferenceEntity entity = new SingleReferenceEntity(SOME_ENTITY_ID);
+		entity.other = new Element(2L);
+		AggregateSnapshot snapshot = AggregateSnapshot.of(new RelationalMappingContext(), entity);
+
+		entity.name = "changed";
+
+		AggregateChange<SingleReferenceEntity> aggregateChange = new AggregateChange<>(Kind.SAVE,
+				SingleReferenceEntity.class, entity);
+
+		converter.write(entity, snapshot, () -> null, aggregateChange);
+
+		assertThat(aggregateChange.getActions()) //
+				.extracting(DbAction::getClass, DbAction::getEntityType) //
+				.containsExactly(tuple(DbAction.UpdateRoot.class, SingleReferenceEntity.class));
+	}
+
+	@Test
+	public void changedReferencedEntityResultsInRegularUpdate() {
+
+		SingleReferenceEntity entity = new SingleReferenceEntity(SOME_ENTITY_ID);
+		AggregateSnapshot snapshot = AggregateSnapshot.of(new RelationalMappingContext(), entity);
+
+		entity.other = new Element(2L);
+
+		AggregateChange<SingleReferenceEntity> aggregateChange = new AggregateChange<>(Kind.SAVE,
+				SingleReferenceEntity.class, entity);
+
+		converter.write(entity, snapshot, () -> null, aggregateChange);
+
+		assertThat(aggregateChange.getActions()) //
+				.extracting(DbAction::getClass, DbAction::getEntityType) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, SingleReferenceEntity.class), //
+						tuple(DbAction.Delete.class, Element.class), //
+						tuple(DbAction.Insert.class, Element.class) //
+				);
+	}
+
+	private static Map<SqlIdentifier, Object> createKeyIdentifierMap(String key) {
+
+		Map<SqlIdentifier, Object> map = new HashMap<>();
+		map.put(SqlIdentifier.unquoted("map_container"), SOME_ENTITY_ID);
+		map.put(SqlIdentifier.unquoted("map_container_key"), key);
+		return map;
+	}
+
 	@RequiredArgsConstructor
 	static class SingleReferenceEntity {
 
@@ -71,4 +233,30 @@ public class RelationalEntityUpdateWriterUnitTests {
 		@Id final Long id;
 	}
 
+	@RequiredArgsConstructor
+	static class ListContainer {
+
+		@Id final Long id;
+		List<ListElement> elements = new ArrayList<>();
+	}
+
+	@AllArgsConstructor
+	static class ListElement {
+
+		@Id Long id;
+		String name;
+	}
+
+	@RequiredArgsConstructor
+	static class MapContainer {
+
+		@Id final Long id;
+		Map<String, KeyedElement> elements = new HashMap<>();
+	}
+
+	@AllArgsConstructor
+	static class KeyedElement {
+		String name;
+	}
+
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.conversion.AggregateChange.Kind;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+/**
+ * Unit tests for the {@link RelationalEntityUpsertWriter}
+ *
+ * @author Jens Schauder
+ */
+public class RelationalEntityUpsertWriterUnitTests {
+
+	RelationalEntityUpsertWriter converter = new RelationalEntityUpsertWriter(new RelationalMappingContext());
+
+	@Test
+	public void entityGetsConvertedToUpsertPlusReplacementOfReferences() {
+
+		ListContainer entity = new ListContainer(23L);
+		entity.elements.add(new Element(null));
+		entity.elements.add(new Element(null));
+
+		AggregateChange<ListContainer> aggregateChange = new AggregateChange<>(Kind.SAVE, ListContainer.class, entity);
+
+		converter.write(entity, aggregateChange);
+
+		assertThat(aggregateChange.getActions()) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath,
+						DbActionTestSupport::isWithDependsOn) //
+				.containsExactly( //
+						tuple(DbAction.UpsertRoot.class, ListContainer.class, "", false), //
+						tuple(DbAction.Delete.class, Element.class, "elements", false), //
+						tuple(DbAction.Insert.class, Element.class, "elements", true), //
+						tuple(DbAction.Insert.class, Element.class, "elements", true) //
+				);
+	}
+
+	@RequiredArgsConstructor
+	static class ListContainer {
+
+		@Id final Long id;
+		List<Element> elements = new ArrayList<>();
+	}
+
+	@RequiredArgsConstructor
+	static class Element {
+		@Id final Long id;
+	}
+}
@@ -17,12 +17,18 @@ package org.springframework.data.relational.core.dialect;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.Ignore;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Upsert;
 import org.springframework.data.relational.core.sql.render.NamingStrategies;
 import org.springframework.data.relational.core.sql.render.SqlRenderer;
 
@@ -73,4 +79,20 @@ public class MySqlDialectRenderingUnitTests {
 
 		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 20, 10");
 	}
+
+	@Test
+	public void shouldRenderUpsert() {
+
+		Table table = Table.create("foo");
+		Column id = table.column("id");
+		Upsert upsert = Upsert.builder().into(table) //
+				.columns(Arrays.asList(id, table.column("name"))) //
+				.values(Arrays.asList(SQL.bindMarker(":id"), SQL.bindMarker(":name"))) //
+				.onConflict(Collections.singletonList(id)) //
+				.build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(upsert);
+
+		assertThat(sql).isEqualTo("INSERT INTO foo (id, name) VALUES (:id, :name) ON DUPLICATE KEY UPDATE name = VALUES(name)");
+	}
 }
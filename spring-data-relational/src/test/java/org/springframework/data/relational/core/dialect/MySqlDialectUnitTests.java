@@ -67,4 +67,14 @@ public class MySqlDialectUnitTests {
 
 		assertThat(abcQuoted).isEqualTo("`abc`");
 	}
+
+	@Test
+	public void shouldNotSupportSequences() {
+
+		Sequences sequences = MySqlDialect.INSTANCE.getSequenceSupport();
+
+		assertThat(sequences.isSupported()).isFalse();
+		assertThatThrownBy(() -> sequences.getNextValueStatement("my_seq"))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
 }
@@ -17,12 +17,18 @@ package org.springframework.data.relational.core.dialect;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Test;
 
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Upsert;
 import org.springframework.data.relational.core.sql.render.NamingStrategies;
 import org.springframework.data.relational.core.sql.render.SqlRenderer;
 
@@ -97,4 +103,20 @@ public class PostgresDialectRenderingUnitTests {
 
 		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 10 OFFSET 20");
 	}
+
+	@Test
+	public void shouldRenderUpsert() {
+
+		Table table = Table.create("foo");
+		Column id = table.column("id");
+		Upsert upsert = Upsert.builder().into(table) //
+				.columns(Arrays.asList(id, table.column("name"))) //
+				.values(Arrays.asList(SQL.bindMarker(":id"), SQL.bindMarker(":name"))) //
+				.onConflict(Collections.singletonList(id)) //
+				.build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(upsert);
+
+		assertThat(sql).isEqualTo("INSERT INTO foo (id, name) VALUES (:id, :name) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name");
+	}
 }
@@ -71,4 +71,13 @@ public class PostgresDialectUnitTests {
 
 		assertThat(limit.getLimitOffset(20, 10)).isEqualTo("LIMIT 20 OFFSET 10");
 	}
+
+	@Test
+	public void shouldRenderNextSequenceValue() {
+
+		Sequences sequences = PostgresDialect.INSTANCE.getSequenceSupport();
+
+		assertThat(sequences.isSupported()).isTrue();
+		assertThat(sequences.getNextValueStatement("my_seq")).isEqualTo("SELECT nextval('my_seq')");
+	}
 }
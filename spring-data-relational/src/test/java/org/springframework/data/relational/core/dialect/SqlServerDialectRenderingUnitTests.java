@@ -17,12 +17,18 @@ package org.springframework.data.relational.core.dialect;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Test;
 
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Upsert;
 import org.springframework.data.relational.core.sql.render.NamingStrategies;
 import org.springframework.data.relational.core.sql.render.SqlRenderer;
 
@@ -112,4 +118,22 @@ public class SqlServerDialectRenderingUnitTests {
 
 		assertThat(sql).isEqualTo("SELECT foo.* FROM foo ORDER BY column_1 OFFSET 20 ROWS FETCH NEXT 10 ROWS ONLY");
 	}
+
+	@Test
+	public void shouldRenderUpsert() {
+
+		Table table = Table.create("foo");
+		Column id = table.column("id");
+		Upsert upsert = Upsert.builder().into(table) //
+				.columns(Arrays.asList(id, table.column("name"))) //
+				.values(Arrays.asList(SQL.bindMarker(":id"), SQL.bindMarker(":name"))) //
+				.onConflict(Collections.singletonList(id)) //
+				.build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(upsert);
+
+		assertThat(sql).isEqualTo("MERGE INTO foo USING (VALUES (:id, :name)) AS upsert_source (id, name) ON foo.id = upsert_source.id" //
+				+ " WHEN MATCHED THEN UPDATE SET name = upsert_source.name" //
+				+ " WHEN NOT MATCHED THEN INSERT (id, name) VALUES (upsert_source.id, upsert_source.name);");
+	}
 }
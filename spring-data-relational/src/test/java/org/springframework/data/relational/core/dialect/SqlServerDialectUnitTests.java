@@ -35,6 +35,17 @@ public class SqlServerDialectUnitTests {
 		assertThatThrownBy(() -> arrayColumns.getArrayType(String.class)).isInstanceOf(UnsupportedOperationException.class);
 	}
 
+	@Test
+	public void limitsRowsOfMultiRowInsertsByNumberOfBindParameters() {
+
+		MultiRowInserts multiRowInserts = SqlServerDialect.INSTANCE.getMultiRowInsertSupport();
+
+		assertThat(multiRowInserts.isSupported()).isTrue();
+		assertThat(multiRowInserts.getMaxRows(1)).isEqualTo(1000);
+		assertThat(multiRowInserts.getMaxRows(10)).isEqualTo(210);
+		assertThat(multiRowInserts.getMaxRows(3000)).isEqualTo(1);
+	}
+
 	@Test // DATAJDBC-278
 	public void shouldRenderLimit() {
 
@@ -72,6 +72,24 @@ public class RelationalPersistentEntityImplUnitTests {
 				.isEqualTo("\"MY_SCHEMA\".\"DUMMY_ENTITY_WITH_EMPTY_ANNOTATION\"");
 	}
 
+	@Test
+	public void discoversIdGeneration() {
+
+		RelationalPersistentEntity<?> entity = mappingContext.getPersistentEntity(DummyEntityWithSequence.class);
+
+		assertThat(entity.getIdGeneration()).isNotNull();
+		assertThat(entity.getIdGeneration().sequence()).isEqualTo("my_seq");
+		assertThat(entity.getIdGeneration().allocationSize()).isEqualTo(20);
+	}
+
+	@Test
+	public void idGenerationIsNullWithoutAnnotation() {
+
+		RelationalPersistentEntity<?> entity = mappingContext.getPersistentEntity(DummySubEntity.class);
+
+		assertThat(entity.getIdGeneration()).isNull();
+	}
+
 	@Table("dummy_sub_entity")
 	static class DummySubEntity {
 		@Id @Column("renamedId") Long id;
@@ -90,4 +108,8 @@ public class RelationalPersistentEntityImplUnitTests {
 			return "my_schema";
 		}
 	}
+
+	static class DummyEntityWithSequence {
+		@Id @IdGeneration(sequence = "my_seq", allocationSize = 20) Long id;
+	}
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TimeOrderedUuidGenerator}.
+ *
+ * @author Jens Schauder
+ */
+public class TimeOrderedUuidGeneratorUnitTests {
+
+	AtomicLong clock = new AtomicLong(1_600_000_000_000L);
+	TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock::get);
+
+	@Test
+	public void generatesVersion7Uuids() {
+
+		UUID uuid = generator.generate();
+
+		assertThat(uuid.version()).isEqualTo(7);
+		assertThat(uuid.variant()).isEqualTo(2);
+		assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(clock.get());
+	}
+
+	@Test
+	public void laterUuidsSortAfterEarlierOnes() {
+
+		UUID first = generator.generate();
+		clock.incrementAndGet();
+		UUID second = generator.generate();
+
+		assertThat(second).isGreaterThan(first);
+		assertThat(second.toString()).isGreaterThan(first.toString());
+	}
+
+	@Test
+	public void uuidsGeneratedAtTheSameTimeDiffer() {
+		assertThat(generator.generate()).isNotEqualTo(generator.generate());
+	}
+}
@@ -21,6 +21,9 @@ import org.junit.Test;
 
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Expressions;
+import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
 
@@ -177,4 +180,24 @@ public class ConditionRendererUnitTests {
 
 		assertThat(sql).endsWith("WHERE my_table.left NOT IN (my_table.right)");
 	}
+
+	@Test
+	public void shouldRenderRowValueComparison() {
+
+		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table)
+				.where(Conditions.isGreater(Expressions.rowValue(left, right),
+						Expressions.rowValue(SQL.bindMarker(":left"), SQL.bindMarker(":right"))))
+				.build());
+
+		assertThat(sql).endsWith("WHERE (my_table.left, my_table.right) > (:left, :right)");
+	}
+
+	@Test
+	public void shouldRenderComparisonWithAny() {
+
+		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table)
+				.where(left.isEqualTo(Functions.any(SQL.bindMarker(":ids")))).build());
+
+		assertThat(sql).endsWith("WHERE my_table.left = ANY(:ids)");
+	}
 }
@@ -62,6 +62,18 @@ public class InsertRendererUnitTests {
 		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar (foo, baz) VALUES (?, 'foo')");
 	}
 
+	@Test
+	public void shouldRenderInsertWithMultipleRows() {
+
+		Table bar = SQL.table("bar");
+
+		Insert insert = Insert.builder().into(bar).column(bar.column("foo")) //
+				.values(SQL.bindMarker(":foo_0")).nextRow() //
+				.values(SQL.bindMarker(":foo_1")).build();
+
+		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar (foo) VALUES (:foo_0), (:foo_1)");
+	}
+
 	@Test // DATAJDBC-340
 	public void shouldRenderInsertWithZeroColumns() {
 
@@ -333,6 +333,20 @@ public class SelectRendererUnitTests {
 		assertThat(rendered).isEqualTo("SELECT COUNT(foo.*) AS counter FROM foo");
 	}
 
+	@Test
+	public void shouldRenderWindowFunctionWithAlias() {
+
+		Table foo = SQL.table("foo");
+		Select select = Select.builder() //
+				.select(foo.column("bar"), Functions.countOver(Expressions.asterisk()).as("total")) //
+				.from(foo) //
+				.build();
+
+		String rendered = SqlRenderer.toString(select);
+
+		assertThat(rendered).isEqualTo("SELECT foo.bar, COUNT(*) OVER() AS total FROM foo");
+	}
+
 	@Test // DATAJDBC-479
 	public void shouldRenderWithRenderContext() {
 